@@ -0,0 +1,214 @@
+package co.cetad.umas.core.application.service.cluster;
+
+import co.cetad.umas.core.domain.ports.out.ClusterMembershipStore;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reparto de vehículos entre instancias del core (modo clúster)
+ *
+ * Cada instancia recibe toda la telemetría y los eventos de UgCS; la publicación de
+ * telemetría, los fin de misión y los avisos de pérdida de telemetría los atiende solo
+ * el dueño del vehículo, de modo que ese trabajo crece con el número de nodos.
+ *
+ * Los comandos, misiones y rutas de Kafka no pasan por aquí: todos los nodos comparten
+ * el grupo de consumidores y Kafka reparte las particiones, así cada registro lo procesa
+ * un único nodo y, si ese nodo cae, sus registros sin confirmar se reentregan a otro.
+ * Como dos registros del mismo vehículo pueden caer en nodos distintos, quien lo opera en
+ * UgCS es el nodo con su arrendamiento de trabajo (VehicleWorkLeaseService), no su dueño.
+ *
+ * - Pertenencia: latido periódico en Redis; un nodo sin latido durante member-ttl-ms
+ *   deja de contar y sus vehículos pasan al resto en la siguiente lectura
+ * - Dueño de un vehículo: hash de rendezvous (HRW) sobre los miembros vivos. Todos los
+ *   nodos con la misma vista eligen el mismo dueño y, al entrar o salir un nodo, solo
+ *   cambian de dueño los vehículos afectados por ese nodo
+ * - Sin Redis accesible se conserva la última vista conocida
+ *
+ * MÉTRICAS:
+ * - umas.cluster.members: miembros vivos en la vista actual
+ * - umas.cluster.rebalances: cambios de la vista de miembros
+ * - umas.cluster.events.skipped (stream): eventos de vehículos de otro nodo
+ */
+@Slf4j
+@Service
+public class VehicleOwnershipService {
+
+    public static final String STREAM_TELEMETRY = "telemetry";
+    public static final String STREAM_MISSION_COMPLETE = "mission_complete";
+    public static final String STREAM_STATUS = "status";
+
+    private final ClusterProperties properties;
+    private final Optional<ClusterMembershipStore> membershipStore;
+    private final MeterRegistry meterRegistry;
+
+    private volatile List<String> members;
+    private volatile Map<String, Boolean> ownedCache = new ConcurrentHashMap<>();
+    private final Map<String, Counter> skippedCounters = new ConcurrentHashMap<>();
+    private final Counter rebalanceCounter;
+
+    private ScheduledExecutorService scheduler;
+
+    public VehicleOwnershipService(ClusterProperties properties,
+                                   Optional<ClusterMembershipStore> membershipStore,
+                                   MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.membershipStore = membershipStore;
+        this.meterRegistry = meterRegistry;
+        this.members = properties.getNodeId() == null ? List.of() : List.of(properties.getNodeId());
+
+        this.rebalanceCounter = Counter.builder("umas.cluster.rebalances")
+                .description("Changes in the set of live core instances")
+                .register(meterRegistry);
+        Gauge.builder("umas.cluster.members", this, service -> service.members.size())
+                .description("Live core instances sharing the vehicles")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra el nodo y lee los miembros antes de que los consumidores empiecen a procesar
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (properties.getNodeId() == null || properties.getNodeId().isBlank()) {
+            throw new IllegalStateException("cluster.node-id must be set to a stable value when cluster mode is enabled");
+        }
+        if (membershipStore.isEmpty()) {
+            log.warn("⚠️ Cluster mode enabled without a membership store, this node owns every vehicle");
+            return;
+        }
+
+        log.info("🌐 Joining core cluster as node {}", properties.getNodeId());
+        refresh();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cluster-heartbeat").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::refresh,
+                properties.getHeartbeatIntervalMs(), properties.getHeartbeatIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        // Salida ordenada: el resto recoge los vehículos sin esperar al TTL
+        if (properties.isEnabled()) {
+            membershipStore.ifPresent(store -> store.leave(properties.getNodeId()));
+        }
+    }
+
+    /**
+     * Si este nodo debe atender al vehículo; sin clúster siempre es así
+     */
+    public boolean owns(String vehicleId) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        var cache = ownedCache;
+        return cache.computeIfAbsent(vehicleId,
+                id -> properties.getNodeId().equals(ownerOf(id, members)));
+    }
+
+    /**
+     * Como owns, contando los eventos descartados por pertenecer a otro nodo
+     */
+    public boolean accepts(String stream, String vehicleId) {
+        if (owns(vehicleId)) {
+            return true;
+        }
+        skippedCounters.computeIfAbsent(stream, s -> Counter.builder("umas.cluster.events.skipped")
+                        .description("Events for vehicles owned by another core instance")
+                        .tag("stream", s)
+                        .register(meterRegistry))
+                .increment();
+        log.trace("Skipping {} for vehicle {} owned by another node", stream, vehicleId);
+        return false;
+    }
+
+    List<String> members() {
+        return members;
+    }
+
+    /**
+     * Renueva el latido y actualiza la vista de miembros; el propio nodo siempre figura
+     */
+    void refresh() {
+        var store = membershipStore.orElse(null);
+        if (store == null) {
+            return;
+        }
+        try {
+            store.heartbeat(properties.getNodeId());
+            var live = new TreeSet<>(store.liveMembers(Duration.ofMillis(properties.getMemberTtlMs())));
+            live.add(properties.getNodeId());
+            updateMembers(List.copyOf(live));
+        } catch (Exception e) {
+            log.warn("⚠️ Cluster heartbeat failed, keeping last known members {}: {}", members, e.getMessage());
+        }
+    }
+
+    private void updateMembers(List<String> live) {
+        var previous = members;
+        if (previous.equals(live)) {
+            return;
+        }
+        members = live;
+        ownedCache = new ConcurrentHashMap<>();
+        rebalanceCounter.increment();
+        log.info("🔀 Cluster membership changed: {} -> {}", previous, live);
+    }
+
+    /**
+     * Hash de rendezvous: gana el miembro con mayor puntuación para el vehículo
+     */
+    static String ownerOf(String vehicleId, List<String> members) {
+        String owner = null;
+        long best = 0;
+        for (String member : members) {
+            long score = score(member, vehicleId);
+            if (owner == null || score > best || (score == best && member.compareTo(owner) < 0)) {
+                owner = member;
+                best = score;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre nodo y vehículo con mezcla final de splitmix64
+     */
+    static long score(String member, String vehicleId) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : (member + '\u0000' + vehicleId).getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 30;
+        h *= 0xbf58476d1ce4e5b9L;
+        h ^= h >>> 27;
+        h *= 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return h;
+    }
+
+}
@@ -0,0 +1,176 @@
+package co.cetad.umas.core.application.service.cluster;
+
+import co.cetad.umas.core.domain.ports.out.VehicleWorkLeaseStore;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Exclusión entre instancias del core para operar un vehículo en UgCS (modo clúster)
+ *
+ * Kafka reparte comandos, misiones y rutas por particiones, no por dueño del vehículo:
+ * dos nodos pueden recibir a la vez trabajo del mismo dron. Buzón, control y carriles son
+ * locales a cada nodo, así que antes de pedir el control en UgCS el nodo toma en Redis el
+ * arrendamiento del vehículo y lo conserva mientras tiene el control (se renueva con cada
+ * latido y caduca solo si el nodo cae). Si lo tiene otro nodo, la operación falla como
+ * transitoria y se reintenta: el otro nodo lo suelta al liberar el control por inactividad.
+ *
+ * - Sin clúster, o sin almacén, todos los vehículos se consideran arrendados
+ * - Sin Redis accesible no se toman arrendamientos nuevos; los que ya se tienen se conservan
+ *   y se vuelven a comprobar en la siguiente renovación
+ *
+ * MÉTRICAS:
+ * - umas.cluster.work.leases: vehículos arrendados por este nodo
+ * - umas.cluster.work.lease.conflicts: operaciones rechazadas por estar el vehículo en otro nodo
+ * - umas.cluster.work.lease.lost: arrendamientos que otro nodo tomó al no poder renovarse
+ */
+@Slf4j
+@Service
+public class VehicleWorkLeaseService {
+
+    private final ClusterProperties properties;
+    private final Optional<VehicleWorkLeaseStore> leaseStore;
+
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<String>> acquireListeners = new CopyOnWriteArrayList<>();
+    private final Counter conflictCounter;
+    private final Counter lostCounter;
+
+    private ScheduledExecutorService scheduler;
+
+    public VehicleWorkLeaseService(ClusterProperties properties,
+                                   Optional<VehicleWorkLeaseStore> leaseStore,
+                                   MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.leaseStore = leaseStore;
+
+        Gauge.builder("umas.cluster.work.leases", held, Set::size)
+                .description("Vehicles this core instance holds the work lease for")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("umas.cluster.work.lease.conflicts")
+                .description("Operations rejected because another core instance operates the vehicle")
+                .register(meterRegistry);
+        this.lostCounter = Counter.builder("umas.cluster.work.lease.lost")
+                .description("Work leases taken by another core instance after a failed renewal")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isActive()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cluster-work-lease").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::renewAll,
+                properties.getHeartbeatIntervalMs(), properties.getHeartbeatIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Suelta todos los arrendamientos al apagar: el resto no espera a que caduquen
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        List.copyOf(held).forEach(this::release);
+    }
+
+    /**
+     * Toma (o conserva) el arrendamiento del vehículo; bloqueante, debe invocarse desde su mailbox
+     *
+     * @return false si otro nodo está operando el vehículo o Redis no responde
+     */
+    public boolean tryAcquire(String vehicleId) {
+        if (!isActive() || held.contains(vehicleId)) {
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = leaseStore.get().acquire(vehicleId, properties.getNodeId(), ttl());
+        } catch (Exception e) {
+            log.warn("⚠️ Work lease for vehicle {} could not be taken: {}", vehicleId, e.getMessage());
+            return false;
+        }
+        if (!acquired) {
+            conflictCounter.increment();
+            log.debug("Vehicle {} is being operated by another core instance", vehicleId);
+            return false;
+        }
+        held.add(vehicleId);
+        log.debug("Work lease acquired for vehicle: {}", vehicleId);
+        acquireListeners.forEach(listener -> listener.accept(vehicleId));
+        return true;
+    }
+
+    /**
+     * Suelta el arrendamiento (el nodo ya no tiene el control del vehículo)
+     */
+    public void release(String vehicleId) {
+        if (held.remove(vehicleId)) {
+            leaseStore.ifPresent(store -> store.release(vehicleId, properties.getNodeId()));
+            log.debug("Work lease released for vehicle: {}", vehicleId);
+        }
+    }
+
+    /**
+     * Si este nodo puede estar operando el vehículo
+     */
+    public boolean holds(String vehicleId) {
+        return !isActive() || held.contains(vehicleId);
+    }
+
+    /**
+     * Avisa con el vehicleId de cada arrendamiento nuevo, antes de que empiece el trabajo
+     */
+    public void addAcquireListener(Consumer<String> listener) {
+        acquireListeners.add(listener);
+    }
+
+    /**
+     * Renueva los arrendamientos que tiene el nodo; los que ya tiene otro se dan por perdidos
+     */
+    public void renewAll() {
+        var store = leaseStore.orElse(null);
+        if (store == null) {
+            return;
+        }
+        for (String vehicleId : held) {
+            try {
+                if (!store.acquire(vehicleId, properties.getNodeId(), ttl())) {
+                    held.remove(vehicleId);
+                    lostCounter.increment();
+                    log.warn("⚠️ Work lease for vehicle {} was taken by another core instance", vehicleId);
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ Work lease renewal failed for vehicle {}, keeping it: {}", vehicleId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isActive() {
+        return properties.isEnabled() && leaseStore.isPresent();
+    }
+
+    private Duration ttl() {
+        return Duration.ofMillis(properties.getWorkLeaseTtlMs());
+    }
+
+}
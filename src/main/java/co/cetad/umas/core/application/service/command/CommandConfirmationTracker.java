@@ -0,0 +1,183 @@
+package co.cetad.umas.core.application.service.command;
+
+import co.cetad.umas.core.application.service.telemetry.TelemetryConditionAwaiter;
+import co.cetad.umas.core.application.service.telemetry.TelemetryConditions;
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
+import co.cetad.umas.core.infrastructure.config.CommandConfirmationProperties;
+import co.cetad.umas.core.infrastructure.metrics.CommandStageMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Confirma con la telemetría en vivo que el vehículo ha reaccionado a un comando
+ * y mide su tiempo de reacción (desde el envío hasta que la telemetría lo refleja)
+ *
+ * La espera se registra antes de encolar el comando (la telemetría puede adelantarse a la
+ * respuesta de UgCS), pero el plazo, el reloj de reacción y la altitud de referencia del
+ * aterrizaje arrancan en markSent(): la cola del mailbox, el gainControl y el envío no cuentan.
+ *
+ * Estado esperado por comando (si el vehículo ya está en él, se confirma al instante):
+ * - auto, manual, guided, joystick, return_to_home: modo de vuelo o de control en targetModes
+ * - takeoff_command: en el aire, al menos altitudeDelta sobre el suelo
+ * - land_command, emergency_land: baja al menos altitudeDelta, está en tierra o en un modo de aterrizaje
+ *
+ * Un cambio a otro modo (p. ej. un RTL por failsafe) no confirma el comando.
+ *
+ * El resto de comandos (arm, waypoint, control continuo...) no tienen una huella fiable
+ * en la telemetría y se siguen dando por ejecutados cuando UgCS los acepta.
+ *
+ * MÉTRICAS:
+ * - umas.command.reaction (command, outcome): tiempo de reacción del vehículo
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommandConfirmationTracker {
+
+    public static final String REACTION_TIMER = "umas.command.reaction";
+
+    private static final Set<String> MODE_COMMANDS = Set.of(
+            "auto", "manual", "guided", "joystick", "return_to_home");
+    private static final Set<String> LANDING_COMMANDS = Set.of("land_command", "emergency_land");
+    private static final String TAKEOFF_COMMAND = "takeoff_command";
+
+    private final TelemetryConditionAwaiter conditionAwaiter;
+    private final CommandConfirmationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Empieza a esperar la confirmación del comando; debe llamarse antes de encolarlo
+     * y avisar con markSent() cuando UgCS lo acepte
+     *
+     * @return vacío si el comando no se confirma por telemetría
+     */
+    public Optional<Confirmation> expect(String vehicleId, String commandCode) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        var sent = new CompletableFuture<Void>();
+        return expectedChange(vehicleId, commandCode, sent)
+                .map(condition -> {
+                    var telemetry = conditionAwaiter.await(vehicleId, condition, sent,
+                            Duration.ofMillis(properties.getTimeoutMs()));
+                    log.debug("Awaiting telemetry confirmation of {} for {}", commandCode, vehicleId);
+                    return new Confirmation(vehicleId, commandCode, sent, telemetry);
+                });
+    }
+
+    private Optional<Predicate<TelemetryData>> expectedChange(String vehicleId, String commandCode,
+                                                              CompletableFuture<Void> sent) {
+        if (MODE_COMMANDS.contains(commandCode)) {
+            return targetModes(commandCode).map(TelemetryConditions::modeIn);
+        }
+        if (TAKEOFF_COMMAND.equals(commandCode)) {
+            return Optional.of(TelemetryConditions.altitudeAbove(properties.getAltitudeDelta()));
+        }
+        if (LANDING_COMMANDS.contains(commandCode)) {
+            // El descenso se mide desde la altitud en el momento del envío, no del encolado
+            var descentFromSent = new AtomicReference<Predicate<TelemetryData>>(telemetry -> false);
+            sent.thenRun(() -> descentFromSent.set(TelemetryConditions.altitudeChanged(
+                    conditionAwaiter.latest(vehicleId), -properties.getAltitudeDelta())));
+            Predicate<TelemetryData> descended = telemetry -> descentFromSent.get().test(telemetry);
+            Predicate<TelemetryData> landing = descended
+                    .or(TelemetryConditions.altitudeBelow(properties.getAltitudeDelta()));
+            return Optional.of(targetModes(commandCode)
+                    .map(modes -> landing.or(TelemetryConditions.modeIn(modes)))
+                    .orElse(landing));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<List<String>> targetModes(String commandCode) {
+        return Optional.ofNullable(properties.getTargetModes().get(commandCode))
+                .filter(modes -> !modes.isEmpty());
+    }
+
+    /**
+     * Espera máxima configurada para la confirmación
+     */
+    public long timeoutMs() {
+        return properties.getTimeoutMs();
+    }
+
+    private void record(String commandCode, Duration reaction, String outcome) {
+        Timer.builder(REACTION_TIMER)
+                .description("Time from sending a command until telemetry shows the vehicle reacting")
+                .tag("command", commandCode)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(reaction);
+    }
+
+    /**
+     * Confirmación pendiente de un comando
+     */
+    public final class Confirmation {
+
+        private final String vehicleId;
+        private final String commandCode;
+        private final CompletableFuture<Void> sent;
+        private final CompletableFuture<TelemetryData> telemetry;
+        private volatile long startedAt;
+
+        private Confirmation(String vehicleId, String commandCode, CompletableFuture<Void> sent,
+                             CompletableFuture<TelemetryData> telemetry) {
+            this.vehicleId = vehicleId;
+            this.commandCode = commandCode;
+            this.sent = sent;
+            this.telemetry = telemetry;
+        }
+
+        /**
+         * UgCS aceptó el comando: arrancan el plazo de confirmación y el reloj de reacción
+         */
+        public void markSent() {
+            if (!sent.isDone()) {
+                startedAt = System.nanoTime();
+                sent.complete(null);
+            }
+        }
+
+        /**
+         * Tiempo de reacción del vehículo desde markSent() (si no se marcó, desde ahora);
+         * falla con TimeoutException si no llega confirmación
+         */
+        public CompletableFuture<Duration> reactionTime() {
+            markSent();
+            return telemetry.handle((confirmed, error) -> {
+                var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+                var outcome = CommandStageMetrics.outcomeOf(error);
+                record(commandCode, elapsed, outcome);
+                if (error != null) {
+                    log.warn("⏱️ No telemetry confirmation of {} for {} after {} ms",
+                            commandCode, vehicleId, elapsed.toMillis());
+                    throw new CompletionException(error);
+                }
+                log.info("✅ {} confirmed by telemetry for {} in {} ms", commandCode, vehicleId, elapsed.toMillis());
+                return elapsed;
+            });
+        }
+
+        /**
+         * Deja de esperar (el comando no llegó a enviarse o fue rechazado)
+         */
+        public void cancel() {
+            telemetry.cancel(false);
+            sent.cancel(false);
+        }
+    }
+
+}
@@ -1,11 +1,14 @@
 package co.cetad.umas.core.application.service.command;
 
+import co.cetad.umas.core.domain.exception.CommandSupersededException;
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
 import co.cetad.umas.core.domain.model.dto.CommandExecutionDTO;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
 import co.cetad.umas.core.domain.model.vo.CommandRequest;
 import co.cetad.umas.core.domain.ports.in.EventProcessor;
 import co.cetad.umas.core.domain.ports.out.EventPublisher;
 import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.metrics.CommandStageMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,7 +28,11 @@ public class CommandExecutionService implements EventProcessor<CommandExecutionD
     private final UgcsClient ugcsClient;
     private final EventPublisher<CommandResultDTO> commandResultPublisher;
     private final CommandValidator commandValidator;
+    private final CommandStageMetrics commandStageMetrics;
+    private final CommandConfirmationTracker confirmationTracker;
 
+    // Plazo hasta que UgCS acepta el comando (espera en el mailbox incluida); la confirmación
+    // por telemetría tiene su propio plazo, contado desde el envío
     private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
 
     @Override
@@ -33,11 +40,12 @@ public class CommandExecutionService implements EventProcessor<CommandExecutionD
         log.info("Processing command: {} for vehicle: {}",
                 command.commandCode(), command.vehicleId());
 
-        return commandValidator.validate(command)
-                .thenCompose(v -> validateConnection())
-                .thenCompose(v -> executeInUgcs(command))
-                .thenApply(success -> buildResult(command, success))
-                .orTimeout(COMMAND_TIMEOUT.toSeconds(), TimeUnit.SECONDS)
+        var code = command.commandCode();
+        var total = commandStageMetrics.start();
+
+        return commandStageMetrics.time("validate", code, () -> commandValidator.validate(command))
+                .thenCompose(v -> commandStageMetrics.time("connection_check", code, this::validateConnection))
+                .thenCompose(v -> executeAndConfirm(command))
                 .whenComplete((result, error) -> {
                     if (error != null) {
                         handleError(command, error);
@@ -45,18 +53,66 @@ public class CommandExecutionService implements EventProcessor<CommandExecutionD
                         publishResult(result);
                     }
                 })
-                .exceptionally(error -> buildErrorResult(command, error));
+                .exceptionally(error -> buildErrorResult(command, error))
+                .thenApply(result -> {
+                    commandStageMetrics.record(total, "service_total", code, result.status().name().toLowerCase());
+                    return result;
+                });
     }
 
     private CompletableFuture<Void> validateConnection() {
         return ugcsClient.isConnected()
                 .thenAccept(connected -> {
                     if (!connected) {
-                        throw new IllegalStateException("Not connected to UgCS Server");
+                        throw new UgcsUnavailableException("Not connected to UgCS Server");
+                    }
+                });
+    }
+
+    /**
+     * Envía el comando y, si tiene una huella en la telemetría, espera a que el vehículo
+     * reaccione: SUCCESS con el tiempo de reacción, o UNCONFIRMED si no llega a tiempo.
+     * UNCONFIRMED no es un fallo de envío: UgCS ya aceptó el comando y reenviarlo
+     * (despegar, aterrizar...) no es seguro
+     */
+    private CompletableFuture<CommandResultDTO> executeAndConfirm(CommandExecutionDTO command) {
+        var code = command.commandCode();
+        // Registrada antes del envío: la telemetría puede adelantarse a la respuesta de UgCS.
+        // Su plazo y el tiempo de reacción cuentan desde que UgCS acepta el comando
+        var confirmation = confirmationTracker.expect(command.vehicleId(), code);
+
+        return commandStageMetrics.time("ugcs_execute", code, () -> executeInUgcs(command))
+                .thenCompose(success -> {
+                    if (!success || confirmation.isEmpty()) {
+                        confirmation.ifPresent(CommandConfirmationTracker.Confirmation::cancel);
+                        return CompletableFuture.completedFuture(buildResult(command, success));
+                    }
+                    confirmation.get().markSent();
+                    return confirmation.get().reactionTime()
+                            .handle((reaction, error) -> {
+                                if (error == null) {
+                                    return buildConfirmedResult(command, reaction);
+                                }
+                                if (unwrap(error) instanceof TimeoutException) {
+                                    return buildUnconfirmedResult(command);
+                                }
+                                throw error instanceof CompletionException completion
+                                        ? completion
+                                        : new CompletionException(error);
+                            });
+                })
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        confirmation.ifPresent(CommandConfirmationTracker.Confirmation::cancel);
                     }
                 });
     }
 
+    /**
+     * El plazo se aplica al propio future del mailbox: si vence con el comando aún en cola,
+     * el mailbox lo descarta en lugar de enviarlo tarde. Si ya estaba en curso el envío
+     * no se puede deshacer (por eso los comandos no repetibles no se reintentan)
+     */
     private CompletableFuture<Boolean> executeInUgcs(CommandExecutionDTO dto) {
         var commandRequest = new CommandRequest(
                 dto.vehicleId(),
@@ -65,6 +121,7 @@ public class CommandExecutionService implements EventProcessor<CommandExecutionD
         );
 
         return ugcsClient.executeCommand(commandRequest)
+                .orTimeout(COMMAND_TIMEOUT.toSeconds(), TimeUnit.SECONDS)
                 .whenComplete((success, error) -> {
                     if (error != null) {
                         log.error("Command execution failed - Vehicle: {}, Command: {}",
@@ -88,11 +145,37 @@ public class CommandExecutionService implements EventProcessor<CommandExecutionD
         );
     }
 
-    private CommandResultDTO buildErrorResult(CommandExecutionDTO dto, Throwable error) {
-        log.error("Error executing command: {} for vehicle: {}",
-                dto.commandCode(), dto.vehicleId(), error);
+    private CommandResultDTO buildConfirmedResult(CommandExecutionDTO dto, Duration reaction) {
+        return new CommandResultDTO(
+                dto.vehicleId(),
+                dto.commandCode(),
+                CommandResultDTO.CommandStatus.SUCCESS,
+                String.format("Command confirmed by telemetry in %d ms", reaction.toMillis()),
+                Instant.now()
+        );
+    }
+
+    private CommandResultDTO buildUnconfirmedResult(CommandExecutionDTO dto) {
+        return new CommandResultDTO(
+                dto.vehicleId(),
+                dto.commandCode(),
+                CommandResultDTO.CommandStatus.UNCONFIRMED,
+                String.format("Command accepted by UgCS but not confirmed by telemetry within %d ms",
+                        confirmationTracker.timeoutMs()),
+                Instant.now()
+        );
+    }
 
+    private CommandResultDTO buildErrorResult(CommandExecutionDTO dto, Throwable error) {
         var status = determineErrorStatus(error);
+        if (status == CommandResultDTO.CommandStatus.SUPERSEDED) {
+            log.debug("Command {} for vehicle {} superseded by a newer setpoint",
+                    dto.commandCode(), dto.vehicleId());
+        } else {
+            log.error("Error executing command: {} for vehicle: {}",
+                    dto.commandCode(), dto.vehicleId(), error);
+        }
+
         return new CommandResultDTO(
                 dto.vehicleId(),
                 dto.commandCode(),
@@ -103,27 +186,50 @@ public class CommandExecutionService implements EventProcessor<CommandExecutionD
     }
 
     private void handleError(CommandExecutionDTO dto, Throwable error) {
+        if (determineErrorStatus(error) == CommandResultDTO.CommandStatus.SUPERSEDED) {
+            return;
+        }
         log.error("Failed to execute command: {} for vehicle: {}",
                 dto.commandCode(), dto.vehicleId(), error);
     }
 
+    /**
+     * Clasifica por la primera causa reconocible de la cadena: el adaptador de UgCS
+     * envuelve el error original (vehículo desconocido, sesión caída, RPC colgada)
+     */
     private CommandResultDTO.CommandStatus determineErrorStatus(Throwable error) {
-        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
-        if (cause instanceof TimeoutException) {
-            return CommandResultDTO.CommandStatus.TIMEOUT;
-        }
-        if (cause instanceof IllegalStateException) {
-            return CommandResultDTO.CommandStatus.REJECTED;
-        }
-        if (cause instanceof IllegalArgumentException) {
-            return CommandResultDTO.CommandStatus.REJECTED;
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CommandSupersededException) {
+                return CommandResultDTO.CommandStatus.SUPERSEDED;
+            }
+            if (cause instanceof TimeoutException) {
+                return CommandResultDTO.CommandStatus.TIMEOUT;
+            }
+            // Desconexión de UgCS: transitoria, se reintenta en lugar de ir al DLT
+            if (cause instanceof UgcsUnavailableException) {
+                return CommandResultDTO.CommandStatus.FAILED;
+            }
+            if (cause instanceof IllegalStateException || cause instanceof IllegalArgumentException) {
+                return CommandResultDTO.CommandStatus.REJECTED;
+            }
         }
         return CommandResultDTO.CommandStatus.FAILED;
     }
 
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException ? error.getCause() : error;
+    }
+
     private void publishResult(CommandResultDTO result) {
+        var sample = commandStageMetrics.start();
         commandResultPublisher.publish(result)
-                .doOnError(e -> log.error("Failed to publish command result", e))
+                .doOnSuccess(v -> commandStageMetrics.record(sample, "publish", result.commandCode(),
+                        CommandStageMetrics.OUTCOME_SUCCESS))
+                .doOnError(e -> {
+                    commandStageMetrics.record(sample, "publish", result.commandCode(),
+                            CommandStageMetrics.OUTCOME_ERROR);
+                    log.error("Failed to publish command result", e);
+                })
                 .subscribe();
     }
 
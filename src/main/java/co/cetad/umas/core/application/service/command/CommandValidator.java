@@ -29,6 +29,13 @@ public class CommandValidator {
             "waypoint", "direct_vehicle_control"
     );
 
+    // Comandos que no pueden repetirse si no se sabe si llegaron al vehículo
+    // (un reenvío despegaría, aterrizaría o arrancaría la ruta dos veces)
+    private static final Set<String> NON_REPEATABLE_COMMANDS = Set.of(
+            "takeoff_command", "land_command", "emergency_land", "return_to_home",
+            "mission_resume", "start_route", "resume_route"
+    );
+
     private static final Set<String> WAYPOINT_ARGS = Set.of(
             "latitude", "longitude", "altitude_amsl", "altitude_agl",
             "altitude_origin", "ground_speed", "vertical_speed",
@@ -47,6 +54,20 @@ public class CommandValidator {
             "start_route", "pause_route", "resume_route", "stop_route"
     );
 
+    /**
+     * True si el código pertenece al conjunto de comandos soportados
+     */
+    public static boolean isKnownCommand(String commandCode) {
+        return commandCode != null && VALID_COMMANDS.contains(commandCode);
+    }
+
+    /**
+     * True si reenviar el comando tras un resultado incierto (TIMEOUT) no es seguro
+     */
+    public static boolean isNonRepeatable(String commandCode) {
+        return commandCode != null && NON_REPEATABLE_COMMANDS.contains(commandCode);
+    }
+
     public CompletableFuture<Void> validate(CommandExecutionDTO command) {
         return CompletableFuture.runAsync(() -> {
             validateCommandCode(command.commandCode());
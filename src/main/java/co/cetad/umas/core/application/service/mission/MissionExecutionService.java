@@ -1,8 +1,11 @@
 package co.cetad.umas.core.application.service.mission;
 
+import co.cetad.umas.core.application.service.scheduling.PriorityScheduler;
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
 import co.cetad.umas.core.domain.model.dto.MissionExecutionDTO;
 import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
 import co.cetad.umas.core.domain.ports.in.EventProcessor;
 import co.cetad.umas.core.domain.ports.out.UgcsClient;
 import com.ugcs.ucs.proto.DomainProto;
@@ -15,6 +18,8 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -25,10 +30,30 @@ import java.util.concurrent.TimeoutException;
  * Flujo:
  * 1. Recibe MissionExecutionDTO con lista de drones y sus waypoints
  * 2. Verifica si la misión ya existe en UgCS
- * 3. Para cada dron:
- *    - Busca o crea su ruta dentro de la misión
- *    - Sube la ruta al dron
- * 4. Ejecuta comandos para cada dron: AUTO -> START_ROUTE
+ * 3. Para cada dron, en etapas (MissionPipeline):
+ *    - Resuelve su ruta (límite global de búsquedas)
+ *    - Busca o crea su ruta dentro de la misión (simplificada si la misión lo pide)
+ *      y la sube al dron (límite por misión)
+ *    - Registra el vehículo y ejecuta comandos: AUTO -> START_ROUTE (límite global)
+ *
+ * La subida de cada dron pasa por el PriorityScheduler con la prioridad de la misión,
+ * de modo que una misión urgente no espera detrás de subidas masivas; el resto de
+ * etapas no ocupa sus huecos.
+ *
+ * Cada dron deja un checkpoint al avanzar (MissionStateMachine), ligado a la ejecución
+ * de la misión (MissionExecutionDTO.executionId). Si esa ejecución vuelve a llegar tras un
+ * reinicio, una reentrega o un reintento, cada dron retoma desde su último estado:
+ * - STARTED: nada que hacer
+ * - REGISTERED: se comprueba que el dron sigue llevando la ruta y solo se arranca
+ * - UPLOADED: se comprueba la ruta, se registra en la misión y se arranca
+ * - Anteriores: se repite el recorrido completo
+ * La comprobación de la ruta es la propia subida: si el dron ya lleva esa ruta se omite,
+ * y si no (p. ej. se le cargó otra entretanto) se vuelve a subir.
+ *
+ * Una ejecución nueva de la misma misión (otro mensaje) empieza siempre de cero.
+ *
+ * Si la misión vence su timeout (o falla), se cancela su progreso en el pipeline: los
+ * drones que aún esperan etapa, hueco en el planificador o el arranque ya no se procesan.
  */
 @Slf4j
 @Service
@@ -36,6 +61,10 @@ import java.util.concurrent.TimeoutException;
 public class MissionExecutionService implements EventProcessor<MissionExecutionDTO, CommandResultDTO> {
 
     private final UgcsClient ugcsClient;
+    private final PriorityScheduler priorityScheduler;
+    private final RouteSimplifier routeSimplifier;
+    private final MissionPipeline missionPipeline;
+    private final MissionStateMachine stateMachine;
 
     @Value("${mission.default-speed:5.0}")
     private Double defaultSpeed;
@@ -43,14 +72,25 @@ public class MissionExecutionService implements EventProcessor<MissionExecutionD
     private static final Duration MISSION_EXECUTION_TIMEOUT = Duration.ofMinutes(5);
 
     @Override
-    public CompletableFuture<CommandResultDTO> process(MissionExecutionDTO mission) {
-        log.info("🚀 Processing mission execution: {} for {} drones",
-                mission.missionId(), mission.drones().size());
+    public CompletableFuture<CommandResultDTO> process(MissionExecutionDTO received) {
+        // Sin identificador de ejecución (fuera de Kafka) no hay progreso que retomar
+        var mission = received.executionId() != null
+                ? received
+                : received.withExecutionId(UUID.randomUUID().toString());
+        log.info("🚀 Processing mission execution: {} ({}) for {} drones",
+                mission.missionId(), mission.executionId(), mission.drones().size());
 
+        var progress = missionPipeline.start(mission.missionId(), mission.drones().size());
         return validateConnection()
-                .thenCompose(v -> processMission(mission))
+                .thenCompose(v -> processMission(mission, progress))
                 .thenApply(success -> buildSuccessResult(mission))
                 .orTimeout(MISSION_EXECUTION_TIMEOUT.toSeconds(), TimeUnit.SECONDS)
+                // Nadie espera ya al resto de drones: lo pendiente no debe llegar a UgCS
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        progress.cancel();
+                    }
+                })
                 .exceptionally(error -> buildErrorResult(mission, error));
     }
 
@@ -58,16 +98,16 @@ public class MissionExecutionService implements EventProcessor<MissionExecutionD
         return ugcsClient.isConnected()
                 .thenAccept(connected -> {
                     if (!connected) {
-                        throw new IllegalStateException("Not connected to UgCS Server");
+                        throw new UgcsUnavailableException("Not connected to UgCS Server");
                     }
                 });
     }
 
     /**
-     * Procesa toda la misión: crea/busca la mission y procesa cada dron
-     * CORREGIDO: Ahora procesa correctamente cada dron de forma asíncrona
+     * Procesa toda la misión: crea/busca la mission y lanza el pipeline de cada dron
      */
-    private CompletableFuture<Boolean> processMission(MissionExecutionDTO mission) {
+    private CompletableFuture<Boolean> processMission(MissionExecutionDTO mission,
+                                                      MissionPipeline.MissionProgress progress) {
         log.info("Processing mission: {} with {} drones",
                 mission.missionId(), mission.drones().size());
 
@@ -76,9 +116,12 @@ public class MissionExecutionService implements EventProcessor<MissionExecutionD
                 .thenCompose(ugcsMission -> {
                     log.info("✅ Mission ready: {}", mission.missionId());
 
-                    // 2. Procesar cada dron de forma asíncrona y recolectar los CompletableFutures
+                    // 2. Cada dron recorre las etapas por su cuenta desde su último checkpoint,
+                    //    acotado por los límites de cada etapa
+                    var checkpoints = stateMachine.load(mission.missionId(), mission.executionId());
                     List<CompletableFuture<Boolean>> droneProcessingFutures = mission.drones().stream()
-                            .map(drone -> processSingleDrone(ugcsMission, drone))
+                            .map(drone -> processSingleDrone(progress, ugcsMission, drone, mission,
+                                    checkpoints.get(drone.vehicleId())))
                             .toList();
 
                     // 3. Esperar a que todos los drones se procesen con allOf
@@ -93,66 +136,137 @@ public class MissionExecutionService implements EventProcessor<MissionExecutionD
     }
 
     /**
-     * Procesa un dron individual de forma completa:
-     * 1. Crea/sube la ruta
-     * 2. Registra el vehículo en la misión
-     * 3. Ejecuta comandos
+     * Procesa un dron individual por etapas:
+     * 1. Resuelve su ruta (búsqueda por nombre)
+     * 2. Crea/procesa y sube la ruta, en el PriorityScheduler con la prioridad de la misión
+     * 3. Registra el vehículo en la misión y ejecuta los comandos de arranque
      *
+     * @param checkpoint último estado del dron en esta misma ejecución, o null
      * @return CompletableFuture<Boolean> indicando éxito del procesamiento
      */
     private CompletableFuture<Boolean> processSingleDrone(
+            MissionPipeline.MissionProgress progress,
             DomainProto.Mission ugcsMission,
-            MissionExecutionDTO.DroneExecution drone
+            MissionExecutionDTO.DroneExecution drone,
+            MissionExecutionDTO mission,
+            DroneMissionState checkpoint
     ) {
         log.info("📍 Processing drone: {} with {} waypoints",
                 drone.vehicleId(), drone.waypoints().size());
 
-        // 1. Procesar la ruta del dron
-        return processDroneRoute(ugcsMission, drone)
+        // Si el dron no tiene waypoints, completar sin registrar
+        if (!drone.hasWaypoints()) {
+            log.info("Drone {} has no waypoints, skipping route creation", drone.vehicleId());
+            return CompletableFuture.completedFuture(true);
+        }
+
+        var vehicleId = drone.vehicleId();
+        if (checkpoint != null) {
+            stateMachine.resumed(mission.missionId(), vehicleId, checkpoint);
+            if (checkpoint == DroneMissionState.STARTED) {
+                return CompletableFuture.completedFuture(true);
+            }
+        }
+
+        // 1. Resolver la ruta
+        return progress.resolve(() -> ugcsClient.findRouteByName(drone.routeId()))
+                .thenApply(existingRoute -> {
+                    advance(mission, vehicleId, DroneMissionState.ROUTE_RESOLVED);
+                    return existingRoute;
+                })
+                // 2. Subirla (se omite si el dron ya la lleva): solo esta etapa ocupa hueco en el planificador
+                .thenCompose(existingRoute -> progress.upload(() -> priorityScheduler.submit(
+                        mission.priority(),
+                        () -> progress.ifActive(() -> uploadDroneRoute(ugcsMission, drone, existingRoute,
+                                mission.simplification(),
+                                () -> advance(mission, vehicleId, DroneMissionState.PROCESSED))))))
                 .thenCompose(vehicle -> {
-                    // 2. Si no hay vehicle (sin waypoints), completar sin registrar
                     if (vehicle == null) {
-                        log.info("An error occurred processing the route for vehicle {}", drone.vehicleId());
+                        log.info("An error occurred processing the route for vehicle {}", vehicleId);
                         return CompletableFuture.completedFuture(true);
                     }
-
-                    // 3. Registrar el vehículo en la misión
-                    return registerVehicleInMission(ugcsMission, vehicle)
-                            .thenCompose(registered -> {
-                                // 4. Ejecutar comandos para el dron
-                                if (registered) {
-                                    return executeCommandsForDrone(drone.vehicleId());
-                                }
-                                log.warn("Failed to register vehicle {} in mission", drone.vehicleId());
-                                return CompletableFuture.completedFuture(false);
-                            });
+                    advance(mission, vehicleId, DroneMissionState.UPLOADED);
+                    // Ya registrado en esta ejecución: solo falta arrancar
+                    if (checkpoint == DroneMissionState.REGISTERED) {
+                        return progress.launch(() -> startDrone(mission, vehicleId));
+                    }
+                    // 3. Registrar el vehículo en la misión y arrancar
+                    return progress.launch(() -> registerAndStart(progress, ugcsMission, vehicle, mission, vehicleId));
                 });
     }
 
+    private void advance(MissionExecutionDTO mission, String vehicleId, DroneMissionState state) {
+        stateMachine.advance(mission.missionId(), mission.executionId(), vehicleId, state);
+    }
+
     /**
-     * Procesa la ruta de un dron: crea o busca la ruta y la sube al vehículo
+     * Sube la ruta del dron: la existente si ya estaba creada o una nueva
      *
-     * @return CompletableFuture<DomainProto.Vehicle> el vehículo con la ruta cargada, o null si no hay waypoints
+     * @return CompletableFuture<DomainProto.Vehicle> el vehículo con la ruta cargada
      */
-    private CompletableFuture<DomainProto.Vehicle> processDroneRoute(
+    private CompletableFuture<DomainProto.Vehicle> uploadDroneRoute(
             DomainProto.Mission ugcsMission,
-            MissionExecutionDTO.DroneExecution drone
+            MissionExecutionDTO.DroneExecution drone,
+            Optional<DomainProto.Route> existingRoute,
+            MissionExecutionDTO.RouteSimplification simplification,
+            UgcsClient.RouteUploadListener listener
     ) {
-        // Si el dron no tiene waypoints, retornar null
-        if (!drone.hasWaypoints()) {
-            log.info("Drone {} has no waypoints, skipping route creation", drone.vehicleId());
-            return CompletableFuture.completedFuture(null);
+        if (existingRoute.isPresent()) {
+            log.info("✅ Found existing route: {}, uploading to drone", drone.routeId());
+            return ugcsClient.uploadExistingRoute(drone.vehicleId(), existingRoute.get(), listener);
         }
+        log.info("Creating new route: {} for drone: {}", drone.routeId(), drone.vehicleId());
+        return createAndUploadRoute(ugcsMission, drone, simplification, listener);
+    }
 
-        // Buscar si la ruta ya existe
-        return ugcsClient.findRouteByName(drone.routeId())
-                .thenCompose(existingRoute -> {
-                    if (existingRoute.isPresent()) {
-                        log.info("✅ Found existing route: {}, uploading to drone", drone.routeId());
-                        return ugcsClient.uploadExistingRoute(drone.vehicleId(), existingRoute.get());
-                    } else {
-                        log.info("Creating new route: {} for drone: {}", drone.routeId(), drone.vehicleId());
-                        return ugcsClient.createAndUploadRoute(ugcsMission, drone, defaultSpeed);
+    /**
+     * Registra el vehículo en la misión y, si se registró, ejecuta sus comandos
+     */
+    private CompletableFuture<Boolean> registerAndStart(
+            MissionPipeline.MissionProgress progress,
+            DomainProto.Mission ugcsMission,
+            DomainProto.Vehicle vehicle,
+            MissionExecutionDTO mission,
+            String vehicleId
+    ) {
+        return registerVehicleInMission(ugcsMission, vehicleId, vehicle)
+                .thenCompose(registered -> {
+                    if (registered) {
+                        advance(mission, vehicleId, DroneMissionState.REGISTERED);
+                        return progress.ifActive(() -> startDrone(mission, vehicleId));
+                    }
+                    log.warn("Failed to register vehicle {} in mission", vehicleId);
+                    return CompletableFuture.completedFuture(false);
+                });
+    }
+
+    /**
+     * Ejecuta los comandos de arranque y deja el dron en STARTED
+     */
+    private CompletableFuture<Boolean> startDrone(MissionExecutionDTO mission, String vehicleId) {
+        return executeCommandsForDrone(vehicleId)
+                .thenApply(success -> {
+                    advance(mission, vehicleId, DroneMissionState.STARTED);
+                    return success;
+                });
+    }
+
+    /**
+     * Crea y sube una ruta nueva, simplificando antes su geometría si la misión lo pide
+     */
+    private CompletableFuture<DomainProto.Vehicle> createAndUploadRoute(
+            DomainProto.Mission ugcsMission,
+            MissionExecutionDTO.DroneExecution drone,
+            MissionExecutionDTO.RouteSimplification simplification,
+            UgcsClient.RouteUploadListener listener
+    ) {
+        var toUpload = routeSimplifier.simplify(drone, simplification);
+        long startedAt = System.nanoTime();
+        return ugcsClient.createAndUploadRoute(ugcsMission, toUpload, defaultSpeed, listener)
+                .whenComplete((vehicle, error) -> {
+                    if (error == null) {
+                        routeSimplifier.recordUpload(drone.waypoints().size(),
+                                toUpload.waypoints().size(), System.nanoTime() - startedAt);
                     }
                 });
     }
@@ -162,15 +276,16 @@ public class MissionExecutionService implements EventProcessor<MissionExecutionD
      */
     private CompletableFuture<Boolean> registerVehicleInMission(
             DomainProto.Mission ugcsMission,
+            String vehicleId,
             DomainProto.Vehicle vehicle
     ) {
-        log.info("📝 Registering vehicle {} in mission", vehicle.getName());
-        return ugcsClient.createMissionVehicle(ugcsMission, vehicle)
+        log.info("📝 Registering vehicle {} in mission", vehicleId);
+        return ugcsClient.createMissionVehicle(ugcsMission, vehicleId, vehicle)
                 .thenApply(success -> {
                     if (success) {
-                        log.info("✅ Vehicle {} registered in mission", vehicle.getName());
+                        log.info("✅ Vehicle {} registered in mission", vehicleId);
                     } else {
-                        log.warn("⚠️ Failed to register vehicle {} in mission", vehicle.getName());
+                        log.warn("⚠️ Failed to register vehicle {} in mission", vehicleId);
                     }
                     return success;
                 });
@@ -233,12 +348,22 @@ public class MissionExecutionService implements EventProcessor<MissionExecutionD
         );
     }
 
+    /**
+     * Clasifica por la primera causa reconocible de la cadena: el adaptador de UgCS
+     * envuelve el error original
+     */
     private CommandResultDTO.CommandStatus determineErrorStatus(Throwable error) {
-        if (error instanceof TimeoutException) {
-            return CommandResultDTO.CommandStatus.TIMEOUT;
-        }
-        if (error instanceof IllegalStateException || error instanceof IllegalArgumentException) {
-            return CommandResultDTO.CommandStatus.REJECTED;
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException) {
+                return CommandResultDTO.CommandStatus.TIMEOUT;
+            }
+            // Desconexión de UgCS: transitoria, se reintenta en lugar de ir al DLT
+            if (cause instanceof UgcsUnavailableException) {
+                return CommandResultDTO.CommandStatus.FAILED;
+            }
+            if (cause instanceof IllegalStateException || cause instanceof IllegalArgumentException) {
+                return CommandResultDTO.CommandStatus.REJECTED;
+            }
         }
         return CommandResultDTO.CommandStatus.FAILED;
     }
@@ -0,0 +1,178 @@
+package co.cetad.umas.core.application.service.mission;
+
+import co.cetad.umas.core.application.service.scheduling.AsyncLimiter;
+import co.cetad.umas.core.infrastructure.config.MissionPipelineProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Etapas de la ejecución de una misión, cada una con su propio límite de concurrencia
+ *
+ * - RESOLVE: búsqueda de la ruta en UgCS (límite global)
+ * - UPLOAD: processRoute + subida al vehículo (límite por misión; el global lo pone el
+ *   PriorityScheduler)
+ * - START: registro en la misión, armado y arranque (límite global)
+ *
+ * Cada dron avanza de etapa en cuanto termina la anterior: los primeros drones de una
+ * misión grande arrancan mientras el resto sigue subiendo rutas.
+ *
+ * Si la misión se cancela (p. ej. vence su timeout), las etapas que aún esperan hueco
+ * no llegan a ejecutarse: fallan con CancellationException al tocarles el turno y
+ * liberan el hueco al siguiente.
+ *
+ * MÉTRICAS:
+ * - umas.mission.stage (stage, outcome): duración de cada etapa por dron
+ * - umas.mission.stage.active (stage): drones ejecutando cada etapa
+ * - umas.mission.stage.waiting (stage): drones esperando hueco en etapas con límite global
+ */
+@Slf4j
+@Component
+public class MissionPipeline {
+
+    public enum Stage { RESOLVE, UPLOAD, START }
+
+    private final MissionPipelineProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, AtomicInteger> active = new EnumMap<>(Stage.class);
+    private final AsyncLimiter resolveLimiter;
+    private final AsyncLimiter startLimiter;
+
+    public MissionPipeline(MissionPipelineProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.resolveLimiter = new AsyncLimiter(properties.getResolveConcurrency());
+        this.startLimiter = new AsyncLimiter(properties.getStartConcurrency());
+
+        for (Stage stage : Stage.values()) {
+            var counter = new AtomicInteger();
+            active.put(stage, counter);
+            Gauge.builder("umas.mission.stage.active", counter, AtomicInteger::get)
+                    .description("Drones currently executing a mission stage")
+                    .tag("stage", tag(stage))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("umas.mission.stage.waiting", resolveLimiter, AsyncLimiter::waitingCount)
+                .description("Drones waiting for a slot in a mission stage")
+                .tag("stage", tag(Stage.RESOLVE))
+                .register(meterRegistry);
+        Gauge.builder("umas.mission.stage.waiting", startLimiter, AsyncLimiter::waitingCount)
+                .description("Drones waiting for a slot in a mission stage")
+                .tag("stage", tag(Stage.START))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre el seguimiento de una misión con su propio límite para la etapa de subida
+     */
+    public MissionProgress start(String missionId, int drones) {
+        return new MissionProgress(missionId, drones, new AsyncLimiter(properties.getPerMissionConcurrency()));
+    }
+
+    private static String tag(Stage stage) {
+        return stage.name().toLowerCase();
+    }
+
+    /**
+     * Progreso de una misión: cuántos drones han completado cada etapa
+     */
+    public final class MissionProgress {
+
+        private final String missionId;
+        private final int drones;
+        private final AsyncLimiter uploadLimiter;
+        private final Map<Stage, AtomicInteger> completed = new EnumMap<>(Stage.class);
+        private volatile boolean cancelled;
+
+        private MissionProgress(String missionId, int drones, AsyncLimiter uploadLimiter) {
+            this.missionId = missionId;
+            this.drones = drones;
+            this.uploadLimiter = uploadLimiter;
+            for (Stage stage : Stage.values()) {
+                completed.put(stage, new AtomicInteger());
+            }
+        }
+
+        public <T> CompletableFuture<T> resolve(Supplier<CompletableFuture<T>> step) {
+            return resolveLimiter.submit(() -> run(Stage.RESOLVE, step));
+        }
+
+        /**
+         * El límite por misión se aplica antes de encolar en el planificador global
+         */
+        public <T> CompletableFuture<T> upload(Supplier<CompletableFuture<T>> step) {
+            return uploadLimiter.submit(() -> run(Stage.UPLOAD, step));
+        }
+
+        public <T> CompletableFuture<T> launch(Supplier<CompletableFuture<T>> step) {
+            return startLimiter.submit(() -> run(Stage.START, step));
+        }
+
+        /**
+         * Ejecuta el paso solo si la misión no se ha cancelado; para pasos que esperan turno
+         * fuera del pipeline (planificador) o que siguen a otro dentro de la misma etapa
+         */
+        public <T> CompletableFuture<T> ifActive(Supplier<CompletableFuture<T>> step) {
+            if (cancelled) {
+                return CompletableFuture.failedFuture(
+                        new CancellationException("Mission " + missionId + " was cancelled"));
+            }
+            try {
+                return step.get();
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        /**
+         * Descarta las etapas pendientes; las que ya están en marcha terminan por su cuenta
+         */
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                log.warn("🛑 Mission {} cancelled, pending stages will not run", missionId);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Drones que han terminado la etapa (con éxito o no)
+         */
+        public int completed(Stage stage) {
+            return completed.get(stage).get();
+        }
+
+        private <T> CompletableFuture<T> run(Stage stage, Supplier<CompletableFuture<T>> step) {
+            if (cancelled) {
+                log.debug("Mission {} cancelled, skipping {} stage", missionId, tag(stage));
+                return ifActive(step);
+            }
+            var sample = Timer.start(meterRegistry);
+            active.get(stage).incrementAndGet();
+
+            return ifActive(step).whenComplete((result, error) -> {
+                active.get(stage).decrementAndGet();
+                sample.stop(Timer.builder("umas.mission.stage")
+                        .description("Duration of each mission stage per drone")
+                        .tag("stage", tag(stage))
+                        .tag("outcome", error == null ? "success" : "error")
+                        .register(meterRegistry));
+                int done = completed.get(stage).incrementAndGet();
+                log.info("📊 Mission {} {}: {}/{} drones", missionId, tag(stage), done, drones);
+            });
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package co.cetad.umas.core.application.service.mission;
+
+import co.cetad.umas.core.domain.model.dto.DroneMissionStatusDTO;
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
+import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import co.cetad.umas.core.domain.ports.out.MissionCheckpointStore;
+import co.cetad.umas.core.infrastructure.config.MissionPipelineProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Estado de cada dron dentro de una misión:
+ * ROUTE_RESOLVED → PROCESSED → UPLOADED → REGISTERED → STARTED
+ *
+ * Cada transición se guarda como checkpoint (Redis si está disponible, siempre en memoria)
+ * y se publica en el topic de estado de misión. Los checkpoints pertenecen a una ejecución
+ * de la misión: tras un reinicio, una reentrega o un reintento de esa ejecución cada dron
+ * retoma desde su último estado, y una ejecución nueva empieza siempre de cero.
+ *
+ * Los estados solo avanzan: una transición a un estado igual o anterior se ignora.
+ *
+ * MÉTRICAS:
+ * - umas.mission.transitions (state): transiciones registradas
+ * - umas.mission.resumed: drones que retoman una misión a medias
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionStateMachine {
+
+    private final MissionPipelineProperties properties;
+    private final Optional<MissionCheckpointStore> checkpointStore;
+    private final EventPublisher<DroneMissionStatusDTO> statusPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LocalCheckpoint> local = new ConcurrentHashMap<>();
+
+    /**
+     * Último estado de cada dron en la ejecución; vacío si la ejecución no tiene progreso guardado
+     */
+    public Map<String, DroneMissionState> load(String missionId, String executionId) {
+        var states = new ConcurrentHashMap<String, DroneMissionState>();
+        var cached = local.get(localKey(missionId, executionId));
+        if (cached != null && !cached.isExpired()) {
+            states.putAll(cached.states());
+        }
+        checkpointStore.ifPresent(store -> store.find(missionId, executionId)
+                .forEach((vehicleId, state) -> states.merge(vehicleId, state, MissionStateMachine::furthest)));
+
+        if (!states.isEmpty()) {
+            log.info("📌 Mission {} execution {} has checkpoints for {} drones", missionId, executionId, states.size());
+        }
+        return states;
+    }
+
+    /**
+     * Registra que el dron alcanzó el estado en la ejecución, lo guarda y lo publica
+     */
+    public void advance(String missionId, String executionId, String vehicleId, DroneMissionState state) {
+        var ttl = Duration.ofMillis(properties.getCheckpointTtlMs());
+        var checkpoint = local.compute(localKey(missionId, executionId), (id, current) ->
+                current == null || current.isExpired() ? new LocalCheckpoint(ttl) : current.touch(ttl));
+
+        var advanced = new AtomicBoolean();
+        checkpoint.states().compute(vehicleId, (id, previous) -> {
+            if (previous != null && previous.isAtLeast(state)) {
+                return previous;
+            }
+            advanced.set(true);
+            return state;
+        });
+        if (!advanced.get()) {
+            log.debug("Ignoring transition to {} for {} in mission {}", state, vehicleId, missionId);
+            return;
+        }
+        checkpointStore.ifPresent(store -> store.save(missionId, executionId, vehicleId, state, ttl));
+
+        log.info("📍 Mission {} drone {}: {}", missionId, vehicleId, state);
+        meterRegistry.counter("umas.mission.transitions", "state", state.name().toLowerCase()).increment();
+        statusPublisher.publish(DroneMissionStatusDTO.of(missionId, vehicleId, state)).subscribe();
+
+        pruneExpired();
+    }
+
+    /**
+     * Registra que un dron retoma la misión desde su último checkpoint
+     */
+    public void resumed(String missionId, String vehicleId, DroneMissionState state) {
+        log.info("⏩ Resuming drone {} in mission {} from {}", vehicleId, missionId, state);
+        meterRegistry.counter("umas.mission.resumed").increment();
+    }
+
+    private void pruneExpired() {
+        local.values().removeIf(LocalCheckpoint::isExpired);
+    }
+
+    private static String localKey(String missionId, String executionId) {
+        return missionId + ":" + executionId;
+    }
+
+    private static DroneMissionState furthest(DroneMissionState a, DroneMissionState b) {
+        return a.isAtLeast(b) ? a : b;
+    }
+
+    /**
+     * Copia local del progreso de una misión, por si Redis no está disponible
+     */
+    private record LocalCheckpoint(Map<String, DroneMissionState> states, Instant expiresAt) {
+
+        LocalCheckpoint(Duration ttl) {
+            this(new ConcurrentHashMap<>(), Instant.now().plus(ttl));
+        }
+
+        LocalCheckpoint touch(Duration ttl) {
+            return new LocalCheckpoint(states, Instant.now().plus(ttl));
+        }
+
+        boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+
+}
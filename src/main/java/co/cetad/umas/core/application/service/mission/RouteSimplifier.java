@@ -0,0 +1,240 @@
+package co.cetad.umas.core.application.service.mission;
+
+import co.cetad.umas.core.domain.model.dto.MissionExecutionDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simplificación de rutas antes de subirlas a UgCS
+ *
+ * Cada waypoint se convierte en un segmento de la ruta: una misión de
+ * levantamiento con miles de puntos genera mensajes enormes y processRoute/
+ * uploadRoute muy lentos. Si la misión lo pide:
+ * 1. Se eliminan puntos duplicados y colineales (a menos de 10 cm de la recta
+ *    entre sus vecinos y entre ellos; los giros de 180° se conservan)
+ * 2. Douglas-Peucker con la tolerancia de la misión, en metros
+ * El primer y el último punto siempre se conservan.
+ *
+ * MÉTRICAS:
+ * - umas.route.simplification.points (stage=input|output)
+ * - umas.route.simplification.upload.saved: tiempo de subida ahorrado (estimado
+ *   con el coste medio por waypoint de las subidas observadas)
+ */
+@Slf4j
+@Component
+public class RouteSimplifier {
+
+    static final double COLLINEAR_TOLERANCE_METERS = 0.1;
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+    private static final double UPLOAD_COST_SMOOTHING = 0.2;
+
+    private final Counter inputPoints;
+    private final Counter outputPoints;
+    private final Timer uploadSavedTimer;
+
+    // Nanosegundos de subida por waypoint (media exponencial); 0 hasta la primera subida
+    private double uploadNanosPerPoint;
+
+    public RouteSimplifier(MeterRegistry meterRegistry) {
+        this.inputPoints = pointsCounter(meterRegistry, "input");
+        this.outputPoints = pointsCounter(meterRegistry, "output");
+        this.uploadSavedTimer = Timer.builder("umas.route.simplification.upload.saved")
+                .description("Estimated route upload time saved by simplification")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Devuelve la ejecución del dron con la ruta simplificada según la misión
+     * Sin simplificación configurada se devuelve la misma ejecución.
+     */
+    public MissionExecutionDTO.DroneExecution simplify(MissionExecutionDTO.DroneExecution drone,
+                                                       MissionExecutionDTO.RouteSimplification settings) {
+        if (settings == null || !drone.hasWaypoints()) {
+            return drone;
+        }
+
+        var original = drone.waypoints();
+        var simplified = simplify(original, settings.toleranceOrZero());
+        inputPoints.increment(original.size());
+        outputPoints.increment(simplified.size());
+
+        if (simplified.size() == original.size()) {
+            return drone;
+        }
+        log.info("✂️ Route '{}' simplified for drone {}: {} -> {} waypoints ({}% fewer)",
+                drone.routeId(), drone.vehicleId(), original.size(), simplified.size(),
+                Math.round(100.0 * (original.size() - simplified.size()) / original.size()));
+        return drone.withWaypoints(simplified);
+    }
+
+    /**
+     * Registra una subida completada y el ahorro estimado por los puntos eliminados
+     *
+     * @param originalPoints waypoints que traía la misión
+     * @param uploadedPoints waypoints realmente subidos
+     * @param elapsedNanos duración de la creación y subida de la ruta
+     */
+    public void recordUpload(int originalPoints, int uploadedPoints, long elapsedNanos) {
+        if (uploadedPoints <= 0) {
+            return;
+        }
+
+        double nanosPerPoint;
+        synchronized (this) {
+            double observed = (double) elapsedNanos / uploadedPoints;
+            uploadNanosPerPoint = uploadNanosPerPoint == 0
+                    ? observed
+                    : UPLOAD_COST_SMOOTHING * observed + (1 - UPLOAD_COST_SMOOTHING) * uploadNanosPerPoint;
+            nanosPerPoint = uploadNanosPerPoint;
+        }
+
+        int removed = originalPoints - uploadedPoints;
+        if (removed > 0) {
+            long savedNanos = (long) (removed * nanosPerPoint);
+            uploadSavedTimer.record(savedNanos, TimeUnit.NANOSECONDS);
+            log.info("⏱️ Route simplification saved ~{} ms of upload ({} waypoints removed)",
+                    Duration.ofNanos(savedNanos).toMillis(), removed);
+        }
+    }
+
+    /**
+     * Elimina duplicados y puntos colineales y aplica Douglas-Peucker con la tolerancia dada
+     */
+    static List<MissionExecutionDTO.SimpleWaypoint> simplify(List<MissionExecutionDTO.SimpleWaypoint> waypoints,
+                                                             double toleranceMeters) {
+        if (waypoints.size() < 3) {
+            return waypoints;
+        }
+
+        var points = project(waypoints);
+        var kept = removeCollinear(points);
+        if (toleranceMeters > COLLINEAR_TOLERANCE_METERS) {
+            kept = douglasPeucker(points, kept, toleranceMeters);
+        }
+
+        var result = new ArrayList<MissionExecutionDTO.SimpleWaypoint>(kept.size());
+        for (int index : kept) {
+            result.add(waypoints.get(index));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Proyección equirectangular local alrededor del primer punto: suficiente para las
+     * distancias de una ruta de dron y mucho más barata que la geodésica
+     */
+    private static double[][] project(List<MissionExecutionDTO.SimpleWaypoint> waypoints) {
+        var origin = waypoints.getFirst();
+        double cosLat = Math.cos(origin.latitudeRadians());
+        var points = new double[waypoints.size()][];
+        for (int i = 0; i < waypoints.size(); i++) {
+            var waypoint = waypoints.get(i);
+            points[i] = new double[]{
+                    EARTH_RADIUS_METERS * (waypoint.longitudeRadians() - origin.longitudeRadians()) * cosLat,
+                    EARTH_RADIUS_METERS * (waypoint.latitudeRadians() - origin.latitudeRadians())
+            };
+        }
+        return points;
+    }
+
+    /**
+     * Índices que sobreviven a la eliminación de duplicados y de puntos intermedios de una recta
+     */
+    private static List<Integer> removeCollinear(double[][] points) {
+        var kept = new ArrayList<Integer>(points.length);
+        kept.add(0);
+        for (int i = 1; i < points.length - 1; i++) {
+            var previous = points[kept.getLast()];
+            if (distance(previous, points[i]) < COLLINEAR_TOLERANCE_METERS) {
+                continue;
+            }
+            if (segmentDistance(points[i], previous, points[i + 1]) < COLLINEAR_TOLERANCE_METERS) {
+                continue;
+            }
+            kept.add(i);
+        }
+        int last = points.length - 1;
+        if (distance(points[kept.getLast()], points[last]) < COLLINEAR_TOLERANCE_METERS && kept.size() > 1) {
+            kept.removeLast();
+        }
+        kept.add(last);
+        return kept;
+    }
+
+    /**
+     * Douglas-Peucker iterativo (sin recursión: las rutas pueden tener miles de puntos)
+     * sobre los índices candidatos; usa la distancia al segmento para respetar los giros
+     */
+    private static List<Integer> douglasPeucker(double[][] points, List<Integer> candidates, double tolerance) {
+        var keep = new boolean[candidates.size()];
+        keep[0] = true;
+        keep[candidates.size() - 1] = true;
+
+        var ranges = new ArrayDeque<int[]>();
+        ranges.push(new int[]{0, candidates.size() - 1});
+        while (!ranges.isEmpty()) {
+            var range = ranges.pop();
+            int first = range[0];
+            int last = range[1];
+            var start = points[candidates.get(first)];
+            var end = points[candidates.get(last)];
+
+            double maxDistance = 0;
+            int farthest = -1;
+            for (int i = first + 1; i < last; i++) {
+                double distance = segmentDistance(points[candidates.get(i)], start, end);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest >= 0 && maxDistance > tolerance) {
+                keep[farthest] = true;
+                ranges.push(new int[]{first, farthest});
+                ranges.push(new int[]{farthest, last});
+            }
+        }
+
+        var kept = new ArrayList<Integer>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (keep[i]) {
+                kept.add(candidates.get(i));
+            }
+        }
+        return kept;
+    }
+
+    private static double segmentDistance(double[] point, double[] start, double[] end) {
+        double dx = end[0] - start[0];
+        double dy = end[1] - start[1];
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return distance(point, start);
+        }
+        double t = ((point[0] - start[0]) * dx + (point[1] - start[1]) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        return distance(point, new double[]{start[0] + t * dx, start[1] + t * dy});
+    }
+
+    private static double distance(double[] a, double[] b) {
+        return Math.hypot(a[0] - b[0], a[1] - b[1]);
+    }
+
+    private static Counter pointsCounter(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("umas.route.simplification.points")
+                .description("Route waypoints before and after simplification")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,212 @@
+package co.cetad.umas.core.application.service.route;
+
+import co.cetad.umas.core.application.service.telemetry.TelemetryConditionAwaiter;
+import co.cetad.umas.core.application.service.telemetry.TelemetryConditions;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionDTO;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionResult;
+import co.cetad.umas.core.domain.model.dto.WaypointDTO;
+import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
+import co.cetad.umas.core.domain.ports.in.RouteExecutor;
+import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.config.RouteExecutionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una ruta comando a comando, confirmando cada uno con la telemetría en vivo
+ *
+ * Secuencia:
+ * 1. GUIDED: confirmado cuando el modo de vuelo o de control es GUIDED (al instante si
+ *    el vehículo ya lo estaba; otro cambio de modo, p. ej. un RTL, no lo confirma)
+ * 2. WAYPOINT por cada punto: confirmado cuando el vehículo entra en el radio de aceptación
+ *
+ * Cada paso dura lo que tarda el vehículo en reaccionar; los tiempos de
+ * RouteExecutionProperties solo acotan la espera si no llega confirmación.
+ * Antes de cada paso se publica RouteExecutionResult.inProgress y al final el resultado.
+ *
+ * Un vehículo ejecuta una sola ruta a la vez.
+ *
+ * MÉTRICAS:
+ * - umas.route.command.confirmation (command, outcome): tiempo desde el envío hasta la confirmación
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteExecutionService implements RouteExecutor {
+
+    static final String GUIDED_COMMAND = "guided";
+    static final String WAYPOINT_COMMAND = "waypoint";
+
+    private final UgcsClient ugcsClient;
+    private final TelemetryConditionAwaiter conditionAwaiter;
+    private final EventPublisher<RouteExecutionResult> routeStatusPublisher;
+    private final RouteExecutionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, String> activeRoutes = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<RouteExecutionResult> executeRoute(RouteExecutionDTO route) {
+        var startTime = Instant.now();
+        if (route.waypoints() == null || route.waypoints().isEmpty()) {
+            return finish(RouteExecutionResult.failed(route.vehicleId(), route.routeId(), 0, 0,
+                    null, "Route has no waypoints", startTime));
+        }
+
+        var steps = buildSteps(route);
+        int total = steps.size();
+        if (activeRoutes.putIfAbsent(route.vehicleId(), route.routeId()) != null) {
+            log.warn("⚠️ Vehicle {} is already executing route {}", route.vehicleId(),
+                    activeRoutes.get(route.vehicleId()));
+            return finish(RouteExecutionResult.failed(route.vehicleId(), route.routeId(), 0, total,
+                    null, "Vehicle is already executing a route", startTime));
+        }
+
+        log.info("🛫 Executing route {} on vehicle {} ({} commands)", route.routeId(), route.vehicleId(), total);
+
+        CompletableFuture<Integer> execution = CompletableFuture.completedFuture(0);
+        for (int i = 0; i < total; i++) {
+            int index = i;
+            execution = execution.thenCompose(done -> runStep(route, steps.get(index), index, total));
+        }
+
+        return execution
+                .handle((done, error) -> error == null
+                        ? RouteExecutionResult.completed(route.vehicleId(), route.routeId(), total, startTime)
+                        : failure(route, steps, error, startTime))
+                .whenComplete((result, error) -> activeRoutes.remove(route.vehicleId(), route.routeId()))
+                .thenCompose(this::finish);
+    }
+
+    /**
+     * GUIDED y después un WAYPOINT por punto de la ruta
+     */
+    private List<RouteStep> buildSteps(RouteExecutionDTO route) {
+        var vehicleId = route.vehicleId();
+        var steps = new ArrayList<RouteStep>();
+        steps.add(new RouteStep(
+                GUIDED_COMMAND,
+                CommandRequest.simple(vehicleId, GUIDED_COMMAND),
+                () -> TelemetryConditions.modeIn(properties.getGuidedModes()),
+                Duration.ofMillis(properties.getModeConfirmationTimeoutMs())));
+
+        List<WaypointDTO> waypoints = route.waypoints();
+        for (int i = 0; i < waypoints.size(); i++) {
+            var waypoint = waypoints.get(i);
+            steps.add(new RouteStep(
+                    WAYPOINT_COMMAND + "_" + (i + 1),
+                    CommandRequest.waypoint(vehicleId, waypoint.latitude(), waypoint.longitude(),
+                            properties.getAltitude(), properties.getSpeed()),
+                    () -> TelemetryConditions.withinRadius(waypoint.latitude(), waypoint.longitude(),
+                            properties.getAcceptanceRadius()),
+                    Duration.ofMillis(properties.getWaypointTimeoutMs())));
+        }
+        return steps;
+    }
+
+    /**
+     * Envía el comando del paso y espera su confirmación en la telemetría
+     */
+    private CompletableFuture<Integer> runStep(RouteExecutionDTO route, RouteStep step, int index, int total) {
+        routeStatusPublisher.publish(RouteExecutionResult.inProgress(
+                route.vehicleId(), route.routeId(), index, total, step.name())).subscribe();
+
+        // La espera se registra antes del envío: la telemetría puede adelantarse a la respuesta del comando
+        var confirmation = conditionAwaiter.await(route.vehicleId(), step.confirmation().get(), step.timeout());
+        var sample = Timer.start(meterRegistry);
+        log.info("📍 Route {} on {}: sending {} ({}/{})", route.routeId(), route.vehicleId(),
+                step.name(), index + 1, total);
+
+        return ugcsClient.executeCommand(step.command())
+                .thenCompose(accepted -> {
+                    if (!accepted) {
+                        throw new IllegalStateException("Command rejected: " + step.name());
+                    }
+                    return confirmation;
+                })
+                .handle((telemetry, error) -> {
+                    confirmation.cancel(false);
+                    var cause = unwrap(error);
+                    sample.stop(Timer.builder("umas.route.command.confirmation")
+                            .description("Time from sending a route command until telemetry confirms it")
+                            .tag("command", step.command().commandCode())
+                            .tag("outcome", cause == null ? "confirmed"
+                                    : cause instanceof TimeoutException ? "timeout" : "error")
+                            .register(meterRegistry));
+                    if (cause != null) {
+                        throw new StepFailure(index, cause);
+                    }
+                    log.info("✅ {} confirmed by telemetry for {}", step.name(), route.vehicleId());
+                    return index + 1;
+                });
+    }
+
+    private RouteExecutionResult failure(RouteExecutionDTO route, List<RouteStep> steps,
+                                         Throwable error, Instant startTime) {
+        var cause = unwrap(error);
+        int index = cause instanceof StepFailure failure ? failure.index : 0;
+        var reason = cause instanceof StepFailure failure ? failure.getCause() : cause;
+        var command = steps.get(index).name();
+
+        if (reason instanceof TimeoutException) {
+            log.warn("⏱️ Route {} on {}: no confirmation for {}", route.routeId(), route.vehicleId(), command);
+            return RouteExecutionResult.timeout(route.vehicleId(), route.routeId(), index, steps.size(),
+                    command, startTime);
+        }
+        log.error("❌ Route {} on {} failed at {}", route.routeId(), route.vehicleId(), command, reason);
+        return RouteExecutionResult.failed(route.vehicleId(), route.routeId(), index, steps.size(),
+                command, String.valueOf(reason.getMessage()), startTime);
+    }
+
+    /**
+     * Publica el resultado final antes de devolverlo (el publisher nunca falla)
+     */
+    private CompletableFuture<RouteExecutionResult> finish(RouteExecutionResult result) {
+        return routeStatusPublisher.publish(result)
+                .toFuture()
+                .thenApply(v -> result);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Comando de la ruta y la condición de telemetría que lo confirma
+     * (la condición se construye al ejecutar el paso, con el estado del vehículo en ese momento)
+     */
+    private record RouteStep(
+            String name,
+            CommandRequest command,
+            Supplier<Predicate<TelemetryData>> confirmation,
+            Duration timeout
+    ) {}
+
+    private static final class StepFailure extends RuntimeException {
+
+        private final int index;
+
+        private StepFailure(int index, Throwable cause) {
+            super(cause.getMessage(), cause);
+            this.index = index;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package co.cetad.umas.core.application.service.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Semáforo asíncrono: como máximo maxConcurrent trabajos en vuelo, el resto espera
+ * en orden de llegada sin bloquear ningún hilo
+ */
+public class AsyncLimiter {
+
+    private final int maxConcurrent;
+    private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+    private int running;
+
+    public AsyncLimiter(int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be at least 1");
+        }
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Ejecuta el trabajo cuando haya un hueco; el hueco se libera al completar su future
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        var result = new CompletableFuture<T>();
+        Runnable start = () -> run(task, result);
+
+        boolean startNow;
+        synchronized (this) {
+            startNow = running < maxConcurrent;
+            if (startNow) {
+                running++;
+            } else {
+                waiting.addLast(start);
+            }
+        }
+        if (startNow) {
+            start.run();
+        }
+        return result;
+    }
+
+    public synchronized int runningCount() {
+        return running;
+    }
+
+    public synchronized int waitingCount() {
+        return waiting.size();
+    }
+
+    private <T> void run(Supplier<CompletableFuture<T>> task, CompletableFuture<T> result) {
+        CompletableFuture<T> execution;
+        try {
+            execution = task.get();
+        } catch (Throwable t) {
+            execution = CompletableFuture.failedFuture(t);
+        }
+
+        execution.whenComplete((value, error) -> {
+            release();
+            if (error != null) {
+                result.completeExceptionally(
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waiting.pollFirst();
+            if (next == null) {
+                running--;
+                return;
+            }
+        }
+        // El hueco pasa directamente al siguiente en espera
+        next.run();
+    }
+
+}
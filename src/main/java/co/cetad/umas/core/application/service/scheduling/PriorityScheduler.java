@@ -0,0 +1,264 @@
+package co.cetad.umas.core.application.service.scheduling;
+
+import co.cetad.umas.core.infrastructure.config.PrioritySchedulerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Planificador por prioridad para el trabajo pesado contra UgCS
+ *
+ * - Colas acotadas por clase de prioridad (FIFO dentro de cada clase)
+ * - Como máximo maxConcurrent trabajos en ejecución a la vez
+ * - Envejecimiento: cada agingInterval de espera sube una clase, evitando inanición
+ * - Con las colas llenas, un trabajo de mayor prioridad desaloja al trabajo
+ *   encolado de menor prioridad efectiva
+ *
+ * MÉTRICAS (por clase de prioridad):
+ * - umas.scheduler.queue.wait: tiempo en cola hasta empezar a ejecutarse
+ * - umas.scheduler.queue.depth: trabajos encolados
+ * - umas.scheduler.preempted / umas.scheduler.rejected
+ */
+@Slf4j
+@Component
+public class PriorityScheduler {
+
+    private final PrioritySchedulerProperties properties;
+    private final Map<PriorityClass, ArrayDeque<Job<?>>> queues = new EnumMap<>(PriorityClass.class);
+    private final Map<PriorityClass, Timer> waitTimers = new EnumMap<>(PriorityClass.class);
+    private final Map<PriorityClass, Counter> preemptedCounters = new EnumMap<>(PriorityClass.class);
+    private final Map<PriorityClass, Counter> rejectedCounters = new EnumMap<>(PriorityClass.class);
+
+    private int running;
+    private int queued;
+
+    public PriorityScheduler(PrioritySchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            var queue = new ArrayDeque<Job<?>>();
+            queues.put(priorityClass, queue);
+
+            waitTimers.put(priorityClass, Timer.builder("umas.scheduler.queue.wait")
+                    .description("Time spent by scheduled UgCS work waiting for a slot")
+                    .tag("priority", priorityClass.name())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+            preemptedCounters.put(priorityClass, Counter.builder("umas.scheduler.preempted")
+                    .tag("priority", priorityClass.name())
+                    .register(meterRegistry));
+            rejectedCounters.put(priorityClass, Counter.builder("umas.scheduler.rejected")
+                    .tag("priority", priorityClass.name())
+                    .register(meterRegistry));
+            Gauge.builder("umas.scheduler.queue.depth", this, scheduler -> scheduler.queuedCount(priorityClass))
+                    .tag("priority", priorityClass.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Encola un trabajo asíncrono con la prioridad indicada
+     *
+     * @param priority prioridad numérica del mensaje (mayor = más urgente)
+     * @param task     trabajo a ejecutar cuando haya capacidad
+     * @return CompletableFuture con el resultado del trabajo; falla con
+     *         RejectedExecutionException si fue rechazado o desalojado
+     */
+    public <T> CompletableFuture<T> submit(int priority, Supplier<CompletableFuture<T>> task) {
+        var job = new Job<>(PriorityClass.of(priority), task, System.nanoTime());
+        Job<?> preempted = null;
+        boolean rejected = false;
+
+        synchronized (this) {
+            if (queued >= properties.getMaxQueued()) {
+                var victim = lowestQueued(job.enqueuedAt);
+                if (victim != null && effectiveRank(victim, job.enqueuedAt) < job.priorityClass.ordinal()) {
+                    queues.get(victim.priorityClass).remove(victim);
+                    queued--;
+                    preempted = victim;
+                } else {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                queues.get(job.priorityClass).addLast(job);
+                queued++;
+            }
+        }
+
+        if (preempted != null) {
+            log.warn("⏏️ {} job preempted by incoming {} job", preempted.priorityClass, job.priorityClass);
+            preemptedCounters.get(preempted.priorityClass).increment();
+            preempted.future.completeExceptionally(
+                    new RejectedExecutionException("Preempted by higher priority work"));
+        }
+        if (rejected) {
+            log.warn("Scheduler queue full, rejecting {} job", job.priorityClass);
+            rejectedCounters.get(job.priorityClass).increment();
+            job.future.completeExceptionally(new RejectedExecutionException("Scheduler queue is full"));
+            return job.future;
+        }
+
+        drain();
+        return job.future;
+    }
+
+    public synchronized int queuedCount(PriorityClass priorityClass) {
+        return queues.get(priorityClass).size();
+    }
+
+    public synchronized int totalQueued() {
+        return queued;
+    }
+
+    public synchronized int runningCount() {
+        return running;
+    }
+
+    private void drain() {
+        while (true) {
+            Job<?> next;
+            synchronized (this) {
+                if (running >= properties.getMaxConcurrent()) {
+                    return;
+                }
+                next = pollNext(System.nanoTime());
+                if (next == null) {
+                    return;
+                }
+                queued--;
+                running++;
+            }
+            start(next);
+        }
+    }
+
+    private <T> void start(Job<T> job) {
+        waitTimers.get(job.priorityClass).record(System.nanoTime() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        CompletableFuture<T> execution;
+        try {
+            execution = job.task.get();
+        } catch (Throwable t) {
+            execution = CompletableFuture.failedFuture(t);
+        }
+
+        execution.whenComplete((result, error) -> {
+            synchronized (this) {
+                running--;
+            }
+            if (error != null) {
+                job.future.completeExceptionally(
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                job.future.complete(result);
+            }
+            drain();
+        });
+    }
+
+    /**
+     * Siguiente trabajo a ejecutar: la cabeza de cola con mayor rango efectivo
+     * En empate gana la clase original más alta.
+     */
+    private Job<?> pollNext(long now) {
+        PriorityClass best = null;
+        long bestRank = Long.MIN_VALUE;
+
+        for (PriorityClass priorityClass : PriorityClass.descending()) {
+            var head = queues.get(priorityClass).peekFirst();
+            if (head != null) {
+                long rank = effectiveRank(head, now);
+                if (rank > bestRank) {
+                    best = priorityClass;
+                    bestRank = rank;
+                }
+            }
+        }
+        return best != null ? queues.get(best).pollFirst() : null;
+    }
+
+    /**
+     * Candidato a desalojo: el trabajo encolado de menor rango efectivo
+     * Dentro de una clase el más reciente es el que menos ha envejecido.
+     */
+    private Job<?> lowestQueued(long now) {
+        Job<?> victim = null;
+        long victimRank = Long.MAX_VALUE;
+
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            var tail = queues.get(priorityClass).peekLast();
+            if (tail != null) {
+                long rank = effectiveRank(tail, now);
+                if (rank < victimRank) {
+                    victim = tail;
+                    victimRank = rank;
+                }
+            }
+        }
+        return victim;
+    }
+
+    private long effectiveRank(Job<?> job, long now) {
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(now - job.enqueuedAt);
+        long agingSteps = properties.getAgingIntervalMs() > 0 ? waitedMs / properties.getAgingIntervalMs() : 0;
+        return job.priorityClass.ordinal() + agingSteps;
+    }
+
+    /**
+     * Clases de prioridad, de menor a mayor urgencia
+     */
+    public enum PriorityClass {
+        LOW,
+        NORMAL,
+        HIGH,
+        CRITICAL;
+
+        private static final PriorityClass[] DESCENDING = {CRITICAL, HIGH, NORMAL, LOW};
+
+        /**
+         * Traduce la prioridad numérica de los DTOs a una clase
+         * <= 0: LOW, 1: NORMAL (valor por defecto de misiones), 2-4: HIGH, >= 5: CRITICAL
+         */
+        public static PriorityClass of(int priority) {
+            if (priority <= 0) {
+                return LOW;
+            }
+            if (priority == 1) {
+                return NORMAL;
+            }
+            return priority < 5 ? HIGH : CRITICAL;
+        }
+
+        static PriorityClass[] descending() {
+            return DESCENDING;
+        }
+    }
+
+    private static final class Job<T> {
+
+        private final PriorityClass priorityClass;
+        private final Supplier<CompletableFuture<T>> task;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Job(PriorityClass priorityClass, Supplier<CompletableFuture<T>> task, long enqueuedAt) {
+            this.priorityClass = priorityClass;
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+}
@@ -1,4 +1,319 @@
 package co.cetad.umas.core.application.service.status;
 
+import co.cetad.umas.core.application.service.cluster.VehicleOwnershipService;
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
+import co.cetad.umas.core.domain.model.dto.VehicleStatusDTO;
+import co.cetad.umas.core.domain.ports.out.StatusNotifier;
+import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Vigilancia de la sesión con UgCS
+ *
+ * El flag connected solo cambiaba al conectar o desconectar: una sesión TCP medio
+ * abierta pasaba desapercibida hasta que un comando agotaba su plazo completo.
+ *
+ * - Ping periódico (RPC ligera con plazo) sobre la sesión principal, con su latencia
+ * - failure-threshold pings fallidos seguidos: se reconecta (ReconnectionCoordinator),
+ *   lo que rehace las suscripciones de telemetría y modificaciones en el servidor
+ * - Sesión desconectada (p. ej. tras una reconexión fallida): se reintenta con el backoff
+ *   de ugcs.reconnect, sin esperar a que un mensaje de Kafka encuentre la sesión caída
+ * - Vehículo sin telemetría durante vehicle-silence-ms: se publica como desconectado
+ *   (VehicleStatusDTO.error) y como conectado cuando vuelve a emitir
+ * - Flota entera sin telemetría durante fleet-silence-ms: la suscripción se da por
+ *   perdida y se reconecta una vez, hasta que vuelva a llegar telemetría
+ * - En clúster el estado de cada vehículo lo publica solo su dueño; el silencio de
+ *   flota sigue midiéndose con toda la telemetría de la sesión
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.ping: latencia del ping
+ * - umas.ugcs.ping.failures: pings fallidos
+ * - umas.ugcs.session.healthy: 1 si el último ping respondió
+ * - umas.ugcs.session.reconnects (reason=ping|fleet_silence|disconnected)
+ * - umas.ugcs.telemetry.silent.vehicles: vehículos sin telemetría reciente
+ */
+@Slf4j
+@Service
 public class ConnectionMonitorService {
+
+    private final UgcsClient ugcsClient;
+    private final ReconnectionCoordinator reconnectionCoordinator;
+    private final StatusNotifier statusNotifier;
+    private final VehicleOwnershipService vehicleOwnership;
+    private final UgcsProperties.Monitor properties;
+    private final UgcsProperties.Reconnect reconnectProperties;
+
+    private final Map<String, Long> lastTelemetry = new ConcurrentHashMap<>();
+    private final Set<String> silentVehicles = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean healthy = new AtomicBoolean(false);
+    private volatile long lastFleetTelemetry;
+    private volatile boolean fleetSilenceHandled;
+    private volatile int consecutiveFailures;
+    private volatile long nextReconnectAt;
+    private volatile long reconnectDelayMs;
+
+    private final Timer pingTimer;
+    private final Counter pingFailureCounter;
+    private final Counter pingReconnectCounter;
+    private final Counter fleetSilenceReconnectCounter;
+    private final Counter disconnectedReconnectCounter;
+
+    private ScheduledExecutorService scheduler;
+    private Disposable telemetrySubscription;
+
+    public ConnectionMonitorService(UgcsClient ugcsClient,
+                                    ReconnectionCoordinator reconnectionCoordinator,
+                                    StatusNotifier statusNotifier,
+                                    VehicleOwnershipService vehicleOwnership,
+                                    UgcsProperties ugcsProperties,
+                                    MeterRegistry meterRegistry) {
+        this.ugcsClient = ugcsClient;
+        this.reconnectionCoordinator = reconnectionCoordinator;
+        this.statusNotifier = statusNotifier;
+        this.vehicleOwnership = vehicleOwnership;
+        this.properties = ugcsProperties.getMonitor();
+        this.reconnectProperties = ugcsProperties.getReconnect();
+
+        this.pingTimer = Timer.builder("umas.ugcs.ping")
+                .description("Latency of the UgCS main session health ping")
+                .register(meterRegistry);
+        this.pingFailureCounter = Counter.builder("umas.ugcs.ping.failures")
+                .description("UgCS health pings that failed or timed out")
+                .register(meterRegistry);
+        this.pingReconnectCounter = reconnectCounter(meterRegistry, "ping");
+        this.fleetSilenceReconnectCounter = reconnectCounter(meterRegistry, "fleet_silence");
+        this.disconnectedReconnectCounter = reconnectCounter(meterRegistry, "disconnected");
+        Gauge.builder("umas.ugcs.session.healthy", healthy, flag -> flag.get() ? 1.0 : 0.0)
+                .description("Whether the last UgCS health ping succeeded")
+                .register(meterRegistry);
+        Gauge.builder("umas.ugcs.telemetry.silent.vehicles", silentVehicles, Set::size)
+                .description("Vehicles without recent telemetry")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("UgCS connection monitor disabled");
+            return;
+        }
+
+        telemetrySubscription = ugcsClient.subscribeTelemetry()
+                .subscribe(telemetry -> recordTelemetry(telemetry.vehicleId()),
+                        error -> log.warn("Connection monitor telemetry stream failed", error));
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ugcs-connection-monitor").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::checkSafely,
+                properties.getPingIntervalMs(), properties.getPingIntervalMs(), TimeUnit.MILLISECONDS);
+        log.info("🩺 UgCS connection monitor started (ping every {} ms)", properties.getPingIntervalMs());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (telemetrySubscription != null) {
+            telemetrySubscription.dispose();
+        }
+    }
+
+    /**
+     * Registra telemetría de un vehículo; si estaba en silencio se publica como conectado
+     */
+    void recordTelemetry(String vehicleId) {
+        long now = System.nanoTime();
+        lastFleetTelemetry = now;
+        fleetSilenceHandled = false;
+
+        if (!vehicleOwnership.owns(vehicleId)) {
+            return;
+        }
+        lastTelemetry.put(vehicleId, now);
+
+        if (silentVehicles.remove(vehicleId)) {
+            log.info("📡 Telemetry resumed for vehicle: {}", vehicleId);
+            notifyStatus(VehicleStatusDTO.connected(vehicleId));
+        }
+    }
+
+    /**
+     * Una ronda de comprobaciones: ping de la sesión y silencio de telemetría
+     */
+    void check() {
+        if (reconnectionCoordinator.isReconnecting()) {
+            return;
+        }
+        if (!ugcsClient.isConnected().join()) {
+            reconnectWhileDisconnected();
+            return;
+        }
+
+        if (!pingSession()) {
+            if (++consecutiveFailures >= properties.getFailureThreshold()) {
+                reconnect("ping", pingReconnectCounter,
+                        "UgCS session not responding (" + consecutiveFailures + " failed pings)");
+            }
+            return;
+        }
+        consecutiveFailures = 0;
+
+        checkVehicleSilence();
+        checkFleetSilence();
+    }
+
+    boolean isHealthy() {
+        return healthy.get();
+    }
+
+    Set<String> silentVehicles() {
+        return Set.copyOf(silentVehicles);
+    }
+
+    private void checkSafely() {
+        try {
+            check();
+        } catch (Exception e) {
+            log.error("UgCS connection monitor check failed", e);
+        }
+    }
+
+    private boolean pingSession() {
+        try {
+            // El adaptador ya aplica el plazo de la RPC; este tope cubre la espera por un hilo libre
+            var latency = ugcsClient.ping()
+                    .orTimeout(properties.getPingIntervalMs(), TimeUnit.MILLISECONDS)
+                    .join();
+            pingTimer.record(latency);
+            healthy.set(true);
+            log.trace("UgCS ping: {} ms", latency.toMillis());
+            return true;
+        } catch (Exception e) {
+            pingFailureCounter.increment();
+            healthy.set(false);
+            log.warn("⚠️ UgCS ping failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void checkVehicleSilence() {
+        long now = System.nanoTime();
+        long silenceNanos = TimeUnit.MILLISECONDS.toNanos(properties.getVehicleSilenceMs());
+        lastTelemetry.forEach((vehicleId, seenAt) -> {
+            // Vehículo reasignado a otro nodo: deja de vigilarse aquí
+            if (!vehicleOwnership.owns(vehicleId)) {
+                lastTelemetry.remove(vehicleId);
+                silentVehicles.remove(vehicleId);
+                return;
+            }
+            if (now - seenAt >= silenceNanos && silentVehicles.add(vehicleId)) {
+                log.warn("📴 No telemetry from vehicle {} for {} ms",
+                        vehicleId, TimeUnit.NANOSECONDS.toMillis(now - seenAt));
+                notifyStatus(VehicleStatusDTO.error(vehicleId, "Telemetry lost"));
+            }
+        });
+    }
+
+    private void checkFleetSilence() {
+        long lastSeen = lastFleetTelemetry;
+        if (lastSeen == 0 || fleetSilenceHandled) {
+            return;
+        }
+        long silentMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastSeen);
+        if (silentMs >= properties.getFleetSilenceMs()) {
+            fleetSilenceHandled = true;
+            reconnect("fleet_silence", fleetSilenceReconnectCounter,
+                    "No telemetry from any vehicle for " + silentMs + " ms");
+        }
+    }
+
+    /**
+     * Rehace la sesión y sus suscripciones; los vehículos conocidos pasan a desconectados
+     * hasta que vuelva su telemetría
+     */
+    private void reconnect(String reason, Counter reasonCounter, String detail) {
+        log.warn("🔄 {}, reconnecting to UgCS ({})", detail, reason);
+        reasonCounter.increment();
+        healthy.set(false);
+
+        lastTelemetry.keySet().forEach(vehicleId -> {
+            if (silentVehicles.add(vehicleId)) {
+                notifyStatus(VehicleStatusDTO.error(vehicleId, "UgCS session lost"));
+            }
+        });
+
+        reconnectionCoordinator.reconnect()
+                .whenComplete((v, error) -> {
+                    if (error == null) {
+                        consecutiveFailures = 0;
+                        log.info("✅ UgCS session re-established after {}", reason);
+                    } else {
+                        log.error("❌ UgCS reconnection failed", error);
+                    }
+                });
+    }
+
+    /**
+     * Una reconexión fallida deja la sesión desconectada: se vuelve a intentar con backoff
+     * exponencial hasta que conecte
+     */
+    private void reconnectWhileDisconnected() {
+        healthy.set(false);
+        if (!reconnectProperties.isEnabled() || System.nanoTime() < nextReconnectAt) {
+            return;
+        }
+
+        log.warn("🔌 UgCS session disconnected, reconnecting");
+        disconnectedReconnectCounter.increment();
+        reconnectionCoordinator.ensureConnected()
+                .whenComplete((v, error) -> {
+                    if (error == null) {
+                        reconnectDelayMs = 0;
+                        nextReconnectAt = 0;
+                        consecutiveFailures = 0;
+                        log.info("✅ UgCS session re-established after disconnection");
+                        return;
+                    }
+                    long delay = reconnectDelayMs == 0
+                            ? reconnectProperties.getInitialDelay()
+                            : Math.min((long) (reconnectDelayMs * reconnectProperties.getMultiplier()),
+                                    reconnectProperties.getMaxDelay());
+                    reconnectDelayMs = delay;
+                    nextReconnectAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+                    log.error("❌ UgCS reconnection failed, next attempt in {} ms", delay, error);
+                });
+    }
+
+    private void notifyStatus(VehicleStatusDTO status) {
+        statusNotifier.notify(status)
+                .doOnError(e -> log.error("Failed to notify status", e))
+                .subscribe();
+    }
+
+    private static Counter reconnectCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("umas.ugcs.session.reconnects")
+                .description("UgCS session reconnections triggered by the connection monitor")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
 }
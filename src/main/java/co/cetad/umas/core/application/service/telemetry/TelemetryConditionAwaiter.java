@@ -0,0 +1,184 @@
+package co.cetad.umas.core.application.service.telemetry;
+
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Espera sobre el flujo de telemetría en vivo a que un vehículo cumpla una condición
+ * (cambio de modo, llegada a un waypoint...) en lugar de esperar un tiempo fijo
+ *
+ * - Se alimenta desde TelemetryProcessorService con cada telemetría recibida
+ * - Guarda la última telemetría de cada vehículo con los campos acumulados
+ *   (UgCS solo envía los que cambian)
+ * - La condición se evalúa también contra esa última telemetría al registrarse:
+ *   si el vehículo ya está en el punto, se confirma sin esperar
+ *
+ * MÉTRICAS:
+ * - umas.telemetry.awaiters: esperas pendientes
+ */
+@Slf4j
+@Component
+public class TelemetryConditionAwaiter {
+
+    private final Map<String, List<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final Map<String, TelemetryData> latest = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public TelemetryConditionAwaiter(MeterRegistry meterRegistry) {
+        Gauge.builder("umas.telemetry.awaiters", pending, AtomicInteger::get)
+                .description("Pending waits for a telemetry condition")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Última telemetría conocida del vehículo, con los campos acumulados
+     */
+    public Optional<TelemetryData> latest(String vehicleId) {
+        return Optional.ofNullable(latest.get(vehicleId));
+    }
+
+    /**
+     * Completa con la telemetría que cumple la condición, o con TimeoutException
+     * si no llega ninguna a tiempo. Cancelar el future libera la espera.
+     */
+    public CompletableFuture<TelemetryData> await(String vehicleId, Predicate<TelemetryData> condition,
+                                                  Duration timeout) {
+        return await(vehicleId, condition, CompletableFuture.completedFuture(null), timeout);
+    }
+
+    /**
+     * Igual que await, pero el plazo empieza a contar cuando armed completa (p. ej. cuando
+     * UgCS acepta el comando); hasta entonces la condición ya se evalúa. Si armed falla,
+     * la espera se cancela.
+     */
+    public CompletableFuture<TelemetryData> await(String vehicleId, Predicate<TelemetryData> condition,
+                                                  CompletionStage<?> armed, Duration timeout) {
+        var vehicleWaiters = waiters.computeIfAbsent(vehicleId, id -> new CopyOnWriteArrayList<>());
+        var waiter = new Waiter(vehicleWaiters, condition, new CompletableFuture<>());
+        vehicleWaiters.add(waiter);
+        pending.incrementAndGet();
+
+        // La espera se retira antes de completar: quien encadena sobre el future ya no la ve pendiente
+        armed.whenComplete((ignored, error) -> {
+            if (error != null) {
+                waiter.settle(future -> future.cancel(false));
+                return;
+            }
+            CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> waiter.settle(future -> future.completeExceptionally(new TimeoutException(
+                            "No telemetry confirmation for " + vehicleId + " within " + timeout))));
+        });
+        waiter.future().whenComplete((telemetry, error) -> waiter.release());
+
+        // Tras registrarse: una telemetría que llegue mientras tanto también se evalúa
+        latest(vehicleId).ifPresent(waiter::offer);
+        return waiter.future();
+    }
+
+    /**
+     * Evalúa las esperas del vehículo con la nueva telemetría
+     */
+    public void onTelemetry(TelemetryData telemetry) {
+        var merged = latest.merge(telemetry.vehicleId(), telemetry, TelemetryConditionAwaiter::merge);
+
+        var vehicleWaiters = waiters.get(telemetry.vehicleId());
+        if (vehicleWaiters == null || vehicleWaiters.isEmpty()) {
+            return;
+        }
+        vehicleWaiters.forEach(waiter -> waiter.offer(merged));
+    }
+
+    /**
+     * Si hay esperas pendientes para el vehículo
+     */
+    public boolean isAwaiting(String vehicleId) {
+        var vehicleWaiters = waiters.get(vehicleId);
+        return vehicleWaiters != null && !vehicleWaiters.isEmpty();
+    }
+
+    /**
+     * Sustituye el estado acumulado del vehículo (o lo descarta si no hay telemetría);
+     * para cuando se vuelve a seguir un vehículo tras un tiempo sin recibir su telemetría
+     */
+    public void reset(String vehicleId, Optional<TelemetryData> telemetry) {
+        telemetry.ifPresentOrElse(data -> latest.put(vehicleId, data), () -> latest.remove(vehicleId));
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private static TelemetryData merge(TelemetryData previous, TelemetryData current) {
+        var fields = new HashMap<>(previous.fields());
+        fields.putAll(current.fields());
+        return new TelemetryData(
+                current.vehicleId(),
+                current.isNewDroneLocationValid().isPresent() ? current.location() : previous.location(),
+                fields,
+                current.timestamp()
+        );
+    }
+
+    private final class Waiter {
+
+        private final List<Waiter> vehicleWaiters;
+        private final Predicate<TelemetryData> condition;
+        private final CompletableFuture<TelemetryData> future;
+
+        private Waiter(List<Waiter> vehicleWaiters, Predicate<TelemetryData> condition,
+                       CompletableFuture<TelemetryData> future) {
+            this.vehicleWaiters = vehicleWaiters;
+            this.condition = condition;
+            this.future = future;
+        }
+
+        CompletableFuture<TelemetryData> future() {
+            return future;
+        }
+
+        void offer(TelemetryData telemetry) {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                if (condition.test(telemetry)) {
+                    settle(f -> f.complete(telemetry));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Telemetry condition failed for {}", telemetry.vehicleId(), e);
+            }
+        }
+
+        void settle(Consumer<CompletableFuture<TelemetryData>> completion) {
+            if (!future.isDone()) {
+                release();
+                completion.accept(future);
+            }
+        }
+
+        void release() {
+            if (vehicleWaiters.remove(this)) {
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package co.cetad.umas.core.application.service.telemetry;
+
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Condiciones sobre la telemetría con las que se confirma que un vehículo
+ * ha reaccionado a un comando
+ */
+public final class TelemetryConditions {
+
+    public static final String FLIGHT_MODE = "flightMode";
+    public static final String CONTROL_MODE = "controlMode";
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+    private TelemetryConditions() {
+    }
+
+    /**
+     * El modo de vuelo o de control es uno de los esperados; si el vehículo ya estaba
+     * en ese modo se cumple con la última telemetría conocida. Los nombres se comparan
+     * sin mayúsculas ni separadores ("Click & Go" equivale a CLICK_GO).
+     */
+    public static Predicate<TelemetryData> modeIn(Collection<String> expectedModes) {
+        Set<String> expected = expectedModes.stream()
+                .map(TelemetryConditions::normalizeMode)
+                .collect(Collectors.toUnmodifiableSet());
+        return telemetry -> matches(telemetry.fields(), FLIGHT_MODE, expected)
+                || matches(telemetry.fields(), CONTROL_MODE, expected);
+    }
+
+    /**
+     * La altura cambia al menos deltaMeters respecto a la anterior: positivo para subir,
+     * negativo para bajar. Sin altura previa se compara con el suelo.
+     */
+    public static Predicate<TelemetryData> altitudeChanged(Optional<TelemetryData> before, double deltaMeters) {
+        double previous = before.flatMap(TelemetryData::isNewDroneLocationValid)
+                .map(location -> location.altitude())
+                .orElse(0.0);
+        return telemetry -> telemetry.isNewDroneLocationValid()
+                .map(location -> deltaMeters >= 0
+                        ? location.altitude() - previous >= deltaMeters
+                        : location.altitude() - previous <= deltaMeters)
+                .orElse(false);
+    }
+
+    /**
+     * El vehículo está en el aire: al menos meters sobre el suelo (AGL)
+     */
+    public static Predicate<TelemetryData> altitudeAbove(double meters) {
+        return telemetry -> telemetry.isNewDroneLocationValid()
+                .map(location -> location.altitude() >= meters)
+                .orElse(false);
+    }
+
+    /**
+     * El vehículo está en tierra: menos de meters sobre el suelo (AGL)
+     */
+    public static Predicate<TelemetryData> altitudeBelow(double meters) {
+        return telemetry -> telemetry.isNewDroneLocationValid()
+                .map(location -> location.altitude() < meters)
+                .orElse(false);
+    }
+
+    /**
+     * El vehículo está a menos de radiusMeters del punto (distancia horizontal)
+     */
+    public static Predicate<TelemetryData> withinRadius(double latitude, double longitude, double radiusMeters) {
+        return telemetry -> telemetry.isNewDroneLocationValid()
+                .map(location -> distanceMeters(location.latitude(), location.longitude(), latitude, longitude)
+                        <= radiusMeters)
+                .orElse(false);
+    }
+
+    /**
+     * Distancia aproximada (equirectangular), suficiente para radios de aceptación de pocos metros
+     */
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double meanLat = Math.toRadians((lat1 + lat2) / 2);
+        double dx = EARTH_RADIUS_METERS * Math.toRadians(lon2 - lon1) * Math.cos(meanLat);
+        double dy = EARTH_RADIUS_METERS * Math.toRadians(lat2 - lat1);
+        return Math.hypot(dx, dy);
+    }
+
+    private static boolean matches(Map<String, Object> fields, String field, Set<String> expected) {
+        var mode = fields.get(field);
+        return mode != null && expected.contains(normalizeMode(String.valueOf(mode)));
+    }
+
+    private static String normalizeMode(String mode) {
+        return mode.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "");
+    }
+
+}
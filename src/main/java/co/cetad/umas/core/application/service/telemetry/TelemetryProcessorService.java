@@ -1,8 +1,12 @@
 package co.cetad.umas.core.application.service.telemetry;
 
+import co.cetad.umas.core.application.service.cluster.VehicleOwnershipService;
+import co.cetad.umas.core.application.service.cluster.VehicleWorkLeaseService;
 import co.cetad.umas.core.domain.model.vo.TelemetryData;
 import co.cetad.umas.core.domain.ports.in.EventProcessor;
+import co.cetad.umas.core.domain.ports.out.DroneCache;
 import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,11 +19,41 @@ import java.util.concurrent.CompletableFuture;
 public class TelemetryProcessorService implements EventProcessor<TelemetryData, Void> {
 
     private final EventPublisher<TelemetryData> telemetryPublisher;
+    private final TelemetryConditionAwaiter conditionAwaiter;
+    private final VehicleOwnershipService vehicleOwnership;
+    private final VehicleWorkLeaseService workLeases;
+    private final DroneCache droneCache;
+
+    /**
+     * Un nodo que empieza a operar un vehículo ajeno no ha ido acumulando su telemetría:
+     * parte de la última que se compartió en Redis en lugar de un estado viejo o vacío
+     */
+    @PostConstruct
+    public void trackLeasedVehicles() {
+        workLeases.addAcquireListener(vehicleId -> {
+            if (!vehicleOwnership.owns(vehicleId)) {
+                conditionAwaiter.reset(vehicleId, droneCache.getTelemetry(vehicleId));
+            }
+        });
+    }
 
     @Override
     public CompletableFuture<Void> process(TelemetryData event) {
         log.debug("Processing telemetry for vehicle: {}", event.vehicleId());
 
+        // Las confirmaciones de comandos no esperan a Kafka. En clúster solo se siguen los
+        // vehículos que este nodo puede estar operando: los suyos, los que tiene arrendados
+        // y los que aún esperan la confirmación de un comando ya enviado
+        var vehicleId = event.vehicleId();
+        if (vehicleOwnership.owns(vehicleId) || workLeases.holds(vehicleId) || conditionAwaiter.isAwaiting(vehicleId)) {
+            conditionAwaiter.onTelemetry(event);
+        }
+
+        // En clúster cada nodo publica solo la telemetría de sus vehículos
+        if (!vehicleOwnership.accepts(VehicleOwnershipService.STREAM_TELEMETRY, event.vehicleId())) {
+            return CompletableFuture.completedFuture(null);
+        }
+
         return telemetryPublisher.publish(event)
                 .doOnSuccess(v -> log.trace("Telemetry published successfully"))
                 .doOnError(e -> log.error("Failed to process telemetry", e))
@@ -0,0 +1,156 @@
+package co.cetad.umas.core.application.service.ugcs;
+
+import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Punto único de (re)conexión con UgCS para consumidores, arranque y monitor
+ *
+ * Antes cada mensaje que encontraba la sesión caída reconectaba por su cuenta:
+ * con varios listeners a la vez se abrían clientes en paralelo, se registraban
+ * listeners duplicados y la telemetría llegaba repetida.
+ *
+ * - Las peticiones concurrentes comparten un único intento en curso y su resultado
+ * - Las suscripciones de la aplicación (telemetría y misión completa) se inician una
+ *   sola vez: sobreviven a las reconexiones porque el adaptador conserva sus sinks y
+ *   rehace las suscripciones en el servidor al conectar
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.reconnect.requests (outcome=started|joined|already_connected)
+ * - umas.ugcs.reconnect.failures
+ */
+@Slf4j
+@Service
+public class ReconnectionCoordinator {
+
+    private final VehicleConnectionManager connectionManager;
+
+    private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+    private final AtomicBoolean subscriptionsStarted = new AtomicBoolean(false);
+    private volatile Disposable telemetrySubscription;
+    private volatile Disposable missionCompleteSubscription;
+
+    private final Counter startedCounter;
+    private final Counter joinedCounter;
+    private final Counter alreadyConnectedCounter;
+    private final Counter failureCounter;
+
+    public ReconnectionCoordinator(VehicleConnectionManager connectionManager, MeterRegistry meterRegistry) {
+        this.connectionManager = connectionManager;
+        this.startedCounter = requestCounter(meterRegistry, "started");
+        this.joinedCounter = requestCounter(meterRegistry, "joined");
+        this.alreadyConnectedCounter = requestCounter(meterRegistry, "already_connected");
+        this.failureCounter = Counter.builder("umas.ugcs.reconnect.failures")
+                .description("UgCS reconnection attempts that failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Garantiza una sesión conectada: se une al intento en curso, no hace nada si ya
+     * hay conexión (otro consumidor acaba de reconectar) o inicia uno nuevo
+     */
+    public CompletableFuture<Void> ensureConnected() {
+        var current = inFlight.get();
+        if (current != null) {
+            joinedCounter.increment();
+            return current;
+        }
+
+        return connectionManager.isConnected()
+                .thenCompose(connected -> {
+                    if (connected) {
+                        alreadyConnectedCounter.increment();
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return reconnect();
+                });
+    }
+
+    /**
+     * Rehace la sesión aunque figure como conectada (sesión medio abierta detectada
+     * por el monitor); las peticiones concurrentes comparten el mismo intento
+     */
+    public CompletableFuture<Void> reconnect() {
+        var attempt = new CompletableFuture<Void>();
+        var existing = inFlight.compareAndExchange(null, attempt);
+        if (existing != null) {
+            joinedCounter.increment();
+            return existing;
+        }
+
+        startedCounter.increment();
+        log.info("🔄 Reconnecting to UgCS Server (single attempt shared by all waiters)");
+
+        CompletableFuture<Void> connection;
+        try {
+            connection = connectionManager.connect().toFuture();
+        } catch (Exception e) {
+            connection = CompletableFuture.failedFuture(e);
+        }
+
+        connection.whenComplete((v, error) -> {
+            if (error == null) {
+                startSubscriptions();
+                log.info("✅ Reconnected to UgCS Server");
+            } else {
+                failureCounter.increment();
+                log.error("❌ Failed to reconnect to UgCS Server", error);
+            }
+            // Se libera antes de completar: quien reaccione al resultado puede pedir otro intento
+            inFlight.compareAndSet(attempt, null);
+            if (error == null) {
+                attempt.complete(null);
+            } else {
+                attempt.completeExceptionally(error);
+            }
+        });
+        return attempt;
+    }
+
+    public boolean isReconnecting() {
+        return inFlight.get() != null;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (telemetrySubscription != null) {
+            telemetrySubscription.dispose();
+        }
+        if (missionCompleteSubscription != null) {
+            missionCompleteSubscription.dispose();
+        }
+    }
+
+    private void startSubscriptions() {
+        if (!subscriptionsStarted.compareAndSet(false, true)) {
+            return;
+        }
+
+        log.info("📡 Starting telemetry and mission complete subscriptions");
+        telemetrySubscription = connectionManager.subscribeTelemetry()
+                .subscribe(
+                        v -> { },
+                        e -> log.error("❌ Telemetry subscription terminated", e));
+        missionCompleteSubscription = connectionManager.subscribeMissionComplete()
+                .subscribe(
+                        v -> { },
+                        e -> log.error("❌ Mission complete subscription terminated", e));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("umas.ugcs.reconnect.requests")
+                .description("UgCS connection requests by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
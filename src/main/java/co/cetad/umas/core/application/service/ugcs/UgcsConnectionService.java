@@ -1,5 +1,6 @@
 package co.cetad.umas.core.application.service.ugcs;
 
+import co.cetad.umas.core.application.service.cluster.VehicleOwnershipService;
 import co.cetad.umas.core.application.service.mission.MissionCompleteProcessorService;
 import co.cetad.umas.core.application.service.telemetry.TelemetryProcessorService;
 import co.cetad.umas.core.domain.model.dto.VehicleStatusDTO;
@@ -27,6 +28,7 @@ public class UgcsConnectionService implements VehicleConnectionManager {
     private final StatusNotifier statusNotifier;
     private final TelemetryProcessorService telemetryProcessorService;
     private final MissionCompleteProcessorService missionCompleteProcessorService;
+    private final VehicleOwnershipService vehicleOwnership;
     private final UgcsProperties properties;
 
     @Override
@@ -94,6 +96,9 @@ public class UgcsConnectionService implements VehicleConnectionManager {
 
         return ugcsClient.subscribeMissionComplete()
                 .subscribeOn(Schedulers.boundedElastic())
+                // El LAND y la publicación los hace solo el dueño del vehículo
+                .filter(missionComplete -> vehicleOwnership.accepts(
+                        VehicleOwnershipService.STREAM_MISSION_COMPLETE, missionComplete.vehicleId()))
                 .doOnNext(missionComplete -> {
                     log.info("📥 Received mission complete event for vehicle: {}",
                             missionComplete.vehicleId());
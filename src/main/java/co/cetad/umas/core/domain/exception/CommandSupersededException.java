@@ -0,0 +1,13 @@
+package co.cetad.umas.core.domain.exception;
+
+/**
+ * Signals that a continuous-control command was dropped because a newer
+ * setpoint for the same vehicle arrived before it could be sent.
+ */
+public class CommandSupersededException extends RuntimeException {
+
+    public CommandSupersededException(String vehicleId, String commandCode) {
+        super("Command '%s' for vehicle %s superseded by a newer setpoint".formatted(commandCode, vehicleId));
+    }
+
+}
@@ -0,0 +1,18 @@
+package co.cetad.umas.core.domain.exception;
+
+/**
+ * Signals that the UgCS server could not be reached (no session, or the session
+ * dropped). Unlike other illegal states it is transient: the message must be
+ * retried once the connection is back instead of being dead-lettered.
+ */
+public class UgcsUnavailableException extends IllegalStateException {
+
+    public UgcsUnavailableException(String message) {
+        super(message);
+    }
+
+    public UgcsUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -15,7 +15,11 @@ public record CommandResultDTO(
         SUCCESS,
         FAILED,
         REJECTED,
-        TIMEOUT
+        TIMEOUT,
+        // Consigna de control continuo reemplazada por otra más reciente antes de enviarse
+        SUPERSEDED,
+        // Aceptado por UgCS, pero la telemetría no reflejó el cambio a tiempo (no se reenvía)
+        UNCONFIRMED
     }
 
     public static CommandResultDTO success(String vehicleId, String commandCode) {
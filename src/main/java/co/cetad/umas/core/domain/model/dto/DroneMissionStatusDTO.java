@@ -0,0 +1,22 @@
+package co.cetad.umas.core.domain.model.dto;
+
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+
+/**
+ * Transición de un dron en la ejecución de una misión
+ * Se publica al topic de estado de misión (umas.drone.mission.status)
+ */
+public record DroneMissionStatusDTO(
+        @JsonProperty("missionId") String missionId,
+        @JsonProperty("vehicleId") String vehicleId,
+        @JsonProperty("state") DroneMissionState state,
+        @JsonProperty("timestamp") Instant timestamp
+) {
+
+    public static DroneMissionStatusDTO of(String missionId, String vehicleId, DroneMissionState state) {
+        return new DroneMissionStatusDTO(missionId, vehicleId, state, Instant.now());
+    }
+
+}
@@ -9,12 +9,19 @@ import java.util.Objects;
  * Este es el formato que llega por Kafka desde operation service
  *
  * ACTUALIZACIÓN: Ahora incluye routeId por cada dron
+ * La simplificación de rutas es opcional: sin ella los waypoints se suben tal cual
+ *
+ * executionId identifica una ejecución concreta de la misión (lo asigna el consumer a
+ * partir del registro de Kafka): los checkpoints solo se retoman dentro de la misma
+ * ejecución, nunca al volver a ejecutar la misión deliberadamente.
  */
 public record MissionExecutionDTO(
 
         @JsonProperty("missionId") String missionId,
         @JsonProperty("drones") List<DroneExecution> drones,
-        @JsonProperty("priority") Integer priority
+        @JsonProperty("priority") Integer priority,
+        @JsonProperty("simplification") RouteSimplification simplification,
+        @JsonProperty("executionId") String executionId
 ) {
     public MissionExecutionDTO {
         Objects.requireNonNull(drones, "drone List cannot be null");
@@ -32,6 +39,49 @@ public record MissionExecutionDTO(
         }
     }
 
+    public MissionExecutionDTO(String missionId, List<DroneExecution> drones, Integer priority,
+                               RouteSimplification simplification) {
+        this(missionId, drones, priority, simplification, null);
+    }
+
+    public MissionExecutionDTO(String missionId, List<DroneExecution> drones, Integer priority) {
+        this(missionId, drones, priority, null);
+    }
+
+    /**
+     * Copia de la misión asociada a una ejecución concreta
+     */
+    public MissionExecutionDTO withExecutionId(String newExecutionId) {
+        return new MissionExecutionDTO(missionId, drones, priority, simplification, newExecutionId);
+    }
+
+    /**
+     * Verifica si la misión pide simplificar las rutas antes de subirlas
+     */
+    public boolean hasSimplification() {
+        return simplification != null;
+    }
+
+    /**
+     * Simplificación de la geometría de las rutas antes de subirlas a UgCS
+     *
+     * - toleranceMeters: desviación máxima permitida respecto al trazado original
+     *   (Douglas-Peucker); 0 o null solo elimina puntos duplicados y colineales
+     */
+    public record RouteSimplification(
+            @JsonProperty("toleranceMeters") Double toleranceMeters
+    ) {
+        public RouteSimplification {
+            if (toleranceMeters != null && (toleranceMeters < 0 || toleranceMeters.isNaN())) {
+                throw new IllegalArgumentException("Simplification tolerance cannot be negative");
+            }
+        }
+
+        public double toleranceOrZero() {
+            return toleranceMeters != null ? toleranceMeters : 0.0;
+        }
+    }
+
     /**
      * Waypoint simple que llega desde operation service
      * Solo contiene latitud y longitud en GRADOS
@@ -105,6 +155,13 @@ public record MissionExecutionDTO(
             return new DroneExecution(vehicleId, null, 0.0, 0.0, List.of());
         }
 
+        /**
+         * Copia de la ejecución con otra lista de waypoints (p. ej. la ruta simplificada)
+         */
+        public DroneExecution withWaypoints(List<SimpleWaypoint> newWaypoints) {
+            return new DroneExecution(vehicleId, routeId, safeAltitude, maxAltitude, newWaypoints);
+        }
+
         /**
          * Verifica si el dron tiene waypoints asignados
          */
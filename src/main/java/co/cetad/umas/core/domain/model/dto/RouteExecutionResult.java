@@ -76,4 +76,21 @@ public record RouteExecutionResult(
         );
     }
 
-}
\ No newline at end of file
+    public static RouteExecutionResult timeout(String vehicleId, String routeId,
+                                               int completed, int total,
+                                               String pendingCommand, Instant startTime) {
+        return new RouteExecutionResult(
+                vehicleId,
+                routeId,
+                RouteStatus.TIMEOUT,
+                completed,
+                total,
+                pendingCommand,
+                String.format("Vehicle did not confirm command %d: %s", completed + 1, pendingCommand),
+                List.of("No telemetry confirmation for " + pendingCommand),
+                startTime,
+                Instant.now()
+        );
+    }
+
+}
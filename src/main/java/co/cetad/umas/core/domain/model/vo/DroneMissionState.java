@@ -0,0 +1,21 @@
+package co.cetad.umas.core.domain.model.vo;
+
+/**
+ * Etapas que recorre cada dron al ejecutar una misión, en orden
+ */
+public enum DroneMissionState {
+    ROUTE_RESOLVED,
+    PROCESSED,
+    UPLOADED,
+    REGISTERED,
+    STARTED;
+
+    public boolean isAtLeast(DroneMissionState other) {
+        return ordinal() >= other.ordinal();
+    }
+
+    public boolean isFinal() {
+        return this == STARTED;
+    }
+
+}
@@ -0,0 +1,34 @@
+package co.cetad.umas.core.domain.ports.out;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Outbound port for the shared list of live core instances.
+ * Each instance renews its heartbeat periodically; instances whose heartbeat is older
+ * than the TTL are considered dead and their vehicles are redistributed.
+ */
+public interface ClusterMembershipStore {
+
+    /**
+     * Renews the heartbeat of an instance, registering it if it was not a member.
+     *
+     * @param nodeId identifier of the instance
+     */
+    void heartbeat(String nodeId);
+
+    /**
+     * Retrieves the instances with a heartbeat newer than the TTL, evicting the rest.
+     *
+     * @param ttl maximum age of a heartbeat for the instance to count as alive
+     * @return identifiers of the live instances
+     */
+    Set<String> liveMembers(Duration ttl);
+
+    /**
+     * Removes an instance immediately (orderly shutdown).
+     *
+     * @param nodeId identifier of the instance
+     */
+    void leave(String nodeId);
+}
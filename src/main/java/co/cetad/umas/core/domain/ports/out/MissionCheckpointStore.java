@@ -0,0 +1,36 @@
+package co.cetad.umas.core.domain.ports.out;
+
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outbound port for persisting how far each drone of a mission has progressed.
+ * Shared between replicas and restarts so a redelivered mission resumes from the
+ * last checkpoint instead of being executed again from scratch.
+ * Progress is scoped to one execution of the mission: a new execution never sees
+ * the checkpoints of a previous one.
+ */
+public interface MissionCheckpointStore {
+
+    /**
+     * Retrieves the last checkpointed state of every drone of a mission execution.
+     *
+     * @param missionId   mission whose progress is requested
+     * @param executionId execution of the mission
+     * @return state per vehicle ID; empty if the execution has no checkpoints
+     */
+    Map<String, DroneMissionState> find(String missionId, String executionId);
+
+    /**
+     * Stores the state reached by a drone of a mission.
+     *
+     * @param missionId   mission being executed
+     * @param executionId execution of the mission
+     * @param vehicleId   drone that reached the state
+     * @param state       state reached
+     * @param ttl         how long the execution progress must be remembered
+     */
+    void save(String missionId, String executionId, String vehicleId, DroneMissionState state, Duration ttl);
+}
@@ -0,0 +1,31 @@
+package co.cetad.umas.core.domain.ports.out;
+
+import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Outbound port for sharing the outcome of already processed messages between replicas.
+ * Used to answer redelivered commands and missions with the cached result instead of
+ * executing them again against UgCS.
+ */
+public interface ProcessedMessageStore {
+
+    /**
+     * Retrieves the stored outcome for a processed message.
+     *
+     * @param key idempotency key of the message
+     * @return optional with the stored result if the message was already processed
+     */
+    Optional<CommandResultDTO> find(String key);
+
+    /**
+     * Stores the outcome of a processed message.
+     *
+     * @param key    idempotency key of the message
+     * @param result outcome to return for future duplicates
+     * @param ttl    how long the outcome must be remembered
+     */
+    void save(String key, CommandResultDTO result, Duration ttl);
+}
@@ -8,6 +8,7 @@ import com.ugcs.ucs.proto.DomainProto;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -19,6 +20,12 @@ public interface UgcsClient {
     Mono<Void> disconnect();
     CompletableFuture<Boolean> isConnected();
 
+    /**
+     * RPC ligera contra la sesión principal para comprobar que sigue viva
+     * @return latencia de la respuesta; falla si la sesión no responde a tiempo
+     */
+    CompletableFuture<Duration> ping();
+
     // Telemetría
     Flux<TelemetryData> subscribeTelemetry();
 
@@ -42,9 +49,16 @@ public interface UgcsClient {
      */
     CompletableFuture<Optional<DomainProto.Route>> findRouteByName(String routeName);
 
-
+    /**
+     * Registra el vehículo en la misión
+     *
+     * @param ugcsMission Misión de UgCS
+     * @param vehicleId   ID del vehículo usado en los mensajes (clave de su mailbox y su sesión)
+     * @param vehicle     Vehículo de UgCS ya resuelto
+     */
     CompletableFuture<Boolean> createMissionVehicle(
             DomainProto.Mission ugcsMission,
+            String vehicleId,
             DomainProto.Vehicle vehicle
     );
 
@@ -54,20 +68,47 @@ public interface UgcsClient {
      * @param ugcsMission  Misión de UgCS a la que pertenece
      * @param drone        DroneExecution del vehículo
      * @param defaultSpeed Velocidad
+     * @param listener     Avisado cuando la trayectoria ya está procesada, antes de subirla
      * @return true si se creó y subió exitosamente
      */
     CompletableFuture<DomainProto.Vehicle> createAndUploadRoute(
             DomainProto.Mission ugcsMission,
             MissionExecutionDTO.DroneExecution drone,
-            Double defaultSpeed);
+            Double defaultSpeed,
+            RouteUploadListener listener);
 
     /**
      * Sube una ruta existente a un vehículo
      * @param vehicleId ID del vehículo
      * @param existingRoute Ruta existente (DomainProto.Route)
+     * @param listener Avisado cuando la trayectoria ya está procesada, antes de subirla
      * @return true si se subió exitosamente
      */
-    CompletableFuture<DomainProto.Vehicle> uploadExistingRoute(String vehicleId, DomainProto.Route existingRoute);
+    CompletableFuture<DomainProto.Vehicle> uploadExistingRoute(
+            String vehicleId,
+            DomainProto.Route existingRoute,
+            RouteUploadListener listener);
+
+    /**
+     * Busca un vehículo por su ID, p. ej. para reanudar una misión cuya ruta ya se subió
+     * @param vehicleId ID del vehículo
+     * @return Optional con el vehículo si existe
+     */
+    CompletableFuture<Optional<DomainProto.Vehicle>> findVehicle(String vehicleId);
+
+    /**
+     * Progreso dentro de una subida de ruta (processRoute y subida van en la misma operación)
+     */
+    @FunctionalInterface
+    interface RouteUploadListener {
+
+        RouteUploadListener NONE = () -> {};
+
+        /**
+         * La trayectoria está procesada (o ya estaba cargada) y empieza la subida
+         */
+        void processed();
+    }
 
     /**
      * Información de una ruta
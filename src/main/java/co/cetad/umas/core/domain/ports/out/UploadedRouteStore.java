@@ -0,0 +1,36 @@
+package co.cetad.umas.core.domain.ports.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Outbound port for remembering which route content was last uploaded to each vehicle.
+ * Shared between replicas and restarts so a retried mission does not upload the
+ * same route again to a vehicle that already carries it.
+ */
+public interface UploadedRouteStore {
+
+    /**
+     * Retrieves the content hash of the last route successfully uploaded to a vehicle.
+     *
+     * @param vehicleId vehicle the route was uploaded to
+     * @return optional with the route hash if one is known
+     */
+    Optional<String> find(String vehicleId);
+
+    /**
+     * Stores the content hash of a route successfully uploaded to a vehicle.
+     *
+     * @param vehicleId vehicle the route was uploaded to
+     * @param routeHash content hash of the uploaded route
+     * @param ttl       how long the upload must be remembered
+     */
+    void save(String vehicleId, String routeHash, Duration ttl);
+
+    /**
+     * Forgets the route uploaded to a vehicle (failed or interrupted upload).
+     *
+     * @param vehicleId vehicle whose route is no longer known
+     */
+    void remove(String vehicleId);
+}
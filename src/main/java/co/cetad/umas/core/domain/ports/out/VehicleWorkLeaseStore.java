@@ -0,0 +1,28 @@
+package co.cetad.umas.core.domain.ports.out;
+
+import java.time.Duration;
+
+/**
+ * Outbound port for the cluster-wide lease that lets a single core instance at a time
+ * operate a vehicle in UgCS. The lease expires on its own if its holder stops renewing it.
+ */
+public interface VehicleWorkLeaseStore {
+
+    /**
+     * Takes the lease if it is free, or renews it if the instance already holds it.
+     *
+     * @param vehicleId identifier of the vehicle
+     * @param nodeId    identifier of the instance
+     * @param ttl       time the lease stays valid without being renewed
+     * @return true if the instance holds the lease afterwards, false if another instance does
+     */
+    boolean acquire(String vehicleId, String nodeId, Duration ttl);
+
+    /**
+     * Releases the lease only if the instance still holds it.
+     *
+     * @param vehicleId identifier of the vehicle
+     * @param nodeId    identifier of the instance
+     */
+    void release(String vehicleId, String nodeId);
+}
@@ -1,5 +1,6 @@
 package co.cetad.umas.core.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -16,6 +17,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * 1. droneExecutor: Para procesamiento de drones (I/O bound)
  * 2. virtualThreadExecutor: Para Java 21+ (I/O bound intensivo)
  * 3. cpuBoundExecutor: Para operaciones CPU-intensive
+ * 4. ugcsIoExecutor: RPC bloqueantes contra UgCS (threads virtuales con tope)
  *
  * CONFIGURACIÓN:
  * - Properties definidas en application.yml
@@ -39,6 +41,12 @@ public class AsyncConfiguration {
     @Value("${executor.drone.keep-alive-seconds:60}")
     private long droneKeepAliveSeconds;
 
+    @Value("${executor.ugcs.max-concurrent:32}")
+    private int ugcsMaxConcurrent;
+
+    @Value("${executor.ugcs.max-queued:1000}")
+    private int ugcsMaxQueued;
+
     /**
      * Executor para procesamiento de drones (I/O bound)
      *
@@ -89,6 +97,24 @@ public class AsyncConfiguration {
         return Executors.newVirtualThreadPerTaskExecutor();
     }
 
+    /**
+     * Executor para la E/S bloqueante contra UgCS
+     *
+     * Características:
+     * - Un thread virtual por tarea: los sockets bloqueados no ocupan threads de plataforma
+     * - Semáforo con max-concurrent: la flota no satura el servidor UgCS ni el pool de sesiones
+     * - Fuera de ForkJoinPool.commonPool(), que comparte sus pocos threads con todo lo demás
+     * - Métricas umas.executor.* con tag name=ugcs-io
+     *
+     * Usar con: @Qualifier("ugcsIoExecutor")
+     */
+    @Bean(name = "ugcsIoExecutor", destroyMethod = "shutdown")
+    public BoundedVirtualThreadExecutor ugcsIoExecutor(MeterRegistry meterRegistry) {
+        log.info("📡 UgCS I/O Executor initialized: maxConcurrent={}, maxQueued={}",
+                ugcsMaxConcurrent, ugcsMaxQueued);
+        return new BoundedVirtualThreadExecutor("ugcs-io", ugcsMaxConcurrent, ugcsMaxQueued, meterRegistry);
+    }
+
     /**
      * Executor para operaciones CPU-intensive
      *
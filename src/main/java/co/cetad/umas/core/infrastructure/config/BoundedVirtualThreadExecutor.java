@@ -0,0 +1,112 @@
+package co.cetad.umas.core.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor de threads virtuales con tope de concurrencia
+ *
+ * Cada tarea corre en su propio thread virtual, pero solo maxConcurrent
+ * ejecutan a la vez (semáforo); el resto espera su turno sin ocupar threads
+ * de plataforma. Si ya hay maxQueued tareas esperando se rechaza la nueva
+ * con RejectedExecutionException en lugar de acumular trabajo sin límite.
+ *
+ * MÉTRICAS (tag name):
+ * - umas.executor.active: tareas en ejecución
+ * - umas.executor.queued: tareas esperando permiso
+ * - umas.executor.wait: tiempo de espera hasta obtener permiso
+ * - umas.executor.rejected: tareas rechazadas por cola llena
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements Executor {
+
+    private final String name;
+    private final int maxQueued;
+    private final Semaphore permits;
+    private final ExecutorService threads;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrent, int maxQueued, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxQueued = maxQueued;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+
+        Gauge.builder("umas.executor.active", active, AtomicInteger::get)
+                .description("Tasks running on the bounded executor")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("umas.executor.queued", queued, AtomicInteger::get)
+                .description("Tasks waiting for a slot on the bounded executor")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("umas.executor.wait")
+                .description("Time tasks wait for a slot on the bounded executor")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("umas.executor.rejected")
+                .description("Tasks rejected because the bounded executor queue was full")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Executor '" + name + "' queue is full (" + maxQueued + ")");
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            threads.execute(() -> runWithPermit(task, submittedAt));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public int activeCount() {
+        return active.get();
+    }
+
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    public void shutdown() {
+        log.info("Shutting down executor '{}' ({} active, {} queued)", name, active.get(), queued.get());
+        threads.shutdown();
+    }
+
+    private void runWithPermit(Runnable task, long submittedAt) {
+        // Sin interrupción: una tarea aceptada siempre llega a ejecutarse y completa su futuro
+        permits.acquireUninterruptibly();
+        queued.decrementAndGet();
+        waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package co.cetad.umas.core.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del modo clúster: varias instancias del core se reparten los vehículos
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "cluster")
+public class ClusterProperties {
+
+    /**
+     * Sin clúster la instancia es dueña de todos los vehículos
+     */
+    private boolean enabled = false;
+
+    /**
+     * Identificador estable del nodo (obligatorio en clúster); un nodo que reinicia con
+     * otro identificador deja su entrada anterior viva hasta member-ttl-ms
+     */
+    private String nodeId;
+
+    /**
+     * Cada cuánto el nodo renueva su latido y relee los miembros vivos
+     */
+    private long heartbeatIntervalMs = 2000;
+
+    /**
+     * Un nodo sin latido durante este tiempo sale del clúster y sus vehículos se reparten
+     */
+    private long memberTtlMs = 6000;
+
+    /**
+     * Caducidad del arrendamiento de trabajo de un vehículo si su nodo deja de renovarlo
+     * (se renueva cada heartbeat-interval-ms mientras el nodo tiene el control en UgCS)
+     */
+    private long workLeaseTtlMs = 10000;
+
+}
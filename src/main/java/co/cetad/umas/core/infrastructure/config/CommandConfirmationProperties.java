@@ -0,0 +1,52 @@
+package co.cetad.umas.core.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Confirmación de comandos con la telemetría del vehículo
+ *
+ * Que UgCS acepte un comando no significa que el vehículo haya reaccionado: los comandos
+ * con un efecto visible en la telemetría (cambio de modo, subida, bajada) se dan por
+ * ejecutados cuando ese efecto llega, o terminan en UNCONFIRMED
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "command.confirmation")
+public class CommandConfirmationProperties {
+
+    /**
+     * Esperar la confirmación por telemetría antes de responder SUCCESS
+     */
+    private boolean enabled = true;
+
+    /**
+     * Espera máxima a que la telemetría refleje el comando
+     */
+    private long timeoutMs = 10_000;
+
+    /**
+     * Cambio de altura (metros) con el que se confirma un despegue o un aterrizaje
+     */
+    private double altitudeDelta = 1.0;
+
+    /**
+     * Modos de vuelo o de control que confirman cada comando de modo y de aterrizaje
+     * (dependen del autopiloto; un valor numérico se escribe tal cual). Un comando de
+     * modo sin entrada no se confirma por telemetría.
+     */
+    private Map<String, List<String>> targetModes = new LinkedHashMap<>(Map.of(
+            "auto", List.of("AUTO", "MISSION", "WAYPOINTS"),
+            "manual", List.of("MANUAL"),
+            "guided", List.of("GUIDED", "CLICK_GO", "CLICK_AND_GO"),
+            "joystick", List.of("JOYSTICK"),
+            "return_to_home", List.of("RTL", "RTH", "RETURN_TO_HOME", "RETURN_HOME"),
+            "land_command", List.of("LAND", "LANDING"),
+            "emergency_land", List.of("LAND", "LANDING")));
+
+}
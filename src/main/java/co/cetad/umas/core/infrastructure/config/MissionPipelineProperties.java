@@ -0,0 +1,46 @@
+package co.cetad.umas.core.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límites del pipeline de ejecución de misiones
+ * (resolver rutas → procesar y subir → registrar, armar y arrancar)
+ *
+ * La subida, la etapa pesada, pasa además por el PriorityScheduler, que fija el
+ * límite global (scheduler.priority.max-concurrent)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "mission.pipeline")
+public class MissionPipelineProperties {
+
+    /**
+     * Búsquedas de ruta en UgCS a la vez, sumando todas las misiones
+     */
+    private int resolveConcurrency = 16;
+
+    /**
+     * Drones de una misma misión en la etapa de subida a la vez: una misión grande
+     * no llena la cola del planificador ni desaloja el trabajo de las demás
+     */
+    private int perMissionConcurrency = 4;
+
+    /**
+     * Comandos de arranque (registro en la misión + AUTO) a la vez, sumando todas las misiones
+     */
+    private int startConcurrency = 16;
+
+    /**
+     * Tiempo que se conserva el último estado de cada dron para reanudar la misión
+     * tras un reinicio o una reentrega del evento
+     */
+    private long checkpointTtlMs = 86_400_000L;
+
+    /**
+     * Guardar los checkpoints en Redis; sin Redis solo se reanuda dentro de la misma instancia
+     */
+    private boolean checkpointRedisEnabled = true;
+
+}
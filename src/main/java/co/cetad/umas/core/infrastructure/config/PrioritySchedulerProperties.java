@@ -0,0 +1,31 @@
+package co.cetad.umas.core.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del planificador por prioridad que se ubica entre
+ * los consumers de Kafka y el cliente UgCS
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.priority")
+public class PrioritySchedulerProperties {
+
+    /**
+     * Trabajos que pueden estar en ejecución contra UgCS al mismo tiempo
+     */
+    private int maxConcurrent = 8;
+
+    /**
+     * Capacidad total de las colas (todas las clases de prioridad)
+     */
+    private int maxQueued = 500;
+
+    /**
+     * Cada intervalo de espera promueve un trabajo una clase de prioridad (anti-inanición)
+     */
+    private long agingIntervalMs = 30000;
+
+}
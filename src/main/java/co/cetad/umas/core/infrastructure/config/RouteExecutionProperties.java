@@ -0,0 +1,51 @@
+package co.cetad.umas.core.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Ejecución de rutas comando a comando (topic de rutas)
+ *
+ * Cada comando se da por confirmado cuando la telemetría lo refleja; estos tiempos
+ * solo acotan la espera si el vehículo no responde
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "route.execution")
+public class RouteExecutionProperties {
+
+    /**
+     * Espera máxima a que el vehículo cambie de modo tras un comando de modo
+     */
+    private long modeConfirmationTimeoutMs = 10_000;
+
+    /**
+     * Valores de modo de vuelo o de control con los que el vehículo está en GUIDED
+     * (dependen del autopiloto; un valor numérico se escribe tal cual)
+     */
+    private List<String> guidedModes = List.of("GUIDED", "CLICK_GO", "CLICK_AND_GO");
+
+    /**
+     * Espera máxima a que el vehículo llegue a cada waypoint
+     */
+    private long waypointTimeoutMs = 180_000;
+
+    /**
+     * Distancia horizontal (metros) a la que un waypoint se considera alcanzado
+     */
+    private double acceptanceRadius = 5.0;
+
+    /**
+     * Altura AGL (metros) de los waypoints de la ruta
+     */
+    private double altitude = 50.0;
+
+    /**
+     * Velocidad (m/s) hacia cada waypoint
+     */
+    private double speed = 5.0;
+
+}
@@ -1,5 +1,6 @@
 package co.cetad.umas.core.infrastructure.messaging.kafka.config;
 
+import co.cetad.umas.core.infrastructure.messaging.kafka.offset.OffsetCommitTracker;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,6 +25,9 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:notification-service}")
     private String groupId;
 
+    @Value("${kafka.consumer.concurrency:3}")
+    private int concurrency;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -48,12 +52,15 @@ public class KafkaConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+            OffsetCommitTracker offsetCommitTracker) {
         ConcurrentKafkaListenerContainerFactory<String, String> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
-        factory.setConcurrency(3); // 3 threads para processing
+        // Los acks asíncronos pasan por el tracker: solo se confirma la marca de agua contigua
+        factory.getContainerProperties().setConsumerRebalanceListener(offsetCommitTracker);
+        factory.setConcurrency(concurrency);
         return factory;
     }
 
@@ -0,0 +1,30 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ventana de idempotencia para mensajes redeliverados (rebalance o caída antes del commit)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.idempotency")
+public class KafkaIdempotencyProperties {
+
+    /**
+     * Tiempo durante el cual se recuerda el resultado de un mensaje procesado
+     */
+    private long ttlMs = 3600000;
+
+    /**
+     * Entradas máximas en la caché local (se descartan las más antiguas)
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * Compartir resultados entre réplicas a través de Redis
+     */
+    private boolean redisEnabled = true;
+
+}
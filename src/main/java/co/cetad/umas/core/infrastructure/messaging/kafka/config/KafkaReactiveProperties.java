@@ -0,0 +1,54 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ingesta reactiva (kafka.consumer.ingestion-mode=reactive)
+ * La demanda al broker se limita por la capacidad real aguas abajo.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.reactive")
+public class KafkaReactiveProperties {
+
+    /**
+     * Registros en procesamiento simultáneo por topic
+     */
+    private int maxInFlight = 64;
+
+    /**
+     * Profundidad total de los mailboxes por vehículo a partir de la cual se deja de pedir registros
+     */
+    private int maxMailboxDepth = 200;
+
+    /**
+     * Trabajos encolados en el PriorityScheduler a partir de los cuales se deja de pedir registros
+     */
+    private int maxSchedulerQueue = 200;
+
+    /**
+     * RPC en curso contra UgCS a partir de las cuales se deja de pedir registros
+     * (con el valor de executor.ugcs.max-concurrent, al ocuparse todos los permisos)
+     */
+    private int maxUgcsInFlight = 32;
+
+    /**
+     * Tareas esperando turno en el executor de UgCS a partir de las cuales se deja de pedir registros
+     */
+    private int maxExecutorQueue = 100;
+
+    /**
+     * Intervalo de sondeo de capacidad mientras el pipeline está frenado
+     */
+    private long capacityPollMs = 50;
+
+    /**
+     * Offsets completados fuera de orden pendientes de commit antes de pausar el consumo
+     */
+    private int maxDeferredCommits = 1000;
+
+    private long commitIntervalMs = 1000;
+
+}
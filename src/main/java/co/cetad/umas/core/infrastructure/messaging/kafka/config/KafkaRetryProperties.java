@@ -0,0 +1,24 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Política de reintentos no bloqueantes para comandos y misiones
+ * El retraso del intento N es initialDelay * multiplier^(N-1), acotado por maxDelay.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.retry")
+public class KafkaRetryProperties {
+
+    private int maxAttempts = 4;
+
+    private long initialDelay = 1000;
+
+    private double multiplier = 2.0;
+
+    private long maxDelay = 60000;
+
+}
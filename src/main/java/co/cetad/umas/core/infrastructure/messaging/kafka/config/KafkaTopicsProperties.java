@@ -15,8 +15,20 @@ public class KafkaTopicsProperties {
 
     private String commands = "umas.drone.execute";
 
+    private String commandsRetry = "umas.drone.execute.retry";
+
+    private String commandsDlt = "umas.drone.execute.dlt";
+
+    private String mission = "umas.drone.mission";
+
+    private String missionRetry = "umas.drone.mission.retry";
+
+    private String missionDlt = "umas.drone.mission.dlt";
+
     private String routes = "umas.drone.route.execute";
 
+    private String routesDlt = "umas.drone.route.execute.dlt";
+
     private String vehicleStatus = "umas.drone.vehicle.status";
 
     private String routeStatus = "umas.drone.route.status";
@@ -1,60 +1,165 @@
 package co.cetad.umas.core.infrastructure.messaging.kafka.consumer;
 
+import co.cetad.umas.core.application.service.command.CommandValidator;
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
 import co.cetad.umas.core.domain.model.dto.CommandExecutionDTO;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
 import co.cetad.umas.core.domain.ports.in.EventProcessor;
 import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.idempotency.IdempotencyCache;
+import co.cetad.umas.core.infrastructure.messaging.kafka.offset.OffsetCommitTracker;
+import co.cetad.umas.core.infrastructure.messaging.kafka.retry.RetryTopicRouter;
+import co.cetad.umas.core.infrastructure.metrics.CommandStageMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class CommandConsumer {
+public class CommandConsumer implements ConsumerSeekAware {
 
     private final EventProcessor<CommandExecutionDTO, CommandResultDTO> commandExecutionService;
     private final VehicleConnectionManager connectionManager;
+    private final ReconnectionCoordinator reconnectionCoordinator;
+    private final OffsetCommitTracker offsetCommitTracker;
+    private final RetryTopicRouter retryTopicRouter;
+    private final IdempotencyCache idempotencyCache;
+    private final CommandStageMetrics commandStageMetrics;
+    private final KafkaTopicsProperties topics;
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    /**
+     * El tracker usa el callback de seek del contenedor para reentregar registros fallidos
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        offsetCommitTracker.registerSeekCallback(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        offsetCommitTracker.unregisterSeekCallback(partitions);
+    }
+
     @KafkaListener(
             topics = "${kafka.topics.commands}",
             groupId = "${spring.kafka.consumer.group-id:ugcs-core-service}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{'${kafka.consumer.ingestion-mode:listener}' == 'listener'}"
     )
     public void consumeCommand(
-            @Payload String message,
+            ConsumerRecord<String, String> record,
             Acknowledgment acknowledgment
     ) {
+        var tracked = offsetCommitTracker.track(record, acknowledgment);
+        handle(record).whenComplete((v, error) -> tracked.settle(error));
+    }
+
+    /**
+     * Procesa un registro de comandos de punta a punta (ejecución + enrutado del resultado)
+     * Compartido por el listener y la ingesta reactiva: el future completa cuando
+     * el offset del registro puede confirmarse, y falla si el resultado no pudo
+     * enrutarse (el registro se vuelve a entregar).
+     */
+    public CompletableFuture<Void> handle(ConsumerRecord<String, String> record) {
+        var message = record.value();
 
         try {
             var command = objectMapper.readValue(message, CommandExecutionDTO.class);
             log.debug("Parsed command: {}", command);
 
-            ensureConnectionAndProcess(command)
-                    .thenAccept(result -> {
-                        log.info("Command executed - Vehicle: {}, Status: {}, Message: {}",
-                                result.vehicleId(), result.status(), result.message());
-                        acknowledgment.acknowledge();
-                    })
-                    .exceptionally(error -> {
-                        log.error("Failed to execute command from Kafka", error);
-                        acknowledgment.acknowledge();
-                        return null;
-                    });
+            // El lag de los reintentos incluye el backoff intencionado; solo se mide la entrega original
+            if (retryTopicRouter.attempt(record) == 0) {
+                commandStageMetrics.recordKafkaLag(record, command.commandCode());
+            }
+            var endToEnd = commandStageMetrics.start();
+
+            return idempotencyCache.executeOnce(record, () -> ensureConnectionAndProcess(command)
+                        .thenCompose(result -> {
+                            log.info("Command executed - Vehicle: {}, Status: {}, Message: {}",
+                                    result.vehicleId(), result.status(), result.message());
+                            return routeOutcome(record, result).thenApply(v -> result);
+                        })
+                        .exceptionallyCompose(error -> {
+                            log.error("Failed to execute command from Kafka", error);
+                            var reason = String.valueOf(error.getMessage());
+                            return retryTopicRouter.retry(record, topics.getCommandsRetry(), topics.getCommandsDlt(), reason)
+                                    .thenApply(v -> CommandResultDTO.failed(command.vehicleId(), command.commandCode(), reason));
+                        }))
+                    .whenComplete((result, error) ->
+                        commandStageMetrics.record(endToEnd, "end_to_end", command.commandCode(),
+                                result != null
+                                        ? result.status().name().toLowerCase()
+                                        : CommandStageMetrics.outcomeOf(error)))
+                    .thenApply(result -> null);
 
         } catch (Exception e) {
             log.error("Failed to parse command message: {}", message, e);
-            acknowledgment.acknowledge();
+            return retryTopicRouter.deadLetter(record, topics.getCommandsDlt(), "Unparseable command: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Consume los reintentos programados (un topic por intento)
+     * Si el reintento aún no ha vencido, se pausa la partición de reintentos
+     * el tiempo restante (nack) sin afectar al topic principal.
+     */
+    @KafkaListener(
+            topics = "#{@retryTopicRouter.retryTopics('${kafka.topics.commands-retry:umas.drone.execute.retry}')}",
+            groupId = "${spring.kafka.consumer.group-id:ugcs-core-service}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeCommandRetry(
+            ConsumerRecord<String, String> record,
+            Acknowledgment acknowledgment
+    ) {
+        long remaining = retryTopicRouter.remainingDelayMillis(record);
+        if (remaining > 0) {
+            log.trace("Retry not due yet, backing off {} ms", remaining);
+            acknowledgment.nack(Duration.ofMillis(remaining));
+            return;
         }
+
+        log.info("🔁 Processing command retry attempt {}", retryTopicRouter.attempt(record));
+        consumeCommand(record, acknowledgment);
+    }
+
+    /**
+     * Decide el destino de un resultado fallido según su clasificación
+     * - TIMEOUT / FAILED: reintento con backoff
+     * - TIMEOUT de un comando no repetible (despegar, aterrizar, arrancar ruta...): puede haberse
+     *   enviado ya, así que va al DLT en lugar de reintentarse
+     * - REJECTED: no recuperable, directo al DLT
+     * - SUPERSEDED: descartado, existe una consigna más reciente
+     * - UNCONFIRMED: UgCS lo aceptó; reenviarlo repetiría el comando en el vehículo
+     */
+    private CompletableFuture<Void> routeOutcome(ConsumerRecord<String, String> record, CommandResultDTO result) {
+        return switch (result.status()) {
+            case SUCCESS, SUPERSEDED, UNCONFIRMED -> CompletableFuture.completedFuture(null);
+            case REJECTED -> retryTopicRouter.deadLetter(record, topics.getCommandsDlt(), result.message());
+            case TIMEOUT -> CommandValidator.isNonRepeatable(result.commandCode())
+                    ? retryTopicRouter.deadLetter(record, topics.getCommandsDlt(),
+                            "Timed out and not retried, it may have reached the vehicle: " + result.message())
+                    : retryTopicRouter.retry(record, topics.getCommandsRetry(), topics.getCommandsDlt(),
+                            result.message());
+            default -> retryTopicRouter.retry(record, topics.getCommandsRetry(), topics.getCommandsDlt(),
+                    result.message());
+        };
     }
 
     /**
@@ -75,15 +180,11 @@ public class CommandConsumer {
 
     /**
      * Reconecta a UgCS y procesa el comando
+     * El intento se comparte con el resto de mensajes que encontraron la sesión caída.
      */
     private CompletableFuture<CommandResultDTO> reconnectAndProcess(CommandExecutionDTO command) {
-        return connectionManager.connect()
-                .then(connectionManager.subscribeTelemetry())
-                .then(connectionManager.subscribeMissionComplete())
-                .doOnSuccess(v -> log.info("✅ Reconnected to UgCS Server"))
-                .doOnError(e -> log.error("❌ Failed to reconnect to UgCS Server", e))
-                .toFuture()
+        return reconnectionCoordinator.ensureConnected()
                 .thenCompose(v -> commandExecutionService.process(command));
     }
 
-}
\ No newline at end of file
+}
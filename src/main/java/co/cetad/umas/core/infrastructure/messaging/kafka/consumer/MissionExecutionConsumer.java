@@ -1,18 +1,28 @@
 package co.cetad.umas.core.infrastructure.messaging.kafka.consumer;
 
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
 import co.cetad.umas.core.domain.model.dto.MissionExecutionDTO;
 import co.cetad.umas.core.domain.ports.in.EventProcessor;
 import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.idempotency.IdempotencyCache;
+import co.cetad.umas.core.infrastructure.messaging.kafka.offset.OffsetCommitTracker;
+import co.cetad.umas.core.infrastructure.messaging.kafka.retry.RetryTopicRouter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -23,24 +33,58 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MissionExecutionConsumer {
+public class MissionExecutionConsumer implements ConsumerSeekAware {
 
     private final EventProcessor<MissionExecutionDTO, CommandResultDTO> missionExecutionService;
     private final VehicleConnectionManager connectionManager;
+    private final ReconnectionCoordinator reconnectionCoordinator;
+    private final OffsetCommitTracker offsetCommitTracker;
+    private final RetryTopicRouter retryTopicRouter;
+    private final IdempotencyCache idempotencyCache;
+    private final KafkaTopicsProperties topics;
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    /**
+     * El tracker usa el callback de seek del contenedor para reentregar registros fallidos
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        offsetCommitTracker.registerSeekCallback(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        offsetCommitTracker.unregisterSeekCallback(partitions);
+    }
+
     @KafkaListener(
             topics = "${kafka.topics.mission:umas.drone.mission}",
             groupId = "${spring.kafka.consumer.group-id:ugcs-core-service}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{'${kafka.consumer.ingestion-mode:listener}' == 'listener'}"
     )
     public void consumeMissionExecution(
-            @Payload String message,
+            ConsumerRecord<String, String> record,
             Acknowledgment acknowledgment
     ) {
+        var tracked = offsetCommitTracker.track(record, acknowledgment);
+        handle(record).whenComplete((v, error) -> tracked.settle(error));
+    }
+
+    /**
+     * Procesa un registro de misión de punta a punta (ejecución + enrutado del resultado)
+     * Compartido por el listener y la ingesta reactiva: el future completa cuando
+     * el offset del registro puede confirmarse, y falla si el resultado no pudo
+     * enrutarse (el registro se vuelve a entregar).
+     */
+    public CompletableFuture<Void> handle(ConsumerRecord<String, String> record) {
+        var message = record.value();
+
         try {
-            var mission = objectMapper.readValue(message, MissionExecutionDTO.class);
+            // Reentregas y reintentos del mismo registro continúan la misma ejecución
+            var mission = objectMapper.readValue(message, MissionExecutionDTO.class)
+                    .withExecutionId(retryTopicRouter.executionId(record));
 
             log.info("📥 Received mission execution command: mission={}, drones={}",
                     mission.missionId(),
@@ -48,26 +92,68 @@ public class MissionExecutionConsumer {
 
             log.debug("Mission details: {}", mission);
 
-            ensureConnectionAndProcess(mission)
-                    .thenAccept(result -> {
-                        log.info("✅ Mission execution completed - Mission: {}, Vehicle: {}, Status: {}, Message: {}",
-                                mission.missionId(),
-                                result.vehicleId(),
-                                result.status(),
-                                result.message());
-                        acknowledgment.acknowledge();
-                    })
-                    .exceptionally(error -> {
-                        log.error("❌ Failed to execute mission: {}",
-                                mission.missionId(), error);
-                        acknowledgment.acknowledge();
-                        return null;
-                    });
+            return idempotencyCache.executeOnce(record, () -> ensureConnectionAndProcess(mission)
+                        .thenCompose(result -> {
+                            log.info("✅ Mission execution completed - Mission: {}, Vehicle: {}, Status: {}, Message: {}",
+                                    mission.missionId(),
+                                    result.vehicleId(),
+                                    result.status(),
+                                    result.message());
+                            return routeOutcome(record, result).thenApply(v -> result);
+                        })
+                        .exceptionallyCompose(error -> {
+                            log.error("❌ Failed to execute mission: {}",
+                                    mission.missionId(), error);
+                            var reason = String.valueOf(error.getMessage());
+                            return retryTopicRouter.retry(record, topics.getMissionRetry(), topics.getMissionDlt(), reason)
+                                    .thenApply(v -> CommandResultDTO.failed(
+                                            "mission", "execute_mission:" + mission.missionId(), reason));
+                        }))
+                    .thenApply(result -> null);
 
         } catch (Exception e) {
             log.error("❌ Failed to parse mission execution message: {}", message, e);
-            acknowledgment.acknowledge();
+            return retryTopicRouter.deadLetter(record, topics.getMissionDlt(), "Unparseable mission: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Consume los reintentos programados de misiones (un topic por intento)
+     * Si el reintento aún no ha vencido, se pausa la partición de reintentos
+     * el tiempo restante (nack) sin afectar al topic principal.
+     */
+    @KafkaListener(
+            topics = "#{@retryTopicRouter.retryTopics('${kafka.topics.mission-retry:umas.drone.mission.retry}')}",
+            groupId = "${spring.kafka.consumer.group-id:ugcs-core-service}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeMissionExecutionRetry(
+            ConsumerRecord<String, String> record,
+            Acknowledgment acknowledgment
+    ) {
+        long remaining = retryTopicRouter.remainingDelayMillis(record);
+        if (remaining > 0) {
+            log.trace("Mission retry not due yet, backing off {} ms", remaining);
+            acknowledgment.nack(Duration.ofMillis(remaining));
+            return;
         }
+
+        log.info("🔁 Processing mission retry attempt {}", retryTopicRouter.attempt(record));
+        consumeMissionExecution(record, acknowledgment);
+    }
+
+    /**
+     * Decide el destino de un resultado fallido según su clasificación
+     * - TIMEOUT / FAILED: reintento con backoff
+     * - REJECTED: no recuperable, directo al DLT
+     */
+    private CompletableFuture<Void> routeOutcome(ConsumerRecord<String, String> record, CommandResultDTO result) {
+        return switch (result.status()) {
+            case SUCCESS -> CompletableFuture.completedFuture(null);
+            case REJECTED -> retryTopicRouter.deadLetter(record, topics.getMissionDlt(), result.message());
+            default -> retryTopicRouter.retry(record, topics.getMissionRetry(), topics.getMissionDlt(),
+                    result.message());
+        };
     }
 
     /**
@@ -88,14 +174,10 @@ public class MissionExecutionConsumer {
 
     /**
      * Reconecta a UgCS y procesa la misión
+     * El intento se comparte con el resto de mensajes que encontraron la sesión caída.
      */
     private CompletableFuture<CommandResultDTO> reconnectAndProcess(MissionExecutionDTO mission) {
-        return connectionManager.connect()
-                .then(connectionManager.subscribeTelemetry())
-                .then(connectionManager.subscribeMissionComplete())
-                .doOnSuccess(v -> log.info("✅ Reconnected to UgCS Server"))
-                .doOnError(e -> log.error("❌ Failed to reconnect to UgCS Server", e))
-                .toFuture()
+        return reconnectionCoordinator.ensureConnected()
                 .thenCompose(v -> missionExecutionService.process(mission));
     }
 
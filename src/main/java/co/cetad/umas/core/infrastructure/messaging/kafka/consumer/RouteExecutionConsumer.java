@@ -0,0 +1,141 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.consumer;
+
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionDTO;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionResult;
+import co.cetad.umas.core.domain.ports.in.RouteExecutor;
+import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.offset.OffsetCommitTracker;
+import co.cetad.umas.core.infrastructure.messaging.kafka.retry.RetryTopicRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Consumer de Kafka para la ejecución de rutas comando a comando
+ * El progreso y el resultado se publican en el topic de estado de rutas; una ruta
+ * fallida no se reintenta, porque el vehículo ya ha volado parte de ella.
+ *
+ * El offset se confirma en cuanto la ruta se entrega al ejecutor, no al terminarla:
+ * una ruta dura minutos y mantener el offset abierto frenaría la marca de agua de la
+ * partición, y un reinicio volvería a volar la ruta desde el principio.
+ *
+ * Una ruta que no llega a arrancar (UgCS no reconecta) se publica como FAILED en el topic
+ * de estado; un mensaje ilegible va al DLT de rutas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteExecutionConsumer implements ConsumerSeekAware {
+
+    private final RouteExecutor routeExecutor;
+    private final VehicleConnectionManager connectionManager;
+    private final ReconnectionCoordinator reconnectionCoordinator;
+    private final OffsetCommitTracker offsetCommitTracker;
+    private final RetryTopicRouter retryTopicRouter;
+    private final EventPublisher<RouteExecutionResult> routeStatusPublisher;
+    private final KafkaTopicsProperties topics;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    /**
+     * El tracker usa el callback de seek del contenedor para reentregar registros fallidos
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        offsetCommitTracker.registerSeekCallback(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        offsetCommitTracker.unregisterSeekCallback(partitions);
+    }
+
+    @KafkaListener(
+            topics = "${kafka.topics.routes:umas.drone.route.execute}",
+            groupId = "${spring.kafka.consumer.group-id:ugcs-core-service}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeRouteExecution(
+            ConsumerRecord<String, String> record,
+            Acknowledgment acknowledgment
+    ) {
+        var tracked = offsetCommitTracker.track(record, acknowledgment);
+        handle(record).whenComplete((v, error) -> tracked.settle(error));
+    }
+
+    /**
+     * Arranca la ruta del registro; el future completa cuando la ejecución ha sido aceptada
+     * o su fallo publicado (el offset puede confirmarse), y falla solo si un mensaje
+     * ilegible no pudo enviarse al DLT (el registro se vuelve a entregar)
+     */
+    public CompletableFuture<Void> handle(ConsumerRecord<String, String> record) {
+        var message = record.value();
+
+        try {
+            var route = objectMapper.readValue(message, RouteExecutionDTO.class);
+
+            log.info("📥 Received route execution: route={}, vehicle={}, waypoints={}",
+                    route.routeId(), route.vehicleId(),
+                    route.waypoints() == null ? 0 : route.waypoints().size());
+
+            return ensureConnection()
+                    .thenAccept(v -> routeExecutor.executeRoute(route)
+                            .thenAccept(result -> log.info("🏁 Route execution finished - Route: {}, Vehicle: {}, Status: {}, Commands: {}/{}",
+                                    result.routeId(), result.vehicleId(), result.status(),
+                                    result.completedCommands(), result.totalCommands()))
+                            .exceptionally(error -> {
+                                log.error("❌ Failed to execute route for record {}", record.offset(), error);
+                                return null;
+                            }))
+                    .exceptionallyCompose(error -> {
+                        log.error("❌ Failed to start route for record {}", record.offset(), error);
+                        return publishStartFailure(route, error);
+                    });
+
+        } catch (Exception e) {
+            log.error("❌ Failed to parse route execution message: {}", message, e);
+            return retryTopicRouter.deadLetter(record, topics.getRoutesDlt(), "Unparseable route: " + e.getMessage());
+        }
+    }
+
+    /**
+     * La ruta no llegó a enviarse: se informa en el topic de estado (el publisher nunca falla)
+     */
+    private CompletableFuture<Void> publishStartFailure(RouteExecutionDTO route, Throwable error) {
+        var cause = error.getCause() != null ? error.getCause() : error;
+        return routeStatusPublisher.publish(RouteExecutionResult.failed(route.vehicleId(), route.routeId(), 0, 0,
+                        null, "Route could not start: " + cause.getMessage(), Instant.now()))
+                .toFuture();
+    }
+
+    /**
+     * Verifica la conexión con UgCS y reconecta si es necesario antes de ejecutar
+     */
+    private CompletableFuture<Void> ensureConnection() {
+        return connectionManager.isConnected()
+                .thenCompose(isConnected -> {
+                    if (isConnected) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    log.warn("⚠️ UgCS disconnected, attempting reconnection...");
+                    return reconnectionCoordinator.ensureConnected();
+                });
+    }
+
+}
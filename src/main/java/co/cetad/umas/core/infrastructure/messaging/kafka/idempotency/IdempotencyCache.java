@@ -0,0 +1,192 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.idempotency;
+
+import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
+import co.cetad.umas.core.domain.ports.out.ProcessedMessageStore;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaIdempotencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Capa de idempotencia para comandos y misiones consumidos desde Kafka
+ *
+ * Un rebalance o una caída antes del commit vuelve a entregar los mismos registros.
+ * La clave de idempotencia es topic:partición:offset:sha256(payload), de modo que
+ * solo una redelivery real se considera duplicada (un reintento programado vive
+ * en otro topic y se ejecuta normalmente).
+ *
+ * - Caché local en memoria con TTL y tamaño acotado
+ * - Respaldo opcional en Redis para compartir resultados entre réplicas
+ * - Duplicados en vuelo comparten el mismo CompletableFuture
+ * - Las lecturas y escrituras en Redis son bloqueantes: se hacen en threads virtuales,
+ *   nunca en el thread del listener ni en el de I/O del productor
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyCache {
+
+    private final KafkaIdempotencyProperties properties;
+    private final Optional<ProcessedMessageStore> processedMessageStore;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("virtualThreadExecutor")
+    private final Executor virtualThreadExecutor;
+
+    private final Map<String, CompletableFuture<CommandResultDTO>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedResult> completed = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > properties.getMaxEntries();
+        }
+    };
+
+    /**
+     * Ejecuta la acción una sola vez por registro
+     *
+     * @param record registro de Kafka recibido
+     * @param action procesamiento completo del registro (ejecución + enrutado del resultado)
+     * @return resultado de la acción, o el resultado cacheado si el registro ya fue procesado
+     */
+    public CompletableFuture<CommandResultDTO> executeOnce(ConsumerRecord<String, String> record,
+                                                           Supplier<CompletableFuture<CommandResultDTO>> action) {
+        var key = keyOf(record);
+
+        var cached = findCompleted(key);
+        if (cached.isPresent()) {
+            return duplicate(key, "memory", cached.get());
+        }
+
+        var promise = new CompletableFuture<CommandResultDTO>();
+        var existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            log.info("♻️ Duplicate delivery in flight, sharing result: {}", key);
+            meterRegistry.counter("umas.idempotency.duplicates", "source", "inflight").increment();
+            return existing;
+        }
+
+        if (processedMessageStore.isEmpty()) {
+            run(key, promise, action);
+            return promise;
+        }
+
+        var store = processedMessageStore.get();
+        CompletableFuture.supplyAsync(() -> store.find(key), virtualThreadExecutor)
+                .whenComplete((stored, error) -> {
+                    if (error != null) {
+                        log.warn("Idempotency lookup could not run for {}, processing the record", key, error);
+                    }
+                    if (stored != null && stored.isPresent()) {
+                        remember(key, stored.get());
+                        inFlight.remove(key, promise);
+                        duplicate(key, "redis", stored.get());
+                        promise.complete(stored.get());
+                        return;
+                    }
+                    run(key, promise, action);
+                });
+        return promise;
+    }
+
+    private void run(String key, CompletableFuture<CommandResultDTO> promise,
+                     Supplier<CompletableFuture<CommandResultDTO>> action) {
+        CompletableFuture<CommandResultDTO> execution;
+        try {
+            execution = action.get();
+        } catch (Exception e) {
+            execution = CompletableFuture.failedFuture(e);
+        }
+
+        execution.whenComplete((result, error) -> {
+            if (error == null && result != null) {
+                remember(key, result);
+                processedMessageStore.ifPresent(store -> saveAsync(store, key, result));
+            }
+            inFlight.remove(key, promise);
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(result);
+            }
+        });
+    }
+
+    /**
+     * El resultado suele completarse en el thread de I/O del productor de Kafka: la escritura
+     * en Redis se hace aparte. Perderla solo cuesta compartir el resultado entre réplicas.
+     */
+    private void saveAsync(ProcessedMessageStore store, String key, CommandResultDTO result) {
+        try {
+            virtualThreadExecutor.execute(() -> store.save(key, result, ttl()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Idempotency result for {} not shared through Redis", key, e);
+        }
+    }
+
+    /**
+     * Clave de idempotencia del registro: topic:partición:offset:sha256(payload)
+     */
+    static String keyOf(ConsumerRecord<String, String> record) {
+        return "%s:%d:%d:%s".formatted(record.topic(), record.partition(), record.offset(), sha256(record.value()));
+    }
+
+    private CompletableFuture<CommandResultDTO> duplicate(String key, String source, CommandResultDTO result) {
+        log.info("♻️ Duplicate delivery skipped ({}), returning cached {} result: {}", source, result.status(), key);
+        meterRegistry.counter("umas.idempotency.duplicates", "source", source).increment();
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private Optional<CommandResultDTO> findCompleted(String key) {
+        synchronized (completed) {
+            var entry = completed.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                completed.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.result());
+        }
+    }
+
+    private void remember(String key, CommandResultDTO result) {
+        synchronized (completed) {
+            completed.put(key, new CachedResult(result, System.currentTimeMillis() + properties.getTtlMs()));
+        }
+    }
+
+    private Duration ttl() {
+        return Duration.ofMillis(properties.getTtlMs());
+    }
+
+    private static String sha256(String value) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedResult(CommandResultDTO result, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,242 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.offset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seguimiento de offsets para handlers asíncronos de Kafka
+ *
+ * Los handlers completan sus CompletableFuture en cualquier orden y desde
+ * cualquier thread. Si cada uno hiciera acknowledge() por su cuenta, un
+ * registro posterior que termine antes confirmaría offsets anteriores que
+ * siguen en vuelo, y un crash los perdería.
+ *
+ * Este tracker mantiene, por partición, los offsets en vuelo y solo confirma
+ * la marca de agua contigua: el último registro completado tal que todos
+ * los anteriores de la partición también han terminado.
+ *
+ * Un registro cuyo procesamiento falla (p. ej. no se pudo publicar en retry/DLT)
+ * no se confirma: bloquea la marca de agua y se pide al contenedor un seek a su
+ * offset para que vuelva a entregarse.
+ */
+@Slf4j
+@Component
+public class OffsetCommitTracker implements ConsumerAwareRebalanceListener {
+
+    private final Map<TopicPartition, PartitionState> partitions = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, ConsumerSeekCallback> seekCallbacks = new ConcurrentHashMap<>();
+
+    /**
+     * Registra un registro recibido como "en vuelo"
+     * Debe invocarse desde el thread del listener, en orden de llegada.
+     *
+     * @param record         registro recibido
+     * @param acknowledgment acknowledgment asociado al registro
+     * @return handle para marcar el registro como completado
+     */
+    public TrackedRecord track(ConsumerRecord<?, ?> record, Acknowledgment acknowledgment) {
+        var partition = new TopicPartition(record.topic(), record.partition());
+        var state = partitions.computeIfAbsent(partition, PartitionState::new);
+        long generation = state.register(record.offset(), acknowledgment);
+        return new TrackedRecord(state, record.offset(), generation);
+    }
+
+    /**
+     * Registra el callback de seek del contenedor al que se asignaron las particiones
+     * Lo invocan los listeners (ConsumerSeekAware) al recibir la asignación.
+     */
+    public void registerSeekCallback(Collection<TopicPartition> assigned, ConsumerSeekCallback callback) {
+        assigned.forEach(tp -> seekCallbacks.put(tp, callback));
+    }
+
+    public void unregisterSeekCallback(Collection<TopicPartition> revoked) {
+        revoked.forEach(seekCallbacks::remove);
+    }
+
+    /**
+     * Número total de registros en vuelo en todas las particiones
+     */
+    public int inFlight() {
+        return partitions.values().stream()
+                .mapToInt(PartitionState::size)
+                .sum();
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        forget(revoked);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+        forget(lost);
+    }
+
+    private void forget(Collection<TopicPartition> topicPartitions) {
+        topicPartitions.forEach(tp -> {
+            seekCallbacks.remove(tp);
+            var state = partitions.remove(tp);
+            if (state != null && state.size() > 0) {
+                log.warn("Partition {} revoked with {} records in flight; they will be redelivered",
+                        tp, state.size());
+            }
+        });
+    }
+
+    /**
+     * Handle de un registro en vuelo
+     *
+     * Guarda la generación con la que se registró: si el offset se vuelve a entregar
+     * (seek hacia atrás), el handle de la entrega anterior queda obsoleto y no puede
+     * completar la nueva.
+     */
+    public final class TrackedRecord {
+
+        private final PartitionState state;
+        private final long offset;
+        private final long generation;
+
+        private TrackedRecord(PartitionState state, long offset, long generation) {
+            this.state = state;
+            this.offset = offset;
+            this.generation = generation;
+        }
+
+        /**
+         * Marca el registro como completado. Idempotente.
+         */
+        public void complete() {
+            state.complete(offset, generation);
+        }
+
+        /**
+         * Marca el registro como fallido: no se confirma y se vuelve a entregar desde
+         * el primer offset fallido de la partición. Sin callback de seek (partición
+         * revocada) la reentrega la hace el siguiente dueño de la partición.
+         */
+        public void fail(Throwable error) {
+            var seekOffset = state.fail(offset, generation);
+            if (seekOffset < 0) {
+                return;
+            }
+            var partition = state.partition;
+            var callback = seekCallbacks.get(partition);
+            if (callback == null) {
+                log.warn("⚠️ Record {}@{} failed and cannot be rewound now; it stays uncommitted",
+                        partition, offset, error);
+                return;
+            }
+            log.warn("⚠️ Record {}@{} failed, seeking to {} for redelivery", partition, offset, seekOffset, error);
+            callback.seek(partition.topic(), partition.partition(), seekOffset);
+        }
+
+        /**
+         * Completa o marca como fallido según el resultado del procesamiento
+         */
+        public void settle(Throwable error) {
+            if (error == null) {
+                complete();
+            } else {
+                fail(error);
+            }
+        }
+
+        public long offset() {
+            return offset;
+        }
+    }
+
+    private static final class PartitionState {
+
+        private final TopicPartition partition;
+        private final TreeMap<Long, Entry> inFlight = new TreeMap<>();
+        private long generations;
+
+        private PartitionState(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        private synchronized long register(long offset, Acknowledgment acknowledgment) {
+            if (!inFlight.isEmpty() && offset <= inFlight.lastKey()) {
+                // Seek hacia atrás (redelivery): los offsets anteriores se volverán a entregar
+                log.debug("Offset {} on {} rewinds tracked window, resetting partition state",
+                        offset, partition);
+                inFlight.tailMap(offset, true).clear();
+            }
+            long generation = ++generations;
+            inFlight.put(offset, new Entry(acknowledgment, generation));
+            return generation;
+        }
+
+        private synchronized void complete(long offset, long generation) {
+            var entry = inFlight.get(offset);
+            if (entry == null) {
+                return;
+            }
+            if (entry.generation != generation) {
+                // Handle de una entrega anterior del mismo offset: la copia actual sigue en vuelo
+                log.debug("Ignoring stale completion of offset {} on {}", offset, partition);
+                return;
+            }
+            entry.done = true;
+
+            Map.Entry<Long, Entry> watermark = null;
+            while (!inFlight.isEmpty() && inFlight.firstEntry().getValue().done) {
+                watermark = inFlight.pollFirstEntry();
+            }
+
+            // Se confirma dentro del lock para que los commits de la partición sean monótonos
+            if (watermark != null) {
+                log.trace("Committing watermark offset {} on {}", watermark.getKey(), partition);
+                watermark.getValue().acknowledgment.acknowledge();
+            }
+        }
+
+        /**
+         * Deja la entrada sin completar (bloquea la marca de agua hasta la reentrega)
+         *
+         * @return offset al que hay que volver (el primer fallido), o -1 si el handle es obsoleto
+         */
+        private synchronized long fail(long offset, long generation) {
+            var entry = inFlight.get(offset);
+            if (entry == null || entry.generation != generation) {
+                return -1;
+            }
+            entry.failed = true;
+            return inFlight.entrySet().stream()
+                    .filter(e -> e.getValue().failed)
+                    .mapToLong(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(offset);
+        }
+
+        private synchronized int size() {
+            return inFlight.size();
+        }
+    }
+
+    private static final class Entry {
+
+        private final Acknowledgment acknowledgment;
+        private final long generation;
+        private boolean done;
+        private boolean failed;
+
+        private Entry(Acknowledgment acknowledgment, long generation) {
+            this.acknowledgment = acknowledgment;
+            this.generation = generation;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.producer.mission;
+
+import co.cetad.umas.core.domain.model.dto.DroneMissionStatusDTO;
+import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Publisher de Kafka para las transiciones de cada dron durante la ejecución de una misión
+ * Publica al topic: umas.drone.mission.status (clave: vehicleId, mismo orden que el fin de misión)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DroneMissionStatusPublisher implements EventPublisher<DroneMissionStatusDTO> {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTopicsProperties topics;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    @Override
+    public Mono<Void> publish(DroneMissionStatusDTO status) {
+        return Mono.fromCallable(() -> {
+                    String json = objectMapper.writeValueAsString(status);
+
+                    log.debug("Drone mission status payload: {}", json);
+
+                    return kafkaTemplate.send(
+                            topics.getMissionStatus(),
+                            status.vehicleId(),
+                            json
+                    );
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(future -> Mono.fromFuture(future.toCompletableFuture()))
+                .doOnSuccess(sendResult -> log.debug(
+                        "Drone mission status published - Mission: {}, Vehicle: {}, State: {}",
+                        status.missionId(), status.vehicleId(), status.state()
+                ))
+                .then()
+                .onErrorResume(error -> {
+                    log.error("❌ Failed to publish {} for vehicle {} in mission {}, continuing...",
+                            status.state(), status.vehicleId(), status.missionId(), error);
+                    return Mono.empty();
+                });
+    }
+
+}
@@ -0,0 +1,57 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.producer.route;
+
+import co.cetad.umas.core.domain.model.dto.RouteExecutionResult;
+import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Publisher de Kafka para el progreso y el resultado de la ejecución de rutas
+ * Publica al topic: umas.drone.route.status (clave: vehicleId)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteStatusPublisher implements EventPublisher<RouteExecutionResult> {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTopicsProperties topics;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    @Override
+    public Mono<Void> publish(RouteExecutionResult result) {
+        return Mono.fromCallable(() -> {
+                    String json = objectMapper.writeValueAsString(result);
+
+                    log.debug("Route status payload: {}", json);
+
+                    return kafkaTemplate.send(
+                            topics.getRouteStatus(),
+                            result.vehicleId(),
+                            json
+                    );
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(future -> Mono.fromFuture(future.toCompletableFuture()))
+                .doOnSuccess(sendResult -> log.debug(
+                        "Route status published - Vehicle: {}, Route: {}, Status: {}, Commands: {}/{}",
+                        result.vehicleId(), result.routeId(), result.status(),
+                        result.completedCommands(), result.totalCommands()
+                ))
+                .then()
+                .onErrorResume(error -> {
+                    log.error("❌ Failed to publish route status for vehicle {}, continuing...",
+                            result.vehicleId(), error);
+                    return Mono.empty();
+                });
+    }
+
+}
@@ -0,0 +1,60 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.reactive;
+
+import co.cetad.umas.core.application.service.scheduling.PriorityScheduler;
+import co.cetad.umas.core.infrastructure.config.BoundedVirtualThreadExecutor;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaReactiveProperties;
+import co.cetad.umas.core.infrastructure.ugcs.actor.VehicleMailboxRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Compuerta de capacidad para la ingesta reactiva
+ *
+ * Un registro solo entra al procesamiento cuando los mailboxes por vehículo, la cola
+ * del PriorityScheduler, las RPC en curso contra UgCS y la cola del executor de UgCS
+ * están por debajo de sus umbrales. Mientras espera, el slot de
+ * flatMap sigue ocupado, la demanda no se repone y el receiver pausa las particiones:
+ * los picos de carga se quedan en Kafka en lugar de en el heap.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionCapacityGate {
+
+    private final VehicleMailboxRegistry vehicleMailboxes;
+    private final PriorityScheduler priorityScheduler;
+    @Qualifier("ugcsIoExecutor")
+    private final BoundedVirtualThreadExecutor ugcsIoExecutor;
+    private final KafkaReactiveProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public boolean hasCapacity() {
+        return vehicleMailboxes.totalDepth() < properties.getMaxMailboxDepth()
+                && priorityScheduler.totalQueued() < properties.getMaxSchedulerQueue()
+                && ugcsIoExecutor.activeCount() < properties.getMaxUgcsInFlight()
+                && ugcsIoExecutor.queuedCount() < properties.getMaxExecutorQueue();
+    }
+
+    /**
+     * Completa cuando hay capacidad aguas abajo
+     */
+    public Mono<Void> awaitCapacity() {
+        return Mono.defer(() -> {
+                    if (hasCapacity()) {
+                        return Mono.just(true);
+                    }
+                    meterRegistry.counter("umas.ingestion.throttled").increment();
+                    log.trace("Downstream saturated, holding ingestion");
+                    return Mono.<Boolean>empty();
+                })
+                .repeatWhenEmpty(repeats -> repeats.delayElements(Duration.ofMillis(properties.getCapacityPollMs())))
+                .then();
+    }
+
+}
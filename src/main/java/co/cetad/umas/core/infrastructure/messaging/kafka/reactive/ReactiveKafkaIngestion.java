@@ -0,0 +1,120 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.reactive;
+
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaReactiveProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.consumer.CommandConsumer;
+import co.cetad.umas.core.infrastructure.messaging.kafka.consumer.MissionExecutionConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Ingesta alternativa de comandos y misiones con reactor-kafka
+ * Activa con kafka.consumer.ingestion-mode=reactive (los @KafkaListener de los topics
+ * principales no arrancan; los de reintento siguen en los contenedores de Spring Kafka).
+ *
+ * BACKPRESSURE:
+ * - flatMap con concurrencia maxInFlight: la demanda al receiver se repone solo al completar
+ * - IngestionCapacityGate retiene cada registro mientras mailboxes y scheduler están saturados
+ * - Sin demanda, reactor-kafka pausa las particiones en lugar de acumular registros en heap
+ *
+ * OFFSETS:
+ * - Se reconocen al completar el procesamiento (incluido el enrutado a retry/DLT)
+ * - maxDeferredCommits confirma solo la marca de agua contigua de completados fuera de orden
+ * - Un registro fallido no se reconoce: el error reinicia el receiver, que vuelve a
+ *   leer desde el último offset confirmado y lo entrega de nuevo
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.consumer", name = "ingestion-mode", havingValue = "reactive")
+public class ReactiveKafkaIngestion {
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final CommandConsumer commandConsumer;
+    private final MissionExecutionConsumer missionExecutionConsumer;
+    private final IngestionCapacityGate capacityGate;
+    private final KafkaTopicsProperties topics;
+    private final KafkaReactiveProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Disposable> pipelines = new ArrayList<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("🌊 Starting reactive Kafka ingestion: maxInFlight={}, maxDeferredCommits={}",
+                properties.getMaxInFlight(), properties.getMaxDeferredCommits());
+
+        pipelines.add(pipeline(topics.getCommands(), commandConsumer::handle));
+        pipelines.add(pipeline(topics.getMission(), missionExecutionConsumer::handle));
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping reactive Kafka ingestion");
+        pipelines.forEach(Disposable::dispose);
+        pipelines.clear();
+    }
+
+    private Disposable pipeline(String topic,
+                                Function<ConsumerRecord<String, String>, CompletableFuture<Void>> handler) {
+        var inFlight = meterRegistry.gauge("umas.ingestion.inflight", Tags.of("topic", topic), new AtomicInteger());
+
+        return KafkaReceiver.create(receiverOptions(topic))
+                .receive()
+                .flatMap(record -> process(record, handler, inFlight), properties.getMaxInFlight())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("⚠️ Reactive receiver for {} failed, restarting", topic,
+                                signal.failure())))
+                .subscribe();
+    }
+
+    private Mono<Void> process(ReceiverRecord<String, String> record,
+                               Function<ConsumerRecord<String, String>, CompletableFuture<Void>> handler,
+                               AtomicInteger inFlight) {
+        inFlight.incrementAndGet();
+        return capacityGate.awaitCapacity()
+                .then(Mono.defer(() -> Mono.fromFuture(handler.apply(record))))
+                // Solo si el handler terminó bien: ni un fallo ni una cancelación (shutdown) confirman el offset
+                .then(Mono.fromRunnable(() -> record.receiverOffset().acknowledge()))
+                .doOnError(error -> log.error("❌ Failed to handle record {}-{}@{}, it will be redelivered",
+                        record.topic(), record.partition(), record.offset(), error))
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .then();
+    }
+
+    private ReceiverOptions<String, String> receiverOptions(String topic) {
+        var props = new HashMap<>(consumerFactory.getConfigurationProperties());
+        // Cada poll trae como mucho lo que el pipeline puede tener en vuelo
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getMaxInFlight());
+
+        return ReceiverOptions.<String, String>create(props)
+                .commitInterval(Duration.ofMillis(properties.getCommitIntervalMs()))
+                .maxDeferredCommits(properties.getMaxDeferredCommits())
+                .subscription(List.of(topic));
+    }
+
+}
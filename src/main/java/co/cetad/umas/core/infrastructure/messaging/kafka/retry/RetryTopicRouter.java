@@ -0,0 +1,193 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.retry;
+
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaRetryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Enrutador de mensajes fallidos hacia topics de reintento y dead-letter
+ *
+ * Los reintentos viajan a un topic propio, así la partición principal sigue
+ * fluyendo mientras el mensaje fallido espera. Cada reintento lleva en headers
+ * el número de intento y el instante a partir del cual puede procesarse
+ * (backoff exponencial). Agotados los intentos, o si el fallo no es
+ * recuperable, el mensaje termina en el DLT.
+ *
+ * Hay un topic de reintentos por intento ({@code <retryTopic>-<n>}): todos los
+ * registros de un mismo topic comparten retraso y vencen en el orden en que se
+ * escribieron, de modo que el nack de uno que aún no ha vencido nunca retiene
+ * a otro ya vencido detrás de él en la partición.
+ *
+ * Si la publicación falla, el future falla: el consumer no confirma el offset
+ * y el registro original se vuelve a entregar.
+ *
+ * Los reintentos conservan el identificador de ejecución del registro original
+ * (topic, partición y offset), de modo que un reintento o una reentrega continúan
+ * la misma ejecución y un mensaje nuevo empieza otra.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetryTopicRouter {
+
+    public static final String ATTEMPT_HEADER = "umas-retry-attempt";
+    public static final String NOT_BEFORE_HEADER = "umas-retry-not-before";
+    public static final String ORIGINAL_TOPIC_HEADER = "umas-original-topic";
+    public static final String FAILURE_HEADER = "umas-failure-reason";
+    public static final String EXECUTION_ID_HEADER = "umas-execution-id";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaRetryProperties retryProperties;
+
+    /**
+     * Programa un reintento del mensaje, o lo envía al DLT si ya agotó los intentos
+     *
+     * @param record     registro fallido
+     * @param retryTopic topic base de reintentos (se publica en el del intento)
+     * @param dltTopic   topic dead-letter
+     * @param reason     descripción del fallo
+     */
+    public CompletableFuture<Void> retry(ConsumerRecord<String, String> record,
+                                         String retryTopic,
+                                         String dltTopic,
+                                         String reason) {
+        int nextAttempt = attempt(record) + 1;
+
+        if (nextAttempt >= retryProperties.getMaxAttempts()) {
+            log.warn("Retries exhausted after {} attempts for message from {}", nextAttempt, record.topic());
+            return deadLetter(record, dltTopic, reason);
+        }
+
+        var delay = delayFor(nextAttempt);
+        var headers = baseHeaders(record, reason);
+        headers.add(ATTEMPT_HEADER, Integer.toString(nextAttempt).getBytes(StandardCharsets.UTF_8));
+        headers.add(NOT_BEFORE_HEADER,
+                Long.toString(System.currentTimeMillis() + delay.toMillis()).getBytes(StandardCharsets.UTF_8));
+
+        log.info("🔁 Scheduling retry {} of message from {} in {} ms", nextAttempt, record.topic(), delay.toMillis());
+        return send(new ProducerRecord<>(tierTopic(retryTopic, nextAttempt), null,
+                record.key(), record.value(), headers));
+    }
+
+    /**
+     * Topics de reintento a los que debe suscribirse el consumer: uno por intento posible,
+     * más el topic base para vaciar reintentos escritos antes de separarlos por intento
+     */
+    public List<String> retryTopics(String retryTopic) {
+        return Stream.concat(Stream.of(retryTopic),
+                        IntStream.range(1, retryProperties.getMaxAttempts())
+                                .mapToObj(attempt -> tierTopic(retryTopic, attempt)))
+                .toList();
+    }
+
+    static String tierTopic(String retryTopic, int attempt) {
+        return retryTopic + "-" + attempt;
+    }
+
+    /**
+     * Envía el mensaje directamente al DLT (fallo no recuperable o intentos agotados)
+     */
+    public CompletableFuture<Void> deadLetter(ConsumerRecord<String, String> record,
+                                              String dltTopic,
+                                              String reason) {
+        var headers = baseHeaders(record, reason);
+        headers.add(ATTEMPT_HEADER, Integer.toString(attempt(record)).getBytes(StandardCharsets.UTF_8));
+
+        log.warn("☠️ Routing message from {} to dead-letter topic {}: {}", record.topic(), dltTopic, reason);
+        return send(new ProducerRecord<>(dltTopic, null, record.key(), record.value(), headers));
+    }
+
+    /**
+     * Milisegundos que faltan para que un reintento pueda procesarse (0 si ya venció)
+     */
+    public long remainingDelayMillis(ConsumerRecord<?, ?> record) {
+        var notBefore = header(record, NOT_BEFORE_HEADER);
+        if (notBefore == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(notBefore.trim()) - System.currentTimeMillis());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed {} header '{}' on {}", NOT_BEFORE_HEADER, notBefore, record.topic());
+            return 0;
+        }
+    }
+
+    /**
+     * Número de intento del registro (0 para la entrega original o si el header no es válido)
+     */
+    public int attempt(ConsumerRecord<?, ?> record) {
+        var attempt = header(record, ATTEMPT_HEADER);
+        if (attempt == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(attempt.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed {} header '{}' on {}", ATTEMPT_HEADER, attempt, record.topic());
+            return 0;
+        }
+    }
+
+    /**
+     * Identificador de la ejecución a la que pertenece el registro: el del registro
+     * original si es un reintento, o sus propias coordenadas si es la entrega original
+     */
+    public String executionId(ConsumerRecord<?, ?> record) {
+        var executionId = header(record, EXECUTION_ID_HEADER);
+        if (executionId != null && !executionId.isBlank()) {
+            return executionId;
+        }
+        return "%s-%d@%d".formatted(record.topic(), record.partition(), record.offset());
+    }
+
+    Duration delayFor(int attempt) {
+        double delay = retryProperties.getInitialDelay()
+                * Math.pow(retryProperties.getMultiplier(), Math.max(0, attempt - 1));
+        return Duration.ofMillis((long) Math.min(delay, retryProperties.getMaxDelay()));
+    }
+
+    private RecordHeaders baseHeaders(ConsumerRecord<String, String> record, String reason) {
+        var headers = new RecordHeaders();
+        var originalTopic = header(record, ORIGINAL_TOPIC_HEADER);
+        headers.add(ORIGINAL_TOPIC_HEADER,
+                (originalTopic != null ? originalTopic : record.topic()).getBytes(StandardCharsets.UTF_8));
+        headers.add(FAILURE_HEADER,
+                String.valueOf(reason).getBytes(StandardCharsets.UTF_8));
+        headers.add(EXECUTION_ID_HEADER, executionId(record).getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    private CompletableFuture<Void> send(ProducerRecord<String, String> producerRecord) {
+        return kafkaTemplate.send(producerRecord)
+                .thenAccept(result -> log.debug("Message routed - Topic: {}, Partition: {}, Offset: {}",
+                        result.getRecordMetadata().topic(),
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset()))
+                // El fallo se propaga: el registro original no debe confirmarse si no llegó a retry/DLT
+                .whenComplete((v, error) -> {
+                    if (error != null) {
+                        log.error("Failed to route message to {}", producerRecord.topic(), error);
+                    }
+                });
+    }
+
+    private static String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+}
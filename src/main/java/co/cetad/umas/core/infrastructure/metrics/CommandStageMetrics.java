@@ -0,0 +1,138 @@
+package co.cetad.umas.core.infrastructure.metrics;
+
+import co.cetad.umas.core.application.service.command.CommandValidator;
+import co.cetad.umas.core.domain.exception.CommandSupersededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Timers por etapa del camino de un comando: Kafka → CommandExecutionService → UgCS
+ *
+ * MÉTRICAS:
+ * - umas.command.stage (stage, command, outcome): duración de cada etapa
+ * - umas.command.kafka.lag (command): timestamp del registro → inicio del procesamiento
+ *
+ * Ambos publican percentiles (p50/p95/p99), visibles en /actuator/metrics.
+ *
+ * El tag command viene del payload de Kafka: los códigos que el validador no conoce
+ * se agrupan en "unknown" para que la cardinalidad no dependa de lo que envíe el productor.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommandStageMetrics {
+
+    public static final String STAGE_TIMER = "umas.command.stage";
+    public static final String KAFKA_LAG_TIMER = "umas.command.kafka.lag";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_TIMEOUT = "timeout";
+    public static final String OUTCOME_SUPERSEDED = "superseded";
+
+    public static final String UNKNOWN_COMMAND = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Registra una etapa medida con una muestra iniciada previamente
+     */
+    public void record(Timer.Sample sample, String stage, String commandCode, String outcome) {
+        sample.stop(stageTimer(stage, commandCode, outcome));
+    }
+
+    /**
+     * Mide una etapa asíncrona; el resultado se etiqueta según cómo termine el future
+     */
+    public <T> CompletableFuture<T> time(String stage, String commandCode, Supplier<CompletableFuture<T>> step) {
+        var sample = start();
+        CompletableFuture<T> future;
+        try {
+            future = step.get();
+        } catch (RuntimeException e) {
+            record(sample, stage, commandCode, outcomeOf(e));
+            throw e;
+        }
+        return future.whenComplete((result, error) -> record(sample, stage, commandCode, outcomeOf(error)));
+    }
+
+    /**
+     * Mide una etapa síncrona (llamadas bloqueantes al SDK de UgCS)
+     */
+    public <T> T timeBlocking(String stage, String commandCode, Callable<T> step) throws Exception {
+        var sample = start();
+        String outcome = OUTCOME_ERROR;
+        try {
+            T result = step.call();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } catch (Exception e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            record(sample, stage, commandCode, outcome);
+        }
+    }
+
+    /**
+     * Registra el lag entre la publicación del registro en Kafka y el inicio de su procesamiento
+     */
+    public void recordKafkaLag(ConsumerRecord<?, ?> record, String commandCode) {
+        if (record.timestamp() <= 0) {
+            return;
+        }
+        long lagMillis = Math.max(0, System.currentTimeMillis() - record.timestamp());
+        Timer.builder(KAFKA_LAG_TIMER)
+                .description("Time from Kafka record timestamp to processing start")
+                .tag("command", commandTag(commandCode))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(lagMillis));
+    }
+
+    /**
+     * Valor del tag command: el código si es un comando conocido, "unknown" si no
+     */
+    public static String commandTag(String commandCode) {
+        return CommandValidator.isKnownCommand(commandCode) ? commandCode : UNKNOWN_COMMAND;
+    }
+
+    public static String outcomeOf(Throwable error) {
+        if (error == null) {
+            return OUTCOME_SUCCESS;
+        }
+        // El adaptador de UgCS envuelve el error original: se mira toda la cadena
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CommandSupersededException) {
+                return OUTCOME_SUPERSEDED;
+            }
+            if (cause instanceof TimeoutException) {
+                return OUTCOME_TIMEOUT;
+            }
+        }
+        return OUTCOME_ERROR;
+    }
+
+    private Timer stageTimer(String stage, String commandCode, String outcome) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Duration of each stage of the command path")
+                .tag("stage", stage)
+                .tag("command", commandTag(commandCode))
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+}
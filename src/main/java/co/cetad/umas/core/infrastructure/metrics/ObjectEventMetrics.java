@@ -0,0 +1,43 @@
+package co.cetad.umas.core.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contadores de eventos de modificación de objetos UgCS por listener
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.object.events (listener, result=filtered|processed): filtered son los
+ *   descartados por el pre-filtro (tipo de objeto / modificación) sin decodificar el tipo
+ *   como texto ni leer el objeto; processed los que llegan a leerse. El evento protobuf
+ *   ya llega parseado entero en ambos casos
+ */
+@Component
+@RequiredArgsConstructor
+public class ObjectEventMetrics {
+
+    public static final String EVENTS_COUNTER = "umas.ugcs.object.events";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Contadores ya registrados para un listener: el camino caliente solo incrementa
+     */
+    public ListenerCounters forListener(String listener) {
+        return new ListenerCounters(counter(listener, "filtered"), counter(listener, "processed"));
+    }
+
+    private Counter counter(String listener, String result) {
+        return Counter.builder(EVENTS_COUNTER)
+                .description("UgCS object modification events by listener and pre-filter result (events are already parsed)")
+                .tag("listener", listener)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record ListenerCounters(Counter filtered, Counter processed) {
+    }
+
+}
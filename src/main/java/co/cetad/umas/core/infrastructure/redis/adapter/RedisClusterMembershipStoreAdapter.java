@@ -0,0 +1,56 @@
+package co.cetad.umas.core.infrastructure.redis.adapter;
+
+import co.cetad.umas.core.domain.ports.out.ClusterMembershipStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Miembros del clúster en un sorted set: la puntuación es la hora del último latido
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cluster", name = "enabled", havingValue = "true")
+public class RedisClusterMembershipStoreAdapter implements ClusterMembershipStore {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${redis.keys.cluster-members:umas:cluster:members}")
+    private String membersKey;
+
+    @Override
+    public void heartbeat(String nodeId) {
+        redisTemplate.opsForZSet().add(membersKey, nodeId, System.currentTimeMillis());
+    }
+
+    @Override
+    public Set<String> liveMembers(Duration ttl) {
+        long oldestAlive = System.currentTimeMillis() - ttl.toMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(membersKey, 0, oldestAlive - 1);
+
+        var members = redisTemplate.opsForZSet().range(membersKey, 0, -1);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        try {
+            redisTemplate.opsForZSet().remove(membersKey, nodeId);
+        } catch (Exception e) {
+            log.warn("Redis cluster leave failed for {}", nodeId, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package co.cetad.umas.core.infrastructure.redis.adapter;
+
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
+import co.cetad.umas.core.domain.ports.out.MissionCheckpointStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Un hash por ejecución de misión: vehicleId -> último estado alcanzado
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "mission.pipeline", name = "checkpoint-redis-enabled", havingValue = "true", matchIfMissing = true)
+public class RedisMissionCheckpointStoreAdapter implements MissionCheckpointStore {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${redis.keys.mission-checkpoint-prefix:umas:mission-checkpoint}")
+    private String checkpointKeyPrefix;
+
+    private String checkpointKey(String missionId, String executionId) {
+        return "%s:%s:%s".formatted(checkpointKeyPrefix, missionId, executionId);
+    }
+
+    @Override
+    public Map<String, DroneMissionState> find(String missionId, String executionId) {
+        var states = new HashMap<String, DroneMissionState>();
+        try {
+            redisTemplate.opsForHash().entries(checkpointKey(missionId, executionId)).forEach((vehicleId, state) -> {
+                try {
+                    states.put(String.valueOf(vehicleId), DroneMissionState.valueOf(String.valueOf(state)));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring unknown checkpoint state {} for {} in mission {}", state, vehicleId, missionId);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis mission checkpoint lookup failed for {}", missionId, e);
+        }
+        return states;
+    }
+
+    @Override
+    public void save(String missionId, String executionId, String vehicleId, DroneMissionState state, Duration ttl) {
+        try {
+            var key = checkpointKey(missionId, executionId);
+            redisTemplate.opsForHash().put(key, vehicleId, state.name());
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("Redis mission checkpoint save failed for {} in mission {}", vehicleId, missionId, e);
+        }
+    }
+}
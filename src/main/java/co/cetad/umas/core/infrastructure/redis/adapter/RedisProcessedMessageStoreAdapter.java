@@ -0,0 +1,58 @@
+package co.cetad.umas.core.infrastructure.redis.adapter;
+
+import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
+import co.cetad.umas.core.domain.ports.out.ProcessedMessageStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.idempotency", name = "redis-enabled", havingValue = "true", matchIfMissing = true)
+public class RedisProcessedMessageStoreAdapter implements ProcessedMessageStore {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    // Mapper without default typing for Map->CommandResultDTO conversion
+    @Qualifier("redisPlainObjectMapper")
+    private final ObjectMapper redisPlainObjectMapper;
+
+    @Value("${redis.keys.idempotency-prefix:umas:idempotency}")
+    private String idempotencyKeyPrefix;
+
+    private String resultKey(String key) {
+        return "%s:%s".formatted(idempotencyKeyPrefix, key);
+    }
+
+    @Override
+    public Optional<CommandResultDTO> find(String key) {
+        try {
+            Object raw = redisTemplate.opsForValue().get(resultKey(key));
+            if (raw instanceof CommandResultDTO result) return Optional.of(result);
+            if (raw instanceof Map) {
+                return Optional.ofNullable(redisPlainObjectMapper.convertValue(raw, CommandResultDTO.class));
+            }
+        } catch (Exception e) {
+            log.warn("Redis idempotency lookup failed for {}", key, e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(String key, CommandResultDTO result, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(resultKey(key), result, ttl);
+        } catch (Exception e) {
+            log.warn("Redis idempotency save failed for {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package co.cetad.umas.core.infrastructure.redis.adapter;
+
+import co.cetad.umas.core.domain.ports.out.UploadedRouteStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ugcs.uploaded-routes", name = "redis-enabled", havingValue = "true", matchIfMissing = true)
+public class RedisUploadedRouteStoreAdapter implements UploadedRouteStore {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${redis.keys.uploaded-route-prefix:umas:uploaded-route}")
+    private String uploadedRouteKeyPrefix;
+
+    private String routeKey(String vehicleId) {
+        return "%s:%s".formatted(uploadedRouteKeyPrefix, vehicleId);
+    }
+
+    @Override
+    public Optional<String> find(String vehicleId) {
+        try {
+            Object raw = redisTemplate.opsForValue().get(routeKey(vehicleId));
+            if (raw instanceof String routeHash) return Optional.of(routeHash);
+        } catch (Exception e) {
+            log.warn("Redis uploaded route lookup failed for {}", vehicleId, e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(String vehicleId, String routeHash, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(routeKey(vehicleId), routeHash, ttl);
+        } catch (Exception e) {
+            log.warn("Redis uploaded route save failed for {}", vehicleId, e);
+        }
+    }
+
+    @Override
+    public void remove(String vehicleId) {
+        try {
+            redisTemplate.delete(routeKey(vehicleId));
+        } catch (Exception e) {
+            log.warn("Redis uploaded route removal failed for {}", vehicleId, e);
+        }
+    }
+}
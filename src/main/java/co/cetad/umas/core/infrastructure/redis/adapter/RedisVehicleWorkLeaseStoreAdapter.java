@@ -0,0 +1,70 @@
+package co.cetad.umas.core.infrastructure.redis.adapter;
+
+import co.cetad.umas.core.domain.ports.out.VehicleWorkLeaseStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Arrendamiento de trabajo por vehículo: una clave con el nodo que lo tiene y caducidad.
+ * Tomar, renovar y liberar se hacen con scripts para que la comprobación del dueño y
+ * la escritura sean atómicas.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cluster", name = "enabled", havingValue = "true")
+public class RedisVehicleWorkLeaseStoreAdapter implements VehicleWorkLeaseStore {
+
+    private static final DefaultRedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local holder = redis.call('GET', KEYS[1])
+            if not holder then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            if holder == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${redis.keys.vehicle-work-lease-prefix:umas:cluster:vehicle}")
+    private String leaseKeyPrefix;
+
+    @Override
+    public boolean acquire(String vehicleId, String nodeId, Duration ttl) {
+        var acquired = stringRedisTemplate.execute(ACQUIRE, List.of(leaseKey(vehicleId)),
+                nodeId, Long.toString(ttl.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public void release(String vehicleId, String nodeId) {
+        try {
+            stringRedisTemplate.execute(RELEASE, List.of(leaseKey(vehicleId)), nodeId);
+        } catch (Exception e) {
+            log.warn("Redis work lease release failed for {}", vehicleId, e);
+        }
+    }
+
+    private String leaseKey(String vehicleId) {
+        return "%s:%s:lease".formatted(leaseKeyPrefix, vehicleId);
+    }
+}
@@ -0,0 +1,106 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Carriles de control continuo por vehículo (direct_vehicle_control a 20-50 Hz)
+ *
+ * En lugar de un ciclo gain/send/release por consigna, cada vehículo conserva
+ * solo la consigna más reciente y la envía al ritmo que permita su mailbox
+ * manteniendo el control entre envíos (VehicleControlLeaseManager).
+ *
+ * El carril de un vehículo se retira, con sus métricas, cuando se retira su mailbox
+ * por inactividad y no tiene consignas pendientes.
+ *
+ * MÉTRICAS (por vehículo):
+ * - umas.control.setpoints.sent: consignas enviadas a UgCS
+ * - umas.control.setpoints.superseded: consignas descartadas por una más reciente
+ */
+@Slf4j
+@Component
+public class ContinuousControlLanes {
+
+    private static final Set<String> CONTINUOUS_COMMANDS = Set.of("direct_vehicle_control");
+    private static final String SUPERSEDED_COUNTER = "umas.control.setpoints.superseded";
+    private static final String SENT_COUNTER = "umas.control.setpoints.sent";
+
+    private final VehicleMailboxRegistry vehicleMailboxes;
+    private final VehicleControlLeaseManager leases;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ControlLane> lanes = new ConcurrentHashMap<>();
+
+    public ContinuousControlLanes(VehicleMailboxRegistry vehicleMailboxes,
+                                  VehicleControlLeaseManager leases,
+                                  MeterRegistry meterRegistry) {
+        this.vehicleMailboxes = vehicleMailboxes;
+        this.leases = leases;
+        this.meterRegistry = meterRegistry;
+        vehicleMailboxes.addEvictionListener(this::evictIfIdle);
+    }
+
+    public static boolean isContinuous(String commandCode) {
+        return CONTINUOUS_COMMANDS.contains(commandCode);
+    }
+
+    /**
+     * Entrega una consigna al carril del vehículo
+     *
+     * @return CompletableFuture que completa al enviarse, o falla con
+     *         CommandSupersededException si llega una consigna más reciente antes
+     */
+    public CompletableFuture<Boolean> submit(CommandRequest command, VehicleControlOperations operations) {
+        // La oferta ocurre bajo el bloqueo de la entrada: un carril no se retira con una consigna en camino
+        var offered = new AtomicReference<CompletableFuture<Boolean>>();
+        lanes.compute(command.vehicleId(), (vehicleId, lane) -> {
+            var target = lane != null ? lane : createLane(vehicleId);
+            offered.set(target.offer(command, operations));
+            return target;
+        });
+        return offered.get();
+    }
+
+    public int size() {
+        return lanes.size();
+    }
+
+    private void evictIfIdle(String vehicleId) {
+        var removed = new AtomicReference<ControlLane>();
+        lanes.computeIfPresent(vehicleId, (id, lane) -> {
+            if (!lane.isIdle()) {
+                return lane;
+            }
+            removed.set(lane);
+            return null;
+        });
+        if (removed.get() != null) {
+            meterRegistry.find(SUPERSEDED_COUNTER).tag("vehicle", vehicleId).meters().forEach(meterRegistry::remove);
+            meterRegistry.find(SENT_COUNTER).tag("vehicle", vehicleId).meters().forEach(meterRegistry::remove);
+            log.debug("Evicted continuous control lane for vehicle: {}", vehicleId);
+        }
+    }
+
+    private ControlLane createLane(String vehicleId) {
+        log.debug("Creating continuous control lane for vehicle: {}", vehicleId);
+        return new ControlLane(vehicleId, vehicleMailboxes, leases,
+                counter(SUPERSEDED_COUNTER, vehicleId),
+                counter(SENT_COUNTER, vehicleId));
+    }
+
+    private Counter counter(String name, String vehicleId) {
+        return Counter.builder(name)
+                .tag("vehicle", vehicleId)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,119 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import co.cetad.umas.core.domain.exception.CommandSupersededException;
+import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Carril de control continuo de un vehículo (último gana)
+ *
+ * Solo se conserva la consigna pendiente más reciente; las anteriores se completan
+ * con CommandSupersededException. Cada envío es una tarea del mailbox del vehículo,
+ * así que los comandos discretos (LAND, RTH...) se intercalan sin esperar al joystick.
+ * El control del vehículo lo arrienda VehicleControlLeaseManager: se mantiene entre envíos
+ * y se libera tras el periodo de inactividad.
+ */
+@Slf4j
+final class ControlLane {
+
+    private final String vehicleId;
+    private final VehicleMailboxRegistry mailboxes;
+    private final VehicleControlLeaseManager leases;
+    private final Counter supersededCounter;
+    private final Counter sentCounter;
+
+    private final AtomicReference<Setpoint> latest = new AtomicReference<>();
+    private final AtomicBoolean sendScheduled = new AtomicBoolean();
+    private volatile VehicleControlOperations operations;
+
+    ControlLane(String vehicleId, VehicleMailboxRegistry mailboxes, VehicleControlLeaseManager leases,
+                Counter supersededCounter, Counter sentCounter) {
+        this.vehicleId = vehicleId;
+        this.mailboxes = mailboxes;
+        this.leases = leases;
+        this.supersededCounter = supersededCounter;
+        this.sentCounter = sentCounter;
+    }
+
+    CompletableFuture<Boolean> offer(CommandRequest command, VehicleControlOperations operations) {
+        this.operations = operations;
+        var setpoint = new Setpoint(command);
+
+        var previous = latest.getAndSet(setpoint);
+        if (previous != null) {
+            supersededCounter.increment();
+            previous.future.completeExceptionally(
+                    new CommandSupersededException(vehicleId, previous.command.commandCode()));
+        }
+
+        if (sendScheduled.compareAndSet(false, true)) {
+            // sendLatest no lanza: un fallo aquí es que el mailbox no pudo despachar la tarea
+            mailboxes.submit(vehicleId, () -> {
+                sendLatest();
+                return null;
+            }).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    abandonScheduledSend(error);
+                }
+            });
+        }
+        return setpoint.future;
+    }
+
+    /**
+     * Sin consigna pendiente ni envío programado
+     */
+    boolean isIdle() {
+        return latest.get() == null && !sendScheduled.get();
+    }
+
+    /**
+     * El envío programado no llegó a ejecutarse (executor saturado): se libera el carril
+     * para que la siguiente consigna programe otro envío y se falla la pendiente
+     */
+    private void abandonScheduledSend(Throwable cause) {
+        log.warn("Control setpoint send for vehicle {} could not be scheduled", vehicleId, cause);
+        sendScheduled.set(false);
+        var setpoint = latest.getAndSet(null);
+        if (setpoint != null) {
+            setpoint.future.completeExceptionally(cause);
+        }
+    }
+
+    private void sendLatest() {
+        // Se libera el flag antes de tomar la consigna: una oferta posterior programa otro envío
+        sendScheduled.set(false);
+        var setpoint = latest.getAndSet(null);
+        if (setpoint == null) {
+            return;
+        }
+
+        try {
+            leases.acquire(vehicleId, operations);
+            operations.send(setpoint.command);
+            leases.renew(vehicleId);
+            sentCounter.increment();
+            setpoint.future.complete(true);
+        } catch (Exception e) {
+            log.error("Failed to send control setpoint to vehicle: {}", vehicleId, e);
+            leases.releaseAfterError(vehicleId);
+            setpoint.future.completeExceptionally(e);
+        }
+    }
+
+    private static final class Setpoint {
+
+        private final CommandRequest command;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private Setpoint(CommandRequest command) {
+            this.command = command;
+        }
+    }
+
+}
@@ -0,0 +1,292 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import co.cetad.umas.core.application.service.cluster.VehicleWorkLeaseService;
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Arrendamiento del control de cada vehículo en UgCS
+ *
+ * En lugar de gain/release alrededor de cada comando, el control se obtiene una vez
+ * y se conserva mientras haya actividad: cada operación lo renueva y se libera tras
+ * lease-idle-ms sin uso, al perderse (error) o al apagar el servicio.
+ * Una secuencia AUTO -> START_ROUTE o subida de ruta + comandos cuesta un solo gain.
+ *
+ * Todas las operaciones sobre un vehículo deben invocarse desde su mailbox;
+ * la comprobación de inactividad se encola en ese mismo mailbox sin bloquearlo.
+ * Un arrendamiento liberado (o cuyo gain falló) sale del mapa en el propio mailbox,
+ * así que solo quedan entradas para los vehículos con actividad reciente.
+ *
+ * En clúster el control solo se pide con el arrendamiento de trabajo del vehículo
+ * (VehicleWorkLeaseService), que se suelta cuando el arrendamiento de control sale del
+ * mapa: un solo nodo a la vez opera cada vehículo.
+ *
+ * MÉTRICAS:
+ * - umas.control.leases.held: vehículos con control obtenido
+ * - umas.control.lease.gains: gainVehicleControl realmente enviados
+ * - umas.control.lease.reuses: operaciones servidas con un control ya obtenido
+ * - umas.control.lease.releases (reason=idle|error|shutdown|rehome|cluster)
+ */
+@Slf4j
+@Component
+public class VehicleControlLeaseManager {
+
+    private static final long SHUTDOWN_RELEASE_TIMEOUT_MS = 5000;
+
+    private final VehicleMailboxRegistry vehicleMailboxes;
+    private final VehicleWorkLeaseService workLeases;
+    private final long leaseIdleMs;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    private final Counter gainCounter;
+    private final Counter reuseCounter;
+    private final Counter idleReleaseCounter;
+    private final Counter errorReleaseCounter;
+    private final Counter shutdownReleaseCounter;
+    private final Counter rehomeReleaseCounter;
+    private final Counter clusterReleaseCounter;
+
+    public VehicleControlLeaseManager(VehicleMailboxRegistry vehicleMailboxes,
+                                      VehicleWorkLeaseService workLeases,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${ugcs.control.lease-idle-ms:3000}") long leaseIdleMs) {
+        this.vehicleMailboxes = vehicleMailboxes;
+        this.workLeases = workLeases;
+        this.leaseIdleMs = leaseIdleMs;
+
+        Gauge.builder("umas.control.leases.held", this, manager -> manager.heldVehicles().size())
+                .description("Vehicles whose UgCS control is currently held")
+                .register(meterRegistry);
+        this.gainCounter = Counter.builder("umas.control.lease.gains")
+                .description("Vehicle control requests sent to UgCS")
+                .register(meterRegistry);
+        this.reuseCounter = Counter.builder("umas.control.lease.reuses")
+                .description("Operations served with an already held vehicle control")
+                .register(meterRegistry);
+        this.idleReleaseCounter = releaseCounter(meterRegistry, "idle");
+        this.errorReleaseCounter = releaseCounter(meterRegistry, "error");
+        this.shutdownReleaseCounter = releaseCounter(meterRegistry, "shutdown");
+        this.rehomeReleaseCounter = releaseCounter(meterRegistry, "rehome");
+        this.clusterReleaseCounter = releaseCounter(meterRegistry, "cluster");
+    }
+
+    /**
+     * Garantiza que se tiene el control del vehículo y renueva el arrendamiento
+     * Debe invocarse desde el mailbox del vehículo.
+     */
+    public void acquire(String vehicleId, VehicleControlOperations operations) throws Exception {
+        var lease = leases.computeIfAbsent(vehicleId, Lease::new);
+        lease.operations = operations;
+
+        // Otro nodo opera el vehículo (o se quedó con él al no poder renovarse): no se toca
+        if (!workLeases.tryAcquire(vehicleId)) {
+            if (lease.held) {
+                release(lease, clusterReleaseCounter);
+            } else {
+                leases.remove(vehicleId, lease);
+            }
+            throw new UgcsUnavailableException("Vehicle " + vehicleId + " is being operated by another core instance");
+        }
+
+        if (lease.held) {
+            reuseCounter.increment();
+        } else {
+            try {
+                operations.gainControl(vehicleId);
+            } catch (Exception e) {
+                drop(lease);
+                throw e;
+            }
+            lease.held = true;
+            gainCounter.increment();
+            log.debug("Vehicle control acquired for: {}", vehicleId);
+        }
+
+        renew(vehicleId);
+    }
+
+    /**
+     * Registra actividad sobre el vehículo y aplaza la liberación por inactividad
+     * Debe invocarse desde el mailbox del vehículo.
+     */
+    public void renew(String vehicleId) {
+        var lease = leases.get(vehicleId);
+        if (lease == null || !lease.held) {
+            return;
+        }
+        lease.lastActivity = System.nanoTime();
+        scheduleReleaseCheck(lease, leaseIdleMs);
+    }
+
+    /**
+     * Libera el control tras un error: el estado en UgCS es incierto, la siguiente
+     * operación vuelve a pedirlo. Debe invocarse desde el mailbox del vehículo.
+     */
+    public void releaseAfterError(String vehicleId) {
+        var lease = leases.get(vehicleId);
+        if (lease != null && lease.held) {
+            release(lease, errorReleaseCounter);
+        }
+    }
+
+    /**
+     * Olvida todos los arrendamientos sin hablar con el servidor (sesión cerrada)
+     */
+    public void clear() {
+        leases.values().forEach(lease -> lease.held = false);
+    }
+
+    /**
+     * Olvida los arrendamientos de los vehículos indicados (su sesión UgCS se perdió o cambió)
+     */
+    public void forgetIf(Predicate<String> vehicleFilter) {
+        leases.values().stream()
+                .filter(lease -> vehicleFilter.test(lease.vehicleId))
+                .forEach(lease -> lease.held = false);
+    }
+
+    /**
+     * Libera, cada uno en su mailbox, el control de los vehículos indicados para que la siguiente
+     * operación lo vuelva a pedir en otra sesión (su sesión propia se recuperó)
+     */
+    public void releaseIf(Predicate<String> vehicleFilter) {
+        leases.values().stream()
+                .filter(lease -> lease.held && vehicleFilter.test(lease.vehicleId))
+                .forEach(lease -> vehicleMailboxes.submit(lease.vehicleId, () -> {
+                    if (lease.held) {
+                        log.debug("Releasing vehicle control before moving to its home session: {}",
+                                lease.vehicleId);
+                        release(lease, rehomeReleaseCounter);
+                    }
+                    return null;
+                }));
+    }
+
+    public boolean isHeld(String vehicleId) {
+        var lease = leases.get(vehicleId);
+        return lease != null && lease.held;
+    }
+
+    public Set<String> heldVehicles() {
+        return leases.values().stream()
+                .filter(lease -> lease.held)
+                .map(lease -> lease.vehicleId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Devuelve el control de todos los vehículos al apagar, cada liberación en su mailbox
+     */
+    @PreDestroy
+    public void releaseAll() {
+        var releases = leases.values().stream()
+                .filter(lease -> lease.held)
+                .map(lease -> vehicleMailboxes.submit(lease.vehicleId, () -> {
+                    if (lease.held) {
+                        release(lease, shutdownReleaseCounter);
+                    }
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        if (releases.length == 0) {
+            return;
+        }
+        log.info("Releasing vehicle control for {} vehicles on shutdown", releases.length);
+        try {
+            CompletableFuture.allOf(releases).get(SHUTDOWN_RELEASE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Not all vehicle control leases were released on shutdown", e);
+        }
+    }
+
+    private void scheduleReleaseCheck(Lease lease, long delayMs) {
+        if (lease.releaseScheduled) {
+            return;
+        }
+        lease.releaseScheduled = true;
+        CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS)
+                .execute(() -> vehicleMailboxes.submit(lease.vehicleId, () -> {
+                    releaseIfIdle(lease);
+                    return null;
+                }));
+    }
+
+    private void releaseIfIdle(Lease lease) {
+        lease.releaseScheduled = false;
+        if (!lease.held) {
+            // Olvidado al perder la sesión: ya no hay nada que liberar
+            drop(lease);
+            return;
+        }
+
+        long idleMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lease.lastActivity);
+        if (idleMs < leaseIdleMs) {
+            scheduleReleaseCheck(lease, Math.max(1, leaseIdleMs - idleMs));
+            return;
+        }
+
+        log.debug("Vehicle control idle for {} ms, releasing: {}", idleMs, lease.vehicleId);
+        release(lease, idleReleaseCounter);
+    }
+
+    private void release(Lease lease, Counter reasonCounter) {
+        try {
+            lease.operations.releaseControl(lease.vehicleId);
+        } catch (Exception e) {
+            log.warn("Failed to release vehicle control for vehicle: {}", lease.vehicleId, e);
+        } finally {
+            lease.held = false;
+            drop(lease);
+            reasonCounter.increment();
+        }
+    }
+
+    /**
+     * Saca el arrendamiento del mapa y, con él, suelta el vehículo para el resto del clúster
+     */
+    private void drop(Lease lease) {
+        if (leases.remove(lease.vehicleId, lease)) {
+            workLeases.release(lease.vehicleId);
+        }
+    }
+
+    private static Counter releaseCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("umas.control.lease.releases")
+                .description("Vehicle control releases by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Estado del control de un vehículo; se modifica solo desde su mailbox
+     */
+    private static final class Lease {
+
+        private final String vehicleId;
+        private volatile VehicleControlOperations operations;
+        private volatile boolean held;
+        private volatile boolean releaseScheduled;
+        private volatile long lastActivity;
+
+        private Lease(String vehicleId) {
+            this.vehicleId = vehicleId;
+        }
+    }
+
+}
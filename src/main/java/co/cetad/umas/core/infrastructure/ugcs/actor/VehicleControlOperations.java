@@ -0,0 +1,17 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import co.cetad.umas.core.domain.model.vo.CommandRequest;
+
+/**
+ * Operaciones de control de vehículo que el carril de control continuo
+ * delega en el adaptador UgCS (siempre invocadas desde el mailbox del vehículo)
+ */
+public interface VehicleControlOperations {
+
+    void gainControl(String vehicleId) throws Exception;
+
+    void send(CommandRequest command) throws Exception;
+
+    void releaseControl(String vehicleId) throws Exception;
+
+}
@@ -0,0 +1,135 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buzón serial de un vehículo
+ *
+ * Ejecuta las tareas UgCS de un dron estrictamente en orden de llegada.
+ * No reserva un thread propio: cada tarea se despacha sobre el executor
+ * compartido y, al terminar, despacha la siguiente si la hay.
+ *
+ * Un buzón vacío e inactivo puede retirarse (retireIfIdle); a partir de entonces
+ * rechaza tareas nuevas y el registro crea otro para el vehículo.
+ */
+@Slf4j
+final class VehicleMailbox {
+
+    private final String vehicleId;
+    private final Executor executor;
+    private final Timer waitTimer;
+    private final Queue<Envelope<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    // Solo cambian bajo el monitor del buzón
+    private boolean retired;
+    private long lastActivity = System.nanoTime();
+
+    VehicleMailbox(String vehicleId, Executor executor, Timer waitTimer) {
+        this.vehicleId = vehicleId;
+        this.executor = executor;
+        this.waitTimer = waitTimer;
+    }
+
+    /**
+     * @return future de la tarea, o null si el buzón ya se retiró
+     */
+    <T> CompletableFuture<T> submit(Callable<T> task) {
+        var envelope = new Envelope<>(task, System.nanoTime());
+        boolean start;
+        synchronized (this) {
+            if (retired) {
+                return null;
+            }
+            lastActivity = envelope.enqueuedAt;
+            // El encolado precede al incremento: todo incremento tiene su tarea en la cola
+            queue.add(envelope);
+            start = depth.getAndIncrement() == 0;
+        }
+        if (start) {
+            schedule();
+        }
+        return envelope.future;
+    }
+
+    /**
+     * Retira el buzón si no tiene tareas y lleva idleNanos sin recibir ninguna.
+     * Con el buzón vacío solo submit puede volver a llenarlo, y submit toma el mismo monitor.
+     */
+    synchronized boolean retireIfIdle(long idleNanos) {
+        if (retired || depth.get() > 0 || System.nanoTime() - lastActivity < idleNanos) {
+            return false;
+        }
+        retired = true;
+        return true;
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    AtomicInteger depthCounter() {
+        return depth;
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::runNext);
+        } catch (RejectedExecutionException e) {
+            log.error("Mailbox executor rejected work for vehicle: {}", vehicleId, e);
+            failPending(e);
+        }
+    }
+
+    private void runNext() {
+        var envelope = queue.poll();
+        if (envelope != null) {
+            envelope.run(waitTimer);
+        }
+        if (depth.decrementAndGet() > 0) {
+            schedule();
+        }
+    }
+
+    private void failPending(Throwable cause) {
+        Envelope<?> envelope;
+        while ((envelope = queue.poll()) != null) {
+            envelope.future.completeExceptionally(cause);
+            depth.decrementAndGet();
+        }
+    }
+
+    private static final class Envelope<T> {
+
+        private final Callable<T> task;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Envelope(Callable<T> task, long enqueuedAt) {
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private void run(Timer waitTimer) {
+            waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(task.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+}
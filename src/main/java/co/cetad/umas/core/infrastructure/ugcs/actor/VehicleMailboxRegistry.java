@@ -0,0 +1,175 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Modelo de actores por vehículo para las operaciones UgCS
+ *
+ * Cada dron tiene su propio buzón: el trabajo de un mismo dron
+ * (comandos, subida de rutas, LAND) se ejecuta estrictamente en orden,
+ * mientras que la flota completa avanza en paralelo.
+ *
+ * Los buzones vacíos que llevan ugcs.mailbox.idle-evict-ms sin tareas se retiran junto
+ * con sus métricas (y se avisa a quien guarde estado por vehículo): un vehicleId
+ * desconocido o un dron que deja la flota no dejan memoria ni series para siempre.
+ *
+ * MÉTRICAS (por vehículo):
+ * - umas.ugcs.mailbox.depth: tareas pendientes en el buzón
+ * - umas.ugcs.mailbox.wait: tiempo de espera en cola antes de ejecutar
+ */
+@Slf4j
+@Component
+public class VehicleMailboxRegistry {
+
+    private static final String WAIT_TIMER = "umas.ugcs.mailbox.wait";
+    private static final String DEPTH_GAUGE = "umas.ugcs.mailbox.depth";
+
+    private final Executor ugcsIoExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long idleEvictMs;
+
+    private final Map<String, VehicleMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> evictionListeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService evictor;
+
+    public VehicleMailboxRegistry(@Qualifier("ugcsIoExecutor") Executor ugcsIoExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${ugcs.mailbox.idle-evict-ms:600000}") long idleEvictMs) {
+        this.ugcsIoExecutor = ugcsIoExecutor;
+        this.meterRegistry = meterRegistry;
+        this.idleEvictMs = idleEvictMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (idleEvictMs <= 0) {
+            return;
+        }
+        long period = Math.max(1000, idleEvictMs / 2);
+        evictor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ugcs-mailbox-evictor").daemon(true).factory());
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+    }
+
+    /**
+     * Encola una tarea en el buzón del vehículo
+     *
+     * @param vehicleId ID del vehículo
+     * @param task      operación bloqueante contra UgCS
+     * @return CompletableFuture con el resultado de la tarea
+     */
+    public <T> CompletableFuture<T> submit(String vehicleId, Callable<T> task) {
+        while (true) {
+            var mailbox = mailboxes.computeIfAbsent(vehicleId, this::createMailbox);
+            var future = mailbox.submit(task);
+            if (future != null) {
+                return future;
+            }
+            // Retirado entre la búsqueda y el encolado: el siguiente intento crea otro
+            mailboxes.remove(vehicleId, mailbox);
+        }
+    }
+
+    /**
+     * Avisa con el vehicleId de cada buzón retirado, para soltar el estado asociado al vehículo
+     */
+    public void addEvictionListener(Consumer<String> listener) {
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * Retira los buzones vacíos e inactivos y sus métricas
+     *
+     * @return buzones retirados
+     */
+    public int evictIdle() {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMs);
+        int evicted = 0;
+        for (var entry : mailboxes.entrySet()) {
+            var vehicleId = entry.getKey();
+            var mailbox = entry.getValue();
+            if (mailbox.retireIfIdle(idleNanos) && mailboxes.remove(vehicleId, mailbox)) {
+                removeMeters(vehicleId);
+                evictionListeners.forEach(listener -> listener.accept(vehicleId));
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle UgCS mailboxes", evicted);
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return mailboxes.size();
+    }
+
+    /**
+     * Tareas pendientes (incluida la que está en ejecución) de un vehículo
+     */
+    public int depth(String vehicleId) {
+        var mailbox = mailboxes.get(vehicleId);
+        return mailbox != null ? mailbox.depth() : 0;
+    }
+
+    /**
+     * Tareas pendientes de toda la flota
+     */
+    public int totalDepth() {
+        return mailboxes.values().stream()
+                .mapToInt(VehicleMailbox::depth)
+                .sum();
+    }
+
+    private VehicleMailbox createMailbox(String vehicleId) {
+        log.debug("Creating UgCS mailbox for vehicle: {}", vehicleId);
+
+        var waitTimer = Timer.builder(WAIT_TIMER)
+                .description("Time spent by UgCS operations waiting in the vehicle mailbox")
+                .tag("vehicle", vehicleId)
+                .register(meterRegistry);
+
+        var mailbox = new VehicleMailbox(vehicleId, ugcsIoExecutor, waitTimer);
+
+        Gauge.builder(DEPTH_GAUGE, mailbox.depthCounter(), AtomicInteger::get)
+                .description("Pending UgCS operations in the vehicle mailbox")
+                .tag("vehicle", vehicleId)
+                .register(meterRegistry);
+
+        return mailbox;
+    }
+
+    private void removeMeters(String vehicleId) {
+        meterRegistry.find(WAIT_TIMER).tag("vehicle", vehicleId).meters().forEach(meterRegistry::remove);
+        meterRegistry.find(DEPTH_GAUGE).tag("vehicle", vehicleId).meters().forEach(meterRegistry::remove);
+    }
+
+}
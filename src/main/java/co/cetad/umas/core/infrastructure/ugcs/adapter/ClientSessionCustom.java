@@ -18,10 +18,23 @@ public class ClientSessionCustom extends ClientSession {
     }
 
     public int subscribeToObjectModifications() throws Exception {
+        return subscribeToObjectModifications(ObjectModificationSubscription.newBuilder());
+    }
+
+    /**
+     * Suscripción filtrada en el servidor por tipo de objeto: solo llegan los eventos
+     * de ese tipo. El protocolo no permite filtrar por tipo de modificación.
+     */
+    public int subscribeToObjectModifications(String objectType) throws Exception {
+        return subscribeToObjectModifications(ObjectModificationSubscription.newBuilder()
+                .setObjectType(objectType));
+    }
+
+    private int subscribeToObjectModifications(ObjectModificationSubscription.Builder subscription) throws Exception {
         SubscribeEventRequest request = SubscribeEventRequest.newBuilder()
                 .setClientId(clientId)
                 .setSubscription(EventSubscriptionWrapper.newBuilder()
-                        .setObjectModificationSubscription(ObjectModificationSubscription.newBuilder()))
+                        .setObjectModificationSubscription(subscription))
                 .build();
         SubscribeEventResponse response = client.execute(request);
         return response.getSubscriptionId();
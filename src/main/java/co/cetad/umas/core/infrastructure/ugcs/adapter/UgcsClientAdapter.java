@@ -1,11 +1,23 @@
 package co.cetad.umas.core.infrastructure.ugcs.adapter;
 
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
 import co.cetad.umas.core.domain.model.dto.MissionExecutionDTO;
 import co.cetad.umas.core.domain.model.vo.CommandRequest;
 import co.cetad.umas.core.domain.model.vo.MissionCompleteData;
 import co.cetad.umas.core.domain.model.vo.TelemetryData;
 import co.cetad.umas.core.domain.ports.out.DroneCache;
 import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.metrics.CommandStageMetrics;
+import co.cetad.umas.core.infrastructure.metrics.ObjectEventMetrics;
+import co.cetad.umas.core.infrastructure.ugcs.actor.ContinuousControlLanes;
+import co.cetad.umas.core.infrastructure.ugcs.actor.VehicleControlLeaseManager;
+import co.cetad.umas.core.infrastructure.ugcs.actor.VehicleControlOperations;
+import co.cetad.umas.core.infrastructure.ugcs.actor.VehicleMailboxRegistry;
+import co.cetad.umas.core.infrastructure.ugcs.index.ProcessedRouteCache;
+import co.cetad.umas.core.infrastructure.ugcs.index.UgcsObjectIndex;
+import co.cetad.umas.core.infrastructure.ugcs.index.UploadedRouteTracker;
+import co.cetad.umas.core.infrastructure.ugcs.index.VehicleRegistry;
+import co.cetad.umas.core.infrastructure.ugcs.listener.index.ObjectIndexNotificationListener;
 import co.cetad.umas.core.infrastructure.ugcs.listener.mission.MissionCompleteNotificationListener;
 import co.cetad.umas.core.infrastructure.ugcs.listener.telemetry.TelemetryNotificationListener;
 import co.cetad.umas.core.infrastructure.ugcs.utils.UtilUGCS;
@@ -18,6 +30,7 @@ import com.ugcs.ucs.proto.DomainProto.ParameterValue;
 import com.ugcs.ucs.proto.DomainProto.AltitudeType;
 import com.ugcs.ucs.proto.DomainProto.FigurePoint;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -25,11 +38,19 @@ import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
@@ -38,29 +59,60 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class UgcsClientAdapter implements UgcsClient {
 
     private final DroneCache droneCache;
+    private final VehicleMailboxRegistry vehicleMailboxes;
+    private final CommandStageMetrics commandStageMetrics;
+    private final ObjectEventMetrics objectEventMetrics;
+    private final ContinuousControlLanes controlLanes;
+    private final VehicleControlLeaseManager controlLeases;
+    private final UgcsObjectIndex objectIndex;
+    private final VehicleRegistry vehicleRegistry;
+    private final ProcessedRouteCache processedRouteCache;
+    private final UploadedRouteTracker uploadedRoutes;
+    private final UgcsSessionPool sessionPool;
+    @Qualifier("ugcsIoExecutor")
+    private final Executor ugcsIoExecutor;
+    private final UgcsRpcDeadlines rpcDeadlines;
 
     private Client client;
     private ClientSessionCustom session;
     private final AtomicBoolean connected = new AtomicBoolean(false);
+    private final AtomicBoolean mainSessionSuspect = new AtomicBoolean(false);
     private final Sinks.Many<TelemetryData> telemetrySink = Sinks.many().multicast().onBackpressureBuffer();
     private final Sinks.Many<MissionCompleteData> missionCompleteSink = Sinks.many().multicast().onBackpressureBuffer();
     private int telemetrySubscriptionId = -1;
-    private int missionCompleteSubscriptionId = -2;
+    private final List<Integer> objectSubscriptionIds = new ArrayList<>();
+    // Sesión del pool que concedió el control de cada vehículo: sus comandos y su liberación salen por ella
+    private final Map<String, Integer> controlSessions = new ConcurrentHashMap<>();
 
     @Override
     public Mono<Void> connect(String host, int port, String username, String password) {
         return Mono.fromCallable(() -> {
                     log.info("Connecting to UgCS Server at {}:{}", host, port);
 
+                    // Reconexión: la sesión anterior puede estar medio abierta, se descarta sin hablar con ella.
+                    // Los sinks de telemetría se conservan para que los suscriptores sigan recibiendo.
+                    connected.set(false);
+                    closeClientQuietly();
+                    controlLeases.clear();
+                    controlSessions.clear();
+
                     InetSocketAddress serverAddress = new InetSocketAddress(host, port);
                     client = new Client(serverAddress);
 
                     var listener = new TelemetryNotificationListener(telemetrySink, droneCache);
                     client.addNotificationListener(listener);
 
-                    var missionCompleteListener = new MissionCompleteNotificationListener(missionCompleteSink, droneCache);
+                    var missionCompleteListener = new MissionCompleteNotificationListener(missionCompleteSink, droneCache,
+                            objectEventMetrics.forListener(MissionCompleteNotificationListener.LISTENER_NAME));
                     client.addNotificationListener(missionCompleteListener);
 
+                    objectIndex.clear();
+                    vehicleRegistry.clear();
+                    // Las invalidaciones perdidas mientras no había conexión no llegarán nunca
+                    processedRouteCache.clear();
+                    client.addNotificationListener(new ObjectIndexNotificationListener(objectIndex, processedRouteCache,
+                            objectEventMetrics.forListener(ObjectIndexNotificationListener.LISTENER_NAME)));
+
                     client.connect();
 
                     session = new ClientSessionCustom(client);
@@ -68,13 +120,30 @@ public class UgcsClientAdapter implements UgcsClient {
                     session.login(username, password);
 
                     telemetrySubscriptionId = session.subscribeTelemetryEvent();
-                    missionCompleteSubscriptionId = session.subscribeToObjectModifications();
+                    subscribeToObjectModifications();
+
+                    // RPC por vehículo repartidas entre las sesiones del pool
+                    sessionPool.setMemberStateListener(this::onPoolMemberChanged);
+                    sessionPool.connect(host, port, username, password);
+
+                    mainSessionSuspect.set(false);
+
+                    // Tras suscribirse: los cambios posteriores a la descarga llegan como eventos
+                    try {
+                        mainSessionCall(UgcsRpc.LIST_OBJECTS, () -> {
+                            objectIndex.bootstrap(session);
+                            return null;
+                        });
+                        vehicleRegistry.refresh(vehicleSource);
+                    } catch (Exception e) {
+                        log.warn("UgCS object index load failed, will retry on first lookup", e);
+                    }
 
                     connected.set(true);
                     log.info("Successfully connected to UgCS Server");
                     return null;
                 })
-                .subscribeOn(Schedulers.boundedElastic())
+                .subscribeOn(Schedulers.fromExecutor(ugcsIoExecutor))
                 .then()
                 .doOnError(e -> {
                     log.error("Failed to connect to UgCS Server", e);
@@ -88,19 +157,27 @@ public class UgcsClientAdapter implements UgcsClient {
                     if (telemetrySubscriptionId != -1 && session != null) {
                         session.unsubscribe(telemetrySubscriptionId);
                     }
-                    if (missionCompleteSubscriptionId != -2 && session != null) {
-                        session.unsubscribe(missionCompleteSubscriptionId);
+                    if (session != null) {
+                        for (int subscriptionId : objectSubscriptionIds) {
+                            session.unsubscribe(subscriptionId);
+                        }
                     }
+                    objectSubscriptionIds.clear();
                     if (client != null) {
                         client.close();
                     }
+                    sessionPool.close();
                     connected.set(false);
+                    objectIndex.clear();
+                    vehicleRegistry.clear();
+                    controlLeases.clear();
+                    controlSessions.clear();
                     telemetrySink.tryEmitComplete();
                     missionCompleteSink.tryEmitComplete();
                     log.info("Disconnected from UgCS Server");
                     return null;
                 })
-                .subscribeOn(Schedulers.boundedElastic())
+                .subscribeOn(Schedulers.fromExecutor(ugcsIoExecutor))
                 .then();
     }
 
@@ -120,41 +197,52 @@ public class UgcsClientAdapter implements UgcsClient {
 
     @Override
     public CompletableFuture<Boolean> executeCommand(CommandRequest command) {
-        return CompletableFuture.supplyAsync(() -> {
+        if (ContinuousControlLanes.isContinuous(command.commandCode())) {
+            return controlLanes.submit(command, controlOperations);
+        }
+
+        return vehicleMailboxes.submit(command.vehicleId(), () -> {
             try {
                 if (!connected.get()) {
-                    throw new IllegalStateException("Not connected to UgCS Server");
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
                 }
 
                 log.info("Executing command: {} for vehicle: {}",
                         command.commandCode(), command.vehicleId());
 
-                var vehicle = findVehicle(command.vehicleId());
-                if (vehicle == null) {
-                    log.error("Vehicle not found: {}", command.vehicleId());
-                    throw new IllegalArgumentException("Vehicle not found: " + command.vehicleId());
-                }
+                var code = command.commandCode();
+                var vehicle = commandStageMetrics.timeBlocking("find_vehicle", code, () -> {
+                    var found = findVehicle(command.vehicleId());
+                    if (found == null) {
+                        log.error("Vehicle not found: {}", command.vehicleId());
+                        throw new IllegalArgumentException("Vehicle not found: " + command.vehicleId());
+                    }
+                    return found;
+                });
 
                 var ugcsCommand = buildCommand(command);
 
-                log.debug("Gaining vehicle control for: {}", command.vehicleId());
-                session.gainVehicleControl(vehicle);
+                // Con el control ya arrendado no hay RPC: el timer refleja el ahorro
+                commandStageMetrics.timeBlocking("gain_control", code, () -> {
+                    controlLeases.acquire(command.vehicleId(), controlOperations);
+                    return null;
+                });
 
                 try {
                     log.debug("Sending command '{}' to vehicle {}",
                             command.commandCode(), command.vehicleId());
-                    session.sendCommand(vehicle, ugcsCommand);
+                    commandStageMetrics.timeBlocking("send_command", code, () ->
+                            controlCall(command.vehicleId(), UgcsRpc.SEND_COMMAND, s -> {
+                                s.sendCommand(vehicle, ugcsCommand);
+                                return null;
+                            }));
+                    controlLeases.renew(command.vehicleId());
                     log.info("Command '{}' sent successfully to vehicle: {}",
                             command.commandCode(), command.vehicleId());
                     return true;
-                } finally {
-                    try {
-                        session.releaseVehicleControl(vehicle);
-                        log.debug("Vehicle control released for: {}", command.vehicleId());
-                    } catch (Exception e) {
-                        log.warn("Failed to release vehicle control for vehicle: {}",
-                                command.vehicleId(), e);
-                    }
+                } catch (Exception e) {
+                    controlLeases.releaseAfterError(command.vehicleId());
+                    throw e;
                 }
             } catch (Exception e) {
                 log.error("Failed to execute command '{}' for vehicle: {}",
@@ -164,24 +252,96 @@ public class UgcsClientAdapter implements UgcsClient {
         });
     }
 
+    /**
+     * Operaciones de control usadas por el arrendamiento de control y el carril de control continuo
+     * Se ejecutan dentro del mailbox del vehículo, igual que executeCommand.
+     */
+    private final VehicleControlOperations controlOperations = new VehicleControlOperations() {
+
+        @Override
+        public void gainControl(String vehicleId) throws Exception {
+            log.debug("Gaining vehicle control for: {}", vehicleId);
+            var vehicle = requireVehicle(vehicleId);
+            int member = sessionPool.currentMemberOf(vehicleId);
+            sessionPool.callOn(member, UgcsRpc.GAIN_CONTROL, s -> {
+                s.gainVehicleControl(vehicle);
+                return null;
+            });
+            controlSessions.put(vehicleId, member);
+        }
+
+        @Override
+        public void send(CommandRequest command) throws Exception {
+            if (!connected.get()) {
+                throw new UgcsUnavailableException("Not connected to UgCS Server");
+            }
+            var ugcsCommand = buildCommand(command);
+            var vehicle = requireVehicle(command.vehicleId());
+            commandStageMetrics.timeBlocking("send_command", command.commandCode(), () ->
+                    controlCall(command.vehicleId(), UgcsRpc.SEND_COMMAND, s -> {
+                        s.sendCommand(vehicle, ugcsCommand);
+                        return null;
+                    }));
+        }
+
+        @Override
+        public void releaseControl(String vehicleId) throws Exception {
+            var vehicle = requireVehicle(vehicleId);
+            var member = controlSessions.remove(vehicleId);
+            UgcsSessionPool.SessionCall<Void> release = s -> {
+                s.releaseVehicleControl(vehicle);
+                return null;
+            };
+            if (member != null) {
+                sessionPool.callOn(member, UgcsRpc.RELEASE_CONTROL, release);
+            } else {
+                sessionPool.call(vehicleId, UgcsRpc.RELEASE_CONTROL, release);
+            }
+        }
+    };
+
+    /**
+     * RPC que depende del control del vehículo: sale por la sesión que lo concedió mientras
+     * siga sana, aunque la sesión propia del vehículo ya se haya recuperado
+     */
+    private <T> T controlCall(String vehicleId, UgcsRpc rpc, UgcsSessionPool.SessionCall<T> call) throws Exception {
+        var member = controlSessions.get(vehicleId);
+        if (member != null && sessionPool.isHealthy(member)) {
+            return sessionPool.callOn(member, rpc, call);
+        }
+        return sessionPool.call(vehicleId, rpc, call);
+    }
+
+    /**
+     * Caída o recuperación de una sesión del pool.
+     * - Caída: el control concedido por ella se perdió con la sesión, se olvida sin hablar con el servidor
+     * - Recuperación: el control obtenido en una sesión de respaldo se libera allí, en el mailbox
+     *   de cada vehículo, y la siguiente operación lo vuelve a pedir en su sesión propia
+     */
+    private void onPoolMemberChanged(int member) {
+        if (!sessionPool.isHealthy(member)) {
+            controlLeases.forgetIf(vehicleId -> Objects.equals(controlSessions.get(vehicleId), member));
+            controlSessions.values().removeIf(granted -> granted == member);
+            return;
+        }
+        controlLeases.releaseIf(vehicleId -> sessionPool.homeMemberOf(vehicleId) == member
+                && controlSessions.containsKey(vehicleId)
+                && !Objects.equals(controlSessions.get(vehicleId), member));
+    }
+
     @Override
     public CompletableFuture<DomainProto.Mission> findOrCreateMission(String missionName) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 if (!connected.get()) {
-                    throw new IllegalStateException("Not connected to UgCS Server");
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
                 }
 
                 log.info("Finding or creating mission: '{}'", missionName);
 
-                // Buscar misión existente
-                List<DomainProto.DomainObjectWrapper> missions = session.getObjectList(DomainProto.Mission.class);
-
-                DomainProto.Mission result = missions.stream()
-                        .map(DomainProto.DomainObjectWrapper::getMission)
-                        .filter(m -> m.getName().equals(missionName))
-                        .findFirst()
-                        .orElse(null);
+                // Buscar misión existente en el índice local
+                ensureIndexReady();
+                DomainProto.Mission result = objectIndex.findMission(missionName).orElse(null);
 
                 if (result != null) {
                     log.info("✅ Found existing mission: '{}'", missionName);
@@ -190,7 +350,8 @@ public class UgcsClientAdapter implements UgcsClient {
 
                 // Crear nueva misión
                 log.info("Creating new mission: '{}'", missionName);
-                DomainProto.User user = session.getObjectList(DomainProto.User.class).getFirst().getUser();
+                DomainProto.User user = mainSessionCall(UgcsRpc.LIST_OBJECTS,
+                        () -> session.getObjectList(DomainProto.User.class)).getFirst().getUser();
 
                 DomainProto.Mission newMission = DomainProto.Mission.newBuilder()
                         .setName(missionName)
@@ -205,7 +366,9 @@ public class UgcsClientAdapter implements UgcsClient {
                         .setMission(newMission)
                         .build();
 
-                newMission = session.createOrUpdateObject(missionWrapper, DomainProto.Mission.class).getMission();
+                newMission = mainSessionCall(UgcsRpc.SAVE_OBJECT,
+                        () -> session.createOrUpdateObject(missionWrapper, DomainProto.Mission.class)).getMission();
+                objectIndex.putMission(newMission);
                 log.info("✅ Mission created: '{}'", missionName);
 
                 return newMission;
@@ -214,7 +377,7 @@ public class UgcsClientAdapter implements UgcsClient {
                 log.error("Failed to find or create mission: {}", missionName, e);
                 throw new RuntimeException("Mission operation failed: " + e.getMessage(), e);
             }
-        });
+        }, ugcsIoExecutor);
     }
 
     @Override
@@ -222,25 +385,17 @@ public class UgcsClientAdapter implements UgcsClient {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 if (!connected.get()) {
-                    throw new IllegalStateException("Not connected to UgCS Server");
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
                 }
 
                 log.info("Searching for route: '{}'", routeName);
 
-                List<DomainProto.DomainObjectWrapper> routeWrappers = session.getObjectList(DomainProto.Route.class);
-
-                if (routeWrappers == null || routeWrappers.isEmpty()) {
-                    log.info("No routes found in UgCS Server");
-                    return Optional.empty();
-                }
-
-                var result = routeWrappers.stream()
-                        .map(DomainProto.DomainObjectWrapper::getRoute)
-                        .filter(r -> r.getName().equals(routeName))
-                        .peek(r -> log.info("✅ Found existing route: '{}'", routeName))
-                        .findFirst();
+                ensureIndexReady();
+                var result = objectIndex.findRoute(routeName);
 
-                if (result.isEmpty()) {
+                if (result.isPresent()) {
+                    log.info("✅ Found existing route: '{}'", routeName);
+                } else {
                     log.info("Route '{}' not found", routeName);
                 }
 
@@ -250,15 +405,16 @@ public class UgcsClientAdapter implements UgcsClient {
                 log.error("Failed to search for route: {}", routeName, e);
                 throw new RuntimeException("Route search failed: " + e.getMessage(), e);
             }
-        });
+        }, ugcsIoExecutor);
     }
 
     @Override
-    public CompletableFuture<Boolean> createMissionVehicle(DomainProto.Mission mission, DomainProto.Vehicle vehicle) {
-        return CompletableFuture.supplyAsync(() -> {
+    public CompletableFuture<Boolean> createMissionVehicle(DomainProto.Mission mission, String vehicleId,
+                                                          DomainProto.Vehicle vehicle) {
+        return vehicleMailboxes.submit(vehicleId, () -> {
             try {
                 if (!connected.get()) {
-                    throw new IllegalStateException("Not connected to UgCS Server");
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
                 }
 
                 DomainProto.MissionVehicle newMissionVehicle = DomainProto.MissionVehicle.newBuilder()
@@ -270,7 +426,8 @@ public class UgcsClientAdapter implements UgcsClient {
                         .setMissionVehicle(newMissionVehicle)
                         .build();
 
-                session.createOrUpdateObject(missionVehicleWrapper, DomainProto.MissionVehicle.class);
+                sessionPool.call(vehicleId, UgcsRpc.SAVE_OBJECT, s ->
+                        s.createOrUpdateObject(missionVehicleWrapper, DomainProto.MissionVehicle.class));
             } catch (Exception e) {
                 throw new RuntimeException("MissionVehicle creation failed: " + e.getMessage(), e);
             }
@@ -282,11 +439,12 @@ public class UgcsClientAdapter implements UgcsClient {
     public CompletableFuture<DomainProto.Vehicle> createAndUploadRoute(
             DomainProto.Mission ugcsMission,
             MissionExecutionDTO.DroneExecution drone,
-            Double defaultSpeed) {
-        return CompletableFuture.supplyAsync(() -> {
+            Double defaultSpeed,
+            RouteUploadListener listener) {
+        return vehicleMailboxes.submit(drone.vehicleId(), () -> {
             try {
                 if (!connected.get()) {
-                    throw new IllegalStateException("Not connected to UgCS Server");
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
                 }
 
                 log.info("Creating and uploading route '{}' with {} waypoints to vehicle: {}",
@@ -307,11 +465,13 @@ public class UgcsClientAdapter implements UgcsClient {
                         .setRoute(route)
                         .build();
 
-                route = session.createOrUpdateObject(routeWrapper, route.getClass()).getRoute();
+                route = sessionPool.call(drone.vehicleId(), UgcsRpc.SAVE_OBJECT, s ->
+                        s.createOrUpdateObject(routeWrapper, DomainProto.Route.class)).getRoute();
+                objectIndex.putRoute(route);
                 log.info("✅ Route '{}' saved to server", route.getName());
 
                 // 4. Subir la ruta al vehículo
-                uploadRouteToVehicle(vehicle, route);
+                uploadRouteToVehicle(drone.vehicleId(), vehicle, route, listener);
 
                 return vehicle;
 
@@ -324,11 +484,14 @@ public class UgcsClientAdapter implements UgcsClient {
     }
 
     @Override
-    public CompletableFuture<DomainProto.Vehicle> uploadExistingRoute(String vehicleId, DomainProto.Route existingRoute) {
-        return CompletableFuture.supplyAsync(() -> {
+    public CompletableFuture<DomainProto.Vehicle> uploadExistingRoute(
+            String vehicleId,
+            DomainProto.Route existingRoute,
+            RouteUploadListener listener) {
+        return vehicleMailboxes.submit(vehicleId, () -> {
             try {
                 if (!connected.get()) {
-                    throw new IllegalStateException("Not connected to UgCS Server");
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
                 }
 
                 var vehicle = findVehicle(vehicleId);
@@ -336,7 +499,7 @@ public class UgcsClientAdapter implements UgcsClient {
                     throw new IllegalArgumentException("Vehicle not found: " + vehicleId);
                 }
 
-                uploadRouteToVehicle(vehicle, existingRoute);
+                uploadRouteToVehicle(vehicleId, vehicle, existingRoute, listener);
                 return vehicle;
 
             } catch (Exception e) {
@@ -346,12 +509,22 @@ public class UgcsClientAdapter implements UgcsClient {
         });
     }
 
+    @Override
+    public CompletableFuture<Optional<DomainProto.Vehicle>> findVehicle(String vehicleId) {
+        return vehicleMailboxes.submit(vehicleId, () -> {
+            if (!connected.get()) {
+                throw new UgcsUnavailableException("Not connected to UgCS Server");
+            }
+            return Optional.ofNullable(findVehicle(vehicleId));
+        });
+    }
+
     @Override
     public CompletableFuture<List<RouteInfo>> getVehicleRoutes(String vehicleId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return vehicleMailboxes.submit(vehicleId, () -> {
             try {
                 if (!connected.get()) {
-                    throw new IllegalStateException("Not connected to UgCS Server");
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
                 }
 
                 log.info("Getting all routes for vehicle: {}", vehicleId);
@@ -361,15 +534,8 @@ public class UgcsClientAdapter implements UgcsClient {
                     throw new IllegalArgumentException("Vehicle not found: " + vehicleId);
                 }
 
-                var routeWrappers = session.getObjectList(DomainProto.Route.class);
-                if (routeWrappers == null || routeWrappers.isEmpty()) {
-                    log.info("No routes found in UgCS Server");
-                    return List.of();
-                }
-
-                return routeWrappers.stream()
-                        .map(DomainProto.DomainObjectWrapper::getRoute)
-                        .filter(route -> route.getVehicleProfile().equals(vehicle.getProfile()))
+                ensureIndexReady();
+                return objectIndex.findRoutesByProfile(vehicle.getProfile()).stream()
                         .map(route -> new UgcsClient.RouteInfo(
                                 route.getName(),
                                 route.getSegmentsCount(),
@@ -389,21 +555,121 @@ public class UgcsClientAdapter implements UgcsClient {
         return CompletableFuture.completedFuture(connected.get());
     }
 
+    @Override
+    public CompletableFuture<Duration> ping() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                if (!connected.get()) {
+                    throw new UgcsUnavailableException("Not connected to UgCS Server");
+                }
+
+                long startedAt = System.nanoTime();
+                mainSessionCall(UgcsRpc.PING, () -> session.getObjectList(DomainProto.User.class));
+                return Duration.ofNanos(System.nanoTime() - startedAt);
+
+            } catch (Exception e) {
+                throw new RuntimeException("UgCS ping failed: " + e.getMessage(), e);
+            }
+        }, ugcsIoExecutor);
+    }
+
+    /**
+     * La sesión principal dejó vencer el plazo de alguna RPC desde la última conexión
+     */
+    public boolean isMainSessionSuspect() {
+        return mainSessionSuspect.get();
+    }
+
     // ==================== MÉTODOS PRIVADOS HELPER ====================
 
+    private void closeClientQuietly() {
+        if (client == null) {
+            return;
+        }
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.debug("Error closing previous UgCS client", e);
+        }
+        client = null;
+        session = null;
+        objectSubscriptionIds.clear();
+    }
+
+    /**
+     * Una suscripción por tipo de objeto en lugar de una a todas las modificaciones:
+     * el servidor deja de enviar los tipos que nadie consume. El filtro por creación
+     * (log de vehículo) sigue siendo del listener, el protocolo no lo admite.
+     */
+    private void subscribeToObjectModifications() throws Exception {
+        objectSubscriptionIds.add(session.subscribeToObjectModifications(MissionCompleteNotificationListener.OBJECT_TYPE));
+        for (String objectType : UgcsObjectIndex.INDEXED_TYPES) {
+            objectSubscriptionIds.add(session.subscribeToObjectModifications(objectType));
+        }
+    }
+
+    /**
+     * El índice se carga al conectar; si aquella carga falló se reintenta aquí
+     */
+    private void ensureIndexReady() throws Exception {
+        if (!objectIndex.isReady()) {
+            mainSessionCall(UgcsRpc.LIST_OBJECTS, () -> {
+                objectIndex.bootstrap(session);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * RPC con plazo sobre la sesión principal (suscripciones y lecturas de flota)
+     * Un plazo vencido la marca como sospechosa hasta la siguiente conexión.
+     */
+    private <T> T mainSessionCall(UgcsRpc rpc, Callable<T> call) throws Exception {
+        try {
+            return rpcDeadlines.call(rpc, call);
+        } catch (TimeoutException e) {
+            if (mainSessionSuspect.compareAndSet(false, true)) {
+                log.warn("⚠️ UgCS main session marked suspect after {} timeout", rpc.key());
+            }
+            throw e;
+        }
+    }
+
+    private DomainProto.Vehicle requireVehicle(String vehicleId) {
+        var vehicle = findVehicle(vehicleId);
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle not found: " + vehicleId);
+        }
+        return vehicle;
+    }
+
+    /**
+     * Busca el vehículo en el registro; null si UgCS no lo conoce
+     *
+     * @throws UgcsUnavailableException si la descarga de la lista falla o vence su plazo
+     *                                  (no es lo mismo que un vehículo desconocido)
+     */
     private DomainProto.Vehicle findVehicle(String vehicleId) {
         try {
-            var vehicle = session.lookupVehicle(vehicleId);
-            if (vehicle == null) {
-                log.warn("Vehicle lookup returned null for ID: {}", vehicleId);
+            var vehicle = vehicleRegistry.find(vehicleSource, vehicleId);
+            if (vehicle.isEmpty()) {
+                log.warn("Vehicle not found for ID: {}", vehicleId);
             }
-            return vehicle;
+            return vehicle.orElse(null);
         } catch (Exception e) {
             log.error("Error looking up vehicle: {}", vehicleId, e);
-            return null;
+            throw new UgcsUnavailableException("Vehicle lookup failed for " + vehicleId + ": " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Descarga de vehículos del registro: sesión principal, con el plazo de list-objects
+     */
+    private final VehicleRegistry.VehicleSource vehicleSource = () -> mainSessionCall(UgcsRpc.LIST_OBJECTS,
+            () -> session.getObjectList(DomainProto.Vehicle.class)).stream()
+            .map(DomainProto.DomainObjectWrapper::getVehicle)
+            .toList();
+
     private DomainProto.Command buildCommand(CommandRequest command) {
         var builder = DomainProto.Command.newBuilder()
                 .setCode(command.commandCode())
@@ -424,8 +690,21 @@ public class UgcsClientAdapter implements UgcsClient {
         return builder.build();
     }
 
+    /**
+     * Parámetros comunes a todos los segmentos de waypoint: los mensajes protobuf son
+     * inmutables, se construyen una vez y se comparten entre segmentos y rutas
+     */
+    private static final List<DomainProto.ParameterValue> WAYPOINT_PARAMETERS = List.of(
+            DomainProto.ParameterValue.newBuilder().setName("speed").setValue(Double.toString(5.0)).build(),
+            DomainProto.ParameterValue.newBuilder().setName("wpTurnType").setValue("STOP_AND_TURN").build(),
+            DomainProto.ParameterValue.newBuilder().setName("avoidObstacles").setValue("true").build(),
+            DomainProto.ParameterValue.newBuilder().setName("avoidTerrain").setValue("true").build(),
+            DomainProto.ParameterValue.newBuilder().setName("cornerRadius").build(),
+            DomainProto.ParameterValue.newBuilder().setName("altitudeType").setValue("AGL").build());
+
     /**
      * Construye una ruta de UgCS basada en waypoints simples
+     * La misión puede haber simplificado antes los waypoints (RouteSimplifier)
      */
     private DomainProto.Route buildRoute(
             DomainProto.Mission mission,
@@ -466,23 +745,7 @@ public class UgcsClientAdapter implements UgcsClient {
             DomainProto.SegmentDefinition.Builder routeSegment = DomainProto.SegmentDefinition.newBuilder()
                     .setAlgorithmClassName("com.ugcs.ucs.service.routing.impl.WaypointAlgorithm")
                     .setFigure(figure)
-                    .addParameterValues(DomainProto.ParameterValue.newBuilder()
-                            .setName("speed")
-                            .setValue(Double.toString(5.0)))
-                    .addParameterValues(DomainProto.ParameterValue.newBuilder()
-                            .setName("wpTurnType")
-                            .setValue("STOP_AND_TURN"))
-                    .addParameterValues(DomainProto.ParameterValue.newBuilder()
-                            .setName("avoidObstacles")
-                            .setValue("true"))
-                    .addParameterValues(DomainProto.ParameterValue.newBuilder()
-                            .setName("avoidTerrain")
-                            .setValue("true"))
-                    .addParameterValues(DomainProto.ParameterValue.newBuilder()
-                            .setName("cornerRadius"))
-                    .addParameterValues(DomainProto.ParameterValue.newBuilder()
-                            .setName("altitudeType")
-                            .setValue("AGL"));
+                    .addAllParameterValues(WAYPOINT_PARAMETERS);
             route.addSegments(routeSegment);
         }
 
@@ -498,29 +761,65 @@ public class UgcsClientAdapter implements UgcsClient {
         return Math.toRadians(value);
     }
 
+    /**
+     * Calcula la trayectoria de la ruta, reutilizando la de un vuelo anterior
+     * de la misma ruta con el mismo perfil de vehículo
+     */
+    private DomainProto.ProcessedRoute processRoute(String vehicleId, DomainProto.Vehicle vehicle,
+                                                    DomainProto.Route route) throws Exception {
+        var cached = processedRouteCache.get(route, vehicle.getProfile());
+        if (cached.isPresent()) {
+            log.debug("Reusing processed trajectory for route: {}", route.getName());
+            return cached.get();
+        }
+
+        log.debug("Processing route trajectory for: {}", route.getName());
+        var processedRoute = sessionPool.call(vehicleId, UgcsRpc.PROCESS_ROUTE,
+                s -> s.processRoute(route));
+        processedRouteCache.put(route, vehicle.getProfile(), processedRoute);
+        return processedRoute;
+    }
+
     /**
      * Procesa y sube una ruta al vehículo
+     * Si el vehículo ya lleva exactamente esta ruta (reintento de misión) no se vuelve a subir.
+     * El mailbox, el arrendamiento de control y la sesión del pool se eligen por vehicleId,
+     * igual que para los comandos AUTO -> START_ROUTE que siguen.
      */
-    private void uploadRouteToVehicle(DomainProto.Vehicle vehicle, DomainProto.Route route) {
+    private void uploadRouteToVehicle(
+            String vehicleId,
+            DomainProto.Vehicle vehicle,
+            DomainProto.Route route,
+            RouteUploadListener listener) {
+        if (uploadedRoutes.isLoaded(vehicleId, vehicle, route)) {
+            log.info("⏭️ Route '{}' already loaded on vehicle {}, skipping upload",
+                    route.getName(), vehicleId);
+            listener.processed();
+            return;
+        }
+
         try {
-            log.debug("Processing route trajectory for: {}", route.getName());
-            DomainProto.ProcessedRoute processedRoute = session.processRoute(route);
+            DomainProto.ProcessedRoute processedRoute = processRoute(vehicleId, vehicle, route);
+            listener.processed();
 
-            log.debug("Gaining vehicle control for route upload: {}", vehicle.getName());
-            session.gainVehicleControl(vehicle);
+            // El control queda arrendado para los comandos AUTO -> START_ROUTE que siguen
+            controlLeases.acquire(vehicleId, controlOperations);
 
             try {
-                log.debug("Uploading processed route to vehicle: {}", vehicle.getName());
-                session.uploadRoute(vehicle, processedRoute);
+                log.debug("Uploading processed route to vehicle: {}", vehicleId);
+                controlCall(vehicleId, UgcsRpc.UPLOAD_ROUTE, s -> {
+                    s.uploadRoute(vehicle, processedRoute);
+                    return null;
+                });
+                controlLeases.renew(vehicleId);
+                uploadedRoutes.recordUploaded(vehicleId, vehicle, route);
                 log.info("✅ Route '{}' uploaded successfully to vehicle: {}",
-                        route.getName(), vehicle.getName());
-            } finally {
-                try {
-                    //session.releaseVehicleControl(vehicle);
-                    log.debug("Vehicle control released after route upload");
-                } catch (Exception e) {
-                    log.warn("Failed to release vehicle control", e);
-                }
+                        route.getName(), vehicleId);
+            } catch (Exception e) {
+                controlLeases.releaseAfterError(vehicleId);
+                // Una subida interrumpida puede dejar el vehículo con la ruta anterior o a medias
+                uploadedRoutes.forget(vehicleId);
+                throw e;
             }
         } catch (Exception e) {
             log.error("Failed to upload route to vehicle", e);
@@ -0,0 +1,27 @@
+package co.cetad.umas.core.infrastructure.ugcs.adapter;
+
+/**
+ * Tipos de RPC contra UgCS con plazo propio (ugcs.deadlines.rpc.&lt;key&gt;)
+ */
+public enum UgcsRpc {
+
+    SEND_COMMAND("send-command"),
+    GAIN_CONTROL("gain-control"),
+    RELEASE_CONTROL("release-control"),
+    PROCESS_ROUTE("process-route"),
+    UPLOAD_ROUTE("upload-route"),
+    SAVE_OBJECT("save-object"),
+    LIST_OBJECTS("list-objects"),
+    PING("ping");
+
+    private final String key;
+
+    UgcsRpc(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+}
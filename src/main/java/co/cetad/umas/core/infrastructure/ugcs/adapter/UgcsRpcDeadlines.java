@@ -0,0 +1,132 @@
+package co.cetad.umas.core.infrastructure.ugcs.adapter;
+
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plazos por RPC contra UgCS
+ *
+ * La RPC corre en un thread virtual propio y quien la invoca espera como mucho
+ * su plazo (ugcs.deadlines). Al vencer se interrumpe el thread de la RPC y se
+ * lanza TimeoutException: el thread que llamó (mailbox, executor de E/S) queda
+ * libre y la sesión implicada se trata como sospechosa.
+ *
+ * Mientras quien llama espera, la concurrencia la limita ugcsIoExecutor (reutilizarlo
+ * aquí bloquearía un permiso esperando otro). Una RPC vencida libera ese permiso pero
+ * su thread puede seguir bloqueado en el socket hasta que el pool cierra la sesión:
+ * esas RPC abandonadas se cuentan y, al llegar a maxAbandoned, se rechazan RPC nuevas
+ * con UgcsUnavailableException en lugar de seguir acumulando threads colgados.
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.rpc.timeouts (rpc): RPC abandonadas por plazo vencido
+ * - umas.ugcs.rpc.abandoned: RPC vencidas cuyo thread aún no ha terminado
+ * - umas.ugcs.rpc.rejected: RPC rechazadas por exceso de abandonadas
+ */
+@Slf4j
+@Component
+public class UgcsRpcDeadlines {
+
+    private static final int RUNNING = 0;
+    private static final int FINISHED = 1;
+    private static final int ABANDONED = 2;
+
+    private final UgcsProperties.Deadlines deadlines;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService rpcThreads =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ugcs-rpc-", 1).factory());
+    private final AtomicInteger abandoned = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    public UgcsRpcDeadlines(UgcsProperties properties, MeterRegistry meterRegistry) {
+        this.deadlines = properties.getDeadlines();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("umas.ugcs.rpc.abandoned", abandoned, AtomicInteger::get)
+                .description("Timed-out UgCS RPCs whose thread is still blocked")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("umas.ugcs.rpc.rejected")
+                .description("UgCS RPCs rejected because too many timed-out calls are still blocked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta la RPC con el plazo configurado para su tipo
+     *
+     * @throws TimeoutException         si vence el plazo (la RPC se interrumpe)
+     * @throws UgcsUnavailableException si hay demasiadas RPC abandonadas aún bloqueadas
+     * @throws Exception                la excepción original de la RPC
+     */
+    public <T> T call(UgcsRpc rpc, Callable<T> call) throws Exception {
+        if (abandoned.get() >= deadlines.getMaxAbandoned()) {
+            rejectedCounter.increment();
+            throw new UgcsUnavailableException("Too many hung UgCS calls (" + abandoned.get() + "), rejecting "
+                    + rpc.key());
+        }
+
+        long deadlineMs = deadlines.deadlineMs(rpc.key());
+        var state = new AtomicInteger(RUNNING);
+        var future = rpcThreads.submit(() -> {
+            try {
+                return call.call();
+            } finally {
+                // Si quien llamó ya se fue por plazo, este thread deja de contar como abandonado
+                if (!state.compareAndSet(RUNNING, FINISHED)) {
+                    abandoned.decrementAndGet();
+                }
+            }
+        });
+        try {
+            return future.get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (state.compareAndSet(RUNNING, ABANDONED)) {
+                abandoned.incrementAndGet();
+            }
+            future.cancel(true);
+            timeoutCounter(rpc).increment();
+            log.warn("⏱️ UgCS {} exceeded its {} ms deadline, call interrupted", rpc.key(), deadlineMs);
+            throw new TimeoutException("UgCS " + rpc.key() + " timed out after " + deadlineMs + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * RPC vencidas cuyo thread sigue vivo
+     */
+    public int abandonedCount() {
+        return abandoned.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rpcThreads.shutdownNow();
+    }
+
+    private Counter timeoutCounter(UgcsRpc rpc) {
+        return Counter.builder("umas.ugcs.rpc.timeouts")
+                .description("UgCS RPCs abandoned after exceeding their deadline")
+                .tag("rpc", rpc.key())
+                .register(meterRegistry);
+    }
+
+}
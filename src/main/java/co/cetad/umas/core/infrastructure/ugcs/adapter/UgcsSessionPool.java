@@ -0,0 +1,373 @@
+package co.cetad.umas.core.infrastructure.ugcs.adapter;
+
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.client.Client;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Pool de sesiones UgCS autenticadas para las RPC por vehículo
+ *
+ * - Cada vehículo se asigna a una sesión estable por hash consistente: el control
+ *   obtenido con gainVehicleControl pertenece a la sesión, así que sus comandos
+ *   deben salir siempre por la misma
+ * - Si la sesión de un vehículo cae, sus llamadas pasan a la siguiente sesión sana
+ *   del anillo mientras esa se reconecta con backoff (ugcs.reconnect). El control
+ *   obtenido en la sesión de respaldo se libera en esa misma sesión (callOn)
+ * - Las suscripciones de telemetría y modificaciones siguen en la sesión principal
+ *   del adaptador, fuera del pool
+ * - Cada RPC tiene plazo (UgcsRpcDeadlines); una RPC colgada interrumpe su thread
+ *   y la sesión pasa a sospechosa: se cierra y se reconecta como una caída
+ *
+ * MÉTRICAS (por sesión):
+ * - umas.ugcs.pool.inflight: RPC en curso
+ * - umas.ugcs.pool.healthy: 1 si la sesión está operativa
+ * - umas.ugcs.pool.reconnects: reconexiones completadas
+ */
+@Slf4j
+@Component
+public class UgcsSessionPool {
+
+    private final UgcsProperties.Reconnect reconnect;
+    private final Executor ugcsIoExecutor;
+    private final UgcsRpcDeadlines rpcDeadlines;
+    private final List<Member> members = new ArrayList<>();
+    private final NavigableMap<Integer, Integer> ring = new TreeMap<>();
+
+    private volatile SessionConnector connector;
+    private volatile IntConsumer memberStateListener = index -> { };
+
+    @Autowired
+    public UgcsSessionPool(UgcsProperties properties,
+                           @Qualifier("ugcsIoExecutor") Executor ugcsIoExecutor,
+                           UgcsRpcDeadlines rpcDeadlines,
+                           MeterRegistry meterRegistry) {
+        this(properties.getPool(), properties.getReconnect(), ugcsIoExecutor, rpcDeadlines, meterRegistry);
+    }
+
+    UgcsSessionPool(UgcsProperties.Pool pool, UgcsProperties.Reconnect reconnect,
+                    Executor ugcsIoExecutor, UgcsRpcDeadlines rpcDeadlines, MeterRegistry meterRegistry) {
+        this.reconnect = reconnect;
+        this.ugcsIoExecutor = ugcsIoExecutor;
+        this.rpcDeadlines = rpcDeadlines;
+
+        int size = Math.max(1, pool.getSize());
+        for (int i = 0; i < size; i++) {
+            var member = new Member(i, meterRegistry);
+            members.add(member);
+            for (int node = 0; node < pool.getVirtualNodes(); node++) {
+                ring.put(hash("session-" + i + "#" + node), i);
+            }
+        }
+    }
+
+    /**
+     * Llamada bloqueante contra la sesión de un vehículo
+     */
+    @FunctionalInterface
+    public interface SessionCall<T> {
+        T call(ClientSessionCustom session) throws Exception;
+    }
+
+    /**
+     * Abre y autentica una sesión del pool
+     */
+    @FunctionalInterface
+    interface SessionConnector {
+        PooledConnection open() throws Exception;
+    }
+
+    record PooledConnection(Client client, ClientSessionCustom session) {
+    }
+
+    /**
+     * Abre todas las sesiones; basta con que una quede operativa
+     */
+    public void connect(String host, int port, String username, String password) throws Exception {
+        connect(() -> {
+            var client = new Client(new InetSocketAddress(host, port));
+            client.connect();
+            var session = new ClientSessionCustom(client);
+            session.authorizeHci();
+            session.login(username, password);
+            return new PooledConnection(client, session);
+        });
+    }
+
+    void connect(SessionConnector sessionConnector) throws Exception {
+        close();
+        this.connector = sessionConnector;
+
+        Exception lastError = null;
+        for (var member : members) {
+            try {
+                member.open(sessionConnector.open());
+            } catch (Exception e) {
+                lastError = e;
+                log.warn("UgCS pool session #{} failed to connect", member.index, e);
+                scheduleReconnect(member, sessionConnector, reconnect.getInitialDelay());
+            }
+        }
+
+        if (healthyCount() == 0) {
+            throw new UgcsUnavailableException("No UgCS pool session could connect", lastError);
+        }
+        log.info("🔗 UgCS session pool connected: {}/{} sessions", healthyCount(), members.size());
+    }
+
+    /**
+     * Cierra todas las sesiones y cancela las reconexiones pendientes
+     */
+    public void close() {
+        connector = null;
+        for (var member : members) {
+            member.close();
+        }
+    }
+
+    /**
+     * Ejecuta una RPC en la sesión asignada al vehículo con el plazo de su tipo
+     * Un fallo de conexión o un plazo vencido marca la sesión como caída y lanza su reconexión.
+     */
+    public <T> T call(String vehicleId, UgcsRpc rpc, SessionCall<T> call) throws Exception {
+        return call(memberFor(vehicleId), rpc, call);
+    }
+
+    /**
+     * Ejecuta una RPC en una sesión concreta (la que concedió el control de un vehículo)
+     */
+    public <T> T callOn(int memberIndex, UgcsRpc rpc, SessionCall<T> call) throws Exception {
+        var member = members.get(memberIndex);
+        if (!member.healthy) {
+            throw new UgcsUnavailableException("UgCS pool session #" + memberIndex + " is not healthy");
+        }
+        return call(member, rpc, call);
+    }
+
+    private <T> T call(Member member, UgcsRpc rpc, SessionCall<T> call) throws Exception {
+        var connection = member.connection;
+        if (connection == null) {
+            throw new UgcsUnavailableException("UgCS pool session #" + member.index + " is not connected");
+        }
+
+        member.inFlight.incrementAndGet();
+        try {
+            return rpcDeadlines.call(rpc, () -> call.call(connection.session()));
+        } catch (Exception e) {
+            if (isConnectionFailure(e)) {
+                markFailed(member, connection, e);
+            }
+            throw e;
+        } finally {
+            member.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Sesión propia del vehículo según el anillo, sin tener en cuenta su salud
+     */
+    public int homeMemberOf(String vehicleId) {
+        var node = ring.ceilingEntry(hash(vehicleId));
+        return node != null ? node.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Sesión por la que saldría ahora una RPC del vehículo: la propia o, si está caída, la de respaldo
+     */
+    public int currentMemberOf(String vehicleId) {
+        return memberFor(vehicleId).index;
+    }
+
+    public boolean isHealthy(int memberIndex) {
+        return members.get(memberIndex).healthy;
+    }
+
+    /**
+     * Notifica caídas y recuperaciones de sesión (índice de la sesión afectada)
+     */
+    public void setMemberStateListener(IntConsumer listener) {
+        this.memberStateListener = listener;
+    }
+
+    public int healthyCount() {
+        return (int) members.stream().filter(member -> member.healthy).count();
+    }
+
+    public int inFlight(int memberIndex) {
+        return members.get(memberIndex).inFlight.get();
+    }
+
+    private Member memberFor(String vehicleId) {
+        var home = members.get(homeMemberOf(vehicleId));
+        if (home.healthy) {
+            return home;
+        }
+        for (int index : ringWalk(vehicleId)) {
+            var member = members.get(index);
+            if (member.healthy) {
+                return member;
+            }
+        }
+        throw new UgcsUnavailableException("No healthy UgCS pool session available");
+    }
+
+    /**
+     * Sesiones distintas en el orden en que aparecen en el anillo a partir del hash del vehículo
+     */
+    private List<Integer> ringWalk(String vehicleId) {
+        var order = new ArrayList<Integer>(members.size());
+        int key = hash(vehicleId);
+        for (var nodes : List.of(ring.tailMap(key, true), ring.headMap(key, false))) {
+            for (var index : nodes.values()) {
+                if (!order.contains(index)) {
+                    order.add(index);
+                    if (order.size() == members.size()) {
+                        return order;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    private void markFailed(Member member, PooledConnection failed, Exception cause) {
+        synchronized (member) {
+            if (!member.healthy || member.connection != failed) {
+                return;
+            }
+            member.healthy = false;
+            // Cerrar el cliente aborta las lecturas bloqueadas de las RPC abandonadas en esta sesión
+            member.closeQuietly(failed);
+            member.connection = null;
+        }
+        log.warn("⚠️ UgCS pool session #{} lost: {}", member.index, cause.getMessage());
+        memberStateListener.accept(member.index);
+
+        var sessionConnector = connector;
+        if (sessionConnector != null) {
+            scheduleReconnect(member, sessionConnector, reconnect.getInitialDelay());
+        }
+    }
+
+    private void scheduleReconnect(Member member, SessionConnector sessionConnector, long delayMs) {
+        if (!reconnect.isEnabled()) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS, ugcsIoExecutor)
+                .execute(() -> reconnectMember(member, sessionConnector, delayMs));
+    }
+
+    private void reconnectMember(Member member, SessionConnector sessionConnector, long delayMs) {
+        // El pool se cerró o se volvió a conectar entretanto
+        if (connector != sessionConnector || member.healthy) {
+            return;
+        }
+
+        try {
+            member.open(sessionConnector.open());
+            member.reconnects.increment();
+            log.info("✅ UgCS pool session #{} reconnected", member.index);
+            memberStateListener.accept(member.index);
+        } catch (Exception e) {
+            long nextDelay = Math.min((long) (delayMs * reconnect.getMultiplier()), reconnect.getMaxDelay());
+            log.warn("UgCS pool session #{} reconnect failed, retrying in {} ms", member.index, nextDelay, e);
+            scheduleReconnect(member, sessionConnector, nextDelay);
+        }
+    }
+
+    private static boolean isConnectionFailure(Throwable error) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * FNV-1a con mezcla final de murmur3: reparte bien claves cortas y parecidas (drone-1, drone-2...)
+     */
+    static int hash(String key) {
+        int h = 0x811c9dc5;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static final class Member {
+
+        private final int index;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Counter reconnects;
+        private volatile PooledConnection connection;
+        private volatile boolean healthy;
+
+        private Member(int index, MeterRegistry meterRegistry) {
+            this.index = index;
+            var tag = Integer.toString(index);
+            Gauge.builder("umas.ugcs.pool.inflight", inFlight, AtomicInteger::get)
+                    .description("UgCS RPCs in flight on the pool session")
+                    .tag("session", tag)
+                    .register(meterRegistry);
+            Gauge.builder("umas.ugcs.pool.healthy", this, member -> member.healthy ? 1.0 : 0.0)
+                    .description("Whether the UgCS pool session is usable")
+                    .tag("session", tag)
+                    .register(meterRegistry);
+            this.reconnects = Counter.builder("umas.ugcs.pool.reconnects")
+                    .description("Completed reconnections of the UgCS pool session")
+                    .tag("session", tag)
+                    .register(meterRegistry);
+        }
+
+        private synchronized void open(PooledConnection opened) {
+            closeQuietly(connection);
+            connection = opened;
+            healthy = true;
+        }
+
+        private synchronized void close() {
+            healthy = false;
+            closeQuietly(connection);
+            connection = null;
+        }
+
+        private void closeQuietly(PooledConnection toClose) {
+            if (toClose == null) {
+                return;
+            }
+            try {
+                toClose.client().close();
+            } catch (Exception e) {
+                log.debug("Error closing UgCS pool session #{}", index, e);
+            }
+        }
+    }
+
+}
@@ -4,6 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "ugcs")
@@ -12,6 +15,12 @@ public class UgcsProperties {
     private Server server = new Server();
     private Credentials credentials = new Credentials();
     private Reconnect reconnect = new Reconnect();
+    private VehicleCache vehicleCache = new VehicleCache();
+    private Pool pool = new Pool();
+    private Deadlines deadlines = new Deadlines();
+    private ProcessedRouteCache processedRouteCache = new ProcessedRouteCache();
+    private UploadedRoutes uploadedRoutes = new UploadedRoutes();
+    private Monitor monitor = new Monitor();
 
     @Data
     public static class Server {
@@ -33,4 +42,73 @@ public class UgcsProperties {
         private double multiplier = 2.0;
     }
 
+    @Data
+    public static class VehicleCache {
+        /** Antigüedad máxima de la lista de vehículos antes de recargarla completa */
+        private long ttlMs = 300000;
+        /** Tiempo que se recuerda que un ID de vehículo no existe en el servidor */
+        private long negativeTtlMs = 10000;
+    }
+
+    @Data
+    public static class Pool {
+        /** Sesiones autenticadas para las RPC por vehículo (las suscripciones usan una sesión aparte) */
+        private int size = 4;
+        /** Nodos virtuales por sesión en el anillo de hash consistente */
+        private int virtualNodes = 64;
+    }
+
+    @Data
+    public static class Deadlines {
+        /** Plazo de las RPC sin entrada propia en rpc */
+        private long defaultMs = 10000;
+        /** Plazo por tipo de RPC (send-command, process-route...) en milisegundos */
+        private Map<String, Long> rpc = new HashMap<>(Map.of(
+                "send-command", 5000L,
+                "gain-control", 5000L,
+                "release-control", 5000L,
+                "process-route", 60000L,
+                "upload-route", 60000L,
+                "ping", 3000L
+        ));
+        /**
+         * RPC abandonadas por plazo cuyo thread sigue vivo (bloqueado en E/S) a partir de las
+         * cuales se rechazan RPC nuevas: las colgadas no pueden crecer fuera del tope de ugcsIoExecutor
+         */
+        private int maxAbandoned = 32;
+
+        public long deadlineMs(String rpcName) {
+            return rpc.getOrDefault(rpcName, defaultMs);
+        }
+    }
+
+    @Data
+    public static class ProcessedRouteCache {
+        /** Trayectorias procesadas que se conservan (LRU) */
+        private int maxEntries = 200;
+        /** Antigüedad máxima de una trayectoria procesada */
+        private long ttlMs = 3600000;
+    }
+
+    @Data
+    public static class UploadedRoutes {
+        /** Tiempo que se da por buena la ruta subida a un vehículo sin volver a subirla */
+        private long ttlMs = 3600000;
+        /** Compartir las rutas subidas entre réplicas y reinicios a través de Redis */
+        private boolean redisEnabled = true;
+    }
+
+    @Data
+    public static class Monitor {
+        private boolean enabled = true;
+        /** Intervalo entre pings a la sesión principal */
+        private long pingIntervalMs = 5000;
+        /** Pings fallidos consecutivos tras los que se reconecta */
+        private int failureThreshold = 2;
+        /** Tiempo sin telemetría tras el que un vehículo se publica como desconectado */
+        private long vehicleSilenceMs = 10000;
+        /** Tiempo sin telemetría de ningún vehículo tras el que se rehace la sesión */
+        private long fleetSilenceMs = 30000;
+    }
+
 }
@@ -1,61 +1,40 @@
 package co.cetad.umas.core.infrastructure.ugcs.config;
 
-import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
 
 /**
  * Configuración de inicio que conecta a UgCS e inicia las suscripciones
  * - Telemetría de drones
  * - Eventos de misión completa
+ *
+ * La conexión pasa por el ReconnectionCoordinator: si un consumidor de Kafka
+ * necesita la sesión mientras tanto, espera a este mismo intento y las
+ * suscripciones se inician una sola vez.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UgcsStartupConfiguration {
 
-    private final VehicleConnectionManager connectionManager;
+    private final ReconnectionCoordinator reconnectionCoordinator;
 
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
         log.info("🚀 Application ready, initializing UgCS connection and subscriptions...");
 
-        connectionManager.connect()
-                .doOnSuccess(v -> {
-                    // Una vez conectado, iniciar ambas suscripciones en paralelo
-                    startTelemetrySubscription().subscribe();
-                    startMissionCompleteSubscription().subscribe();
-                })
-                .doOnSuccess(v -> log.info("✅ UgCS connection established and all subscriptions started"))
-                .doOnError(e -> log.error("❌ Failed to initialize UgCS connection", e))
-                .subscribe(
-                        v -> log.info("✅ All UgCS services initialized successfully"),
-                        error -> log.error("❌ Fatal error during UgCS initialization", error)
-                );
+        reconnectionCoordinator.ensureConnected()
+                .whenComplete((v, error) -> {
+                    if (error == null) {
+                        log.info("✅ All UgCS services initialized successfully");
+                    } else {
+                        log.error("❌ Fatal error during UgCS initialization", error);
+                    }
+                });
     }
 
-    /**
-     * Inicia la suscripción de telemetría
-     */
-    private Mono<Void> startTelemetrySubscription() {
-        log.info("📡 Starting telemetry subscription...");
-        return connectionManager.subscribeTelemetry()
-                .doOnSuccess(v -> log.info("✅ Telemetry subscription active"))
-                .doOnError(e -> log.error("❌ Failed to start telemetry subscription", e));
-    }
-
-    /**
-     * Inicia la suscripción de eventos de misión completa
-     */
-    private Mono<Void> startMissionCompleteSubscription() {
-        log.info("🎯 Starting mission complete event subscription...");
-        return connectionManager.subscribeMissionComplete()
-                .doOnSuccess(v -> log.info("✅ Mission complete subscription active"))
-                .doOnError(e -> log.error("❌ Failed to start mission complete subscription", e));
-    }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Índice nombre → objeto de un tipo de UgCS con seguimiento de id
+ * para resolver renombrados y borrados (los eventos MT_REMOVE solo traen el id).
+ * Lecturas sin bloqueo; escrituras serializadas.
+ *
+ * UgCS permite nombres duplicados: se conservan todos los ids de cada nombre y la
+ * búsqueda devuelve uno de ellos; al borrar el visible pasa a verse el siguiente,
+ * de modo que el nombre no desaparece mientras quede algún objeto que lo use.
+ */
+final class NameIndex<T> {
+
+    private final Map<String, T> byName = new ConcurrentHashMap<>();
+    // Solo se tocan bajo el monitor
+    private final Map<Integer, T> objectsById = new HashMap<>();
+    private final Map<String, Set<Integer>> idsByName = new HashMap<>();
+    private final Function<T, String> nameOf;
+    private final ToIntFunction<T> idOf;
+
+    NameIndex(Function<T, String> nameOf, ToIntFunction<T> idOf) {
+        this.nameOf = nameOf;
+        this.idOf = idOf;
+    }
+
+    Optional<T> get(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    Collection<T> values() {
+        return byName.values();
+    }
+
+    int size() {
+        return byName.size();
+    }
+
+    /**
+     * Alta o modificación: el objeto pasa a ser el visible para su nombre; un renombrado
+     * libera el nombre anterior
+     */
+    synchronized void put(T object) {
+        var name = track(object);
+        byName.put(name, object);
+    }
+
+    /**
+     * Carga inicial: conserva la primera aparición de un nombre, igual que la búsqueda lineal
+     * original, y no pisa entradas más recientes llegadas por eventos durante el arranque.
+     * Los duplicados quedan registrados para sustituir al visible si se borra.
+     */
+    synchronized void putIfAbsent(T object) {
+        if (objectsById.containsKey(idOf.applyAsInt(object))) {
+            return;
+        }
+        var name = track(object);
+        byName.putIfAbsent(name, object);
+    }
+
+    /**
+     * Recarga completa: sustituye el contenido sin dejar el índice vacío entre medias
+     * (los lectores nunca ven un hueco) y descarta los ids que ya no existen.
+     */
+    synchronized void replaceAll(Collection<T> objects) {
+        var visible = new LinkedHashMap<String, T>();
+        objectsById.clear();
+        idsByName.clear();
+        for (var object : objects) {
+            visible.putIfAbsent(track(object), object);
+        }
+        byName.putAll(visible);
+        byName.keySet().retainAll(visible.keySet());
+    }
+
+    synchronized void remove(int id) {
+        var object = objectsById.remove(id);
+        if (object != null) {
+            detach(nameOf.apply(object), id);
+        }
+    }
+
+    synchronized void clear() {
+        byName.clear();
+        objectsById.clear();
+        idsByName.clear();
+    }
+
+    /**
+     * Registra el objeto bajo su id y su nombre actual, soltando el nombre anterior
+     * si es un renombrado
+     */
+    private String track(T object) {
+        int id = idOf.applyAsInt(object);
+        var name = nameOf.apply(object);
+        var previous = objectsById.put(id, object);
+        if (previous != null) {
+            var previousName = nameOf.apply(previous);
+            if (!previousName.equals(name)) {
+                detach(previousName, id);
+            }
+        }
+        idsByName.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(id);
+        return name;
+    }
+
+    /**
+     * Quita el id del nombre; si era el visible, pasa a verse otro objeto con ese nombre
+     */
+    private void detach(String name, int id) {
+        var ids = idsByName.get(name);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            idsByName.remove(name);
+            byName.remove(name);
+            return;
+        }
+        var current = byName.get(name);
+        if (current == null || idOf.applyAsInt(current) == id) {
+            byName.put(name, objectsById.get(ids.iterator().next()));
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caché de trayectorias procesadas (session.processRoute) por contenido de ruta y perfil
+ *
+ * processRoute es el paso más lento del arranque de una misión; volver a volar la
+ * misma ruta con el mismo perfil de vehículo reutiliza el resultado anterior.
+ *
+ * - Clave: SHA-256 de la definición de la ruta + perfil del vehículo
+ * - Acotada por tamaño (LRU, max-entries) y antigüedad (ttl-ms)
+ * - Los eventos de modificación o borrado de una ruta invalidan sus entradas
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.processed.route.cache (result=hit|miss)
+ * - umas.ugcs.processed.route.cache.size
+ */
+@Slf4j
+@Component
+public class ProcessedRouteCache {
+
+    private final UgcsProperties.ProcessedRouteCache properties;
+    private final Map<String, Entry> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ProcessedRouteCache(UgcsProperties ugcsProperties, MeterRegistry meterRegistry) {
+        this.properties = ugcsProperties.getProcessedRouteCache();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > properties.getMaxEntries();
+            }
+        };
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("umas.ugcs.processed.route.cache.size", this, ProcessedRouteCache::size)
+                .description("Processed routes held in the cache")
+                .register(meterRegistry);
+    }
+
+    public Optional<DomainProto.ProcessedRoute> get(DomainProto.Route route, DomainProto.VehicleProfile profile) {
+        var key = keyOf(route, profile);
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.cachedAt() < properties.getTtlMs()) {
+                hitCounter.increment();
+                return Optional.of(entry.processedRoute());
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    public void put(DomainProto.Route route, DomainProto.VehicleProfile profile,
+                    DomainProto.ProcessedRoute processedRoute) {
+        var entry = new Entry(route.getId(), processedRoute, System.currentTimeMillis());
+        synchronized (entries) {
+            entries.put(keyOf(route, profile), entry);
+        }
+    }
+
+    /**
+     * Descarta las trayectorias de una ruta modificada o borrada en el servidor
+     */
+    public void invalidateRoute(int routeId) {
+        synchronized (entries) {
+            if (entries.values().removeIf(entry -> entry.routeId() == routeId)) {
+                log.debug("Processed route cache invalidated for route #{}", routeId);
+            }
+        }
+    }
+
+    /**
+     * Aplica un evento de modificación de objeto; solo afectan los cambios y bajas de rutas
+     */
+    public void apply(DomainProto.ObjectModificationEvent event) {
+        if (UgcsObjectIndex.ROUTE_TYPE.equals(event.getObjectType())
+                && event.getModificationType() != DomainProto.ModificationType.MT_CREATE) {
+            invalidateRoute(event.getObjectId());
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static String keyOf(DomainProto.Route route, DomainProto.VehicleProfile profile) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(route.toByteArray());
+            digest.update(profile.toByteArray());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("umas.ugcs.processed.route.cache")
+                .description("Processed route cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(int routeId, DomainProto.ProcessedRoute processedRoute, long cachedAt) {
+    }
+
+}
@@ -0,0 +1,164 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import com.ugcs.ucs.client.ClientSession;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Índice local en memoria de objetos UgCS (Mission, Route, Vehicle) por nombre
+ *
+ * - Se carga una vez al conectar con getObjectList por tipo (los vehículos
+ *   los recarga VehicleRegistry, que añade TTL y caché negativa)
+ * - Se mantiene al día con los eventos de ObjectModificationSubscription
+ *   (MT_CREATE / MT_UPDATE / MT_REMOVE)
+ * - Las búsquedas por nombre pasan a ser un acceso a mapa, sin RPC al servidor
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.index.size (type): objetos indexados por tipo
+ */
+@Slf4j
+@Component
+public class UgcsObjectIndex {
+
+    public static final String MISSION_TYPE = "Mission";
+    public static final String ROUTE_TYPE = "Route";
+    public static final String VEHICLE_TYPE = "Vehicle";
+    public static final List<String> INDEXED_TYPES = List.of(MISSION_TYPE, ROUTE_TYPE, VEHICLE_TYPE);
+
+    private final NameIndex<DomainProto.Mission> missions =
+            new NameIndex<>(DomainProto.Mission::getName, DomainProto.Mission::getId);
+    private final NameIndex<DomainProto.Route> routes =
+            new NameIndex<>(DomainProto.Route::getName, DomainProto.Route::getId);
+    private final NameIndex<DomainProto.Vehicle> vehicles =
+            new NameIndex<>(DomainProto.Vehicle::getName, DomainProto.Vehicle::getId);
+
+    private volatile boolean ready;
+
+    public UgcsObjectIndex(MeterRegistry meterRegistry) {
+        registerSizeGauge(meterRegistry, MISSION_TYPE, missions);
+        registerSizeGauge(meterRegistry, ROUTE_TYPE, routes);
+        registerSizeGauge(meterRegistry, VEHICLE_TYPE, vehicles);
+    }
+
+    /**
+     * Carga inicial de misiones y rutas (una descarga por tipo)
+     * Debe llamarse con el listener de modificaciones ya registrado para no perder eventos.
+     */
+    public synchronized void bootstrap(ClientSession session) throws Exception {
+        long start = System.currentTimeMillis();
+
+        for (var wrapper : session.getObjectList(DomainProto.Mission.class)) {
+            missions.putIfAbsent(wrapper.getMission());
+        }
+        for (var wrapper : session.getObjectList(DomainProto.Route.class)) {
+            routes.putIfAbsent(wrapper.getRoute());
+        }
+
+        ready = true;
+        log.info("🗂️ UgCS object index loaded in {} ms: {} missions, {} routes",
+                System.currentTimeMillis() - start, missions.size(), routes.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Descarta el índice (desconexión): la próxima conexión vuelve a cargarlo
+     */
+    public synchronized void clear() {
+        ready = false;
+        missions.clear();
+        routes.clear();
+        vehicles.clear();
+    }
+
+    /**
+     * Aplica un evento de modificación de objeto; ignora tipos no indexados
+     */
+    public void apply(DomainProto.ObjectModificationEvent event) {
+        var type = event.getObjectType();
+        var modification = event.getModificationType();
+
+        switch (type) {
+            case MISSION_TYPE -> {
+                if (modification == DomainProto.ModificationType.MT_REMOVE) {
+                    missions.remove(event.getObjectId());
+                } else if (event.hasObject() && event.getObject().hasMission()) {
+                    missions.put(event.getObject().getMission());
+                }
+            }
+            case ROUTE_TYPE -> {
+                if (modification == DomainProto.ModificationType.MT_REMOVE) {
+                    routes.remove(event.getObjectId());
+                } else if (event.hasObject() && event.getObject().hasRoute()) {
+                    routes.put(event.getObject().getRoute());
+                }
+            }
+            case VEHICLE_TYPE -> {
+                if (modification == DomainProto.ModificationType.MT_REMOVE) {
+                    vehicles.remove(event.getObjectId());
+                } else if (event.hasObject() && event.getObject().hasVehicle()) {
+                    vehicles.put(event.getObject().getVehicle());
+                }
+            }
+            default -> {
+                return;
+            }
+        }
+        log.trace("Object index updated: {} {} #{}", modification, type, event.getObjectId());
+    }
+
+    public Optional<DomainProto.Mission> findMission(String name) {
+        return missions.get(name);
+    }
+
+    public Optional<DomainProto.Route> findRoute(String name) {
+        return routes.get(name);
+    }
+
+    public Optional<DomainProto.Vehicle> findVehicle(String name) {
+        return vehicles.get(name);
+    }
+
+    /**
+     * Rutas compatibles con un perfil de vehículo (recorrido local, sin RPC)
+     */
+    public List<DomainProto.Route> findRoutesByProfile(DomainProto.VehicleProfile profile) {
+        return routes.values().stream()
+                .filter(route -> route.getVehicleProfile().equals(profile))
+                .toList();
+    }
+
+    /**
+     * Registra un objeto recién creado/modificado por este servicio sin esperar al evento
+     */
+    public void putMission(DomainProto.Mission mission) {
+        missions.put(mission);
+    }
+
+    public void putRoute(DomainProto.Route route) {
+        routes.put(route);
+    }
+
+    /**
+     * Sustituye los vehículos indexados por una lista completa descargada del servidor
+     */
+    public void replaceVehicles(List<DomainProto.Vehicle> loaded) {
+        vehicles.replaceAll(loaded);
+    }
+
+    private static void registerSizeGauge(MeterRegistry meterRegistry, String type, NameIndex<?> index) {
+        Gauge.builder("umas.ugcs.index.size", index, NameIndex::size)
+                .description("UgCS objects held in the local index")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+}
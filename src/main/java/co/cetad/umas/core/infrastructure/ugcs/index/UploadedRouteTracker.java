@@ -0,0 +1,119 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import co.cetad.umas.core.domain.ports.out.UploadedRouteStore;
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Última ruta subida con éxito a cada vehículo, por contenido
+ *
+ * Reintentar una misión tras un fallo parcial volvía a procesar y subir rutas que
+ * el vehículo ya tenía cargadas. Si el hash de la ruta (definición + perfil del
+ * vehículo) coincide con el de la última subida a ese vehículo, se omiten
+ * processRoute y uploadRoute.
+ *
+ * - Memoria local con TTL (uploaded-routes.ttl-ms)
+ * - Respaldo opcional en Redis para réplicas y reinicios
+ * - Una subida fallida olvida la ruta: el estado del vehículo es incierto
+ *
+ * Debe invocarse desde el mailbox del vehículo.
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.route.uploads (result=uploaded|skipped)
+ */
+@Slf4j
+@Component
+public class UploadedRouteTracker {
+
+    private final UgcsProperties.UploadedRoutes properties;
+    private final Optional<UploadedRouteStore> uploadedRouteStore;
+
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    private final Counter uploadedCounter;
+    private final Counter skippedCounter;
+
+    public UploadedRouteTracker(UgcsProperties ugcsProperties,
+                                Optional<UploadedRouteStore> uploadedRouteStore,
+                                MeterRegistry meterRegistry) {
+        this.properties = ugcsProperties.getUploadedRoutes();
+        this.uploadedRouteStore = uploadedRouteStore;
+        this.uploadedCounter = uploadCounter(meterRegistry, "uploaded");
+        this.skippedCounter = uploadCounter(meterRegistry, "skipped");
+    }
+
+    /**
+     * Indica si el vehículo ya lleva cargada exactamente esta ruta; cuenta la subida omitida
+     */
+    public boolean isLoaded(String vehicleId, DomainProto.Vehicle vehicle, DomainProto.Route route) {
+        var routeHash = ProcessedRouteCache.keyOf(route, vehicle.getProfile());
+
+        var upload = uploads.get(vehicleId);
+        if (upload != null && upload.expiresAt() < System.currentTimeMillis()) {
+            uploads.remove(vehicleId, upload);
+            upload = null;
+        }
+
+        boolean loaded;
+        if (upload != null) {
+            loaded = upload.routeHash().equals(routeHash);
+        } else {
+            loaded = uploadedRouteStore.flatMap(store -> store.find(vehicleId))
+                    .filter(routeHash::equals)
+                    .isPresent();
+            if (loaded) {
+                remember(vehicleId, routeHash);
+            }
+        }
+
+        if (loaded) {
+            skippedCounter.increment();
+        }
+        return loaded;
+    }
+
+    /**
+     * Registra la ruta como cargada en el vehículo tras una subida correcta
+     */
+    public void recordUploaded(String vehicleId, DomainProto.Vehicle vehicle, DomainProto.Route route) {
+        var routeHash = ProcessedRouteCache.keyOf(route, vehicle.getProfile());
+        remember(vehicleId, routeHash);
+        uploadedRouteStore.ifPresent(store ->
+                store.save(vehicleId, routeHash, Duration.ofMillis(properties.getTtlMs())));
+        uploadedCounter.increment();
+    }
+
+    /**
+     * Olvida la ruta del vehículo (subida fallida o interrumpida)
+     */
+    public void forget(String vehicleId) {
+        if (uploads.remove(vehicleId) != null) {
+            log.debug("Uploaded route forgotten for vehicle: {}", vehicleId);
+        }
+        uploadedRouteStore.ifPresent(store -> store.remove(vehicleId));
+    }
+
+    private void remember(String vehicleId, String routeHash) {
+        uploads.put(vehicleId, new Upload(routeHash, System.currentTimeMillis() + properties.getTtlMs()));
+    }
+
+    private static Counter uploadCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("umas.ugcs.route.uploads")
+                .description("Route uploads to vehicles, performed or skipped because already loaded")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Upload(String routeHash, long expiresAt) {
+    }
+
+}
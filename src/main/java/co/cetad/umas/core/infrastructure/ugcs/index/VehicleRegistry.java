@@ -0,0 +1,151 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro de vehículos UgCS que sustituye a session.lookupVehicle en cada operación
+ *
+ * - Carga todos los vehículos (con su perfil embebido) al conectar
+ * - Las altas/cambios/bajas llegan por eventos a UgcsObjectIndex
+ * - Pasado el TTL se recarga la lista completa como red de seguridad ante eventos perdidos
+ * - Los IDs desconocidos se recuerdan durante negative-ttl para no repetir la descarga
+ *   con cada comando dirigido a un dron que no existe
+ * - La descarga la aporta quien llama (VehicleSource), con el plazo de RPC de su sesión
+ *
+ * MÉTRICAS:
+ * - umas.ugcs.vehicle.lookups (result=hit|miss|negative_hit)
+ * - umas.ugcs.vehicle.hit.ratio: aciertos sobre búsquedas totales
+ * - umas.ugcs.vehicle.refresh: latencia de la recarga completa
+ */
+@Slf4j
+@Component
+public class VehicleRegistry {
+
+    private final UgcsObjectIndex objectIndex;
+    private final UgcsProperties.VehicleCache properties;
+
+    private final Map<String, Long> unknownUntil = new ConcurrentHashMap<>();
+    private volatile long refreshedAt;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final Timer refreshTimer;
+
+    public VehicleRegistry(UgcsObjectIndex objectIndex, UgcsProperties ugcsProperties, MeterRegistry meterRegistry) {
+        this.objectIndex = objectIndex;
+        this.properties = ugcsProperties.getVehicleCache();
+
+        registerLookupCounter(meterRegistry, "hit", hits);
+        registerLookupCounter(meterRegistry, "miss", misses);
+        registerLookupCounter(meterRegistry, "negative_hit", negativeHits);
+        Gauge.builder("umas.ugcs.vehicle.hit.ratio", this, VehicleRegistry::hitRatio)
+                .description("Share of vehicle lookups answered without a server round trip")
+                .register(meterRegistry);
+        this.refreshTimer = Timer.builder("umas.ugcs.vehicle.refresh")
+                .description("Time to reload the full vehicle list from UgCS")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca un vehículo por nombre (el ID de vehículo usado en los comandos)
+     * Solo habla con el servidor si la lista caducó o el vehículo no se conoce.
+     */
+    public Optional<DomainProto.Vehicle> find(VehicleSource source, String vehicleId) throws Exception {
+        long seenRefresh = refreshedAt;
+        if (isFresh(seenRefresh)) {
+            var cached = objectIndex.findVehicle(vehicleId);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            var until = unknownUntil.get(vehicleId);
+            if (until != null && until > System.currentTimeMillis()) {
+                negativeHits.incrementAndGet();
+                return Optional.empty();
+            }
+        }
+
+        misses.incrementAndGet();
+        refreshUnlessNewer(source, seenRefresh);
+
+        var vehicle = objectIndex.findVehicle(vehicleId);
+        if (vehicle.isEmpty()) {
+            unknownUntil.put(vehicleId, System.currentTimeMillis() + properties.getNegativeTtlMs());
+        }
+        return vehicle;
+    }
+
+    /**
+     * Recarga la lista completa de vehículos (al conectar)
+     */
+    public synchronized void refresh(VehicleSource source) throws Exception {
+        long requestedAt = System.currentTimeMillis();
+        var sample = Timer.start();
+
+        var loaded = source.load();
+        objectIndex.replaceVehicles(loaded);
+        unknownUntil.clear();
+        refreshedAt = requestedAt;
+
+        long nanos = sample.stop(refreshTimer);
+        log.debug("🚁 Vehicle registry refreshed: {} vehicles in {} ms", loaded.size(), nanos / 1_000_000);
+    }
+
+    /**
+     * Las búsquedas concurrentes que fallan esperan a la misma descarga en lugar de repetirla
+     */
+    private synchronized void refreshUnlessNewer(VehicleSource source, long seenRefresh) throws Exception {
+        if (refreshedAt == seenRefresh) {
+            refresh(source);
+        }
+    }
+
+    /**
+     * Olvida el estado (desconexión): la siguiente búsqueda recarga desde el servidor
+     */
+    public void clear() {
+        refreshedAt = 0;
+        unknownUntil.clear();
+    }
+
+    double hitRatio() {
+        long answered = hits.get() + negativeHits.get();
+        long total = answered + misses.get();
+        return total == 0 ? 0.0 : (double) answered / total;
+    }
+
+    private boolean isFresh(long at) {
+        return at > 0 && System.currentTimeMillis() - at < properties.getTtlMs();
+    }
+
+    /**
+     * Descarga de la lista completa de vehículos desde UgCS
+     */
+    @FunctionalInterface
+    public interface VehicleSource {
+
+        List<DomainProto.Vehicle> load() throws Exception;
+    }
+
+    private void registerLookupCounter(MeterRegistry meterRegistry, String result, AtomicLong count) {
+        FunctionCounter.builder("umas.ugcs.vehicle.lookups", count, AtomicLong::get)
+                .description("Vehicle lookups by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,57 @@
+package co.cetad.umas.core.infrastructure.ugcs.listener.index;
+
+import co.cetad.umas.core.infrastructure.metrics.ObjectEventMetrics;
+import co.cetad.umas.core.infrastructure.ugcs.index.ProcessedRouteCache;
+import co.cetad.umas.core.infrastructure.ugcs.index.UgcsObjectIndex;
+import com.google.protobuf.ByteString;
+import com.ugcs.ucs.client.ServerNotification;
+import com.ugcs.ucs.client.ServerNotificationListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Mantiene el índice local de objetos UgCS y la caché de trayectorias procesadas
+ * al día con los eventos de la suscripción de modificaciones de objetos
+ *
+ * Los eventos de tipos no indexados (p. ej. VehicleLogEntry) se descartan comparando
+ * los bytes del tipo. El evento ya llega parseado entero: solo se evita decodificar
+ * el tipo como texto y aplicar el objeto al índice
+ */
+@Slf4j
+public record ObjectIndexNotificationListener(
+        UgcsObjectIndex objectIndex,
+        ProcessedRouteCache processedRouteCache,
+        ObjectEventMetrics.ListenerCounters counters
+) implements ServerNotificationListener {
+
+    public static final String LISTENER_NAME = "object_index";
+
+    private static final List<ByteString> INDEXED_TYPE_BYTES = UgcsObjectIndex.INDEXED_TYPES.stream()
+            .map(ByteString::copyFromUtf8)
+            .toList();
+
+    @Override
+    public void notificationReceived(ServerNotification event) {
+        try {
+            var wrapper = event.getEvent();
+            if (wrapper == null || !wrapper.hasObjectModificationEvent()) {
+                return;
+            }
+
+            var modification = wrapper.getObjectModificationEvent();
+            if (!INDEXED_TYPE_BYTES.contains(modification.getObjectTypeBytes())) {
+                counters.filtered().increment();
+                return;
+            }
+            counters.processed().increment();
+
+            objectIndex.apply(modification);
+            processedRouteCache.apply(modification);
+
+        } catch (Exception e) {
+            log.error("Error applying object modification to index", e);
+        }
+    }
+
+}
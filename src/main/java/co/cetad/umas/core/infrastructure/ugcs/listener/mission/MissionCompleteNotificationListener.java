@@ -4,20 +4,35 @@ import co.cetad.umas.core.domain.model.vo.DroneLocation;
 import co.cetad.umas.core.domain.model.vo.MissionCompleteData;
 import co.cetad.umas.core.domain.model.vo.TelemetryData;
 import co.cetad.umas.core.domain.ports.out.DroneCache;
+import co.cetad.umas.core.infrastructure.metrics.ObjectEventMetrics;
+import com.google.protobuf.ByteString;
 import com.ugcs.ucs.client.ServerNotification;
 import com.ugcs.ucs.client.ServerNotificationListener;
 import com.ugcs.ucs.proto.DomainProto;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Sinks;
 
+/**
+ * Detecta el fin de misión en las entradas de log de vehículo creadas en UgCS
+ *
+ * La suscripción del adaptador ya se limita en el servidor al tipo VehicleLogEntry,
+ * pero el cliente reparte todas las notificaciones a todos los listeners: los eventos
+ * de índice (Mission, Route, Vehicle) y las ediciones se descartan comparando el enum
+ * de modificación y los bytes del tipo. El cliente ya ha parseado el evento protobuf
+ * completo: el pre-filtro solo evita decodificar el tipo como texto y leer el objeto.
+ */
 @Slf4j
 public record MissionCompleteNotificationListener(
         Sinks.Many<MissionCompleteData> missionCompleteSink,
-        DroneCache droneCache
+        DroneCache droneCache,
+        ObjectEventMetrics.ListenerCounters counters
 ) implements ServerNotificationListener {
 
+    public static final String OBJECT_TYPE = "VehicleLogEntry";
+    public static final String LISTENER_NAME = "mission_complete";
+
     private static final String MISSION_COMPLETE_MESSAGE = "Current mission complete";
-    private static final String OBJECT_TYPE = "VehicleLogEntry";
+    private static final ByteString OBJECT_TYPE_BYTES = ByteString.copyFromUtf8(OBJECT_TYPE);
 
     @Override
     public void notificationReceived(ServerNotification event) {
@@ -29,15 +44,12 @@ public record MissionCompleteNotificationListener(
 
             var modEvent = wrapper.getObjectModificationEvent();
 
-            // Solo procesamos eventos de creación de VehicleLogEntry
-            if (!modEvent.getObjectType().equals(OBJECT_TYPE)) {
-                return;
-            }
-
-            if (!modEvent.getModificationType().equals(
-                    DomainProto.ModificationType.MT_CREATE)) {
+            // Pre-filtro: solo creaciones de VehicleLogEntry, antes de leer el objeto
+            if (!isVehicleLogCreation(modEvent)) {
+                counters.filtered().increment();
                 return;
             }
+            counters.processed().increment();
 
             // Obtener el objeto VehicleLogEntry
             if (!modEvent.hasObject() || !modEvent.getObject().hasVehicleLogEntry()) {
@@ -81,6 +93,16 @@ public record MissionCompleteNotificationListener(
         }
     }
 
+    /**
+     * El tipo de modificación es un enum y el tipo de objeto se compara en bytes:
+     * ninguno de los dos decodifica texto ni accede al objeto modificado (que ya viene
+     * parseado con el evento)
+     */
+    static boolean isVehicleLogCreation(DomainProto.ObjectModificationEvent modEvent) {
+        return modEvent.getModificationType() == DomainProto.ModificationType.MT_CREATE
+                && OBJECT_TYPE_BYTES.equals(modEvent.getObjectTypeBytes());
+    }
+
     /**
      * Crea MissionCompleteData intentando obtener la ubicación del dron
      */
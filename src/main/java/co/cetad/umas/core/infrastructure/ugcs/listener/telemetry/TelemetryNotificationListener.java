@@ -22,6 +22,11 @@ public record TelemetryNotificationListener(
         DroneCache droneCache
 ) implements ServerNotificationListener {
 
+    /**
+     * Cambio de altura que se emite aunque la posición horizontal no cambie (despegue, aterrizaje)
+     */
+    private static final double ALTITUDE_CHANGE_METERS = 0.5;
+
     @Override
     public void notificationReceived(ServerNotification event) {
         try {
@@ -107,8 +112,11 @@ public record TelemetryNotificationListener(
         // ---------------------------
         // 3. COMPARE WITH PREVIOUS LOCATION (avoid duplicates)
         // ---------------------------
-        if (prevLat == finalLat && prevLon == finalLon) {
+        if (prevLat == finalLat && prevLon == finalLon && !carriesModeChange(newData)
+                && Math.abs(finalAlt - prevAlt) < ALTITUDE_CHANGE_METERS) {
             // Same location → ignore, do NOT emit
+            // (mode and altitude changes still go through: they confirm commands such as
+            // AUTO or TAKEOFF sent to a vehicle that does not move horizontally)
             log.debug("Skipping telemetry for {} (same location as previous)", vehicleId);
             return;
         }
@@ -134,6 +142,13 @@ public record TelemetryNotificationListener(
         }
     }
 
+    /**
+     * UgCS solo envía los campos que cambian: si llega el modo, es que ha cambiado
+     */
+    public static boolean carriesModeChange(TelemetryData data) {
+        return data.fields().containsKey("flightMode") || data.fields().containsKey("controlMode");
+    }
+
     private TelemetryData processTelemetry(
             String vehicleId,
             List<DomainProto.Telemetry> telemetryList
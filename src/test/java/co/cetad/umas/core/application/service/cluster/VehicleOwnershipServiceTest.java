@@ -0,0 +1,171 @@
+package co.cetad.umas.core.application.service.cluster;
+
+import co.cetad.umas.core.domain.ports.out.ClusterMembershipStore;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleOwnershipService Tests")
+class VehicleOwnershipServiceTest {
+
+    private static final List<String> VEHICLES = IntStream.range(0, 300)
+            .mapToObj(i -> "drone-" + i)
+            .toList();
+
+    @Mock
+    private ClusterMembershipStore membershipStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private VehicleOwnershipService clusterNode(String nodeId) {
+        var properties = new ClusterProperties();
+        properties.setEnabled(true);
+        properties.setNodeId(nodeId);
+        return new VehicleOwnershipService(properties, Optional.of(membershipStore), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Standalone tests")
+    class StandaloneTests {
+
+        @Test
+        @DisplayName("Should own every vehicle when cluster mode is disabled")
+        void shouldOwnEveryVehicleWhenDisabled() {
+            var service = new VehicleOwnershipService(new ClusterProperties(), Optional.empty(), meterRegistry);
+
+            assertTrue(VEHICLES.stream().allMatch(service::owns));
+        }
+
+        @Test
+        @DisplayName("Should refuse to join the cluster without a node id")
+        void shouldRequireNodeIdInClusterMode() {
+            var service = clusterNode(null);
+
+            assertThrows(IllegalStateException.class, service::start);
+            verifyNoInteractions(membershipStore);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rendezvous hashing tests")
+    class RendezvousTests {
+
+        @Test
+        @DisplayName("Should assign each vehicle to exactly one node with a balanced share")
+        void shouldAssignEachVehicleToOneNode() {
+            var members = List.of("core-a", "core-b", "core-c");
+            Map<String, Integer> share = new HashMap<>();
+
+            VEHICLES.forEach(vehicle ->
+                    share.merge(VehicleOwnershipService.ownerOf(vehicle, members), 1, Integer::sum));
+
+            assertEquals(Set.copyOf(members), share.keySet());
+            share.values().forEach(count -> assertTrue(count > 60 && count < 140, "unbalanced share: " + share));
+        }
+
+        @Test
+        @DisplayName("Should only move the vehicles of a node that leaves")
+        void shouldOnlyMoveVehiclesOfLeavingNode() {
+            var before = List.of("core-a", "core-b", "core-c");
+            var after = List.of("core-a", "core-c");
+
+            VEHICLES.forEach(vehicle -> {
+                var previousOwner = VehicleOwnershipService.ownerOf(vehicle, before);
+                if (!previousOwner.equals("core-b")) {
+                    assertEquals(previousOwner, VehicleOwnershipService.ownerOf(vehicle, after));
+                }
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Membership tests")
+    class MembershipTests {
+
+        @Test
+        @DisplayName("Should split vehicles with the nodes seen in the store")
+        void shouldSplitVehiclesWithLiveNodes() {
+            when(membershipStore.liveMembers(any())).thenReturn(Set.of("core-a", "core-b"));
+            var nodeA = clusterNode("core-a");
+            var nodeB = clusterNode("core-b");
+
+            nodeA.refresh();
+            nodeB.refresh();
+
+            VEHICLES.forEach(vehicle -> assertNotEquals(nodeA.owns(vehicle), nodeB.owns(vehicle)));
+            verify(membershipStore).heartbeat("core-a");
+            verify(membershipStore, atLeastOnce()).liveMembers(Duration.ofMillis(6000));
+        }
+
+        @Test
+        @DisplayName("Should take over the vehicles of an expired node")
+        void shouldTakeOverVehiclesOfExpiredNode() {
+            when(membershipStore.liveMembers(any()))
+                    .thenReturn(Set.of("core-a", "core-b"))
+                    .thenReturn(Set.of("core-a"));
+            var node = clusterNode("core-a");
+
+            node.refresh();
+            assertFalse(VEHICLES.stream().allMatch(node::owns));
+
+            node.refresh();
+
+            assertTrue(VEHICLES.stream().allMatch(node::owns));
+            assertEquals(2.0, meterRegistry.get("umas.cluster.rebalances").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should keep the last known members when the store fails")
+        void shouldKeepLastMembersWhenStoreFails() {
+            when(membershipStore.liveMembers(any()))
+                    .thenReturn(Set.of("core-a", "core-b"))
+                    .thenThrow(new IllegalStateException("redis down"));
+            var node = clusterNode("core-a");
+
+            node.refresh();
+            node.refresh();
+
+            assertEquals(List.of("core-a", "core-b"), node.members());
+        }
+
+        @Test
+        @DisplayName("Should count events skipped for vehicles of other nodes")
+        void shouldCountSkippedEvents() {
+            when(membershipStore.liveMembers(any())).thenReturn(Set.of("core-a", "core-b"));
+            var node = clusterNode("core-a");
+            node.refresh();
+
+            long accepted = VEHICLES.stream()
+                    .filter(vehicle -> node.accepts(VehicleOwnershipService.STREAM_TELEMETRY, vehicle))
+                    .count();
+
+            assertEquals(VEHICLES.size() - accepted, (long) meterRegistry.get("umas.cluster.events.skipped")
+                    .tag("stream", "telemetry").counter().count());
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+package co.cetad.umas.core.application.service.cluster;
+
+import co.cetad.umas.core.domain.ports.out.VehicleWorkLeaseStore;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleWorkLeaseService Tests")
+class VehicleWorkLeaseServiceTest {
+
+    @Mock
+    private VehicleWorkLeaseStore leaseStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VehicleWorkLeaseService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var properties = new ClusterProperties();
+        properties.setEnabled(true);
+        properties.setNodeId("core-a");
+        service = new VehicleWorkLeaseService(properties, Optional.of(leaseStore), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Standalone tests")
+    class StandaloneTests {
+
+        @Test
+        @DisplayName("Should hold every vehicle when cluster mode is disabled")
+        void shouldHoldEveryVehicleWhenDisabled() {
+            var standalone = new VehicleWorkLeaseService(new ClusterProperties(), Optional.of(leaseStore), meterRegistry);
+
+            assertTrue(standalone.tryAcquire("drone-1"));
+            assertTrue(standalone.holds("drone-2"));
+            verifyNoInteractions(leaseStore);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cluster tests")
+    class ClusterTests {
+
+        @Test
+        @DisplayName("Should take the lease once and notify listeners")
+        void shouldTakeLeaseOnceAndNotify() {
+            var acquired = new ArrayList<String>();
+            service.addAcquireListener(acquired::add);
+            when(leaseStore.acquire("drone-1", "core-a", Duration.ofMillis(10000))).thenReturn(true);
+
+            assertTrue(service.tryAcquire("drone-1"));
+            assertTrue(service.tryAcquire("drone-1"));
+
+            verify(leaseStore, times(1)).acquire(any(), any(), any());
+            assertEquals(List.of("drone-1"), acquired);
+            assertTrue(service.holds("drone-1"));
+        }
+
+        @Test
+        @DisplayName("Should refuse a vehicle operated by another instance or when Redis fails")
+        void shouldRefuseVehicleOperatedElsewhere() {
+            when(leaseStore.acquire(eq("drone-1"), eq("core-a"), any())).thenReturn(false);
+            when(leaseStore.acquire(eq("drone-2"), eq("core-a"), any())).thenThrow(new RuntimeException("down"));
+
+            assertFalse(service.tryAcquire("drone-1"));
+            assertFalse(service.tryAcquire("drone-2"));
+
+            assertFalse(service.holds("drone-1"));
+            assertEquals(1.0, meterRegistry.get("umas.cluster.work.lease.conflicts").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should drop a lease another instance took, and keep it while Redis fails")
+        void shouldDropLostLeasesOnRenewal() {
+            when(leaseStore.acquire(eq("drone-1"), eq("core-a"), any())).thenReturn(true, false);
+            when(leaseStore.acquire(eq("drone-2"), eq("core-a"), any()))
+                    .thenReturn(true)
+                    .thenThrow(new RuntimeException("down"));
+            service.tryAcquire("drone-1");
+            service.tryAcquire("drone-2");
+
+            service.renewAll();
+
+            assertFalse(service.holds("drone-1"));
+            assertTrue(service.holds("drone-2"));
+            assertEquals(1.0, meterRegistry.get("umas.cluster.work.lease.lost").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should release held leases on shutdown")
+        void shouldReleaseHeldLeasesOnStop() {
+            when(leaseStore.acquire(eq("drone-1"), eq("core-a"), any())).thenReturn(true);
+            service.tryAcquire("drone-1");
+
+            service.stop();
+
+            verify(leaseStore).release("drone-1", "core-a");
+            assertFalse(service.holds("drone-1"));
+        }
+    }
+
+}
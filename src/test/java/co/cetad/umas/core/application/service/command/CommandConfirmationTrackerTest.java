@@ -0,0 +1,223 @@
+package co.cetad.umas.core.application.service.command;
+
+import co.cetad.umas.core.application.service.telemetry.TelemetryConditionAwaiter;
+import co.cetad.umas.core.domain.model.vo.DroneLocation;
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
+import co.cetad.umas.core.infrastructure.config.CommandConfirmationProperties;
+import co.cetad.umas.core.infrastructure.metrics.CommandStageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommandConfirmationTracker Tests")
+class CommandConfirmationTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TelemetryConditionAwaiter awaiter;
+    private CommandConfirmationProperties properties;
+    private CommandConfirmationTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        awaiter = new TelemetryConditionAwaiter(meterRegistry);
+        properties = new CommandConfirmationProperties();
+        tracker = new CommandConfirmationTracker(awaiter, properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Expectation tests")
+    class ExpectationTests {
+
+        @Test
+        @DisplayName("Should not track commands without a telemetry signature")
+        void shouldNotTrackUntrackedCommands() {
+            assertTrue(tracker.expect("vehicle-1", "arm").isEmpty());
+            assertEquals(0, awaiter.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should not track anything when confirmation is disabled")
+        void shouldNotTrackWhenDisabled() {
+            properties.setEnabled(false);
+
+            assertTrue(tracker.expect("vehicle-1", "auto").isEmpty());
+            assertEquals(0, awaiter.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should ignore telemetry that does not reach the target mode")
+        void shouldIgnoreTelemetryWithoutTargetMode() {
+            awaiter.onTelemetry(telemetry(10.0, Map.of("flightMode", "LOITER")));
+
+            var confirmation = tracker.expect("vehicle-1", "return_to_home").orElseThrow();
+            awaiter.onTelemetry(telemetry(10.0, Map.of("flightMode", "LOITER")));
+
+            assertFalse(confirmation.reactionTime().isDone());
+            confirmation.cancel();
+            assertEquals(0, awaiter.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should not confirm a mode command with a change to an unrelated mode")
+        void shouldNotConfirmUnrelatedModeChange() {
+            awaiter.onTelemetry(telemetry(10.0, Map.of("flightMode", "LOITER")));
+
+            var confirmation = tracker.expect("vehicle-1", "auto").orElseThrow();
+            awaiter.onTelemetry(telemetry(10.0, Map.of("flightMode", "RTL")));
+
+            assertFalse(confirmation.reactionTime().isDone());
+            confirmation.cancel();
+        }
+
+        @Test
+        @DisplayName("Should not track a mode command without configured target modes")
+        void shouldNotTrackModeCommandWithoutTargetModes() {
+            properties.getTargetModes().remove("joystick");
+
+            assertTrue(tracker.expect("vehicle-1", "joystick").isEmpty());
+            assertEquals(0, awaiter.pendingCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Reaction time tests")
+    class ReactionTimeTests {
+
+        @Test
+        @DisplayName("Should confirm takeoff once the vehicle climbs")
+        void shouldConfirmTakeoffWhenVehicleClimbs() {
+            awaiter.onTelemetry(telemetry(0.2, Map.of()));
+
+            var confirmation = tracker.expect("vehicle-1", "takeoff_command").orElseThrow();
+            var reaction = confirmation.reactionTime();
+            awaiter.onTelemetry(telemetry(0.8, Map.of()));
+            assertFalse(reaction.isDone());
+
+            awaiter.onTelemetry(telemetry(2.5, Map.of()));
+
+            assertNotNull(reaction.join());
+            assertEquals(1, meterRegistry.get(CommandConfirmationTracker.REACTION_TIMER)
+                    .tags("command", "takeoff_command", "outcome", CommandStageMetrics.OUTCOME_SUCCESS)
+                    .timer().count());
+        }
+
+        @Test
+        @DisplayName("Should confirm a mode command at once when the vehicle is already in the target mode")
+        void shouldConfirmWhenAlreadyInTargetMode() {
+            awaiter.onTelemetry(telemetry(30.0, Map.of("flightMode", "Auto")));
+
+            var reaction = tracker.expect("vehicle-1", "auto").orElseThrow().reactionTime();
+
+            assertTrue(reaction.isDone());
+            assertNotNull(reaction.join());
+        }
+
+        @Test
+        @DisplayName("Should confirm the target mode once the vehicle switches to it")
+        void shouldConfirmWhenVehicleReachesTargetMode() {
+            awaiter.onTelemetry(telemetry(30.0, Map.of("flightMode", "LOITER")));
+
+            var reaction = tracker.expect("vehicle-1", "return_to_home").orElseThrow().reactionTime();
+            assertFalse(reaction.isDone());
+
+            awaiter.onTelemetry(telemetry(30.0, Map.of("flightMode", "RTL")));
+
+            assertNotNull(reaction.join());
+        }
+
+        @Test
+        @DisplayName("Should confirm takeoff at once when the vehicle is already airborne")
+        void shouldConfirmTakeoffWhenAlreadyAirborne() {
+            awaiter.onTelemetry(telemetry(25.0, Map.of()));
+
+            var reaction = tracker.expect("vehicle-1", "takeoff_command").orElseThrow().reactionTime();
+
+            assertTrue(reaction.isDone());
+        }
+
+        @Test
+        @DisplayName("Should confirm landing at once when the vehicle is already on the ground")
+        void shouldConfirmLandingWhenAlreadyOnGround() {
+            awaiter.onTelemetry(telemetry(0.1, Map.of("flightMode", "LOITER")));
+
+            var reaction = tracker.expect("vehicle-1", "land_command").orElseThrow().reactionTime();
+
+            assertTrue(reaction.isDone());
+        }
+
+        @Test
+        @DisplayName("Should confirm landing with a mode change even before descending")
+        void shouldConfirmLandingWithModeChange() {
+            awaiter.onTelemetry(telemetry(30.0, Map.of("flightMode", "AUTO")));
+
+            var reaction = tracker.expect("vehicle-1", "land_command").orElseThrow().reactionTime();
+            awaiter.onTelemetry(telemetry(30.0, Map.of("flightMode", "LAND")));
+
+            assertNotNull(reaction.join());
+        }
+
+        @Test
+        @DisplayName("Should fail with timeout and record it when telemetry never confirms")
+        void shouldTimeOutWithoutConfirmation() {
+            properties.setTimeoutMs(50);
+
+            var reaction = tracker.expect("vehicle-1", "auto").orElseThrow().reactionTime();
+
+            var error = assertThrows(ExecutionException.class, reaction::get);
+            assertInstanceOf(TimeoutException.class, error.getCause());
+            assertEquals(1, meterRegistry.get(CommandConfirmationTracker.REACTION_TIMER)
+                    .tags("command", "auto", "outcome", CommandStageMetrics.OUTCOME_TIMEOUT)
+                    .timer().count());
+            assertEquals(0, awaiter.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should not start the confirmation deadline while the command is still queued")
+        void shouldStartDeadlineWhenSent() throws Exception {
+            properties.setTimeoutMs(50);
+
+            var confirmation = tracker.expect("vehicle-1", "auto").orElseThrow();
+            Thread.sleep(150);
+            assertEquals(1, awaiter.pendingCount());
+
+            confirmation.markSent();
+            var reaction = confirmation.reactionTime();
+
+            var error = assertThrows(ExecutionException.class, reaction::get);
+            assertInstanceOf(TimeoutException.class, error.getCause());
+        }
+
+        @Test
+        @DisplayName("Should measure the landing descent from the altitude at send time")
+        void shouldMeasureLandingFromSendAltitude() {
+            awaiter.onTelemetry(telemetry(30.0, Map.of("flightMode", "LOITER")));
+
+            var confirmation = tracker.expect("vehicle-1", "land_command").orElseThrow();
+            // Mientras espera en la cola el vehículo baja por su cuenta
+            awaiter.onTelemetry(telemetry(27.0, Map.of("flightMode", "LOITER")));
+            confirmation.markSent();
+            var reaction = confirmation.reactionTime();
+
+            awaiter.onTelemetry(telemetry(26.5, Map.of("flightMode", "LOITER")));
+            assertFalse(reaction.isDone());
+
+            awaiter.onTelemetry(telemetry(24.0, Map.of("flightMode", "LOITER")));
+            assertNotNull(reaction.join());
+        }
+    }
+
+    private static TelemetryData telemetry(double altitude, Map<String, Object> fields) {
+        return new TelemetryData("vehicle-1", DroneLocation.of(45.0, -73.0, altitude), fields, LocalDateTime.now());
+    }
+
+}
@@ -1,10 +1,18 @@
 package co.cetad.umas.core.application.service.command;
 
+import co.cetad.umas.core.application.service.telemetry.TelemetryConditionAwaiter;
+import co.cetad.umas.core.domain.exception.CommandSupersededException;
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
 import co.cetad.umas.core.domain.model.dto.CommandExecutionDTO;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
 import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import co.cetad.umas.core.domain.model.vo.DroneLocation;
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
 import co.cetad.umas.core.domain.ports.out.EventPublisher;
 import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.config.CommandConfirmationProperties;
+import co.cetad.umas.core.infrastructure.metrics.CommandStageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -36,11 +45,19 @@ class CommandExecutionServiceTest {
     @Mock
     private CommandValidator commandValidator;
 
+    private SimpleMeterRegistry meterRegistry;
+    private TelemetryConditionAwaiter telemetryAwaiter;
+    private CommandConfirmationProperties confirmationProperties;
     private CommandExecutionService service;
 
     @BeforeEach
     void setUp() {
-        service = new CommandExecutionService(ugcsClient, commandResultPublisher, commandValidator);
+        meterRegistry = new SimpleMeterRegistry();
+        telemetryAwaiter = new TelemetryConditionAwaiter(meterRegistry);
+        confirmationProperties = new CommandConfirmationProperties();
+        service = new CommandExecutionService(ugcsClient, commandResultPublisher, commandValidator,
+                new CommandStageMetrics(meterRegistry),
+                new CommandConfirmationTracker(telemetryAwaiter, confirmationProperties, meterRegistry));
     }
 
     @Nested
@@ -88,8 +105,8 @@ class CommandExecutionServiceTest {
     class ErrorHandlingTests {
 
         @Test
-        @DisplayName("Should return rejected status when not connected")
-        void shouldReturnRejectedStatusWhenNotConnected() throws Exception {
+        @DisplayName("Should return retryable failed status when not connected")
+        void shouldReturnFailedStatusWhenNotConnected() throws Exception {
             var command = createCommand("arm", Map.of());
 
             when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
@@ -97,9 +114,58 @@ class CommandExecutionServiceTest {
 
             var result = service.process(command).get();
 
+            assertEquals(CommandResultDTO.CommandStatus.FAILED, result.status());
+            assertEquals("Not connected to UgCS Server", result.message());
+        }
+
+        @Test
+        @DisplayName("Should return retryable failed status when the UgCS session drops mid-command")
+        void shouldReturnFailedStatusWhenSessionDrops() throws Exception {
+            var command = createCommand("arm", Map.of());
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.failedFuture(adapterFailure(
+                            new UgcsUnavailableException("No healthy UgCS pool session available"))));
+
+            var result = service.process(command).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.FAILED, result.status());
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown vehicle reported through the adapter wrapper")
+        void shouldRejectUnknownVehicleWrappedByAdapter() throws Exception {
+            var command = createCommand("arm", Map.of());
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.failedFuture(adapterFailure(
+                            new IllegalArgumentException("Vehicle not found: vehicle-1"))));
+
+            var result = service.process(command).get();
+
             assertEquals(CommandResultDTO.CommandStatus.REJECTED, result.status());
         }
 
+        @Test
+        @DisplayName("Should report a hung send wrapped by the adapter as timeout")
+        void shouldReportWrappedRpcTimeout() throws Exception {
+            var command = createCommand("arm", Map.of());
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.failedFuture(adapterFailure(
+                            new TimeoutException("UgCS RPC sendCommand exceeded 5000 ms"))));
+
+            var result = service.process(command).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.TIMEOUT, result.status());
+        }
+
         @Test
         @DisplayName("Should return failed status when validation fails")
         void shouldReturnFailedStatusWhenValidationFails() throws Exception {
@@ -143,6 +209,24 @@ class CommandExecutionServiceTest {
 
             assertEquals(CommandResultDTO.CommandStatus.TIMEOUT, result.status());
         }
+
+        @Test
+        @DisplayName("Should report superseded continuous control command")
+        void shouldReportSupersededContinuousControlCommand() throws Exception {
+            var command = createCommand("direct_vehicle_control",
+                    Map.of("pitch", 0.1, "roll", 0.0, "yaw", 0.0, "throttle", 0.5));
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.failedFuture(
+                            new CommandSupersededException("vehicle-1", "direct_vehicle_control")));
+
+            var result = service.process(command).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.SUPERSEDED, result.status());
+            verify(commandResultPublisher, never()).publish(any());
+        }
     }
 
     @Nested
@@ -166,6 +250,153 @@ class CommandExecutionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Stage metrics tests")
+    class StageMetricsTests {
+
+        @Test
+        @DisplayName("Should time each stage tagged by command and outcome")
+        void shouldTimeEachStageTaggedByCommandAndOutcome() throws Exception {
+            var command = createCommand("arm", Map.of());
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(commandResultPublisher.publish(any())).thenReturn(Mono.empty());
+
+            service.process(command).get();
+
+            for (var stage : new String[]{"validate", "connection_check", "ugcs_execute", "publish"}) {
+                assertEquals(1, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                        .tags("stage", stage, "command", "arm", "outcome", "success")
+                        .timer().count(), stage);
+            }
+            assertEquals(1, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                    .tags("stage", "service_total", "command", "arm", "outcome", "success")
+                    .timer().count());
+        }
+
+        @Test
+        @DisplayName("Should tag failed stage with error outcome")
+        void shouldTagFailedStageWithErrorOutcome() throws Exception {
+            var command = createCommand("arm", Map.of());
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("UgCS error")));
+
+            service.process(command).get();
+
+            assertEquals(1, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                    .tags("stage", "ugcs_execute", "outcome", "error")
+                    .timer().count());
+            assertEquals(1, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                    .tags("stage", "service_total", "outcome", "failed")
+                    .timer().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Telemetry confirmation tests")
+    class TelemetryConfirmationTests {
+
+        @Test
+        @DisplayName("Should succeed with the vehicle reaction time once telemetry shows the mode change")
+        void shouldSucceedWhenTelemetryConfirmsModeChange() throws Exception {
+            var command = createCommand("auto", Map.of());
+            telemetryAwaiter.onTelemetry(telemetry(Map.of("flightMode", "LOITER")));
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(commandResultPublisher.publish(any())).thenReturn(Mono.empty());
+
+            var pending = service.process(command);
+            assertFalse(pending.isDone());
+
+            telemetryAwaiter.onTelemetry(telemetry(Map.of("flightMode", "AUTO")));
+
+            var result = pending.get();
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
+            assertTrue(result.message().contains("confirmed by telemetry"));
+            assertEquals(1, meterRegistry.get(CommandConfirmationTracker.REACTION_TIMER)
+                    .tags("command", "auto", "outcome", CommandStageMetrics.OUTCOME_SUCCESS)
+                    .timer().count());
+        }
+
+        @Test
+        @DisplayName("Should report an accepted command as unconfirmed when telemetry never shows it")
+        void shouldReportUnconfirmedWithoutTelemetryConfirmation() throws Exception {
+            confirmationProperties.setTimeoutMs(50);
+            var command = createCommand("takeoff_command", Map.of("altitude", 10.0));
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(commandResultPublisher.publish(any())).thenReturn(Mono.empty());
+
+            var result = service.process(command).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.UNCONFIRMED, result.status());
+            assertTrue(result.message().contains("accepted by UgCS"));
+            assertEquals(0, telemetryAwaiter.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should not report a queued command as unconfirmed before it is sent")
+        void shouldStartConfirmationWindowWhenSent() throws Exception {
+            confirmationProperties.setTimeoutMs(50);
+            var command = createCommand("auto", Map.of());
+            var queued = new CompletableFuture<Boolean>();
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class))).thenReturn(queued);
+            when(commandResultPublisher.publish(any())).thenReturn(Mono.empty());
+
+            var pending = service.process(command);
+            Thread.sleep(150);
+            assertFalse(pending.isDone());
+
+            queued.complete(true);
+            telemetryAwaiter.onTelemetry(telemetry(Map.of("flightMode", "AUTO")));
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, pending.get().status());
+        }
+
+        @Test
+        @DisplayName("Should stop waiting for confirmation when UgCS rejects the command")
+        void shouldStopWaitingWhenCommandRejected() throws Exception {
+            var command = createCommand("auto", Map.of());
+
+            when(commandValidator.validate(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(false));
+            when(commandResultPublisher.publish(any())).thenReturn(Mono.empty());
+
+            var result = service.process(command).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.FAILED, result.status());
+            assertEquals(0, telemetryAwaiter.pendingCount());
+        }
+    }
+
+    /**
+     * Mismo envoltorio que aplica UgcsClientAdapter.executeCommand
+     */
+    private static RuntimeException adapterFailure(Exception cause) {
+        return new RuntimeException("Command execution failed: " + cause.getMessage(), cause);
+    }
+
+    private static TelemetryData telemetry(Map<String, Object> fields) {
+        return new TelemetryData("vehicle-1", DroneLocation.of(45.0, -73.0, 0.0), fields, LocalDateTime.now());
+    }
+
     private CommandExecutionDTO createCommand(String commandCode, Map<String, Double> arguments) {
         return new CommandExecutionDTO("vehicle-1", "mission-1", commandCode, arguments, 1);
     }
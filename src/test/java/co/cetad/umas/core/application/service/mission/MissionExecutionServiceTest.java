@@ -1,10 +1,16 @@
 package co.cetad.umas.core.application.service.mission;
 
+import co.cetad.umas.core.application.service.scheduling.PriorityScheduler;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
+import co.cetad.umas.core.domain.model.dto.DroneMissionStatusDTO;
 import co.cetad.umas.core.domain.model.dto.MissionExecutionDTO;
 import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
 import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.config.MissionPipelineProperties;
+import co.cetad.umas.core.infrastructure.config.PrioritySchedulerProperties;
 import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,10 +18,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,11 +37,25 @@ class MissionExecutionServiceTest {
     @Mock
     private UgcsClient ugcsClient;
 
+    private final List<DroneMissionStatusDTO> published = new CopyOnWriteArrayList<>();
+
+    private MissionStateMachine stateMachine;
+
     private MissionExecutionService service;
 
     @BeforeEach
     void setUp() {
-        service = new MissionExecutionService(ugcsClient);
+        stateMachine = new MissionStateMachine(new MissionPipelineProperties(), Optional.empty(),
+                status -> {
+                    published.add(status);
+                    return Mono.empty();
+                },
+                new SimpleMeterRegistry());
+        service = new MissionExecutionService(ugcsClient,
+                new PriorityScheduler(new PrioritySchedulerProperties(), new SimpleMeterRegistry()),
+                new RouteSimplifier(new SimpleMeterRegistry()),
+                new MissionPipeline(new MissionPipelineProperties(), new SimpleMeterRegistry()),
+                stateMachine);
     }
 
     @Nested
@@ -60,9 +82,9 @@ class MissionExecutionServiceTest {
                     .thenReturn(CompletableFuture.completedFuture(mockMission));
             when(ugcsClient.findRouteByName(anyString()))
                     .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
-            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class)))
+            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class), any()))
                     .thenReturn(CompletableFuture.completedFuture(mockVehicle));
-            when(ugcsClient.createMissionVehicle(any(), any()))
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
                     .thenReturn(CompletableFuture.completedFuture(true));
             when(ugcsClient.executeCommand(any(CommandRequest.class)))
                     .thenReturn(CompletableFuture.completedFuture(true));
@@ -73,6 +95,43 @@ class MissionExecutionServiceTest {
             assertTrue(result.message().contains("successfully"));
         }
 
+        @Test
+        @DisplayName("Should upload simplified route when mission requests simplification")
+        void shouldUploadSimplifiedRouteWhenMissionRequestsSimplification() throws Exception {
+            var waypoints = List.of(
+                    new MissionExecutionDTO.SimpleWaypoint(45.0, -73.0),
+                    new MissionExecutionDTO.SimpleWaypoint(45.001, -73.0),
+                    new MissionExecutionDTO.SimpleWaypoint(45.002, -73.0),
+                    new MissionExecutionDTO.SimpleWaypoint(45.003, -73.0)
+            );
+            var drones = List.of(
+                    MissionExecutionDTO.DroneExecution.create("drone-1", "route-1", 50.0, 100.0, waypoints)
+            );
+            var mission = new MissionExecutionDTO("mission-1", drones, 1,
+                    new MissionExecutionDTO.RouteSimplification(1.0));
+
+            var mockMission = DomainProto.Mission.newBuilder().setName("mission-1").build();
+            var mockVehicle = DomainProto.Vehicle.newBuilder().setName("drone-1").build();
+
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.findOrCreateMission(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(mockMission));
+            when(ugcsClient.findRouteByName(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+            when(ugcsClient.createAndUploadRoute(any(), any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(mockVehicle));
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.process(mission).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
+            verify(ugcsClient).createAndUploadRoute(any(),
+                    argThat(drone -> drone.waypoints().size() == 2), any(), any());
+        }
+
         @Test
         @DisplayName("Should execute mission with drone without waypoints")
         void shouldExecuteMissionWithDroneWithoutWaypoints() throws Exception {
@@ -134,9 +193,9 @@ class MissionExecutionServiceTest {
                     .thenReturn(CompletableFuture.completedFuture(mockMission));
             when(ugcsClient.findRouteByName(anyString()))
                     .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
-            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class)))
+            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class), any()))
                     .thenReturn(CompletableFuture.completedFuture(mockVehicle));
-            when(ugcsClient.createMissionVehicle(any(), any()))
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
                     .thenReturn(CompletableFuture.completedFuture(false));
 
             var result = service.process(mission).get();
@@ -165,9 +224,9 @@ class MissionExecutionServiceTest {
                     .thenReturn(CompletableFuture.completedFuture(mockMission));
             when(ugcsClient.findRouteByName(anyString()))
                     .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
-            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class)))
+            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class), any()))
                     .thenReturn(CompletableFuture.completedFuture(mockVehicle));
-            when(ugcsClient.createMissionVehicle(any(), any()))
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
                     .thenReturn(CompletableFuture.completedFuture(true));
             when(ugcsClient.executeCommand(any(CommandRequest.class)))
                     .thenReturn(CompletableFuture.completedFuture(false));
@@ -206,11 +265,11 @@ class MissionExecutionServiceTest {
                     .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
             when(ugcsClient.findRouteByName("route-2"))
                     .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
-            when(ugcsClient.uploadExistingRoute(eq("drone-1"), any(DomainProto.Route.class)))
+            when(ugcsClient.uploadExistingRoute(eq("drone-1"), any(DomainProto.Route.class), any()))
                     .thenReturn(CompletableFuture.completedFuture(mockVehicle1));
-            when(ugcsClient.uploadExistingRoute(eq("drone-2"), any(DomainProto.Route.class)))
+            when(ugcsClient.uploadExistingRoute(eq("drone-2"), any(DomainProto.Route.class), any()))
                     .thenReturn(CompletableFuture.completedFuture(mockVehicle2));
-            when(ugcsClient.createMissionVehicle(any(), any()))
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
                     .thenReturn(CompletableFuture.completedFuture(true));
             when(ugcsClient.executeCommand(any(CommandRequest.class)))
                     .thenReturn(CompletableFuture.completedFuture(true));
@@ -220,5 +279,177 @@ class MissionExecutionServiceTest {
             assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
             assertTrue(result.message().contains("2 drones"));
         }
+
+        @Test
+        @DisplayName("Should bound uploads per mission and start each drone as soon as its upload finishes")
+        void shouldBoundUploadsPerMissionAndStartEarly() throws Exception {
+            var properties = new MissionPipelineProperties();
+            properties.setPerMissionConcurrency(1);
+            var pipeline = new MissionPipeline(properties, new SimpleMeterRegistry());
+            service = new MissionExecutionService(ugcsClient,
+                    new PriorityScheduler(new PrioritySchedulerProperties(), new SimpleMeterRegistry()),
+                    new RouteSimplifier(new SimpleMeterRegistry()),
+                    pipeline,
+                    stateMachine);
+
+            var waypoints = List.of(new MissionExecutionDTO.SimpleWaypoint(45.0, -73.0));
+            var drones = List.of(
+                    MissionExecutionDTO.DroneExecution.create("drone-1", "route-1", 50.0, 100.0, waypoints),
+                    MissionExecutionDTO.DroneExecution.create("drone-2", "route-2", 50.0, 100.0, waypoints)
+            );
+            var mission = new MissionExecutionDTO("mission-1", drones, 1);
+
+            var mockMission = DomainProto.Mission.newBuilder().setName("mission-1").build();
+            var mockRoute = DomainProto.Route.newBuilder().setName("route").build();
+            var firstUpload = new CompletableFuture<DomainProto.Vehicle>();
+            var secondUpload = new CompletableFuture<DomainProto.Vehicle>();
+
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.findOrCreateMission(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(mockMission));
+            when(ugcsClient.findRouteByName(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
+            when(ugcsClient.uploadExistingRoute(eq("drone-1"), any(DomainProto.Route.class), any())).thenReturn(firstUpload);
+            when(ugcsClient.uploadExistingRoute(eq("drone-2"), any(DomainProto.Route.class), any())).thenReturn(secondUpload);
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.process(mission);
+
+            verify(ugcsClient).uploadExistingRoute(eq("drone-1"), any(DomainProto.Route.class), any());
+            verify(ugcsClient, never()).uploadExistingRoute(eq("drone-2"), any(DomainProto.Route.class), any());
+
+            firstUpload.complete(DomainProto.Vehicle.newBuilder().setName("drone-1").build());
+
+            // drone-1 arranca mientras drone-2 aún sube su ruta
+            verify(ugcsClient).executeCommand(argThat(command -> command.vehicleId().equals("drone-1")));
+            verify(ugcsClient).uploadExistingRoute(eq("drone-2"), any(DomainProto.Route.class), any());
+            assertFalse(result.isDone());
+
+            secondUpload.complete(DomainProto.Vehicle.newBuilder().setName("drone-2").build());
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.get().status());
+        }
+    }
+
+    @Nested
+    @DisplayName("Checkpoint and resume tests")
+    class CheckpointResumeTests {
+
+        private final DomainProto.Mission mockMission = DomainProto.Mission.newBuilder().setName("mission-1").build();
+        private final DomainProto.Vehicle mockVehicle = DomainProto.Vehicle.newBuilder().setName("drone-1").build();
+        private final DomainProto.Route mockRoute = DomainProto.Route.newBuilder().setName("route-1").build();
+
+        private MissionExecutionDTO singleDroneMission(String executionId) {
+            var waypoints = List.of(new MissionExecutionDTO.SimpleWaypoint(45.0, -73.0));
+            return new MissionExecutionDTO("mission-1", List.of(
+                    MissionExecutionDTO.DroneExecution.create("drone-1", "route-1", 50.0, 100.0, waypoints)), 1)
+                    .withExecutionId(executionId);
+        }
+
+        private void stubMissionAndUpload() {
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.findOrCreateMission(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(mockMission));
+            when(ugcsClient.findRouteByName(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
+            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class), any()))
+                    .thenReturn(CompletableFuture.completedFuture(mockVehicle));
+        }
+
+        @Test
+        @DisplayName("Should checkpoint and publish every transition in order")
+        void shouldCheckpointEveryTransition() throws Exception {
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.findOrCreateMission(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(mockMission));
+            when(ugcsClient.findRouteByName(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(mockRoute)));
+            when(ugcsClient.uploadExistingRoute(anyString(), any(DomainProto.Route.class), any()))
+                    .thenAnswer(invocation -> {
+                        invocation.<UgcsClient.RouteUploadListener>getArgument(2).processed();
+                        return CompletableFuture.completedFuture(mockVehicle);
+                    });
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.process(singleDroneMission("exec-1")).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
+            assertEquals(List.of(DroneMissionState.values()),
+                    published.stream().map(DroneMissionStatusDTO::state).toList());
+            assertEquals(DroneMissionState.STARTED, stateMachine.load("mission-1", "exec-1").get("drone-1"));
+        }
+
+        @Test
+        @DisplayName("Should check the route is still loaded before registering an uploaded drone")
+        void shouldCheckRouteBeforeResumingUploadedDrone() throws Exception {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.UPLOADED);
+            published.clear();
+            stubMissionAndUpload();
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.process(singleDroneMission("exec-1")).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
+            verify(ugcsClient).uploadExistingRoute(eq("drone-1"), any(DomainProto.Route.class), any());
+            assertEquals(List.of(DroneMissionState.REGISTERED, DroneMissionState.STARTED),
+                    published.stream().map(DroneMissionStatusDTO::state).toList());
+        }
+
+        @Test
+        @DisplayName("Should only send start commands to a registered drone that still carries its route")
+        void shouldOnlyStartRegisteredDrone() throws Exception {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.REGISTERED);
+            stubMissionAndUpload();
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.process(singleDroneMission("exec-1")).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
+            verify(ugcsClient).uploadExistingRoute(eq("drone-1"), any(DomainProto.Route.class), any());
+            verify(ugcsClient, never()).createMissionVehicle(any(), any(), any());
+            verify(ugcsClient).executeCommand(any(CommandRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should leave a drone already started in the same execution untouched")
+        void shouldSkipDroneStartedInSameExecution() throws Exception {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.STARTED);
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.findOrCreateMission(anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(mockMission));
+
+            var result = service.process(singleDroneMission("exec-1")).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
+            verify(ugcsClient, never()).uploadExistingRoute(anyString(), any(DomainProto.Route.class), any());
+            verify(ugcsClient, never()).executeCommand(any(CommandRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should execute a new execution from scratch even if a previous one started every drone")
+        void shouldRunNewExecutionFromScratch() throws Exception {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.STARTED);
+            stubMissionAndUpload();
+            when(ugcsClient.createMissionVehicle(any(), any(), any()))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.process(singleDroneMission("exec-2")).get();
+
+            assertEquals(CommandResultDTO.CommandStatus.SUCCESS, result.status());
+            verify(ugcsClient).uploadExistingRoute(eq("drone-1"), any(DomainProto.Route.class), any());
+            verify(ugcsClient).createMissionVehicle(any(), any(), any());
+        }
     }
 }
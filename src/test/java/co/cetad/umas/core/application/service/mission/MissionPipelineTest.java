@@ -0,0 +1,91 @@
+package co.cetad.umas.core.application.service.mission;
+
+import co.cetad.umas.core.infrastructure.config.MissionPipelineProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MissionPipeline Tests")
+class MissionPipelineTest {
+
+    private MissionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new MissionPipelineProperties();
+        properties.setStartConcurrency(1);
+        properties.setPerMissionConcurrency(1);
+        pipeline = new MissionPipeline(properties, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Cancellation tests")
+    class CancellationTests {
+
+        @Test
+        @DisplayName("Should drop queued start stages once the mission is cancelled")
+        void shouldDropQueuedStartStagesWhenCancelled() {
+            var progress = pipeline.start("mission-1", 2);
+            var firstStart = new CompletableFuture<Boolean>();
+            var started = new AtomicInteger();
+
+            progress.launch(() -> {
+                started.incrementAndGet();
+                return firstStart;
+            });
+            var queued = progress.launch(() -> {
+                started.incrementAndGet();
+                return CompletableFuture.completedFuture(true);
+            });
+
+            progress.cancel();
+            firstStart.complete(true);
+
+            assertEquals(1, started.get());
+            var error = assertThrows(ExecutionException.class, queued::get);
+            assertInstanceOf(CancellationException.class, error.getCause());
+        }
+
+        @Test
+        @DisplayName("Should free the slot of a dropped stage for other missions")
+        void shouldFreeSlotOfDroppedStage() throws Exception {
+            var cancelledMission = pipeline.start("mission-1", 2);
+            var firstStart = new CompletableFuture<Boolean>();
+            cancelledMission.launch(() -> firstStart);
+            cancelledMission.launch(() -> CompletableFuture.completedFuture(true));
+            var otherMission = pipeline.start("mission-2", 1).launch(() -> CompletableFuture.completedFuture(true));
+
+            cancelledMission.cancel();
+            firstStart.complete(true);
+
+            assertTrue(otherMission.get());
+        }
+
+        @Test
+        @DisplayName("Should not run steps waiting outside the pipeline after cancellation")
+        void shouldNotRunStepsAfterCancellation() {
+            var progress = pipeline.start("mission-1", 1);
+            var ran = new AtomicInteger();
+
+            progress.cancel();
+            var result = progress.ifActive(() -> {
+                ran.incrementAndGet();
+                return CompletableFuture.completedFuture(true);
+            });
+
+            assertTrue(progress.isCancelled());
+            assertEquals(0, ran.get());
+            assertTrue(result.isCompletedExceptionally());
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package co.cetad.umas.core.application.service.mission;
+
+import co.cetad.umas.core.domain.model.dto.DroneMissionStatusDTO;
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
+import co.cetad.umas.core.domain.ports.out.MissionCheckpointStore;
+import co.cetad.umas.core.infrastructure.config.MissionPipelineProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MissionStateMachine Tests")
+class MissionStateMachineTest {
+
+    @Mock
+    private MissionCheckpointStore checkpointStore;
+
+    private final List<DroneMissionStatusDTO> published = new ArrayList<>();
+
+    private MissionStateMachine stateMachine;
+
+    @BeforeEach
+    void setUp() {
+        stateMachine = new MissionStateMachine(new MissionPipelineProperties(), Optional.of(checkpointStore),
+                status -> {
+                    published.add(status);
+                    return Mono.empty();
+                },
+                new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Transition tests")
+    class TransitionTests {
+
+        @Test
+        @DisplayName("Should checkpoint and publish a forward transition")
+        void shouldCheckpointAndPublishForwardTransition() {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.UPLOADED);
+
+            verify(checkpointStore).save("mission-1", "exec-1", "drone-1", DroneMissionState.UPLOADED,
+                    Duration.ofHours(24));
+            assertEquals(1, published.size());
+            assertEquals(DroneMissionState.UPLOADED, published.get(0).state());
+            assertEquals("drone-1", published.get(0).vehicleId());
+        }
+
+        @Test
+        @DisplayName("Should ignore transitions that do not move the drone forward")
+        void shouldIgnoreBackwardTransitions() {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.REGISTERED);
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.UPLOADED);
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.REGISTERED);
+
+            verify(checkpointStore, times(1)).save(anyString(), anyString(), anyString(), any(), any());
+            assertEquals(1, published.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Load tests")
+    class LoadTests {
+
+        @Test
+        @DisplayName("Should keep the furthest state between memory and the shared store")
+        void shouldKeepFurthestState() {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.UPLOADED);
+            when(checkpointStore.find("mission-1", "exec-1")).thenReturn(Map.of(
+                    "drone-1", DroneMissionState.ROUTE_RESOLVED,
+                    "drone-2", DroneMissionState.STARTED));
+
+            var states = stateMachine.load("mission-1", "exec-1");
+
+            assertEquals(DroneMissionState.UPLOADED, states.get("drone-1"));
+            assertEquals(DroneMissionState.STARTED, states.get("drone-2"));
+        }
+
+        @Test
+        @DisplayName("Should not share checkpoints between executions of the same mission")
+        void shouldScopeCheckpointsToExecution() {
+            stateMachine.advance("mission-1", "exec-1", "drone-1", DroneMissionState.STARTED);
+            when(checkpointStore.find("mission-1", "exec-2")).thenReturn(Map.of());
+
+            assertTrue(stateMachine.load("mission-1", "exec-2").isEmpty());
+            verify(checkpointStore).save("mission-1", "exec-1", "drone-1", DroneMissionState.STARTED,
+                    Duration.ofHours(24));
+        }
+    }
+
+}
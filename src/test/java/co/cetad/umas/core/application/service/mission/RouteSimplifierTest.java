@@ -0,0 +1,162 @@
+package co.cetad.umas.core.application.service.mission;
+
+import co.cetad.umas.core.domain.model.dto.MissionExecutionDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RouteSimplifier Tests")
+class RouteSimplifierTest {
+
+    // ~1 m en grados cerca del ecuador
+    private static final double METER_IN_DEGREES = 0.000009;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RouteSimplifier simplifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        simplifier = new RouteSimplifier(meterRegistry);
+    }
+
+    private static MissionExecutionDTO.SimpleWaypoint wp(double latitude, double longitude) {
+        return new MissionExecutionDTO.SimpleWaypoint(latitude, longitude);
+    }
+
+    private static MissionExecutionDTO.DroneExecution drone(List<MissionExecutionDTO.SimpleWaypoint> waypoints) {
+        return MissionExecutionDTO.DroneExecution.create("drone-1", "route-1", 50.0, 100.0, waypoints);
+    }
+
+    @Nested
+    @DisplayName("Geometry tests")
+    class GeometryTests {
+
+        @Test
+        @DisplayName("Should drop collinear and duplicate points even with zero tolerance")
+        void shouldDropCollinearAndDuplicatePointsEvenWithZeroTolerance() {
+            var waypoints = List.of(
+                    wp(4.0, -74.0),
+                    wp(4.0, -74.0),
+                    wp(4.001, -74.0),
+                    wp(4.002, -74.0),
+                    wp(4.002, -74.001)
+            );
+
+            var result = RouteSimplifier.simplify(waypoints, 0.0);
+
+            assertEquals(List.of(wp(4.0, -74.0), wp(4.002, -74.0), wp(4.002, -74.001)), result);
+        }
+
+        @Test
+        @DisplayName("Should keep turn-backs of a survey pattern")
+        void shouldKeepTurnBacksOfASurveyPattern() {
+            // Ida y vuelta sobre la misma recta: el punto de giro no es colineal "entre" sus vecinos
+            var waypoints = List.of(
+                    wp(4.0, -74.0),
+                    wp(4.002, -74.0),
+                    wp(4.001, -74.0)
+            );
+
+            assertEquals(waypoints, RouteSimplifier.simplify(waypoints, 0.0));
+        }
+
+        @Test
+        @DisplayName("Should remove deviations below tolerance and keep corners above it")
+        void shouldRemoveDeviationsBelowToleranceAndKeepCornersAboveIt() {
+            // Tramo norte y tramo oeste con desvíos de ~2 m en su punto medio
+            var waypoints = List.of(
+                    wp(4.0, -74.0),
+                    wp(4.001, -74.0 + 2 * METER_IN_DEGREES),
+                    wp(4.002, -74.0),
+                    wp(4.002 + 2 * METER_IN_DEGREES, -74.001),
+                    wp(4.002, -74.002)
+            );
+
+            var result = RouteSimplifier.simplify(waypoints, 5.0);
+
+            assertEquals(List.of(waypoints.get(0), waypoints.get(2), waypoints.get(4)), result);
+        }
+
+        @Test
+        @DisplayName("Should always keep first and last points")
+        void shouldAlwaysKeepFirstAndLastPoints() {
+            var waypoints = new ArrayList<MissionExecutionDTO.SimpleWaypoint>();
+            for (int i = 0; i < 2000; i++) {
+                waypoints.add(wp(4.0 + i * 0.0001, -74.0 + (i % 2) * METER_IN_DEGREES));
+            }
+
+            var result = RouteSimplifier.simplify(waypoints, 10.0);
+
+            assertEquals(2, result.size());
+            assertEquals(waypoints.getFirst(), result.getFirst());
+            assertEquals(waypoints.getLast(), result.getLast());
+        }
+
+        @Test
+        @DisplayName("Should leave routes with fewer than three points untouched")
+        void shouldLeaveShortRoutesUntouched() {
+            var waypoints = List.of(wp(4.0, -74.0), wp(4.0, -74.0));
+
+            assertSame(waypoints, RouteSimplifier.simplify(waypoints, 100.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Mission settings and metrics tests")
+    class SettingsAndMetricsTests {
+
+        @Test
+        @DisplayName("Should return the same drone when mission has no simplification")
+        void shouldReturnSameDroneWhenMissionHasNoSimplification() {
+            var drone = drone(List.of(wp(4.0, -74.0), wp(4.001, -74.0), wp(4.002, -74.0)));
+
+            assertSame(drone, simplifier.simplify(drone, null));
+            assertEquals(0.0, meterRegistry.get("umas.route.simplification.points")
+                    .tag("stage", "input").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should count input and output points")
+        void shouldCountInputAndOutputPoints() {
+            var drone = drone(List.of(wp(4.0, -74.0), wp(4.001, -74.0), wp(4.002, -74.0)));
+
+            var result = simplifier.simplify(drone, new MissionExecutionDTO.RouteSimplification(1.0));
+
+            assertEquals(2, result.waypoints().size());
+            assertEquals("drone-1", result.vehicleId());
+            assertEquals(3.0, meterRegistry.get("umas.route.simplification.points")
+                    .tag("stage", "input").counter().count());
+            assertEquals(2.0, meterRegistry.get("umas.route.simplification.points")
+                    .tag("stage", "output").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should estimate upload time saved from observed cost per waypoint")
+        void shouldEstimateUploadTimeSavedFromObservedCostPerWaypoint() {
+            // 10 puntos en 100 ms -> 10 ms por punto; se eliminaron 90
+            simplifier.recordUpload(100, 10, TimeUnit.MILLISECONDS.toNanos(100));
+
+            var saved = meterRegistry.get("umas.route.simplification.upload.saved").timer();
+            assertEquals(1, saved.count());
+            assertEquals(900.0, saved.totalTime(TimeUnit.MILLISECONDS), 1.0);
+        }
+
+        @Test
+        @DisplayName("Should not record savings when nothing was removed")
+        void shouldNotRecordSavingsWhenNothingWasRemoved() {
+            simplifier.recordUpload(10, 10, TimeUnit.MILLISECONDS.toNanos(100));
+
+            assertEquals(0, meterRegistry.get("umas.route.simplification.upload.saved").timer().count());
+        }
+    }
+
+}
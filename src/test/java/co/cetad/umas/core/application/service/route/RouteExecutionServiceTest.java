@@ -0,0 +1,189 @@
+package co.cetad.umas.core.application.service.route;
+
+import co.cetad.umas.core.application.service.telemetry.TelemetryConditionAwaiter;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionDTO;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionResult;
+import co.cetad.umas.core.domain.model.dto.WaypointDTO;
+import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import co.cetad.umas.core.domain.model.vo.DroneLocation;
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
+import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.config.RouteExecutionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteExecutionService Tests")
+class RouteExecutionServiceTest {
+
+    @Mock
+    private UgcsClient ugcsClient;
+
+    private final List<RouteExecutionResult> published = new CopyOnWriteArrayList<>();
+
+    private TelemetryConditionAwaiter awaiter;
+    private RouteExecutionProperties properties;
+    private RouteExecutionService service;
+
+    @BeforeEach
+    void setUp() {
+        awaiter = new TelemetryConditionAwaiter(new SimpleMeterRegistry());
+        properties = new RouteExecutionProperties();
+        service = new RouteExecutionService(ugcsClient, awaiter,
+                result -> {
+                    published.add(result);
+                    return Mono.empty();
+                },
+                properties, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Telemetry confirmation tests")
+    class TelemetryConfirmationTests {
+
+        @Test
+        @DisplayName("Should advance each command as soon as telemetry confirms it")
+        void shouldAdvanceOnTelemetryConfirmation() throws Exception {
+            awaiter.onTelemetry(telemetry(44.9, -73.0, Map.of("flightMode", "LOITER")));
+            var commands = new CopyOnWriteArrayList<CommandRequest>();
+            when(ugcsClient.executeCommand(any(CommandRequest.class))).thenAnswer(invocation -> {
+                CommandRequest command = invocation.getArgument(0);
+                commands.add(command);
+                return CompletableFuture.completedFuture(true);
+            });
+
+            var result = service.executeRoute(route(new WaypointDTO(45.0, -73.0), new WaypointDTO(45.001, -73.0)));
+
+            // GUIDED enviado, a la espera del cambio de modo
+            assertEquals(1, commands.size());
+            assertFalse(result.isDone());
+
+            awaiter.onTelemetry(telemetry(44.9, -73.0, Map.of("flightMode", "GUIDED")));
+            assertEquals(2, commands.size());
+            assertEquals("waypoint", commands.get(1).commandCode());
+
+            awaiter.onTelemetry(telemetry(45.0, -73.0, Map.of()));
+            assertEquals(3, commands.size());
+
+            awaiter.onTelemetry(telemetry(45.001, -73.0, Map.of()));
+
+            var finalResult = result.get();
+            assertEquals(RouteExecutionResult.RouteStatus.COMPLETED, finalResult.status());
+            assertEquals(3, finalResult.completedCommands());
+            assertEquals(List.of("guided", "waypoint_1", "waypoint_2"), published.stream()
+                    .filter(r -> r.status() == RouteExecutionResult.RouteStatus.IN_PROGRESS)
+                    .map(RouteExecutionResult::currentCommand)
+                    .toList());
+        }
+
+        @Test
+        @DisplayName("Should confirm GUIDED at once when the vehicle is already in GUIDED")
+        void shouldConfirmGuidedWhenAlreadyGuided() {
+            awaiter.onTelemetry(telemetry(44.9, -73.0, Map.of("flightMode", "GUIDED")));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.executeRoute(route(new WaypointDTO(45.0, -73.0)));
+
+            verify(ugcsClient, times(2)).executeCommand(any(CommandRequest.class));
+            assertFalse(result.isDone());
+        }
+
+        @Test
+        @DisplayName("Should not confirm GUIDED with an unrelated mode change")
+        void shouldNotConfirmGuidedWithOtherMode() {
+            awaiter.onTelemetry(telemetry(44.9, -73.0, Map.of("flightMode", "LOITER")));
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.executeRoute(route(new WaypointDTO(45.0, -73.0)));
+            awaiter.onTelemetry(telemetry(44.9, -73.0, Map.of("flightMode", "RTL")));
+
+            verify(ugcsClient, times(1)).executeCommand(any(CommandRequest.class));
+            assertFalse(result.isDone());
+        }
+
+        @Test
+        @DisplayName("Should time out when the vehicle does not confirm a command")
+        void shouldTimeOutWithoutConfirmation() throws Exception {
+            properties.setModeConfirmationTimeoutMs(50);
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var result = service.executeRoute(route(new WaypointDTO(45.0, -73.0))).get();
+
+            assertEquals(RouteExecutionResult.RouteStatus.TIMEOUT, result.status());
+            assertEquals(0, result.completedCommands());
+            assertEquals("guided", result.currentCommand());
+            verify(ugcsClient, times(1)).executeCommand(any(CommandRequest.class));
+            assertEquals(0, awaiter.pendingCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should fail when UgCS rejects a command")
+        void shouldFailWhenCommandRejected() throws Exception {
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(false));
+
+            var result = service.executeRoute(route(new WaypointDTO(45.0, -73.0))).get();
+
+            assertEquals(RouteExecutionResult.RouteStatus.FAILED, result.status());
+            assertEquals("guided", result.currentCommand());
+            assertEquals(0, awaiter.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should reject a route without waypoints")
+        void shouldRejectRouteWithoutWaypoints() throws Exception {
+            var result = service.executeRoute(route()).get();
+
+            assertEquals(RouteExecutionResult.RouteStatus.FAILED, result.status());
+            verifyNoInteractions(ugcsClient);
+        }
+
+        @Test
+        @DisplayName("Should reject a second route on a vehicle that is already executing one")
+        void shouldRejectConcurrentRouteOnSameVehicle() throws Exception {
+            when(ugcsClient.executeCommand(any(CommandRequest.class)))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+
+            var first = service.executeRoute(route(new WaypointDTO(45.0, -73.0)));
+            var second = service.executeRoute(route(new WaypointDTO(45.0, -73.0))).get();
+
+            assertFalse(first.isDone());
+            assertEquals(RouteExecutionResult.RouteStatus.FAILED, second.status());
+            verify(ugcsClient, times(1)).executeCommand(any(CommandRequest.class));
+        }
+    }
+
+    private static RouteExecutionDTO route(WaypointDTO... waypoints) {
+        return new RouteExecutionDTO("drone-1", "mission-1", "Route 1", "route-1", List.of(waypoints), 1);
+    }
+
+    private static TelemetryData telemetry(double lat, double lon, Map<String, Object> fields) {
+        return new TelemetryData("drone-1", DroneLocation.of(lat, lon, 50.0), fields, LocalDateTime.now());
+    }
+
+}
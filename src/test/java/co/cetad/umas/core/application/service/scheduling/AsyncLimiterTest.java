@@ -0,0 +1,68 @@
+package co.cetad.umas.core.application.service.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncLimiter Tests")
+class AsyncLimiterTest {
+
+    @Nested
+    @DisplayName("Concurrency limit tests")
+    class ConcurrencyLimitTests {
+
+        @Test
+        @DisplayName("Should run at most the limit and start waiters in arrival order")
+        void shouldRunAtMostLimitInArrivalOrder() {
+            var limiter = new AsyncLimiter(2);
+            var started = new ArrayList<Integer>();
+            List<CompletableFuture<Void>> executions = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++) {
+                int id = i;
+                var execution = new CompletableFuture<Void>();
+                executions.add(execution);
+                limiter.submit(() -> {
+                    started.add(id);
+                    return execution;
+                });
+            }
+
+            assertEquals(List.of(0, 1), started);
+            assertEquals(2, limiter.waitingCount());
+
+            executions.get(1).complete(null);
+
+            assertEquals(List.of(0, 1, 2), started);
+            assertEquals(2, limiter.runningCount());
+        }
+
+        @Test
+        @DisplayName("Should release the slot when a task fails")
+        void shouldReleaseSlotOnFailure() {
+            var limiter = new AsyncLimiter(1);
+
+            var failed = limiter.submit(() -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+            var next = limiter.submit(() -> CompletableFuture.completedFuture("ok"));
+
+            var error = assertThrows(ExecutionException.class, failed::get);
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            assertEquals("ok", next.join());
+            assertEquals(0, limiter.runningCount());
+        }
+
+        @Test
+        @DisplayName("Should reject a limit below one")
+        void shouldRejectInvalidLimit() {
+            assertThrows(IllegalArgumentException.class, () -> new AsyncLimiter(0));
+        }
+    }
+
+}
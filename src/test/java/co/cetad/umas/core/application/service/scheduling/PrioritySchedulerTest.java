@@ -0,0 +1,159 @@
+package co.cetad.umas.core.application.service.scheduling;
+
+import co.cetad.umas.core.infrastructure.config.PrioritySchedulerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriorityScheduler Tests")
+class PrioritySchedulerTest {
+
+    private PrioritySchedulerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PriorityScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PrioritySchedulerProperties();
+        properties.setMaxConcurrent(1);
+        properties.setMaxQueued(2);
+        properties.setAgingIntervalMs(60_000);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PriorityScheduler(properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Ordering tests")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should run higher priority work before queued lower priority work")
+        void shouldRunHigherPriorityFirst() throws Exception {
+            var blocker = new CompletableFuture<String>();
+            List<String> order = new ArrayList<>();
+
+            scheduler.submit(1, () -> blocker);
+            var low = scheduler.submit(0, () -> {
+                order.add("low");
+                return CompletableFuture.completedFuture("low");
+            });
+            var critical = scheduler.submit(9, () -> {
+                order.add("critical");
+                return CompletableFuture.completedFuture("critical");
+            });
+
+            assertEquals(0, scheduler.queuedCount(PriorityScheduler.PriorityClass.NORMAL));
+            assertEquals(1, scheduler.queuedCount(PriorityScheduler.PriorityClass.LOW));
+
+            blocker.complete("done");
+
+            assertEquals("critical", critical.get());
+            assertEquals("low", low.get());
+            assertEquals(List.of("critical", "low"), order);
+        }
+
+        @Test
+        @DisplayName("Should promote old work through aging")
+        void shouldPromoteOldWorkThroughAging() throws Exception {
+            properties.setAgingIntervalMs(1);
+            var blocker = new CompletableFuture<String>();
+            List<String> order = new ArrayList<>();
+
+            scheduler.submit(1, () -> blocker);
+            var low = scheduler.submit(0, () -> {
+                order.add("low");
+                return CompletableFuture.completedFuture("low");
+            });
+            Thread.sleep(20);
+            var high = scheduler.submit(2, () -> {
+                order.add("high");
+                return CompletableFuture.completedFuture("high");
+            });
+
+            blocker.complete("done");
+            low.get();
+            high.get();
+
+            assertEquals(List.of("low", "high"), order);
+        }
+    }
+
+    @Nested
+    @DisplayName("Capacity tests")
+    class CapacityTests {
+
+        @Test
+        @DisplayName("Should preempt queued low priority work when full")
+        void shouldPreemptQueuedLowPriorityWorkWhenFull() {
+            scheduler.submit(1, () -> new CompletableFuture<String>());
+            var low1 = scheduler.submit(0, () -> CompletableFuture.completedFuture("low1"));
+            var low2 = scheduler.submit(0, () -> CompletableFuture.completedFuture("low2"));
+
+            var critical = scheduler.submit(9, () -> CompletableFuture.completedFuture("critical"));
+
+            var error = assertThrows(ExecutionException.class, low2::get);
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+            assertFalse(low1.isDone());
+            assertFalse(critical.isDone());
+            assertEquals(1.0, meterRegistry.get("umas.scheduler.preempted")
+                    .tag("priority", "LOW").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should reject incoming work when queue is full of higher priority work")
+        void shouldRejectIncomingWorkWhenFull() {
+            scheduler.submit(1, () -> new CompletableFuture<String>());
+            scheduler.submit(9, () -> CompletableFuture.completedFuture("a"));
+            scheduler.submit(9, () -> CompletableFuture.completedFuture("b"));
+
+            var low = scheduler.submit(0, () -> CompletableFuture.completedFuture("low"));
+
+            var error = assertThrows(ExecutionException.class, low::get);
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        }
+
+        @Test
+        @DisplayName("Should propagate task failures and release the slot")
+        void shouldPropagateTaskFailuresAndReleaseSlot() throws Exception {
+            var failed = scheduler.submit(1, () -> CompletableFuture.<String>failedFuture(new IllegalStateException("boom")));
+
+            var error = assertThrows(ExecutionException.class, failed::get);
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            assertEquals(0, scheduler.runningCount());
+            assertEquals("next", scheduler.submit(1, () -> CompletableFuture.completedFuture("next")).get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should record queue wait per priority class")
+        void shouldRecordQueueWaitPerPriorityClass() throws Exception {
+            scheduler.submit(9, () -> CompletableFuture.completedFuture("ok")).get();
+
+            assertEquals(1, meterRegistry.get("umas.scheduler.queue.wait")
+                    .tag("priority", "CRITICAL").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should map numeric priorities to classes")
+        void shouldMapNumericPrioritiesToClasses() {
+            assertEquals(PriorityScheduler.PriorityClass.LOW, PriorityScheduler.PriorityClass.of(0));
+            assertEquals(PriorityScheduler.PriorityClass.NORMAL, PriorityScheduler.PriorityClass.of(1));
+            assertEquals(PriorityScheduler.PriorityClass.HIGH, PriorityScheduler.PriorityClass.of(3));
+            assertEquals(PriorityScheduler.PriorityClass.CRITICAL, PriorityScheduler.PriorityClass.of(7));
+        }
+    }
+}
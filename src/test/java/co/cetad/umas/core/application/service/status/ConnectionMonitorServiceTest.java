@@ -0,0 +1,217 @@
+package co.cetad.umas.core.application.service.status;
+
+import co.cetad.umas.core.application.service.cluster.VehicleOwnershipService;
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
+import co.cetad.umas.core.domain.model.dto.VehicleStatusDTO;
+import co.cetad.umas.core.domain.model.vo.VehicleState;
+import co.cetad.umas.core.domain.ports.out.StatusNotifier;
+import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionMonitorService Tests")
+class ConnectionMonitorServiceTest {
+
+    @Mock
+    private UgcsClient ugcsClient;
+
+    @Mock
+    private ReconnectionCoordinator reconnectionCoordinator;
+
+    @Mock
+    private StatusNotifier statusNotifier;
+
+    private UgcsProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionMonitorService monitor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UgcsProperties();
+        properties.getMonitor().setFailureThreshold(2);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ConnectionMonitorService(ugcsClient, reconnectionCoordinator, statusNotifier,
+                new VehicleOwnershipService(new ClusterProperties(), Optional.empty(), meterRegistry),
+                properties, meterRegistry);
+    }
+
+    private void connected() {
+        when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+    }
+
+    private void pingSucceeds() {
+        when(ugcsClient.ping()).thenReturn(CompletableFuture.completedFuture(Duration.ofMillis(12)));
+    }
+
+    @Nested
+    @DisplayName("Ping tests")
+    class PingTests {
+
+        @Test
+        @DisplayName("Should record ping latency and stay healthy")
+        void shouldRecordPingLatency() {
+            connected();
+            pingSucceeds();
+
+            monitor.check();
+
+            assertTrue(monitor.isHealthy());
+            assertEquals(1, meterRegistry.get("umas.ugcs.ping").timer().count());
+            verify(reconnectionCoordinator, never()).reconnect();
+        }
+
+        @Test
+        @DisplayName("Should reconnect after consecutive ping failures")
+        void shouldReconnectAfterConsecutiveFailures() {
+            connected();
+            when(ugcsClient.ping()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("timeout")));
+            when(reconnectionCoordinator.reconnect()).thenReturn(CompletableFuture.completedFuture(null));
+
+            monitor.check();
+            verify(reconnectionCoordinator, never()).reconnect();
+
+            monitor.check();
+
+            assertFalse(monitor.isHealthy());
+            verify(reconnectionCoordinator).reconnect();
+            assertEquals(2.0, meterRegistry.get("umas.ugcs.ping.failures").counter().count());
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.session.reconnects")
+                    .tag("reason", "ping").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should not ping while disconnected")
+        void shouldNotPingWhileDisconnected() {
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(false));
+            when(reconnectionCoordinator.ensureConnected()).thenReturn(CompletableFuture.completedFuture(null));
+
+            monitor.check();
+
+            verify(ugcsClient, never()).ping();
+        }
+
+        @Test
+        @DisplayName("Should reconnect on its own while disconnected, backing off after a failure")
+        void shouldReconnectWhileDisconnectedWithBackoff() {
+            properties.getReconnect().setInitialDelay(60_000);
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(false));
+            when(reconnectionCoordinator.ensureConnected())
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("server down")));
+
+            monitor.check();
+            monitor.check();
+
+            verify(reconnectionCoordinator, times(1)).ensureConnected();
+            assertFalse(monitor.isHealthy());
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.session.reconnects")
+                    .tag("reason", "disconnected").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should keep trying every check once the backoff has elapsed")
+        void shouldRetryAfterBackoffElapses() throws Exception {
+            properties.getReconnect().setInitialDelay(1);
+            properties.getReconnect().setMaxDelay(1);
+            when(ugcsClient.isConnected()).thenReturn(CompletableFuture.completedFuture(false));
+            when(reconnectionCoordinator.ensureConnected())
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("server down")));
+
+            monitor.check();
+            Thread.sleep(5);
+            monitor.check();
+
+            verify(reconnectionCoordinator, times(2)).ensureConnected();
+        }
+
+        @Test
+        @DisplayName("Should skip checks while a reconnection is in progress")
+        void shouldSkipChecksWhileReconnecting() {
+            when(reconnectionCoordinator.isReconnecting()).thenReturn(true);
+
+            monitor.check();
+
+            verify(ugcsClient, never()).ping();
+            verify(reconnectionCoordinator, never()).reconnect();
+        }
+    }
+
+    @Nested
+    @DisplayName("Telemetry silence tests")
+    class TelemetrySilenceTests {
+
+        @Test
+        @DisplayName("Should publish silent vehicles as disconnected and resumed ones as connected")
+        void shouldPublishSilentAndResumedVehicles() {
+            properties.getMonitor().setVehicleSilenceMs(0);
+            connected();
+            pingSucceeds();
+            when(statusNotifier.notify(any())).thenReturn(Mono.empty());
+
+            monitor.recordTelemetry("drone-1");
+            monitor.check();
+            monitor.check();
+
+            assertEquals(Set.of("drone-1"), monitor.silentVehicles());
+
+            monitor.recordTelemetry("drone-1");
+
+            var statuses = ArgumentCaptor.forClass(VehicleStatusDTO.class);
+            verify(statusNotifier, times(2)).notify(statuses.capture());
+            assertEquals(VehicleState.ERROR, statuses.getAllValues().get(0).state());
+            assertFalse(statuses.getAllValues().get(0).connected());
+            assertTrue(statuses.getAllValues().get(1).connected());
+            assertTrue(monitor.silentVehicles().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reconnect once when the whole fleet goes silent")
+        void shouldReconnectOnceOnFleetSilence() {
+            properties.getMonitor().setFleetSilenceMs(0);
+            connected();
+            pingSucceeds();
+            when(statusNotifier.notify(any())).thenReturn(Mono.empty());
+            when(reconnectionCoordinator.reconnect()).thenReturn(CompletableFuture.completedFuture(null));
+
+            monitor.recordTelemetry("drone-1");
+            monitor.check();
+            monitor.check();
+
+            verify(reconnectionCoordinator, times(1)).reconnect();
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.session.reconnects")
+                    .tag("reason", "fleet_silence").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should not treat silence as failure before any telemetry arrived")
+        void shouldIgnoreSilenceBeforeFirstTelemetry() {
+            properties.getMonitor().setFleetSilenceMs(0);
+            connected();
+            pingSucceeds();
+
+            monitor.check();
+
+            verify(reconnectionCoordinator, never()).reconnect();
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package co.cetad.umas.core.application.service.telemetry;
+
+import co.cetad.umas.core.domain.model.vo.DroneLocation;
+import co.cetad.umas.core.domain.model.vo.TelemetryData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TelemetryConditionAwaiter Tests")
+class TelemetryConditionAwaiterTest {
+
+    private TelemetryConditionAwaiter awaiter;
+
+    @BeforeEach
+    void setUp() {
+        awaiter = new TelemetryConditionAwaiter(new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Await tests")
+    class AwaitTests {
+
+        @Test
+        @DisplayName("Should complete when a matching telemetry arrives for the vehicle")
+        void shouldCompleteOnMatchingTelemetry() {
+            var confirmation = awaiter.await("drone-1",
+                    TelemetryConditions.withinRadius(45.0, -73.0, 5.0), Duration.ofSeconds(5));
+
+            awaiter.onTelemetry(telemetry("drone-2", 45.0, -73.0, Map.of()));
+            awaiter.onTelemetry(telemetry("drone-1", 45.01, -73.0, Map.of()));
+            assertFalse(confirmation.isDone());
+
+            awaiter.onTelemetry(telemetry("drone-1", 45.00001, -73.0, Map.of()));
+
+            assertTrue(confirmation.isDone());
+            assertEquals(0, awaiter.pendingCount());
+        }
+
+        @Test
+        @DisplayName("Should complete immediately when the last known telemetry already matches")
+        void shouldCompleteImmediatelyWhenAlreadyMatching() {
+            awaiter.onTelemetry(telemetry("drone-1", 45.0, -73.0, Map.of()));
+
+            var confirmation = awaiter.await("drone-1",
+                    TelemetryConditions.withinRadius(45.0, -73.0, 5.0), Duration.ofSeconds(5));
+
+            assertTrue(confirmation.isDone());
+        }
+
+        @Test
+        @DisplayName("Should time out and release the wait when no confirmation arrives")
+        void shouldTimeOutWithoutConfirmation() {
+            var confirmation = awaiter.await("drone-1", t -> false, Duration.ofMillis(50));
+
+            var error = assertThrows(ExecutionException.class, confirmation::get);
+            assertInstanceOf(TimeoutException.class, error.getCause());
+            assertEquals(0, awaiter.pendingCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Mode change tests")
+    class ModeChangeTests {
+
+        @Test
+        @DisplayName("Should confirm the expected mode against the accumulated fields")
+        void shouldConfirmModeChange() {
+            awaiter.onTelemetry(telemetry("drone-1", 45.0, -73.0, Map.of("flightMode", "MANUAL")));
+            awaiter.onTelemetry(telemetry("drone-1", 45.0001, -73.0, Map.of("groundSpeed", 0.0)));
+
+            var confirmation = awaiter.await("drone-1",
+                    TelemetryConditions.modeIn(List.of("GUIDED")), Duration.ofSeconds(5));
+            assertFalse(confirmation.isDone());
+
+            awaiter.onTelemetry(telemetry("drone-1", 45.0001, -73.0, Map.of("flightMode", "GUIDED")));
+
+            assertTrue(confirmation.isDone());
+        }
+
+        @Test
+        @DisplayName("Should match numeric mode values written as text")
+        void shouldMatchNumericMode() {
+            var mode = TelemetryConditions.modeIn(List.of("2"));
+
+            assertFalse(mode.test(telemetry("drone-1", 45.0, -73.0, Map.of("controlMode", 1))));
+            assertTrue(mode.test(telemetry("drone-1", 45.0, -73.0, Map.of("controlMode", 2))));
+        }
+
+        @Test
+        @DisplayName("Should match the expected mode ignoring case and separators")
+        void shouldMatchExpectedMode() {
+            var guided = TelemetryConditions.modeIn(List.of("CLICK_GO"));
+
+            assertTrue(guided.test(telemetry("drone-1", 45.0, -73.0, Map.of("controlMode", "Click & Go"))));
+            assertFalse(guided.test(telemetry("drone-1", 45.0, -73.0, Map.of("flightMode", "RTL"))));
+            assertFalse(guided.test(telemetry("drone-1", 45.0, -73.0, Map.of())));
+        }
+
+        @Test
+        @DisplayName("Should confirm at once when the vehicle is already in the expected mode")
+        void shouldConfirmWhenAlreadyInExpectedMode() {
+            awaiter.onTelemetry(telemetry("drone-1", 45.0, -73.0, Map.of("flightMode", "GUIDED")));
+
+            var confirmation = awaiter.await("drone-1",
+                    TelemetryConditions.modeIn(List.of("GUIDED")), Duration.ofSeconds(5));
+
+            assertTrue(confirmation.isDone());
+        }
+    }
+
+    private static TelemetryData telemetry(String vehicleId, double lat, double lon, Map<String, Object> fields) {
+        return new TelemetryData(vehicleId, DroneLocation.of(lat, lon, 50.0), fields, LocalDateTime.now());
+    }
+
+}
@@ -1,8 +1,15 @@
 package co.cetad.umas.core.application.service.telemetry;
 
+import co.cetad.umas.core.application.service.cluster.VehicleOwnershipService;
+import co.cetad.umas.core.application.service.cluster.VehicleWorkLeaseService;
 import co.cetad.umas.core.domain.model.vo.DroneLocation;
 import co.cetad.umas.core.domain.model.vo.TelemetryData;
+import co.cetad.umas.core.domain.ports.out.ClusterMembershipStore;
+import co.cetad.umas.core.domain.ports.out.DroneCache;
 import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import co.cetad.umas.core.domain.ports.out.VehicleWorkLeaseStore;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,11 +19,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,11 +38,25 @@ class TelemetryProcessorServiceTest {
     @Mock
     private EventPublisher<TelemetryData> telemetryPublisher;
 
+    @Mock
+    private ClusterMembershipStore membershipStore;
+
+    @Mock
+    private VehicleWorkLeaseStore leaseStore;
+
+    @Mock
+    private DroneCache droneCache;
+
+    private TelemetryConditionAwaiter conditionAwaiter;
     private TelemetryProcessorService service;
 
     @BeforeEach
     void setUp() {
-        service = new TelemetryProcessorService(telemetryPublisher);
+        conditionAwaiter = new TelemetryConditionAwaiter(new SimpleMeterRegistry());
+        service = new TelemetryProcessorService(telemetryPublisher, conditionAwaiter,
+                new VehicleOwnershipService(new ClusterProperties(), Optional.empty(), new SimpleMeterRegistry()),
+                new VehicleWorkLeaseService(new ClusterProperties(), Optional.empty(), new SimpleMeterRegistry()),
+                droneCache);
     }
 
     @Nested
@@ -73,6 +99,73 @@ class TelemetryProcessorServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Cluster tests")
+    class ClusterTests {
+
+        private ClusterProperties properties;
+        private VehicleOwnershipService ownership;
+        private VehicleWorkLeaseService workLeases;
+        private TelemetryProcessorService clusterService;
+        private String foreignVehicle;
+
+        @BeforeEach
+        void setUpCluster() {
+            properties = new ClusterProperties();
+            properties.setEnabled(true);
+            properties.setNodeId("core-a");
+            when(membershipStore.liveMembers(any())).thenReturn(Set.of("core-a", "core-b"));
+            ownership = new VehicleOwnershipService(properties, Optional.of(membershipStore), new SimpleMeterRegistry());
+            ownership.start();
+            ownership.stop();
+            foreignVehicle = IntStream.range(0, 100)
+                    .mapToObj(i -> "drone-" + i)
+                    .filter(vehicle -> !ownership.owns(vehicle))
+                    .findFirst()
+                    .orElseThrow();
+            workLeases = new VehicleWorkLeaseService(properties, Optional.of(leaseStore), new SimpleMeterRegistry());
+            clusterService = new TelemetryProcessorService(telemetryPublisher, conditionAwaiter, ownership,
+                    workLeases, droneCache);
+            clusterService.trackLeasedVehicles();
+        }
+
+        @Test
+        @DisplayName("Should neither track nor publish telemetry of vehicles operated by another node")
+        void shouldIgnoreForeignTelemetry() throws Exception {
+            clusterService.process(createTelemetry(foreignVehicle, 45.0, -73.0, 100.0)).get();
+
+            assertTrue(conditionAwaiter.latest(foreignVehicle).isEmpty());
+            verify(telemetryPublisher, never()).publish(any());
+        }
+
+        @Test
+        @DisplayName("Should track a foreign vehicle while this node holds its work lease, starting from the shared cache")
+        void shouldTrackLeasedForeignVehicle() throws Exception {
+            var shared = createTelemetry(foreignVehicle, 45.0, -73.0, 50.0);
+            when(leaseStore.acquire(eq(foreignVehicle), eq("core-a"), any())).thenReturn(true);
+            when(droneCache.getTelemetry(foreignVehicle)).thenReturn(Optional.of(shared));
+
+            assertTrue(workLeases.tryAcquire(foreignVehicle));
+            assertEquals(shared, conditionAwaiter.latest(foreignVehicle).orElseThrow());
+
+            clusterService.process(createTelemetry(foreignVehicle, 45.0, -73.0, 100.0)).get();
+
+            assertEquals(100.0, conditionAwaiter.latest(foreignVehicle).orElseThrow().location().altitude());
+            verify(telemetryPublisher, never()).publish(any());
+        }
+
+        @Test
+        @DisplayName("Should keep feeding a pending confirmation after the work lease is released")
+        void shouldFeedPendingConfirmationAfterRelease() throws Exception {
+            var confirmation = conditionAwaiter.await(foreignVehicle,
+                    TelemetryConditions.altitudeAbove(80.0), Duration.ofSeconds(30));
+
+            clusterService.process(createTelemetry(foreignVehicle, 45.0, -73.0, 100.0)).get();
+
+            assertTrue(confirmation.isDone());
+        }
+    }
+
     private TelemetryData createTelemetry(String vehicleId, double lat, double lon, double alt) {
         var location = DroneLocation.of(lat, lon, alt);
         return new TelemetryData(vehicleId, location, Map.of(), LocalDateTime.now());
@@ -0,0 +1,130 @@
+package co.cetad.umas.core.application.service.ugcs;
+
+import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconnectionCoordinator Tests")
+class ReconnectionCoordinatorTest {
+
+    @Mock
+    private VehicleConnectionManager connectionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReconnectionCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coordinator = new ReconnectionCoordinator(connectionManager, meterRegistry);
+    }
+
+    private void subscriptionsAvailable() {
+        when(connectionManager.subscribeTelemetry()).thenReturn(Mono.never());
+        when(connectionManager.subscribeMissionComplete()).thenReturn(Mono.never());
+    }
+
+    @Nested
+    @DisplayName("Single-flight tests")
+    class SingleFlightTests {
+
+        @Test
+        @DisplayName("Should collapse concurrent requests into one connection attempt")
+        void shouldCollapseConcurrentRequests() throws Exception {
+            Sinks.Empty<Void> connection = Sinks.empty();
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(false));
+            when(connectionManager.connect()).thenReturn(connection.asMono());
+            subscriptionsAvailable();
+
+            var first = coordinator.ensureConnected();
+            var second = coordinator.ensureConnected();
+            var forced = coordinator.reconnect();
+
+            assertTrue(coordinator.isReconnecting());
+            assertFalse(first.isDone());
+
+            connection.tryEmitEmpty();
+
+            first.get();
+            second.get();
+            forced.get();
+            assertFalse(coordinator.isReconnecting());
+            verify(connectionManager, times(1)).connect();
+            assertEquals(2.0, meterRegistry.get("umas.ugcs.reconnect.requests")
+                    .tag("outcome", "joined").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should not reconnect when another caller already restored the session")
+        void shouldNotReconnectWhenAlreadyConnected() throws Exception {
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+
+            coordinator.ensureConnected().get();
+
+            verify(connectionManager, never()).connect();
+        }
+
+        @Test
+        @DisplayName("Should share a failure with all waiters and allow a new attempt")
+        void shouldShareFailureAndAllowNewAttempt() throws Exception {
+            when(connectionManager.connect())
+                    .thenReturn(Mono.error(new IllegalStateException("server down")))
+                    .thenReturn(Mono.empty());
+            subscriptionsAvailable();
+
+            var failed = coordinator.reconnect();
+
+            var error = assertThrows(ExecutionException.class, failed::get);
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.reconnect.failures").counter().count());
+
+            coordinator.reconnect().get();
+            verify(connectionManager, times(2)).connect();
+        }
+    }
+
+    @Nested
+    @DisplayName("Subscription tests")
+    class SubscriptionTests {
+
+        @Test
+        @DisplayName("Should start application subscriptions exactly once across reconnections")
+        void shouldStartSubscriptionsOnce() throws Exception {
+            when(connectionManager.connect()).thenReturn(Mono.empty());
+            subscriptionsAvailable();
+
+            coordinator.reconnect().get();
+            coordinator.reconnect().get();
+
+            verify(connectionManager, times(2)).connect();
+            verify(connectionManager, times(1)).subscribeTelemetry();
+            verify(connectionManager, times(1)).subscribeMissionComplete();
+        }
+
+        @Test
+        @DisplayName("Should not subscribe when the connection fails")
+        void shouldNotSubscribeWhenConnectionFails() {
+            when(connectionManager.connect()).thenReturn(Mono.error(new IllegalStateException("server down")));
+
+            assertThrows(ExecutionException.class, () -> coordinator.reconnect().get());
+
+            verify(connectionManager, never()).subscribeTelemetry();
+        }
+    }
+
+}
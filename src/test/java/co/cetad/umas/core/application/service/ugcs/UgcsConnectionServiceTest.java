@@ -1,5 +1,6 @@
 package co.cetad.umas.core.application.service.ugcs;
 
+import co.cetad.umas.core.application.service.cluster.VehicleOwnershipService;
 import co.cetad.umas.core.application.service.mission.MissionCompleteProcessorService;
 import co.cetad.umas.core.application.service.telemetry.TelemetryProcessorService;
 import co.cetad.umas.core.domain.model.vo.DroneLocation;
@@ -7,7 +8,9 @@ import co.cetad.umas.core.domain.model.vo.MissionCompleteData;
 import co.cetad.umas.core.domain.model.vo.TelemetryData;
 import co.cetad.umas.core.domain.ports.out.StatusNotifier;
 import co.cetad.umas.core.domain.ports.out.UgcsClient;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
 import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +24,7 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -63,10 +67,15 @@ class UgcsConnectionServiceTest {
                 statusNotifier,
                 telemetryProcessorService,
                 missionCompleteProcessorService,
+                standaloneOwnership(),
                 properties
         );
     }
 
+    private static VehicleOwnershipService standaloneOwnership() {
+        return new VehicleOwnershipService(new ClusterProperties(), Optional.empty(), new SimpleMeterRegistry());
+    }
+
     @Nested
     @DisplayName("Connect tests")
     class ConnectTests {
@@ -197,6 +206,7 @@ class UgcsConnectionServiceTest {
                     statusNotifier,
                     telemetryProcessorService,
                     missionCompleteProcessorService,
+                    standaloneOwnership(),
                     properties
             );
 
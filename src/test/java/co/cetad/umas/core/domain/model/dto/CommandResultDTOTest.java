@@ -73,11 +73,12 @@ class CommandResultDTOTest {
         void shouldHaveAllExpectedStatusValues() {
             var statuses = CommandResultDTO.CommandStatus.values();
 
-            assertEquals(4, statuses.length);
+            assertEquals(5, statuses.length);
             assertNotNull(CommandResultDTO.CommandStatus.SUCCESS);
             assertNotNull(CommandResultDTO.CommandStatus.FAILED);
             assertNotNull(CommandResultDTO.CommandStatus.REJECTED);
             assertNotNull(CommandResultDTO.CommandStatus.TIMEOUT);
+            assertNotNull(CommandResultDTO.CommandStatus.SUPERSEDED);
         }
 
         @Test
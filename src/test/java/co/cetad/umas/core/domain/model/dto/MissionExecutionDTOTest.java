@@ -86,6 +86,25 @@ class MissionExecutionDTOTest {
             assertEquals(1, mission1.priority());
             assertEquals(1, mission2.priority());
         }
+
+        @Test
+        @DisplayName("Should default to no simplification and reject negative tolerance")
+        void shouldDefaultToNoSimplificationAndRejectNegativeTolerance() {
+            var drones = List.of(
+                    MissionExecutionDTO.DroneExecution.createWithoutRoute("drone-1")
+            );
+
+            var plain = new MissionExecutionDTO("mission-1", drones, 1);
+            var simplified = new MissionExecutionDTO("mission-1", drones, 1,
+                    new MissionExecutionDTO.RouteSimplification(2.0));
+
+            assertFalse(plain.hasSimplification());
+            assertTrue(simplified.hasSimplification());
+            assertEquals(0.0, new MissionExecutionDTO.RouteSimplification(null).toleranceOrZero());
+            assertThrows(IllegalArgumentException.class, () ->
+                    new MissionExecutionDTO.RouteSimplification(-1.0)
+            );
+        }
     }
 
     @Nested
@@ -56,6 +56,25 @@ class RouteExecutionResultTest {
             assertNotNull(result.endTime());
         }
 
+        @Test
+        @DisplayName("Should create timeout result")
+        void shouldCreateTimeoutResult() {
+            var startTime = Instant.now().minusSeconds(60);
+
+            var result = RouteExecutionResult.timeout(
+                    "vehicle-1", "route-1", 2, 5, "waypoint_3", startTime
+            );
+
+            assertEquals(RouteExecutionResult.RouteStatus.TIMEOUT, result.status());
+            assertEquals(2, result.completedCommands());
+            assertEquals(5, result.totalCommands());
+            assertEquals("waypoint_3", result.currentCommand());
+            assertTrue(result.message().contains("command 3"));
+            assertEquals(1, result.errors().size());
+            assertEquals(startTime, result.startTime());
+            assertNotNull(result.endTime());
+        }
+
         @Test
         @DisplayName("Should create failed result")
         void shouldCreateFailedResult() {
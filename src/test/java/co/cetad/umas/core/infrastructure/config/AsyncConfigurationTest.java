@@ -1,5 +1,6 @@
 package co.cetad.umas.core.infrastructure.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +24,8 @@ class AsyncConfigurationTest {
         ReflectionTestUtils.setField(config, "dronePoolMaxSize", 50);
         ReflectionTestUtils.setField(config, "droneQueueCapacity", 100);
         ReflectionTestUtils.setField(config, "droneKeepAliveSeconds", 60L);
+        ReflectionTestUtils.setField(config, "ugcsMaxConcurrent", 32);
+        ReflectionTestUtils.setField(config, "ugcsMaxQueued", 1000);
     }
 
     @Nested
@@ -66,6 +69,23 @@ class AsyncConfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("ugcsIoExecutor tests")
+    class UgcsIoExecutorTests {
+
+        @Test
+        @DisplayName("Should create instrumented UgCS I/O executor")
+        void shouldCreateInstrumentedUgcsIoExecutor() {
+            var meterRegistry = new SimpleMeterRegistry();
+            var executor = config.ugcsIoExecutor(meterRegistry);
+
+            assertNotNull(executor);
+            assertNotNull(meterRegistry.find("umas.executor.active").tag("name", "ugcs-io").gauge());
+
+            executor.shutdown();
+        }
+    }
+
     @Nested
     @DisplayName("cpuBoundExecutor tests")
     class CpuBoundExecutorTests {
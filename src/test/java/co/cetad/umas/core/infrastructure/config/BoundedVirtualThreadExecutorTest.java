@@ -0,0 +1,134 @@
+package co.cetad.umas.core.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedVirtualThreadExecutor Tests")
+class BoundedVirtualThreadExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedVirtualThreadExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new BoundedVirtualThreadExecutor("test-io", 2, 3, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Concurrency cap tests")
+    class ConcurrencyCapTests {
+
+        @Test
+        @DisplayName("Should run tasks on virtual threads")
+        void shouldRunTasksOnVirtualThreads() throws Exception {
+            var virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor);
+
+            assertTrue(virtual.get(1, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should never run more tasks than the cap")
+        void shouldNeverExceedCap() throws Exception {
+            var running = new AtomicInteger();
+            var maxRunning = new AtomicInteger();
+            var futures = new CompletableFuture<?>[3];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(50);
+                    running.decrementAndGet();
+                }, executor);
+            }
+
+            CompletableFuture.allOf(futures).get(2, TimeUnit.SECONDS);
+
+            assertEquals(2, maxRunning.get());
+            assertEquals(3L, meterRegistry.get("umas.executor.wait").tag("name", "test-io").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should report active and queued tasks")
+        void shouldReportActiveAndQueuedTasks() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                executor.execute(this::awaitRelease);
+            }
+
+            waitUntil(() -> executor.activeCount() == 2 && executor.queuedCount() == 1);
+
+            assertEquals(2.0, meterRegistry.get("umas.executor.active").tag("name", "test-io").gauge().value());
+            assertEquals(1.0, meterRegistry.get("umas.executor.queued").tag("name", "test-io").gauge().value());
+        }
+
+        private void awaitRelease() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejection tests")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("Should reject work once the queue is full")
+        void shouldRejectWhenQueueFull() {
+            // Los permisos se agotan con 2 tareas bloqueadas; la cola admite 3 en espera
+            Runnable blocked = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            executor.execute(blocked);
+            executor.execute(blocked);
+            waitUntil(() -> executor.activeCount() == 2);
+            for (int i = 0; i < 3; i++) {
+                executor.execute(blocked);
+            }
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+            assertEquals(1.0, meterRegistry.get("umas.executor.rejected").tag("name", "test-io").counter().count());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
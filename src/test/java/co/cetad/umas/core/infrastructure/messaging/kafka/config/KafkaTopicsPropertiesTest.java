@@ -39,10 +39,20 @@ class KafkaTopicsPropertiesTest {
             assertEquals("umas.drone.execute", properties.getCommands());
         }
 
+        @Test
+        @DisplayName("Should have default retry and dead-letter topics")
+        void shouldHaveDefaultRetryAndDeadLetterTopics() {
+            assertEquals("umas.drone.execute.retry", properties.getCommandsRetry());
+            assertEquals("umas.drone.execute.dlt", properties.getCommandsDlt());
+            assertEquals("umas.drone.mission.retry", properties.getMissionRetry());
+            assertEquals("umas.drone.mission.dlt", properties.getMissionDlt());
+        }
+
         @Test
         @DisplayName("Should have default routes topic")
         void shouldHaveDefaultRoutesTopic() {
             assertEquals("umas.drone.route.execute", properties.getRoutes());
+            assertEquals("umas.drone.route.execute.dlt", properties.getRoutesDlt());
         }
 
         @Test
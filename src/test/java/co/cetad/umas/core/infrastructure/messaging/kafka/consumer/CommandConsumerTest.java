@@ -1,9 +1,19 @@
 package co.cetad.umas.core.infrastructure.messaging.kafka.consumer;
 
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
 import co.cetad.umas.core.domain.model.dto.CommandExecutionDTO;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
 import co.cetad.umas.core.domain.ports.in.EventProcessor;
 import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaIdempotencyProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.idempotency.IdempotencyCache;
+import co.cetad.umas.core.infrastructure.messaging.kafka.offset.OffsetCommitTracker;
+import co.cetad.umas.core.infrastructure.messaging.kafka.retry.RetryTopicRouter;
+import co.cetad.umas.core.infrastructure.metrics.CommandStageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,12 +21,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.Acknowledgment;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,11 +48,19 @@ class CommandConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Mock
+    private RetryTopicRouter retryTopicRouter;
+
     private CommandConsumer consumer;
 
     @BeforeEach
     void setUp() {
-        consumer = new CommandConsumer(commandExecutionService, connectionManager);
+        consumer = new CommandConsumer(commandExecutionService, connectionManager,
+                new ReconnectionCoordinator(connectionManager, new SimpleMeterRegistry()), new OffsetCommitTracker(),
+                retryTopicRouter,
+                new IdempotencyCache(new KafkaIdempotencyProperties(), Optional.empty(), new SimpleMeterRegistry(), Runnable::run),
+                new CommandStageMetrics(new SimpleMeterRegistry()),
+                new KafkaTopicsProperties());
     }
 
     @Nested
@@ -60,13 +84,38 @@ class CommandConsumerTest {
             when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
             when(commandExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
 
-            consumer.consumeCommand(message, acknowledgment);
+            consumer.consumeCommand(toRecord(message), acknowledgment);
 
             Thread.sleep(100); // Wait for async processing
             verify(acknowledgment).acknowledge();
             verify(commandExecutionService).process(any(CommandExecutionDTO.class));
         }
 
+        @Test
+        @DisplayName("Should not re-execute a redelivered command")
+        void shouldNotReExecuteRedeliveredCommand() throws Exception {
+            var message = """
+                {
+                    "vehicleId": "vehicle-1",
+                    "routeId": "mission-1",
+                    "commandCode": "arm",
+                    "arguments": {},
+                    "priority": 1
+                }
+                """;
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(commandExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
+
+            consumer.consumeCommand(toRecord(message), acknowledgment);
+            consumer.consumeCommand(toRecord(message), acknowledgment);
+
+            Thread.sleep(100);
+            verify(commandExecutionService, times(1)).process(any(CommandExecutionDTO.class));
+            verify(acknowledgment, atLeastOnce()).acknowledge();
+        }
+
         @Test
         @DisplayName("Should reconnect when not connected and process command")
         void shouldReconnectWhenNotConnectedAndProcessCommand() throws Exception {
@@ -87,7 +136,7 @@ class CommandConsumerTest {
             when(connectionManager.subscribeMissionComplete()).thenReturn(Mono.empty());
             when(commandExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
 
-            consumer.consumeCommand(message, acknowledgment);
+            consumer.consumeCommand(toRecord(message), acknowledgment);
 
             Thread.sleep(100);
             verify(connectionManager).connect();
@@ -105,10 +154,14 @@ class CommandConsumerTest {
         void shouldAcknowledgeOnParseError() throws Exception {
             var invalidMessage = "invalid json";
 
-            consumer.consumeCommand(invalidMessage, acknowledgment);
+            when(retryTopicRouter.deadLetter(any(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            consumer.consumeCommand(toRecord(invalidMessage), acknowledgment);
 
             Thread.sleep(100);
             verify(acknowledgment).acknowledge();
+            verify(retryTopicRouter).deadLetter(any(), anyString(), anyString());
             verifyNoInteractions(commandExecutionService);
         }
 
@@ -128,11 +181,145 @@ class CommandConsumerTest {
             when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
             when(commandExecutionService.process(any()))
                     .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Processing error")));
+            when(retryTopicRouter.retry(any(), anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
 
-            consumer.consumeCommand(message, acknowledgment);
+            consumer.consumeCommand(toRecord(message), acknowledgment);
 
             Thread.sleep(100);
             verify(acknowledgment).acknowledge();
+            verify(retryTopicRouter).retry(any(), anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should not acknowledge when the retry cannot be published")
+        void shouldNotAcknowledgeWhenRetryPublishFails() throws Exception {
+            var message = """
+                {
+                    "vehicleId": "vehicle-1",
+                    "routeId": "mission-1",
+                    "commandCode": "arm",
+                    "arguments": {},
+                    "priority": 1
+                }
+                """;
+            var seekCallback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+            consumer.onPartitionsAssigned(Map.of(new TopicPartition("umas.drone.execute", 0), 0L), seekCallback);
+
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(commandExecutionService.process(any()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Processing error")));
+            when(retryTopicRouter.retry(any(), anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka down")));
+
+            consumer.consumeCommand(toRecord(message), acknowledgment);
+
+            Thread.sleep(100);
+            verify(acknowledgment, never()).acknowledge();
+            verify(seekCallback).seek("umas.drone.execute", 0, 0L);
         }
     }
+
+    @Nested
+    @DisplayName("Retry topic tests")
+    class RetryTopicTests {
+
+        @Test
+        @DisplayName("Should not re-send a command accepted by UgCS but not confirmed by telemetry")
+        void shouldNotRetryUnconfirmedCommand() throws Exception {
+            var message = """
+                {
+                    "vehicleId": "vehicle-1",
+                    "routeId": "mission-1",
+                    "commandCode": "land_command",
+                    "arguments": {},
+                    "priority": 1
+                }
+                """;
+            var result = new CommandResultDTO("vehicle-1", "land_command",
+                    CommandResultDTO.CommandStatus.UNCONFIRMED, "not confirmed", Instant.now());
+
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(commandExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
+
+            consumer.consumeCommand(toRecord(message), acknowledgment);
+
+            Thread.sleep(100);
+            verify(acknowledgment).acknowledge();
+            verify(retryTopicRouter, never()).retry(any(), anyString(), anyString(), anyString());
+            verify(retryTopicRouter, never()).deadLetter(any(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should retry a command that timed out before UgCS accepted it")
+        void shouldRetryTimedOutCommand() throws Exception {
+            var message = """
+                {
+                    "vehicleId": "vehicle-1",
+                    "routeId": "mission-1",
+                    "commandCode": "arm",
+                    "arguments": {},
+                    "priority": 1
+                }
+                """;
+            var result = new CommandResultDTO("vehicle-1", "arm",
+                    CommandResultDTO.CommandStatus.TIMEOUT, "timed out", Instant.now());
+
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(commandExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
+            when(retryTopicRouter.retry(any(), anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            consumer.consumeCommand(toRecord(message), acknowledgment);
+
+            Thread.sleep(100);
+            verify(acknowledgment).acknowledge();
+            verify(retryTopicRouter).retry(any(), anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should dead-letter instead of retrying a timed out takeoff")
+        void shouldNotRetryTimedOutNonRepeatableCommand() throws Exception {
+            var message = """
+                {
+                    "vehicleId": "vehicle-1",
+                    "routeId": "mission-1",
+                    "commandCode": "takeoff_command",
+                    "arguments": {"altitude": 20.0},
+                    "priority": 1
+                }
+                """;
+            var result = new CommandResultDTO("vehicle-1", "takeoff_command",
+                    CommandResultDTO.CommandStatus.TIMEOUT, "timed out", Instant.now());
+
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(commandExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
+            when(retryTopicRouter.deadLetter(any(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            consumer.consumeCommand(toRecord(message), acknowledgment);
+
+            Thread.sleep(100);
+            verify(acknowledgment).acknowledge();
+            verify(retryTopicRouter).deadLetter(any(), anyString(), contains("not retried"));
+            verify(retryTopicRouter, never()).retry(any(), anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should back off without processing when retry is not due")
+        void shouldBackOffWhenRetryIsNotDue() {
+            var record = toRecord("{}");
+
+            when(retryTopicRouter.remainingDelayMillis(record)).thenReturn(500L);
+
+            consumer.consumeCommandRetry(record, acknowledgment);
+
+            verify(acknowledgment).nack(Duration.ofMillis(500));
+            verifyNoInteractions(commandExecutionService);
+        }
+    }
+
+    private static ConsumerRecord<String, String> toRecord(String message) {
+        return new ConsumerRecord<>("umas.drone.execute", 0, 0L, null, message);
+    }
 }
@@ -1,9 +1,17 @@
 package co.cetad.umas.core.infrastructure.messaging.kafka.consumer;
 
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
 import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
 import co.cetad.umas.core.domain.model.dto.MissionExecutionDTO;
 import co.cetad.umas.core.domain.ports.in.EventProcessor;
 import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaIdempotencyProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.idempotency.IdempotencyCache;
+import co.cetad.umas.core.infrastructure.messaging.kafka.offset.OffsetCommitTracker;
+import co.cetad.umas.core.infrastructure.messaging.kafka.retry.RetryTopicRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,9 +22,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,11 +42,18 @@ class MissionExecutionConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Mock
+    private RetryTopicRouter retryTopicRouter;
+
     private MissionExecutionConsumer consumer;
 
     @BeforeEach
     void setUp() {
-        consumer = new MissionExecutionConsumer(missionExecutionService, connectionManager);
+        consumer = new MissionExecutionConsumer(missionExecutionService, connectionManager,
+                new ReconnectionCoordinator(connectionManager, new SimpleMeterRegistry()), new OffsetCommitTracker(),
+                retryTopicRouter,
+                new IdempotencyCache(new KafkaIdempotencyProperties(), Optional.empty(), new SimpleMeterRegistry(), Runnable::run),
+                new KafkaTopicsProperties());
     }
 
     @Nested
@@ -68,7 +85,7 @@ class MissionExecutionConsumerTest {
             when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
             when(missionExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
 
-            consumer.consumeMissionExecution(message, acknowledgment);
+            consumer.consumeMissionExecution(toRecord(message), acknowledgment);
 
             Thread.sleep(100);
             verify(acknowledgment).acknowledge();
@@ -101,7 +118,7 @@ class MissionExecutionConsumerTest {
             when(connectionManager.subscribeMissionComplete()).thenReturn(Mono.empty());
             when(missionExecutionService.process(any())).thenReturn(CompletableFuture.completedFuture(result));
 
-            consumer.consumeMissionExecution(message, acknowledgment);
+            consumer.consumeMissionExecution(toRecord(message), acknowledgment);
 
             Thread.sleep(100);
             verify(connectionManager).connect();
@@ -119,10 +136,14 @@ class MissionExecutionConsumerTest {
         void shouldAcknowledgeOnParseError() throws Exception {
             var invalidMessage = "invalid json";
 
-            consumer.consumeMissionExecution(invalidMessage, acknowledgment);
+            when(retryTopicRouter.deadLetter(any(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            consumer.consumeMissionExecution(toRecord(invalidMessage), acknowledgment);
 
             Thread.sleep(100);
             verify(acknowledgment).acknowledge();
+            verify(retryTopicRouter).deadLetter(any(), anyString(), anyString());
             verifyNoInteractions(missionExecutionService);
         }
 
@@ -148,11 +169,18 @@ class MissionExecutionConsumerTest {
             when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
             when(missionExecutionService.process(any()))
                     .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Processing error")));
+            when(retryTopicRouter.retry(any(), anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
 
-            consumer.consumeMissionExecution(message, acknowledgment);
+            consumer.consumeMissionExecution(toRecord(message), acknowledgment);
 
             Thread.sleep(100);
             verify(acknowledgment).acknowledge();
+            verify(retryTopicRouter).retry(any(), anyString(), anyString(), anyString());
         }
     }
+
+    private static ConsumerRecord<String, String> toRecord(String message) {
+        return new ConsumerRecord<>("umas.drone.mission", 0, 0L, null, message);
+    }
 }
@@ -0,0 +1,138 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.consumer;
+
+import co.cetad.umas.core.application.service.ugcs.ReconnectionCoordinator;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionDTO;
+import co.cetad.umas.core.domain.model.dto.RouteExecutionResult;
+import co.cetad.umas.core.domain.ports.in.RouteExecutor;
+import co.cetad.umas.core.domain.ports.in.VehicleConnectionManager;
+import co.cetad.umas.core.domain.ports.out.EventPublisher;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.offset.OffsetCommitTracker;
+import co.cetad.umas.core.infrastructure.messaging.kafka.retry.RetryTopicRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteExecutionConsumer Tests")
+class RouteExecutionConsumerTest {
+
+    @Mock
+    private RouteExecutor routeExecutor;
+
+    @Mock
+    private VehicleConnectionManager connectionManager;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Mock
+    private RetryTopicRouter retryTopicRouter;
+
+    @Mock
+    private EventPublisher<RouteExecutionResult> routeStatusPublisher;
+
+    private RouteExecutionConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new RouteExecutionConsumer(routeExecutor, connectionManager,
+                new ReconnectionCoordinator(connectionManager, new SimpleMeterRegistry()), new OffsetCommitTracker(),
+                retryTopicRouter, routeStatusPublisher, new KafkaTopicsProperties());
+    }
+
+    @Nested
+    @DisplayName("Consumption tests")
+    class ConsumptionTests {
+
+        @Test
+        @DisplayName("Should acknowledge as soon as the route is accepted, without waiting for it to finish")
+        void shouldAcknowledgeOnceRouteIsAccepted() {
+            var message = """
+                {
+                    "vehicleId": "drone-1",
+                    "missionId": "mission-1",
+                    "routeName": "Route 1",
+                    "routeId": "route-1",
+                    "waypoints": [
+                        {"latitude": 45.0, "longitude": -73.0}
+                    ],
+                    "priority": 1
+                }
+                """;
+            var execution = new CompletableFuture<RouteExecutionResult>();
+
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(true));
+            when(routeExecutor.executeRoute(any(RouteExecutionDTO.class))).thenReturn(execution);
+
+            consumer.consumeRouteExecution(toRecord(message), acknowledgment);
+
+            verify(routeExecutor).executeRoute(any(RouteExecutionDTO.class));
+            verify(acknowledgment).acknowledge();
+            assertFalse(execution.isDone());
+        }
+
+        @Test
+        @DisplayName("Should dead-letter an unparseable message without executing it")
+        void shouldDeadLetterUnparseableMessage() {
+            when(retryTopicRouter.deadLetter(any(), eq("umas.drone.route.execute.dlt"), startsWith("Unparseable route")))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            consumer.consumeRouteExecution(toRecord("not json"), acknowledgment);
+
+            verify(acknowledgment).acknowledge();
+            verifyNoInteractions(routeExecutor);
+        }
+
+        @Test
+        @DisplayName("Should publish a failed route status when UgCS cannot be reached")
+        void shouldPublishFailureWhenRouteCannotStart() {
+            var message = """
+                {
+                    "vehicleId": "drone-1",
+                    "missionId": "mission-1",
+                    "routeName": "Route 1",
+                    "routeId": "route-1",
+                    "waypoints": [
+                        {"latitude": 45.0, "longitude": -73.0}
+                    ],
+                    "priority": 1
+                }
+                """;
+
+            when(connectionManager.isConnected()).thenReturn(CompletableFuture.completedFuture(false));
+            when(connectionManager.connect()).thenReturn(Mono.error(new IllegalStateException("refused")));
+            when(routeStatusPublisher.publish(any())).thenReturn(Mono.empty());
+
+            consumer.consumeRouteExecution(toRecord(message), acknowledgment);
+
+            verify(routeStatusPublisher).publish(argThat(result ->
+                    result.status() == RouteExecutionResult.RouteStatus.FAILED
+                            && "route-1".equals(result.routeId())
+                            && result.errors().get(0).contains("refused")));
+            verify(acknowledgment).acknowledge();
+            verifyNoInteractions(routeExecutor);
+        }
+    }
+
+    private static ConsumerRecord<String, String> toRecord(String message) {
+        return new ConsumerRecord<>("umas.drone.route.execute", 0, 0L, null, message);
+    }
+}
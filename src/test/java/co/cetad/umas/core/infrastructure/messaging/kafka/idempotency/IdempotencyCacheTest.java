@@ -0,0 +1,210 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.idempotency;
+
+import co.cetad.umas.core.domain.model.dto.CommandResultDTO;
+import co.cetad.umas.core.domain.ports.out.ProcessedMessageStore;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaIdempotencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyCache Tests")
+class IdempotencyCacheTest {
+
+    @Mock
+    private ProcessedMessageStore processedMessageStore;
+
+    private KafkaIdempotencyProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyCache localCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KafkaIdempotencyProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        localCache = new IdempotencyCache(properties, Optional.empty(), meterRegistry, Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("Local cache tests")
+    class LocalCacheTests {
+
+        @Test
+        @DisplayName("Should return cached result for a redelivered record")
+        void shouldReturnCachedResultForRedeliveredRecord() throws Exception {
+            var executions = new AtomicInteger();
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+
+            localCache.executeOnce(toRecord(7L, "payload"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            }).get();
+            var duplicate = localCache.executeOnce(toRecord(7L, "payload"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            }).get();
+
+            assertEquals(1, executions.get());
+            assertEquals(result, duplicate);
+            assertEquals(1.0, meterRegistry.get("umas.idempotency.duplicates")
+                    .tag("source", "memory").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should execute records with different offsets or payloads")
+        void shouldExecuteDistinctRecords() {
+            var executions = new AtomicInteger();
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+
+            localCache.executeOnce(toRecord(1L, "payload"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            });
+            localCache.executeOnce(toRecord(2L, "payload"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            });
+            localCache.executeOnce(toRecord(1L, "other"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            });
+
+            assertEquals(3, executions.get());
+        }
+
+        @Test
+        @DisplayName("Should share the in-flight execution with duplicates")
+        void shouldShareInFlightExecution() throws Exception {
+            var pending = new CompletableFuture<CommandResultDTO>();
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+
+            var first = localCache.executeOnce(toRecord(3L, "payload"), () -> pending);
+            var second = localCache.executeOnce(toRecord(3L, "payload"),
+                    () -> CompletableFuture.failedFuture(new AssertionError("must not run")));
+
+            assertFalse(second.isDone());
+            pending.complete(result);
+
+            assertEquals(result, first.get());
+            assertEquals(result, second.get());
+        }
+
+        @Test
+        @DisplayName("Should not cache failed executions")
+        void shouldNotCacheFailedExecutions() throws Exception {
+            var record = toRecord(4L, "payload");
+            var failed = localCache.executeOnce(record,
+                    () -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+            assertThrows(ExecutionException.class, failed::get);
+
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+            assertEquals(result, localCache.executeOnce(record, () -> CompletableFuture.completedFuture(result)).get());
+        }
+
+        @Test
+        @DisplayName("Should forget results after the TTL")
+        void shouldForgetResultsAfterTtl() throws Exception {
+            properties.setTtlMs(1);
+            var executions = new AtomicInteger();
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+
+            localCache.executeOnce(toRecord(5L, "payload"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            }).get();
+            Thread.sleep(10);
+            localCache.executeOnce(toRecord(5L, "payload"), () -> {
+                executions.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            }).get();
+
+            assertEquals(2, executions.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Shared store tests")
+    class SharedStoreTests {
+
+        @Test
+        @DisplayName("Should return result processed by another replica")
+        void shouldReturnResultProcessedByAnotherReplica() throws Exception {
+            var cache = new IdempotencyCache(properties, Optional.of(processedMessageStore), meterRegistry, Runnable::run);
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+
+            when(processedMessageStore.find(anyString())).thenReturn(Optional.of(result));
+
+            var returned = cache.executeOnce(toRecord(6L, "payload"),
+                    () -> CompletableFuture.failedFuture(new AssertionError("must not run"))).get();
+
+            assertEquals(result, returned);
+            verify(processedMessageStore, never()).save(anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should store result for other replicas")
+        void shouldStoreResultForOtherReplicas() throws Exception {
+            var cache = new IdempotencyCache(properties, Optional.of(processedMessageStore), meterRegistry, Runnable::run);
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+            var record = toRecord(8L, "payload");
+
+            when(processedMessageStore.find(anyString())).thenReturn(Optional.empty());
+
+            cache.executeOnce(record, () -> CompletableFuture.completedFuture(result)).get();
+
+            verify(processedMessageStore).save(IdempotencyCache.keyOf(record), result,
+                    Duration.ofMillis(properties.getTtlMs()));
+        }
+
+        @Test
+        @DisplayName("Should not touch Redis on the calling thread")
+        void shouldNotTouchRedisOnCallingThread() throws Exception {
+            var redisTasks = new ArrayList<Runnable>();
+            var cache = new IdempotencyCache(properties, Optional.of(processedMessageStore), meterRegistry, redisTasks::add);
+            var result = CommandResultDTO.success("vehicle-1", "arm");
+            var action = new AtomicInteger();
+
+            when(processedMessageStore.find(anyString())).thenReturn(Optional.empty());
+
+            var returned = cache.executeOnce(toRecord(9L, "payload"), () -> {
+                action.incrementAndGet();
+                return CompletableFuture.completedFuture(result);
+            });
+
+            verifyNoInteractions(processedMessageStore);
+            assertFalse(returned.isDone());
+
+            redisTasks.remove(0).run();
+            assertEquals(1, action.get());
+            assertEquals(result, returned.get());
+            verify(processedMessageStore, never()).save(anyString(), any(), any());
+
+            redisTasks.remove(0).run();
+            verify(processedMessageStore).save(anyString(), eq(result), any());
+        }
+    }
+
+    private ConsumerRecord<String, String> toRecord(long offset, String message) {
+        return new ConsumerRecord<>("umas.drone.execute", 0, offset, null, message);
+    }
+}
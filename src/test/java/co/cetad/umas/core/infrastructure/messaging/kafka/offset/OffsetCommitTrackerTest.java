@@ -0,0 +1,206 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.offset;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OffsetCommitTracker Tests")
+class OffsetCommitTrackerTest {
+
+    private OffsetCommitTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new OffsetCommitTracker();
+    }
+
+    @Nested
+    @DisplayName("Watermark tests")
+    class WatermarkTests {
+
+        @Test
+        @DisplayName("Should not commit when a later record finishes first")
+        void shouldNotCommitWhenLaterRecordFinishesFirst() {
+            var ack0 = mock(Acknowledgment.class);
+            var ack1 = mock(Acknowledgment.class);
+
+            var first = tracker.track(recordAt(0, 0L), ack0);
+            var second = tracker.track(recordAt(0, 1L), ack1);
+
+            second.complete();
+
+            verifyNoInteractions(ack0, ack1);
+            assertEquals(2, tracker.inFlight());
+
+            first.complete();
+
+            verify(ack1).acknowledge();
+            verifyNoInteractions(ack0);
+            assertEquals(0, tracker.inFlight());
+        }
+
+        @Test
+        @DisplayName("Should commit in order completion immediately")
+        void shouldCommitInOrderCompletionImmediately() {
+            var ack0 = mock(Acknowledgment.class);
+            var ack1 = mock(Acknowledgment.class);
+
+            var first = tracker.track(recordAt(0, 0L), ack0);
+            var second = tracker.track(recordAt(0, 1L), ack1);
+
+            first.complete();
+            verify(ack0).acknowledge();
+
+            second.complete();
+            verify(ack1).acknowledge();
+        }
+
+        @Test
+        @DisplayName("Should track partitions independently")
+        void shouldTrackPartitionsIndependently() {
+            var ackP0 = mock(Acknowledgment.class);
+            var ackP1 = mock(Acknowledgment.class);
+
+            tracker.track(recordAt(0, 10L), ackP0);
+            var other = tracker.track(recordAt(1, 5L), ackP1);
+
+            other.complete();
+
+            verify(ackP1).acknowledge();
+            verifyNoInteractions(ackP0);
+        }
+
+        @Test
+        @DisplayName("Should ignore repeated completion")
+        void shouldIgnoreRepeatedCompletion() {
+            var ack = mock(Acknowledgment.class);
+            var tracked = tracker.track(recordAt(0, 0L), ack);
+
+            tracked.complete();
+            tracked.complete();
+
+            verify(ack, times(1)).acknowledge();
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebalance tests")
+    class RebalanceTests {
+
+        @Test
+        @DisplayName("Should drop in flight records of revoked partitions")
+        void shouldDropInFlightRecordsOfRevokedPartitions() {
+            var ack = mock(Acknowledgment.class);
+            var tracked = tracker.track(recordAt(0, 0L), ack);
+
+            tracker.onPartitionsRevokedAfterCommit(null, List.of(new TopicPartition("topic", 0)));
+            tracked.complete();
+
+            verifyNoInteractions(ack);
+            assertEquals(0, tracker.inFlight());
+        }
+
+        @Test
+        @DisplayName("Should reset window when offsets rewind")
+        void shouldResetWindowWhenOffsetsRewind() {
+            var staleAck = mock(Acknowledgment.class);
+            var ack = mock(Acknowledgment.class);
+
+            tracker.track(recordAt(0, 5L), staleAck);
+            var redelivered = tracker.track(recordAt(0, 5L), ack);
+
+            redelivered.complete();
+
+            verify(ack).acknowledge();
+            verifyNoInteractions(staleAck);
+        }
+
+        @Test
+        @DisplayName("Should ignore completion from the earlier delivery of a rewound offset")
+        void shouldIgnoreStaleCompletionAfterRewind() {
+            var staleAck = mock(Acknowledgment.class);
+            var ack = mock(Acknowledgment.class);
+
+            var stale = tracker.track(recordAt(0, 5L), staleAck);
+            var redelivered = tracker.track(recordAt(0, 5L), ack);
+
+            stale.complete();
+
+            verifyNoInteractions(staleAck, ack);
+            assertEquals(1, tracker.inFlight());
+
+            redelivered.complete();
+
+            verify(ack).acknowledge();
+            assertEquals(0, tracker.inFlight());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should not commit past a failed record and seek back to it")
+        void shouldSeekBackToFailedRecord() {
+            var callback = mock(ConsumerSeekCallback.class);
+            tracker.registerSeekCallback(List.of(new TopicPartition("topic", 0)), callback);
+            var ack0 = mock(Acknowledgment.class);
+            var ack1 = mock(Acknowledgment.class);
+
+            var failed = tracker.track(recordAt(0, 0L), ack0);
+            var next = tracker.track(recordAt(0, 1L), ack1);
+
+            failed.fail(new RuntimeException("publish failed"));
+            next.complete();
+
+            verify(callback).seek("topic", 0, 0L);
+            verifyNoInteractions(ack0, ack1);
+            assertEquals(2, tracker.inFlight());
+        }
+
+        @Test
+        @DisplayName("Should commit the redelivered copy of a failed record")
+        void shouldCommitRedeliveredCopy() {
+            tracker.registerSeekCallback(List.of(new TopicPartition("topic", 0)), mock(ConsumerSeekCallback.class));
+            var staleAck = mock(Acknowledgment.class);
+            var ack = mock(Acknowledgment.class);
+
+            tracker.track(recordAt(0, 3L), staleAck).fail(new RuntimeException("publish failed"));
+            tracker.track(recordAt(0, 3L), ack).settle(null);
+
+            verify(ack).acknowledge();
+            verifyNoInteractions(staleAck);
+            assertEquals(0, tracker.inFlight());
+        }
+
+        @Test
+        @DisplayName("Should always seek to the earliest failed offset of the partition")
+        void shouldSeekToEarliestFailedOffset() {
+            var callback = mock(ConsumerSeekCallback.class);
+            tracker.registerSeekCallback(List.of(new TopicPartition("topic", 0)), callback);
+
+            var first = tracker.track(recordAt(0, 4L), mock(Acknowledgment.class));
+            var second = tracker.track(recordAt(0, 7L), mock(Acknowledgment.class));
+
+            first.fail(new RuntimeException("boom"));
+            second.fail(new RuntimeException("boom"));
+
+            verify(callback, times(2)).seek("topic", 0, 4L);
+        }
+    }
+
+    private static ConsumerRecord<String, String> recordAt(int partition, long offset) {
+        return new ConsumerRecord<>("topic", partition, offset, null, "payload");
+    }
+}
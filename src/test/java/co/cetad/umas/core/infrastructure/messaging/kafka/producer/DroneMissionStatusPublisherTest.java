@@ -0,0 +1,84 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.producer;
+
+import co.cetad.umas.core.domain.model.dto.DroneMissionStatusDTO;
+import co.cetad.umas.core.domain.model.vo.DroneMissionState;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.producer.mission.DroneMissionStatusPublisher;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DroneMissionStatusPublisher Tests")
+class DroneMissionStatusPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private KafkaTopicsProperties topics;
+
+    private DroneMissionStatusPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new DroneMissionStatusPublisher(kafkaTemplate, topics);
+    }
+
+    @Nested
+    @DisplayName("Publish tests")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Should publish the transition keyed by vehicle to the mission status topic")
+        void shouldPublishTransitionKeyedByVehicle() {
+            var status = DroneMissionStatusDTO.of("mission-1", "drone-1", DroneMissionState.UPLOADED);
+            var sendResult = createMockSendResult("umas.drone.mission.status", 0, 10L);
+
+            when(topics.getMissionStatus()).thenReturn("umas.drone.mission.status");
+            when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+            StepVerifier.create(publisher.publish(status))
+                    .verifyComplete();
+
+            verify(kafkaTemplate).send(eq("umas.drone.mission.status"), eq("drone-1"),
+                    argThat(json -> json.contains("\"state\":\"UPLOADED\"") && json.contains("\"missionId\":\"mission-1\"")));
+        }
+
+        @Test
+        @DisplayName("Should complete even when Kafka fails")
+        void shouldCompleteWhenKafkaFails() {
+            var status = DroneMissionStatusDTO.of("mission-1", "drone-1", DroneMissionState.STARTED);
+
+            when(topics.getMissionStatus()).thenReturn("umas.drone.mission.status");
+            when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+
+            StepVerifier.create(publisher.publish(status))
+                    .verifyComplete();
+        }
+    }
+
+    private SendResult<String, String> createMockSendResult(String topic, int partition, long offset) {
+        var topicPartition = new TopicPartition(topic, partition);
+        var recordMetadata = new RecordMetadata(topicPartition, offset, 0, 0L, 0, 0);
+        var producerRecord = new ProducerRecord<String, String>(topic, "key", "value");
+        return new SendResult<>(producerRecord, recordMetadata);
+    }
+}
@@ -0,0 +1,83 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.producer;
+
+import co.cetad.umas.core.domain.model.dto.RouteExecutionResult;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaTopicsProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.producer.route.RouteStatusPublisher;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteStatusPublisher Tests")
+class RouteStatusPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private KafkaTopicsProperties topics;
+
+    private RouteStatusPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new RouteStatusPublisher(kafkaTemplate, topics);
+    }
+
+    @Nested
+    @DisplayName("Publish tests")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Should publish route progress keyed by vehicle to the route status topic")
+        void shouldPublishProgressKeyedByVehicle() {
+            var progress = RouteExecutionResult.inProgress("drone-1", "route-1", 1, 3, "waypoint_1");
+            var sendResult = createMockSendResult("umas.drone.route.status", 0, 5L);
+
+            when(topics.getRouteStatus()).thenReturn("umas.drone.route.status");
+            when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+            StepVerifier.create(publisher.publish(progress))
+                    .verifyComplete();
+
+            verify(kafkaTemplate).send(eq("umas.drone.route.status"), eq("drone-1"),
+                    argThat(json -> json.contains("\"status\":\"IN_PROGRESS\"") && json.contains("\"currentCommand\":\"waypoint_1\"")));
+        }
+
+        @Test
+        @DisplayName("Should complete even when Kafka fails")
+        void shouldCompleteWhenKafkaFails() {
+            var progress = RouteExecutionResult.inProgress("drone-1", "route-1", 0, 3, "guided");
+
+            when(topics.getRouteStatus()).thenReturn("umas.drone.route.status");
+            when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+
+            StepVerifier.create(publisher.publish(progress))
+                    .verifyComplete();
+        }
+    }
+
+    private SendResult<String, String> createMockSendResult(String topic, int partition, long offset) {
+        var topicPartition = new TopicPartition(topic, partition);
+        var recordMetadata = new RecordMetadata(topicPartition, offset, 0, 0L, 0, 0);
+        var producerRecord = new ProducerRecord<String, String>(topic, "key", "value");
+        return new SendResult<>(producerRecord, recordMetadata);
+    }
+}
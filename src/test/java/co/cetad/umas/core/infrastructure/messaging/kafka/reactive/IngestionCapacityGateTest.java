@@ -0,0 +1,128 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.reactive;
+
+import co.cetad.umas.core.application.service.scheduling.PriorityScheduler;
+import co.cetad.umas.core.infrastructure.config.BoundedVirtualThreadExecutor;
+import co.cetad.umas.core.infrastructure.config.PrioritySchedulerProperties;
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaReactiveProperties;
+import co.cetad.umas.core.infrastructure.ugcs.actor.VehicleMailboxRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestionCapacityGate Tests")
+class IngestionCapacityGateTest {
+
+    @Mock
+    private VehicleMailboxRegistry vehicleMailboxes;
+
+    @Mock
+    private BoundedVirtualThreadExecutor ugcsIoExecutor;
+
+    private KafkaReactiveProperties properties;
+    private PriorityScheduler priorityScheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private IngestionCapacityGate gate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KafkaReactiveProperties();
+        properties.setMaxMailboxDepth(10);
+        properties.setMaxSchedulerQueue(1);
+        properties.setCapacityPollMs(10);
+
+        var schedulerProperties = new PrioritySchedulerProperties();
+        schedulerProperties.setMaxConcurrent(1);
+        meterRegistry = new SimpleMeterRegistry();
+        priorityScheduler = new PriorityScheduler(schedulerProperties, meterRegistry);
+        gate = new IngestionCapacityGate(vehicleMailboxes, priorityScheduler, ugcsIoExecutor, properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Capacity check tests")
+    class CapacityCheckTests {
+
+        @Test
+        @DisplayName("Should have capacity when downstream is idle")
+        void shouldHaveCapacityWhenIdle() {
+            when(vehicleMailboxes.totalDepth()).thenReturn(0);
+
+            assertTrue(gate.hasCapacity());
+        }
+
+        @Test
+        @DisplayName("Should not have capacity when mailboxes are saturated")
+        void shouldNotHaveCapacityWhenMailboxesSaturated() {
+            when(vehicleMailboxes.totalDepth()).thenReturn(10);
+
+            assertFalse(gate.hasCapacity());
+        }
+
+        @Test
+        @DisplayName("Should not have capacity when scheduler queue is saturated")
+        void shouldNotHaveCapacityWhenSchedulerSaturated() {
+            when(vehicleMailboxes.totalDepth()).thenReturn(0);
+            priorityScheduler.submit(1, CompletableFuture::new);
+            priorityScheduler.submit(1, () -> CompletableFuture.completedFuture("queued"));
+
+            assertFalse(gate.hasCapacity());
+        }
+
+        @Test
+        @DisplayName("Should not have capacity when every UgCS slot is busy")
+        void shouldNotHaveCapacityWhenUgcsSaturated() {
+            when(vehicleMailboxes.totalDepth()).thenReturn(0);
+            when(ugcsIoExecutor.activeCount()).thenReturn(properties.getMaxUgcsInFlight());
+
+            assertFalse(gate.hasCapacity());
+        }
+
+        @Test
+        @DisplayName("Should not have capacity when the UgCS executor queue is saturated")
+        void shouldNotHaveCapacityWhenExecutorQueueSaturated() {
+            when(vehicleMailboxes.totalDepth()).thenReturn(0);
+            when(ugcsIoExecutor.queuedCount()).thenReturn(properties.getMaxExecutorQueue());
+
+            assertFalse(gate.hasCapacity());
+        }
+    }
+
+    @Nested
+    @DisplayName("Await capacity tests")
+    class AwaitCapacityTests {
+
+        @Test
+        @DisplayName("Should complete immediately when capacity is available")
+        void shouldCompleteImmediatelyWithCapacity() {
+            when(vehicleMailboxes.totalDepth()).thenReturn(0);
+
+            StepVerifier.create(gate.awaitCapacity())
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should hold until mailboxes drain")
+        void shouldHoldUntilMailboxesDrain() {
+            when(vehicleMailboxes.totalDepth()).thenReturn(50, 50, 0);
+
+            StepVerifier.create(gate.awaitCapacity())
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(2));
+
+            verify(vehicleMailboxes, times(3)).totalDepth();
+            assertEquals(2.0, meterRegistry.get("umas.ingestion.throttled").counter().count());
+        }
+    }
+}
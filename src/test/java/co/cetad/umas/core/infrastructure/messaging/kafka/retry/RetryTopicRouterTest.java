@@ -0,0 +1,193 @@
+package co.cetad.umas.core.infrastructure.messaging.kafka.retry;
+
+import co.cetad.umas.core.infrastructure.messaging.kafka.config.KafkaRetryProperties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetryTopicRouter Tests")
+class RetryTopicRouterTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private KafkaRetryProperties retryProperties;
+    private RetryTopicRouter router;
+
+    @BeforeEach
+    void setUp() {
+        retryProperties = new KafkaRetryProperties();
+        router = new RetryTopicRouter(kafkaTemplate, retryProperties);
+    }
+
+    @Nested
+    @DisplayName("Routing tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should publish first retry with attempt header")
+        @SuppressWarnings("unchecked")
+        void shouldPublishFirstRetryWithAttemptHeader() throws Exception {
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(completedSend("commands.retry"));
+
+            router.retry(original(), "commands.retry", "commands.dlt", "timeout").get();
+
+            var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(kafkaTemplate).send(captor.capture());
+            ProducerRecord<String, String> sent = captor.getValue();
+
+            assertEquals("commands.retry-1", sent.topic());
+            assertEquals("vehicle-1", sent.key());
+            assertEquals("1", header(sent, RetryTopicRouter.ATTEMPT_HEADER));
+            assertEquals("commands", header(sent, RetryTopicRouter.ORIGINAL_TOPIC_HEADER));
+            assertNotNull(header(sent, RetryTopicRouter.NOT_BEFORE_HEADER));
+        }
+
+        @Test
+        @DisplayName("Should keep the execution id of the original record across retries")
+        @SuppressWarnings("unchecked")
+        void shouldKeepExecutionIdAcrossRetries() throws Exception {
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(completedSend("commands.retry"));
+            var record = original();
+
+            router.retry(record, "commands.retry", "commands.dlt", "timeout").get();
+
+            var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(kafkaTemplate).send(captor.capture());
+            ProducerRecord<String, String> sent = captor.getValue();
+            var retried = new ConsumerRecord<>("commands.retry", 3, 42L, sent.key(), sent.value());
+            sent.headers().forEach(header -> retried.headers().add(header));
+
+            assertEquals("commands-0@0", router.executionId(record));
+            assertEquals(router.executionId(record), router.executionId(retried));
+            assertNotEquals(router.executionId(record),
+                    router.executionId(new ConsumerRecord<>("commands", 0, 1L, "vehicle-1", "{}")));
+        }
+
+        @Test
+        @DisplayName("Should publish each attempt to its own retry topic")
+        @SuppressWarnings("unchecked")
+        void shouldPublishEachAttemptToItsOwnRetryTopic() throws Exception {
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(completedSend("commands.retry-2"));
+
+            var record = original();
+            record.headers().add(RetryTopicRouter.ATTEMPT_HEADER, "1".getBytes(StandardCharsets.UTF_8));
+
+            router.retry(record, "commands.retry", "commands.dlt", "timeout").get();
+
+            var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(kafkaTemplate).send(captor.capture());
+            assertEquals("commands.retry-2", captor.getValue().topic());
+        }
+
+        @Test
+        @DisplayName("Should subscribe to the base topic and one topic per retry attempt")
+        void shouldListRetryTopicsPerAttempt() {
+            assertEquals(List.of("commands.retry", "commands.retry-1", "commands.retry-2", "commands.retry-3"),
+                    router.retryTopics("commands.retry"));
+        }
+
+        @Test
+        @DisplayName("Should route to DLT when attempts are exhausted")
+        @SuppressWarnings("unchecked")
+        void shouldRouteToDltWhenAttemptsAreExhausted() throws Exception {
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(completedSend("commands.dlt"));
+
+            var record = original();
+            record.headers().add(RetryTopicRouter.ATTEMPT_HEADER,
+                    Integer.toString(retryProperties.getMaxAttempts() - 1).getBytes(StandardCharsets.UTF_8));
+
+            router.retry(record, "commands.retry", "commands.dlt", "timeout").get();
+
+            var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(kafkaTemplate).send(captor.capture());
+            assertEquals("commands.dlt", captor.getValue().topic());
+        }
+
+        @Test
+        @DisplayName("Should fail when publishing fails so the original record is not committed")
+        @SuppressWarnings("unchecked")
+        void shouldFailWhenPublishingFails() {
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+
+            var error = assertThrows(ExecutionException.class,
+                    () -> router.deadLetter(original(), "commands.dlt", "bad").get());
+            assertEquals("Kafka error", error.getCause().getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Backoff tests")
+    class BackoffTests {
+
+        @Test
+        @DisplayName("Should grow delay exponentially up to max delay")
+        void shouldGrowDelayExponentiallyUpToMaxDelay() {
+            assertEquals(Duration.ofMillis(1000), router.delayFor(1));
+            assertEquals(Duration.ofMillis(2000), router.delayFor(2));
+            assertEquals(Duration.ofMillis(4000), router.delayFor(3));
+            assertEquals(Duration.ofMillis(60000), router.delayFor(20));
+        }
+
+        @Test
+        @DisplayName("Should report remaining delay from not-before header")
+        void shouldReportRemainingDelayFromNotBeforeHeader() {
+            var record = original();
+            assertEquals(0, router.remainingDelayMillis(record));
+
+            record.headers().add(RetryTopicRouter.NOT_BEFORE_HEADER,
+                    Long.toString(System.currentTimeMillis() + 10_000).getBytes(StandardCharsets.UTF_8));
+
+            assertTrue(router.remainingDelayMillis(record) > 0);
+        }
+
+        @Test
+        @DisplayName("Should treat malformed retry headers as a first attempt without delay")
+        void shouldTreatMalformedHeadersAsFirstAttempt() {
+            var record = original();
+            record.headers().add(RetryTopicRouter.ATTEMPT_HEADER, "two".getBytes(StandardCharsets.UTF_8));
+            record.headers().add(RetryTopicRouter.NOT_BEFORE_HEADER, "soon".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(0, router.attempt(record));
+            assertEquals(0, router.remainingDelayMillis(record));
+        }
+    }
+
+    private static ConsumerRecord<String, String> original() {
+        return new ConsumerRecord<>("commands", 0, 0L, "vehicle-1", "{}");
+    }
+
+    private static String header(ProducerRecord<String, String> record, String name) {
+        var header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static CompletableFuture<SendResult<String, String>> completedSend(String topic) {
+        var metadata = new RecordMetadata(new TopicPartition(topic, 0), 0L, 0, 0L, 0, 0);
+        return CompletableFuture.completedFuture(
+                new SendResult<>(new ProducerRecord<>(topic, "key", "value"), metadata));
+    }
+}
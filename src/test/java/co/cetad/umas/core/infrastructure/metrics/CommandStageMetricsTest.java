@@ -0,0 +1,107 @@
+package co.cetad.umas.core.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommandStageMetrics Tests")
+class CommandStageMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommandStageMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new CommandStageMetrics(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Stage timing tests")
+    class StageTimingTests {
+
+        @Test
+        @DisplayName("Should tag asynchronous stage with its outcome")
+        void shouldTagAsynchronousStageWithOutcome() {
+            metrics.time("ugcs_execute", "arm", () -> CompletableFuture.completedFuture(true));
+            metrics.time("ugcs_execute", "arm", () -> CompletableFuture.failedFuture(new TimeoutException()));
+
+            assertEquals(1, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                    .tags("stage", "ugcs_execute", "command", "arm", "outcome", "success").timer().count());
+            assertEquals(1, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                    .tags("stage", "ugcs_execute", "command", "arm", "outcome", "timeout").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should record blocking stage even when it throws")
+        void shouldRecordBlockingStageWhenItThrows() {
+            assertThrows(IllegalStateException.class, () -> metrics.timeBlocking("gain_control", "arm", () -> {
+                throw new IllegalStateException("busy");
+            }));
+
+            assertEquals(1, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                    .tags("stage", "gain_control", "outcome", "error").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should collapse codes unknown to the validator into a single tag value")
+        void shouldCollapseUnknownCommandCodes() {
+            metrics.time("validate", "drop_table_42", () -> CompletableFuture.completedFuture(null));
+            metrics.time("validate", null, () -> CompletableFuture.completedFuture(null));
+
+            assertEquals(2, meterRegistry.get(CommandStageMetrics.STAGE_TIMER)
+                    .tags("stage", "validate", "command", CommandStageMetrics.UNKNOWN_COMMAND).timer().count());
+            assertNull(meterRegistry.find(CommandStageMetrics.STAGE_TIMER).tag("command", "drop_table_42").timer());
+        }
+
+        @Test
+        @DisplayName("Should unwrap completion exceptions when classifying outcome")
+        void shouldUnwrapCompletionExceptions() {
+            assertEquals("timeout", CommandStageMetrics.outcomeOf(new CompletionException(new TimeoutException())));
+            assertEquals("timeout", CommandStageMetrics.outcomeOf(new CompletionException(
+                    new RuntimeException("Command execution failed", new TimeoutException()))));
+            assertEquals("error", CommandStageMetrics.outcomeOf(new RuntimeException()));
+            assertEquals("success", CommandStageMetrics.outcomeOf(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Kafka lag tests")
+    class KafkaLagTests {
+
+        @Test
+        @DisplayName("Should record lag from record timestamp")
+        void shouldRecordLagFromRecordTimestamp() {
+            var timestamp = System.currentTimeMillis() - 500;
+            var record = new ConsumerRecord<>("umas.drone.execute", 0, 0L, timestamp, TimestampType.CREATE_TIME,
+                    0, 0, "key", "value", new RecordHeaders(), Optional.empty());
+
+            metrics.recordKafkaLag(record, "arm");
+
+            var timer = meterRegistry.get(CommandStageMetrics.KAFKA_LAG_TIMER).tag("command", "arm").timer();
+            assertEquals(1, timer.count());
+            assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 500);
+        }
+
+        @Test
+        @DisplayName("Should skip records without timestamp")
+        void shouldSkipRecordsWithoutTimestamp() {
+            metrics.recordKafkaLag(new ConsumerRecord<>("umas.drone.execute", 0, 0L, null, "value"), "arm");
+
+            assertNull(meterRegistry.find(CommandStageMetrics.KAFKA_LAG_TIMER).timer());
+        }
+    }
+}
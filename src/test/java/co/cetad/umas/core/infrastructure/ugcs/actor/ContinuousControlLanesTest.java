@@ -0,0 +1,214 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import co.cetad.umas.core.domain.exception.CommandSupersededException;
+import co.cetad.umas.core.domain.model.vo.CommandRequest;
+import co.cetad.umas.core.application.service.cluster.VehicleWorkLeaseService;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContinuousControlLanes Tests")
+class ContinuousControlLanesTest {
+
+    @Mock
+    private VehicleControlOperations operations;
+
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private SimpleMeterRegistry meterRegistry;
+    private final VehicleWorkLeaseService workLeases =
+            new VehicleWorkLeaseService(new ClusterProperties(), Optional.empty(), new SimpleMeterRegistry());
+    private VehicleMailboxRegistry mailboxes;
+    private ContinuousControlLanes lanes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Executor manual: las tareas del mailbox solo corren al drenar la cola
+        mailboxes = new VehicleMailboxRegistry(pendingTasks::add, meterRegistry, 600_000L);
+        lanes = new ContinuousControlLanes(mailboxes,
+                new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Coalescing tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should send only the newest pending setpoint")
+        void shouldSendOnlyNewestPendingSetpoint() throws Exception {
+            var first = lanes.submit(setpoint(0.1), operations);
+            var second = lanes.submit(setpoint(0.2), operations);
+            var third = lanes.submit(setpoint(0.3), operations);
+
+            runPendingTasks();
+
+            assertTrue(third.get());
+            assertSuperseded(first);
+            assertSuperseded(second);
+            verify(operations, times(1)).send(any());
+            verify(operations).send(setpoint(0.3));
+            assertEquals(2.0, meterRegistry.get("umas.control.setpoints.superseded")
+                    .tag("vehicle", "drone-1").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should hold control between consecutive setpoints")
+        void shouldHoldControlBetweenSetpoints() throws Exception {
+            lanes.submit(setpoint(0.1), operations);
+            runPendingTasks();
+            lanes.submit(setpoint(0.2), operations);
+            runPendingTasks();
+
+            InOrder inOrder = inOrder(operations);
+            inOrder.verify(operations).gainControl("drone-1");
+            inOrder.verify(operations).send(setpoint(0.1));
+            inOrder.verify(operations).send(setpoint(0.2));
+            verify(operations, times(1)).gainControl("drone-1");
+            verify(operations, never()).releaseControl(any());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Lease release tests")
+    class LeaseReleaseTests {
+
+        @Test
+        @DisplayName("Should release control after the idle window")
+        void shouldReleaseControlAfterIdleWindow() throws Exception {
+            lanes = new ContinuousControlLanes(mailboxes,
+                    new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 20L), meterRegistry);
+
+            lanes.submit(setpoint(0.1), operations);
+            runPendingTasks();
+
+            Thread.sleep(200);
+            runPendingTasks();
+
+            verify(operations).releaseControl("drone-1");
+        }
+
+        @Test
+        @DisplayName("Should drop the lease when a send fails")
+        void shouldDropLeaseWhenSendFails() throws Exception {
+            doThrow(new IllegalStateException("link lost")).when(operations).send(setpoint(0.1));
+
+            var failed = lanes.submit(setpoint(0.1), operations);
+            runPendingTasks();
+            lanes.submit(setpoint(0.2), operations);
+            runPendingTasks();
+
+            var error = assertThrows(ExecutionException.class, failed::get);
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            verify(operations).releaseControl("drone-1");
+            verify(operations, times(2)).gainControl("drone-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejected scheduling tests")
+    class RejectedSchedulingTests {
+
+        @Test
+        @DisplayName("Should fail the pending setpoint and accept new ones when the executor rejects the send")
+        void shouldRecoverWhenExecutorRejectsSend() throws Exception {
+            var rejectNext = new AtomicBoolean(true);
+            mailboxes = new VehicleMailboxRegistry(task -> {
+                if (rejectNext.getAndSet(false)) {
+                    throw new RejectedExecutionException("ugcs-io saturated");
+                }
+                pendingTasks.add(task);
+            }, meterRegistry, 600_000L);
+            lanes = new ContinuousControlLanes(mailboxes,
+                    new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L), meterRegistry);
+
+            var rejected = lanes.submit(setpoint(0.1), operations);
+            var error = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+            var next = lanes.submit(setpoint(0.2), operations);
+            runPendingTasks();
+
+            assertTrue(next.get());
+            verify(operations).send(setpoint(0.2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should drop an idle lane and its meters when the vehicle mailbox is evicted")
+        void shouldEvictIdleLaneWithMailbox() throws Exception {
+            mailboxes = new VehicleMailboxRegistry(pendingTasks::add, meterRegistry, 0L);
+            lanes = new ContinuousControlLanes(mailboxes,
+                    new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L), meterRegistry);
+
+            lanes.submit(setpoint(0.1), operations);
+            runPendingTasks();
+            mailboxes.evictIdle();
+
+            assertEquals(0, lanes.size());
+            assertNull(meterRegistry.find("umas.control.setpoints.sent").tag("vehicle", "drone-1").counter());
+        }
+
+        @Test
+        @DisplayName("Should keep a lane with a setpoint waiting to be sent")
+        void shouldKeepLaneWithPendingSetpoint() {
+            mailboxes = new VehicleMailboxRegistry(pendingTasks::add, meterRegistry, 0L);
+            lanes = new ContinuousControlLanes(mailboxes,
+                    new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L), meterRegistry);
+
+            lanes.submit(setpoint(0.1), operations);
+
+            assertEquals(0, mailboxes.evictIdle());
+            assertEquals(1, lanes.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should only coalesce continuous control commands")
+    void shouldOnlyCoalesceContinuousControlCommands() {
+        assertTrue(ContinuousControlLanes.isContinuous("direct_vehicle_control"));
+        assertFalse(ContinuousControlLanes.isContinuous("land_command"));
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static CommandRequest setpoint(double pitch) {
+        return new CommandRequest("drone-1", "direct_vehicle_control",
+                Map.of("pitch", pitch, "roll", 0.0, "yaw", 0.0, "throttle", 0.5));
+    }
+
+    private static void assertSuperseded(CompletableFuture<Boolean> future) {
+        var error = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(CommandSupersededException.class, error.getCause());
+    }
+}
@@ -0,0 +1,253 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import co.cetad.umas.core.application.service.cluster.VehicleWorkLeaseService;
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
+import co.cetad.umas.core.domain.ports.out.VehicleWorkLeaseStore;
+import co.cetad.umas.core.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleControlLeaseManager Tests")
+class VehicleControlLeaseManagerTest {
+
+    @Mock
+    private VehicleControlOperations operations;
+
+    @Mock
+    private VehicleWorkLeaseStore leaseStore;
+
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private SimpleMeterRegistry meterRegistry;
+    private final VehicleWorkLeaseService workLeases =
+            new VehicleWorkLeaseService(new ClusterProperties(), Optional.empty(), new SimpleMeterRegistry());
+    private VehicleMailboxRegistry mailboxes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Executor manual: las tareas del mailbox solo corren al drenar la cola
+        mailboxes = new VehicleMailboxRegistry(pendingTasks::add, meterRegistry, 600_000L);
+    }
+
+    @Nested
+    @DisplayName("Acquire tests")
+    class AcquireTests {
+
+        @Test
+        @DisplayName("Should gain control once for a sequence of operations")
+        void shouldGainControlOnceForSequence() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+
+            leases.acquire("drone-1", operations);
+            leases.acquire("drone-1", operations);
+
+            verify(operations, times(1)).gainControl("drone-1");
+            assertTrue(leases.isHeld("drone-1"));
+            assertEquals(1.0, meterRegistry.get("umas.control.lease.reuses").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should track ownership per vehicle")
+        void shouldTrackOwnershipPerVehicle() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+
+            leases.acquire("drone-1", operations);
+            leases.acquire("drone-2", operations);
+
+            assertEquals(Set.of("drone-1", "drone-2"), leases.heldVehicles());
+            assertEquals(2.0, meterRegistry.get("umas.control.leases.held").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should not hold control when gain fails")
+        void shouldNotHoldControlWhenGainFails() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+            doThrow(new IllegalStateException("denied")).when(operations).gainControl("drone-1");
+
+            assertThrows(IllegalStateException.class, () -> leases.acquire("drone-1", operations));
+
+            assertFalse(leases.isHeld("drone-1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Release tests")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Should release control after the idle window")
+        void shouldReleaseAfterIdleWindow() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 20L);
+            leases.acquire("drone-1", operations);
+
+            Thread.sleep(200);
+            runPendingTasks();
+
+            verify(operations).releaseControl("drone-1");
+            assertFalse(leases.isHeld("drone-1"));
+            assertEquals(1.0, meterRegistry.get("umas.control.lease.releases")
+                    .tag("reason", "idle").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should keep control while activity renews the lease")
+        void shouldKeepControlWhileRenewed() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+            leases.acquire("drone-1", operations);
+
+            leases.renew("drone-1");
+            runPendingTasks();
+
+            verify(operations, never()).releaseControl(any());
+        }
+
+        @Test
+        @DisplayName("Should release and regain control after an error")
+        void shouldReleaseAndRegainAfterError() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+            leases.acquire("drone-1", operations);
+
+            leases.releaseAfterError("drone-1");
+            leases.acquire("drone-1", operations);
+
+            verify(operations).releaseControl("drone-1");
+            verify(operations, times(2)).gainControl("drone-1");
+        }
+
+        @Test
+        @DisplayName("Should release every held vehicle on shutdown")
+        void shouldReleaseAllOnShutdown() throws Exception {
+            var executor = Executors.newSingleThreadExecutor();
+            try {
+                var liveMailboxes = new VehicleMailboxRegistry(executor, meterRegistry, 600_000L);
+                var leases = new VehicleControlLeaseManager(liveMailboxes, workLeases, meterRegistry, 60_000L);
+                leases.acquire("drone-1", operations);
+                leases.acquire("drone-2", operations);
+
+                leases.releaseAll();
+
+                verify(operations).releaseControl("drone-1");
+                verify(operations).releaseControl("drone-2");
+                assertTrue(leases.heldVehicles().isEmpty());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should forget leases without server calls on clear")
+        void shouldForgetLeasesOnClear() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+            leases.acquire("drone-1", operations);
+
+            leases.clear();
+
+            assertFalse(leases.isHeld("drone-1"));
+            verify(operations, never()).releaseControl(any());
+        }
+
+        @Test
+        @DisplayName("Should release selected leases through their mailbox when re-homing")
+        void shouldReleaseSelectedLeasesThroughMailbox() throws Exception {
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+            leases.acquire("drone-1", operations);
+            leases.acquire("drone-2", operations);
+
+            leases.releaseIf("drone-1"::equals);
+
+            assertTrue(leases.isHeld("drone-1"));
+            runPendingTasks();
+
+            assertFalse(leases.isHeld("drone-1"));
+            assertTrue(leases.isHeld("drone-2"));
+            verify(operations).releaseControl("drone-1");
+            verify(operations, never()).releaseControl("drone-2");
+            assertEquals(1.0, meterRegistry.get("umas.control.lease.releases")
+                    .tag("reason", "rehome").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cluster tests")
+    class ClusterTests {
+
+        private VehicleWorkLeaseService clusterWorkLeases() {
+            var properties = new ClusterProperties();
+            properties.setEnabled(true);
+            properties.setNodeId("core-a");
+            return new VehicleWorkLeaseService(properties, Optional.of(leaseStore), meterRegistry);
+        }
+
+        @Test
+        @DisplayName("Should not gain control of a vehicle operated by another instance")
+        void shouldNotGainControlOfVehicleOperatedElsewhere() {
+            when(leaseStore.acquire(eq("drone-1"), eq("core-a"), any())).thenReturn(false);
+            var leases = new VehicleControlLeaseManager(mailboxes, clusterWorkLeases(), meterRegistry, 60_000L);
+
+            assertThrows(UgcsUnavailableException.class, () -> leases.acquire("drone-1", operations));
+
+            verifyNoInteractions(operations);
+            assertFalse(leases.isHeld("drone-1"));
+        }
+
+        @Test
+        @DisplayName("Should hand the vehicle to the cluster when control is released")
+        void shouldReleaseWorkLeaseWithControl() throws Exception {
+            when(leaseStore.acquire(eq("drone-1"), eq("core-a"), any())).thenReturn(true);
+            var workLeases = clusterWorkLeases();
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+
+            leases.acquire("drone-1", operations);
+            leases.acquire("drone-1", operations);
+            assertTrue(workLeases.holds("drone-1"));
+
+            leases.releaseAfterError("drone-1");
+
+            verify(leaseStore, times(1)).acquire(eq("drone-1"), eq("core-a"), any());
+            verify(leaseStore).release("drone-1", "core-a");
+            assertFalse(workLeases.holds("drone-1"));
+        }
+
+        @Test
+        @DisplayName("Should give up control when the work lease was taken by another instance")
+        void shouldGiveUpControlWhenWorkLeaseIsLost() throws Exception {
+            when(leaseStore.acquire(eq("drone-1"), eq("core-a"), any())).thenReturn(true, false, false);
+            var workLeases = clusterWorkLeases();
+            var leases = new VehicleControlLeaseManager(mailboxes, workLeases, meterRegistry, 60_000L);
+            leases.acquire("drone-1", operations);
+
+            workLeases.renewAll();
+
+            assertThrows(UgcsUnavailableException.class, () -> leases.acquire("drone-1", operations));
+            verify(operations).releaseControl("drone-1");
+            assertFalse(leases.isHeld("drone-1"));
+            assertEquals(1.0, meterRegistry.get("umas.control.lease.releases")
+                    .tag("reason", "cluster").counter().count());
+        }
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
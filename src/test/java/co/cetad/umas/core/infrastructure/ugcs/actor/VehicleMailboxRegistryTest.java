@@ -0,0 +1,189 @@
+package co.cetad.umas.core.infrastructure.ugcs.actor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VehicleMailboxRegistry Tests")
+class VehicleMailboxRegistryTest {
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private VehicleMailboxRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new VehicleMailboxRegistry(executor, meterRegistry, 600_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Ordering tests")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should execute tasks of the same vehicle strictly in order")
+        void shouldExecuteTasksOfSameVehicleInOrder() throws Exception {
+            List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 50; i++) {
+                int value = i;
+                futures.add(registry.submit("drone-1", () -> {
+                    executed.add(value);
+                    return value;
+                }));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i, executed.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should run different vehicles in parallel")
+        void shouldRunDifferentVehiclesInParallel() throws Exception {
+            var blocker = new CountDownLatch(1);
+
+            var slow = registry.submit("drone-1", () -> {
+                blocker.await(5, TimeUnit.SECONDS);
+                return "slow";
+            });
+            var fast = registry.submit("drone-2", () -> "fast");
+
+            assertEquals("fast", fast.get(1, TimeUnit.SECONDS));
+            assertFalse(slow.isDone());
+
+            blocker.countDown();
+            assertEquals("slow", slow.get(1, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should keep draining after a failed task")
+        void shouldKeepDrainingAfterFailedTask() throws Exception {
+            CompletableFuture<String> failed = registry.submit("drone-1", () -> {
+                throw new IllegalStateException("boom");
+            });
+            var next = registry.submit("drone-1", () -> "ok");
+
+            var error = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            assertEquals("ok", next.get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should expose mailbox depth per vehicle")
+        void shouldExposeMailboxDepthPerVehicle() throws Exception {
+            var blocker = new CountDownLatch(1);
+
+            var first = registry.submit("drone-1", () -> blocker.await(5, TimeUnit.SECONDS));
+            var second = registry.submit("drone-1", () -> true);
+
+            assertEquals(2, registry.depth("drone-1"));
+            assertEquals(2, registry.totalDepth());
+            assertEquals(2.0, meterRegistry.get("umas.ugcs.mailbox.depth")
+                    .tag("vehicle", "drone-1").gauge().value());
+
+            blocker.countDown();
+            first.get(1, TimeUnit.SECONDS);
+            assertTrue(second.get(1, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should record wait time per vehicle")
+        void shouldRecordWaitTimePerVehicle() throws Exception {
+            registry.submit("drone-1", () -> true).get(1, TimeUnit.SECONDS);
+
+            assertEquals(1, meterRegistry.get("umas.ugcs.mailbox.wait")
+                    .tag("vehicle", "drone-1").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should return zero depth for unknown vehicle")
+        void shouldReturnZeroDepthForUnknownVehicle() {
+            assertEquals(0, registry.depth("unknown"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should evict an idle empty mailbox with its meters and recreate it on demand")
+        void shouldEvictIdleMailboxWithMeters() throws Exception {
+            var evictedVehicles = new ArrayList<String>();
+            var evicting = new VehicleMailboxRegistry(executor, meterRegistry, 0L);
+            evicting.addEvictionListener(evictedVehicles::add);
+            evicting.submit("drone-1", () -> true).get(1, TimeUnit.SECONDS);
+            awaitEmpty(evicting, "drone-1");
+
+            assertEquals(1, evicting.evictIdle());
+
+            assertEquals(0, evicting.size());
+            assertEquals(List.of("drone-1"), evictedVehicles);
+            assertNull(meterRegistry.find("umas.ugcs.mailbox.depth").tag("vehicle", "drone-1").gauge());
+            assertNull(meterRegistry.find("umas.ugcs.mailbox.wait").tag("vehicle", "drone-1").timer());
+            assertTrue(evicting.submit("drone-1", () -> true).get(1, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should keep a mailbox that still has work")
+        void shouldKeepBusyMailbox() throws Exception {
+            var evicting = new VehicleMailboxRegistry(executor, meterRegistry, 0L);
+            var blocker = new CountDownLatch(1);
+            var running = evicting.submit("drone-1", () -> blocker.await(5, TimeUnit.SECONDS));
+
+            assertEquals(0, evicting.evictIdle());
+
+            blocker.countDown();
+            assertTrue(running.get(1, TimeUnit.SECONDS));
+            assertEquals(1, evicting.size());
+        }
+
+        @Test
+        @DisplayName("Should keep a mailbox used within the idle window")
+        void shouldKeepRecentlyUsedMailbox() throws Exception {
+            registry.submit("drone-1", () -> true).get(1, TimeUnit.SECONDS);
+            awaitEmpty(registry, "drone-1");
+
+            assertEquals(0, registry.evictIdle());
+            assertEquals(1, registry.size());
+        }
+
+        private void awaitEmpty(VehicleMailboxRegistry mailboxes, String vehicleId) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 1000;
+            while (mailboxes.depth(vehicleId) > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+}
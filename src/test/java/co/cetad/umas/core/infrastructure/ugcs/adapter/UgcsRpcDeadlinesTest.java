@@ -0,0 +1,128 @@
+package co.cetad.umas.core.infrastructure.ugcs.adapter;
+
+import co.cetad.umas.core.domain.exception.UgcsUnavailableException;
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UgcsRpcDeadlines Tests")
+class UgcsRpcDeadlinesTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UgcsProperties properties;
+    private UgcsRpcDeadlines deadlines;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UgcsProperties();
+        properties.getDeadlines().getRpc().put("send-command", 50L);
+        deadlines = new UgcsRpcDeadlines(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlines.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Deadline tests")
+    class DeadlineTests {
+
+        @Test
+        @DisplayName("Should return the result of a call within its deadline")
+        void shouldReturnResultWithinDeadline() throws Exception {
+            assertEquals("ok", deadlines.call(UgcsRpc.SEND_COMMAND, () -> "ok"));
+        }
+
+        @Test
+        @DisplayName("Should interrupt a hung call when the deadline passes")
+        void shouldInterruptHungCall() throws Exception {
+            var interrupted = new CountDownLatch(1);
+
+            assertThrows(TimeoutException.class, () -> deadlines.call(UgcsRpc.SEND_COMMAND, () -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            }));
+
+            assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.rpc.timeouts")
+                    .tag("rpc", "send-command").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should count abandoned calls until their thread finishes")
+        void shouldCountAbandonedCalls() throws Exception {
+            var release = new CountDownLatch(1);
+
+            assertThrows(TimeoutException.class,
+                    () -> deadlines.call(UgcsRpc.SEND_COMMAND, () -> blockIgnoringInterrupts(release)));
+            assertEquals(1, deadlines.abandonedCount());
+
+            release.countDown();
+            long deadline = System.currentTimeMillis() + 1000;
+            while (deadlines.abandonedCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, deadlines.abandonedCount());
+        }
+
+        @Test
+        @DisplayName("Should reject new calls while too many abandoned calls are still blocked")
+        void shouldRejectWhenTooManyAbandoned() {
+            properties.getDeadlines().setMaxAbandoned(1);
+            var release = new CountDownLatch(1);
+
+            assertThrows(TimeoutException.class,
+                    () -> deadlines.call(UgcsRpc.SEND_COMMAND, () -> blockIgnoringInterrupts(release)));
+
+            assertThrows(UgcsUnavailableException.class, () -> deadlines.call(UgcsRpc.SEND_COMMAND, () -> "ok"));
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.rpc.rejected").counter().count());
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("Should propagate the original exception of the call")
+        void shouldPropagateOriginalException() {
+            assertThrows(IOException.class, () -> deadlines.call(UgcsRpc.UPLOAD_ROUTE, () -> {
+                throw new IOException("connection reset");
+            }));
+        }
+    }
+
+    /**
+     * Se comporta como una lectura de socket bloqueada: la interrupción no la libera
+     */
+    private static Object blockIgnoringInterrupts(CountDownLatch release) {
+        while (true) {
+            try {
+                release.await();
+                return null;
+            } catch (InterruptedException ignored) {
+                // sigue bloqueada
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default deadline for unconfigured RPCs")
+    void shouldFallBackToDefaultDeadline() {
+        assertEquals(60000L, properties.getDeadlines().deadlineMs("process-route"));
+        assertEquals(10000L, properties.getDeadlines().deadlineMs("list-objects"));
+    }
+}
@@ -0,0 +1,199 @@
+package co.cetad.umas.core.infrastructure.ugcs.adapter;
+
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.client.Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UgcsSessionPool Tests")
+class UgcsSessionPoolTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UgcsProperties properties;
+    private UgcsSessionPool pool;
+    private final Map<ClientSessionCustom, Client> clients = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UgcsProperties();
+        properties.getPool().setSize(3);
+        properties.getReconnect().setInitialDelay(10);
+        pool = new UgcsSessionPool(properties.getPool(), properties.getReconnect(), Runnable::run,
+                new UgcsRpcDeadlines(properties, meterRegistry), meterRegistry);
+        pool.connect(this::openConnection);
+    }
+
+    @Nested
+    @DisplayName("Routing tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should route a vehicle to the same session every time")
+        void shouldRouteVehicleToStableSession() throws Exception {
+            var first = pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> session);
+            var second = pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> session);
+
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("Should spread a fleet across all sessions")
+        void shouldSpreadFleetAcrossSessions() throws Exception {
+            var used = new HashSet<ClientSessionCustom>();
+            for (int i = 0; i < 50; i++) {
+                used.add(pool.call("drone-" + i, UgcsRpc.SEND_COMMAND, session -> session));
+            }
+
+            assertEquals(3, used.size());
+        }
+
+        @Test
+        @DisplayName("Should count in-flight calls per session")
+        void shouldCountInFlightCalls() throws Exception {
+            int home = pool.homeMemberOf("drone-1");
+
+            var inFlightDuringCall = pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> pool.inFlight(home));
+
+            assertEquals(1, inFlightDuringCall);
+            assertEquals(0, pool.inFlight(home));
+        }
+    }
+
+    @Nested
+    @DisplayName("Health tests")
+    class HealthTests {
+
+        @Test
+        @DisplayName("Should fail over to another session when the connection drops")
+        void shouldFailOverWhenConnectionDrops() throws Exception {
+            var notified = new ArrayList<Integer>();
+            pool.setMemberStateListener(notified::add);
+            properties.getReconnect().setEnabled(false);
+            var original = pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> session);
+
+            assertThrows(IOException.class, () -> pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> {
+                throw new IOException("connection reset");
+            }));
+
+            assertNotSame(original, pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> session));
+            assertEquals(2, pool.healthyCount());
+            assertEquals(List.of(pool.homeMemberOf("drone-1")), notified);
+        }
+
+        @Test
+        @DisplayName("Should keep calls on the session that granted control after failing over")
+        void shouldCallOnGrantingSessionAfterFailover() throws Exception {
+            properties.getReconnect().setEnabled(false);
+            int home = pool.homeMemberOf("drone-1");
+            assertThrows(IOException.class, () -> pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> {
+                throw new IOException("connection reset");
+            }));
+
+            int fallback = pool.currentMemberOf("drone-1");
+            var fallbackSession = pool.call("drone-1", UgcsRpc.GAIN_CONTROL, session -> session);
+
+            assertNotEquals(home, fallback);
+            assertFalse(pool.isHealthy(home));
+            assertSame(fallbackSession, pool.callOn(fallback, UgcsRpc.RELEASE_CONTROL, session -> session));
+            assertThrows(IllegalStateException.class,
+                    () -> pool.callOn(home, UgcsRpc.RELEASE_CONTROL, session -> session));
+        }
+
+        @Test
+        @DisplayName("Should treat a session with a hung call as failed")
+        void shouldTreatHungSessionAsFailed() {
+            properties.getReconnect().setEnabled(false);
+            properties.getDeadlines().getRpc().put("upload-route", 50L);
+
+            assertThrows(TimeoutException.class, () -> pool.call("drone-1", UgcsRpc.UPLOAD_ROUTE, session -> {
+                Thread.sleep(10_000);
+                return null;
+            }));
+
+            assertEquals(2, pool.healthyCount());
+            assertEquals(0, pool.inFlight(pool.homeMemberOf("drone-1")));
+        }
+
+        @Test
+        @DisplayName("Should close the client of a failed session so blocked reads abort")
+        void shouldCloseClientOfFailedSession() throws Exception {
+            properties.getReconnect().setEnabled(false);
+            var session = pool.call("drone-1", UgcsRpc.SEND_COMMAND, s -> s);
+            var client = clients.get(session);
+
+            assertThrows(IOException.class, () -> pool.call("drone-1", UgcsRpc.SEND_COMMAND, s -> {
+                throw new IOException("connection reset");
+            }));
+
+            verify(client).close();
+        }
+
+        @Test
+        @DisplayName("Should keep the session healthy on server side errors")
+        void shouldKeepSessionOnServerErrors() {
+            assertThrows(IllegalStateException.class, () -> pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> {
+                throw new IllegalStateException("vehicle is not in control");
+            }));
+
+            assertEquals(3, pool.healthyCount());
+        }
+
+        @Test
+        @DisplayName("Should reconnect a dropped session in the background")
+        void shouldReconnectDroppedSession() throws Exception {
+            assertThrows(IOException.class, () -> pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> {
+                throw new IOException("connection reset");
+            }));
+
+            long deadline = System.currentTimeMillis() + 2000;
+            while (pool.healthyCount() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(3, pool.healthyCount());
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.pool.reconnects")
+                    .tag("session", Integer.toString(pool.homeMemberOf("drone-1"))).counter().count());
+        }
+
+        @Test
+        @DisplayName("Should fail to connect when no session can be opened")
+        void shouldFailWhenNoSessionConnects() {
+            properties.getReconnect().setEnabled(false);
+
+            assertThrows(IllegalStateException.class, () -> pool.connect(() -> {
+                throw new IOException("refused");
+            }));
+            assertEquals(0, pool.healthyCount());
+        }
+
+        @Test
+        @DisplayName("Should close every session")
+        void shouldCloseEverySession() {
+            pool.close();
+
+            assertEquals(0, pool.healthyCount());
+            assertThrows(IllegalStateException.class, () -> pool.call("drone-1", UgcsRpc.SEND_COMMAND, session -> session));
+        }
+    }
+
+    private UgcsSessionPool.PooledConnection openConnection() {
+        var connection = new UgcsSessionPool.PooledConnection(mock(Client.class), mock(ClientSessionCustom.class));
+        clients.put(connection.session(), connection.client());
+        return connection;
+    }
+}
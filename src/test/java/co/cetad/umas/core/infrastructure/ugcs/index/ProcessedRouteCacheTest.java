@@ -0,0 +1,138 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProcessedRouteCache Tests")
+class ProcessedRouteCacheTest {
+
+    private static final DomainProto.VehicleProfile QUAD =
+            DomainProto.VehicleProfile.newBuilder().setId(1).setName("quad").build();
+    private static final DomainProto.VehicleProfile FIXED_WING =
+            DomainProto.VehicleProfile.newBuilder().setId(2).setName("fixed-wing").build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private UgcsProperties properties;
+    private ProcessedRouteCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UgcsProperties();
+        cache = new ProcessedRouteCache(properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Lookup tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should reuse processed route for same route and profile")
+        void shouldReuseForSameRouteAndProfile() {
+            var processed = processed("route-1");
+            cache.put(route(10, "route-1", 5.0), QUAD, processed);
+
+            assertEquals(processed, cache.get(route(10, "route-1", 5.0), QUAD).orElseThrow());
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.processed.route.cache")
+                    .tag("result", "hit").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should miss when the vehicle profile differs")
+        void shouldMissForDifferentProfile() {
+            cache.put(route(10, "route-1", 5.0), QUAD, processed("route-1"));
+
+            assertTrue(cache.get(route(10, "route-1", 5.0), FIXED_WING).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should miss when the route definition changed")
+        void shouldMissForChangedDefinition() {
+            cache.put(route(10, "route-1", 5.0), QUAD, processed("route-1"));
+
+            assertTrue(cache.get(route(10, "route-1", 8.0), QUAD).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should expire entries after the TTL")
+        void shouldExpireAfterTtl() {
+            properties.getProcessedRouteCache().setTtlMs(0);
+            cache.put(route(10, "route-1", 5.0), QUAD, processed("route-1"));
+
+            assertTrue(cache.get(route(10, "route-1", 5.0), QUAD).isEmpty());
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used entry when full")
+        void shouldEvictLeastRecentlyUsed() {
+            properties.getProcessedRouteCache().setMaxEntries(2);
+            cache.put(route(10, "route-1", 5.0), QUAD, processed("route-1"));
+            cache.put(route(11, "route-2", 5.0), QUAD, processed("route-2"));
+            cache.get(route(10, "route-1", 5.0), QUAD);
+
+            cache.put(route(12, "route-3", 5.0), QUAD, processed("route-3"));
+
+            assertTrue(cache.get(route(10, "route-1", 5.0), QUAD).isPresent());
+            assertTrue(cache.get(route(11, "route-2", 5.0), QUAD).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should invalidate a route on update and remove events")
+        void shouldInvalidateOnUpdateAndRemove() {
+            cache.put(route(10, "route-1", 5.0), QUAD, processed("route-1"));
+            cache.put(route(10, "route-1", 5.0), FIXED_WING, processed("route-1"));
+            cache.put(route(11, "route-2", 5.0), QUAD, processed("route-2"));
+
+            cache.apply(event(DomainProto.ModificationType.MT_UPDATE, "Route", 10));
+
+            assertEquals(1, cache.size());
+            assertTrue(cache.get(route(11, "route-2", 5.0), QUAD).isPresent());
+        }
+
+        @Test
+        @DisplayName("Should ignore route creations and other object types")
+        void shouldIgnoreCreationsAndOtherTypes() {
+            cache.put(route(10, "route-1", 5.0), QUAD, processed("route-1"));
+
+            cache.apply(event(DomainProto.ModificationType.MT_CREATE, "Route", 10));
+            cache.apply(event(DomainProto.ModificationType.MT_REMOVE, "Mission", 10));
+
+            assertEquals(1, cache.size());
+        }
+    }
+
+    private static DomainProto.Route route(int id, String name, double initialSpeed) {
+        return DomainProto.Route.newBuilder()
+                .setId(id)
+                .setName(name)
+                .setInitialSpeed(initialSpeed)
+                .build();
+    }
+
+    private static DomainProto.ProcessedRoute processed(String routeName) {
+        return DomainProto.ProcessedRoute.newBuilder()
+                .setRoute(DomainProto.Route.newBuilder().setName(routeName))
+                .build();
+    }
+
+    private static DomainProto.ObjectModificationEvent event(DomainProto.ModificationType type, String objectType, int id) {
+        return DomainProto.ObjectModificationEvent.newBuilder()
+                .setModificationType(type)
+                .setObjectType(objectType)
+                .setObjectId(id)
+                .build();
+    }
+}
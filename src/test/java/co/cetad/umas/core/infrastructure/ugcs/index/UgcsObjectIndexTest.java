@@ -0,0 +1,225 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import com.ugcs.ucs.client.ClientSession;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UgcsObjectIndex Tests")
+class UgcsObjectIndexTest {
+
+    @Mock
+    private ClientSession session;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UgcsObjectIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new UgcsObjectIndex(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Bootstrap tests")
+    class BootstrapTests {
+
+        @Test
+        @DisplayName("Should load missions and routes once")
+        void shouldLoadAllIndexedTypes() throws Exception {
+            when(session.getObjectList(DomainProto.Mission.class))
+                    .thenReturn(List.of(wrap(mission(1, "mission-1"))));
+            when(session.getObjectList(DomainProto.Route.class))
+                    .thenReturn(List.of(wrap(route(10, "route-1")), wrap(route(11, "route-2"))));
+
+            index.bootstrap(session);
+
+            assertTrue(index.isReady());
+            assertTrue(index.findMission("mission-1").isPresent());
+            assertEquals(11, index.findRoute("route-2").orElseThrow().getId());
+            assertEquals(2.0, meterRegistry.get("umas.ugcs.index.size").tag("type", "Route").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should keep first object when names are duplicated")
+        void shouldKeepFirstObjectWhenNamesDuplicated() throws Exception {
+            when(session.getObjectList(DomainProto.Mission.class)).thenReturn(List.of());
+            when(session.getObjectList(DomainProto.Route.class))
+                    .thenReturn(List.of(wrap(route(10, "route-1")), wrap(route(11, "route-1"))));
+
+            index.bootstrap(session);
+
+            assertEquals(10, index.findRoute("route-1").orElseThrow().getId());
+        }
+
+        @Test
+        @DisplayName("Should keep a duplicated name when the first object is removed")
+        void shouldKeepDuplicatedNameWhenFirstObjectRemoved() throws Exception {
+            when(session.getObjectList(DomainProto.Mission.class))
+                    .thenReturn(List.of(wrap(mission(1, "mission-1")), wrap(mission(2, "mission-1"))));
+            when(session.getObjectList(DomainProto.Route.class)).thenReturn(List.of());
+            index.bootstrap(session);
+
+            index.apply(DomainProto.ObjectModificationEvent.newBuilder()
+                    .setModificationType(DomainProto.ModificationType.MT_REMOVE)
+                    .setObjectType("Mission")
+                    .setObjectId(1)
+                    .build());
+
+            assertEquals(2, index.findMission("mission-1").orElseThrow().getId());
+        }
+
+        @Test
+        @DisplayName("Should forget everything on clear")
+        void shouldForgetEverythingOnClear() {
+            index.putRoute(route(10, "route-1"));
+
+            index.clear();
+
+            assertFalse(index.isReady());
+            assertTrue(index.findRoute("route-1").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Modification event tests")
+    class ModificationEventTests {
+
+        @Test
+        @DisplayName("Should index created route")
+        void shouldIndexCreatedRoute() {
+            index.apply(event(DomainProto.ModificationType.MT_CREATE, "Route", 10, wrap(route(10, "route-1"))));
+
+            assertTrue(index.findRoute("route-1").isPresent());
+        }
+
+        @Test
+        @DisplayName("Should move renamed mission to its new name")
+        void shouldMoveRenamedMission() {
+            index.putMission(mission(1, "old-name"));
+
+            index.apply(event(DomainProto.ModificationType.MT_UPDATE, "Mission", 1, wrap(mission(1, "new-name"))));
+
+            assertTrue(index.findMission("old-name").isEmpty());
+            assertTrue(index.findMission("new-name").isPresent());
+        }
+
+        @Test
+        @DisplayName("Should remove object by id")
+        void shouldRemoveObjectById() {
+            index.putRoute(route(10, "route-1"));
+
+            index.apply(DomainProto.ObjectModificationEvent.newBuilder()
+                    .setModificationType(DomainProto.ModificationType.MT_REMOVE)
+                    .setObjectType("Route")
+                    .setObjectId(10)
+                    .build());
+
+            assertTrue(index.findRoute("route-1").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not remove a different object sharing the name")
+        void shouldNotRemoveDifferentObjectSharingName() {
+            index.putRoute(route(10, "route-1"));
+            index.putRoute(route(11, "route-1"));
+
+            index.apply(DomainProto.ObjectModificationEvent.newBuilder()
+                    .setModificationType(DomainProto.ModificationType.MT_REMOVE)
+                    .setObjectType("Route")
+                    .setObjectId(10)
+                    .build());
+
+            assertEquals(11, index.findRoute("route-1").orElseThrow().getId());
+        }
+
+        @Test
+        @DisplayName("Should show the remaining object when a renamed one frees a duplicated name")
+        void shouldShowRemainingObjectWhenDuplicateRenamed() {
+            index.putRoute(route(10, "route-1"));
+            index.putRoute(route(11, "route-1"));
+
+            index.apply(event(DomainProto.ModificationType.MT_UPDATE, "Route", 11, wrap(route(11, "route-2"))));
+
+            assertEquals(10, index.findRoute("route-1").orElseThrow().getId());
+            assertEquals(11, index.findRoute("route-2").orElseThrow().getId());
+        }
+
+        @Test
+        @DisplayName("Should replace vehicles with a full reload")
+        void shouldReplaceVehiclesWithFullReload() {
+            index.apply(event(DomainProto.ModificationType.MT_CREATE, "Vehicle", 20, wrap(vehicle(20, "drone-1"))));
+
+            index.replaceVehicles(List.of(vehicle(21, "drone-2")));
+
+            assertTrue(index.findVehicle("drone-1").isEmpty());
+            assertTrue(index.findVehicle("drone-2").isPresent());
+        }
+
+        @Test
+        @DisplayName("Should ignore non indexed object types")
+        void shouldIgnoreNonIndexedTypes() {
+            assertDoesNotThrow(() -> index.apply(event(DomainProto.ModificationType.MT_CREATE,
+                    "VehicleLogEntry", 5, DomainProto.DomainObjectWrapper.getDefaultInstance())));
+        }
+
+        @Test
+        @DisplayName("Should filter routes by vehicle profile locally")
+        void shouldFilterRoutesByVehicleProfile() {
+            var profile = DomainProto.VehicleProfile.newBuilder().setId(7).setName("quad").build();
+            index.putRoute(route(10, "route-1").toBuilder().setVehicleProfile(profile).build());
+            index.putRoute(route(11, "route-2"));
+
+            var routes = index.findRoutesByProfile(profile);
+
+            assertEquals(1, routes.size());
+            assertEquals("route-1", routes.getFirst().getName());
+        }
+    }
+
+    private static DomainProto.ObjectModificationEvent event(DomainProto.ModificationType type, String objectType,
+                                                             int id, DomainProto.DomainObjectWrapper object) {
+        return DomainProto.ObjectModificationEvent.newBuilder()
+                .setModificationType(type)
+                .setObjectType(objectType)
+                .setObjectId(id)
+                .setObject(object)
+                .build();
+    }
+
+    private static DomainProto.Mission mission(int id, String name) {
+        return DomainProto.Mission.newBuilder().setId(id).setName(name).build();
+    }
+
+    private static DomainProto.Route route(int id, String name) {
+        return DomainProto.Route.newBuilder().setId(id).setName(name).build();
+    }
+
+    private static DomainProto.Vehicle vehicle(int id, String name) {
+        return DomainProto.Vehicle.newBuilder().setId(id).setName(name).build();
+    }
+
+    private static DomainProto.DomainObjectWrapper wrap(DomainProto.Mission mission) {
+        return DomainProto.DomainObjectWrapper.newBuilder().setMission(mission).build();
+    }
+
+    private static DomainProto.DomainObjectWrapper wrap(DomainProto.Route route) {
+        return DomainProto.DomainObjectWrapper.newBuilder().setRoute(route).build();
+    }
+
+    private static DomainProto.DomainObjectWrapper wrap(DomainProto.Vehicle vehicle) {
+        return DomainProto.DomainObjectWrapper.newBuilder().setVehicle(vehicle).build();
+    }
+}
@@ -0,0 +1,137 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import co.cetad.umas.core.domain.ports.out.UploadedRouteStore;
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadedRouteTracker Tests")
+class UploadedRouteTrackerTest {
+
+    private static final DomainProto.VehicleProfile QUAD =
+            DomainProto.VehicleProfile.newBuilder().setId(1).setName("quad").build();
+    private static final DomainProto.VehicleProfile FIXED_WING =
+            DomainProto.VehicleProfile.newBuilder().setId(2).setName("fixed-wing").build();
+
+    @Mock
+    private UploadedRouteStore uploadedRouteStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UgcsProperties properties;
+    private UploadedRouteTracker localTracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UgcsProperties();
+        localTracker = new UploadedRouteTracker(properties, Optional.empty(), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Local tracking tests")
+    class LocalTrackingTests {
+
+        @Test
+        @DisplayName("Should skip an identical route already uploaded to the vehicle")
+        void shouldSkipIdenticalRouteAlreadyUploaded() {
+            localTracker.recordUploaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0));
+
+            assertTrue(localTracker.isLoaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0)));
+            assertEquals(1.0, meterRegistry.get("umas.ugcs.route.uploads")
+                    .tag("result", "skipped").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should upload when route, vehicle or profile differ")
+        void shouldUploadWhenRouteVehicleOrProfileDiffer() {
+            localTracker.recordUploaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0));
+
+            assertFalse(localTracker.isLoaded("drone-1", vehicle("drone-1", QUAD), route(10, 8.0)));
+            assertFalse(localTracker.isLoaded("drone-2", vehicle("drone-2", QUAD), route(10, 5.0)));
+            assertFalse(localTracker.isLoaded("drone-1", vehicle("drone-1", FIXED_WING), route(10, 5.0)));
+        }
+
+        @Test
+        @DisplayName("Should upload again after a failed upload or the TTL")
+        void shouldUploadAgainAfterFailureOrTtl() {
+            localTracker.recordUploaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0));
+            localTracker.forget("drone-1");
+
+            assertFalse(localTracker.isLoaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0)));
+
+            properties.getUploadedRoutes().setTtlMs(0);
+            localTracker.recordUploaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0));
+
+            assertFalse(localTracker.isLoaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis mirror tests")
+    class RedisMirrorTests {
+
+        private UploadedRouteTracker tracker;
+
+        @BeforeEach
+        void setUp() {
+            tracker = new UploadedRouteTracker(properties, Optional.of(uploadedRouteStore), meterRegistry);
+        }
+
+        @Test
+        @DisplayName("Should mirror uploads to the store with the configured TTL")
+        void shouldMirrorUploadsToStore() {
+            tracker.recordUploaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0));
+
+            verify(uploadedRouteStore).save(eq("drone-1"),
+                    eq(ProcessedRouteCache.keyOf(route(10, 5.0), QUAD)), eq(Duration.ofHours(1)));
+        }
+
+        @Test
+        @DisplayName("Should skip using the hash stored by another replica")
+        void shouldSkipUsingStoredHash() {
+            when(uploadedRouteStore.find("drone-1"))
+                    .thenReturn(Optional.of(ProcessedRouteCache.keyOf(route(10, 5.0), QUAD)));
+
+            assertTrue(tracker.isLoaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0)));
+            assertTrue(tracker.isLoaded("drone-1", vehicle("drone-1", QUAD), route(10, 5.0)));
+
+            verify(uploadedRouteStore, times(1)).find(anyString());
+        }
+
+        @Test
+        @DisplayName("Should remove the stored hash when the upload fails")
+        void shouldRemoveStoredHashOnFailure() {
+            tracker.forget("drone-1");
+
+            verify(uploadedRouteStore).remove("drone-1");
+        }
+    }
+
+    private static DomainProto.Vehicle vehicle(String name, DomainProto.VehicleProfile profile) {
+        return DomainProto.Vehicle.newBuilder().setName(name).setProfile(profile).build();
+    }
+
+    private static DomainProto.Route route(int id, double initialSpeed) {
+        return DomainProto.Route.newBuilder()
+                .setId(id)
+                .setName("route-" + id)
+                .setInitialSpeed(initialSpeed)
+                .build();
+    }
+}
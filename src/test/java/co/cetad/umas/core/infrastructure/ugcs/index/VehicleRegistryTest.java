@@ -0,0 +1,158 @@
+package co.cetad.umas.core.infrastructure.ugcs.index;
+
+import co.cetad.umas.core.infrastructure.ugcs.config.UgcsProperties;
+import com.ugcs.ucs.client.ClientSession;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleRegistry Tests")
+class VehicleRegistryTest {
+
+    @Mock
+    private ClientSession session;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UgcsProperties properties;
+    private UgcsObjectIndex objectIndex;
+    private VehicleRegistry registry;
+    private VehicleRegistry.VehicleSource source;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UgcsProperties();
+        objectIndex = new UgcsObjectIndex(meterRegistry);
+        registry = new VehicleRegistry(objectIndex, properties, meterRegistry);
+        source = () -> session.getObjectList(DomainProto.Vehicle.class).stream()
+                .map(DomainProto.DomainObjectWrapper::getVehicle)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Lookup tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should answer repeated lookups without a server round trip")
+        void shouldAnswerRepeatedLookupsFromCache() throws Exception {
+            when(session.getObjectList(DomainProto.Vehicle.class))
+                    .thenReturn(List.of(wrap(vehicle(1, "drone-1"))));
+            registry.refresh(source);
+
+            assertTrue(registry.find(source, "drone-1").isPresent());
+            assertTrue(registry.find(source, "drone-1").isPresent());
+
+            verify(session, times(1)).getObjectList(DomainProto.Vehicle.class);
+            assertEquals(2.0, lookups("hit"));
+            assertEquals(1.0, registry.hitRatio());
+        }
+
+        @Test
+        @DisplayName("Should load vehicles on first lookup when never refreshed")
+        void shouldLoadOnFirstLookup() throws Exception {
+            when(session.getObjectList(DomainProto.Vehicle.class))
+                    .thenReturn(List.of(wrap(vehicle(1, "drone-1"))));
+
+            assertTrue(registry.find(source, "drone-1").isPresent());
+
+            assertEquals(1.0, lookups("miss"));
+            assertEquals(1L, meterRegistry.get("umas.ugcs.vehicle.refresh").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should remember unknown vehicle ids")
+        void shouldRememberUnknownVehicleIds() throws Exception {
+            when(session.getObjectList(DomainProto.Vehicle.class)).thenReturn(List.of());
+            registry.refresh(source);
+
+            assertTrue(registry.find(source, "ghost").isEmpty());
+            assertTrue(registry.find(source, "ghost").isEmpty());
+
+            // refresh inicial + una sola recarga por el primer fallo
+            verify(session, times(2)).getObjectList(DomainProto.Vehicle.class);
+            assertEquals(1.0, lookups("negative_hit"));
+        }
+
+        @Test
+        @DisplayName("Should propagate a failed download instead of reporting an unknown vehicle")
+        void shouldPropagateFailedDownload() throws Exception {
+            VehicleRegistry.VehicleSource failing = () -> {
+                throw new TimeoutException("UgCS list-objects timed out after 10000 ms");
+            };
+
+            assertThrows(TimeoutException.class, () -> registry.find(failing, "drone-1"));
+
+            when(session.getObjectList(DomainProto.Vehicle.class)).thenReturn(List.of(wrap(vehicle(1, "drone-1"))));
+            assertTrue(registry.find(source, "drone-1").isPresent());
+        }
+
+        @Test
+        @DisplayName("Should find vehicle created by event despite negative entry")
+        void shouldFindVehicleCreatedByEvent() throws Exception {
+            when(session.getObjectList(DomainProto.Vehicle.class)).thenReturn(List.of());
+            registry.refresh(source);
+            registry.find(source, "drone-2");
+
+            objectIndex.apply(DomainProto.ObjectModificationEvent.newBuilder()
+                    .setModificationType(DomainProto.ModificationType.MT_CREATE)
+                    .setObjectType("Vehicle")
+                    .setObjectId(2)
+                    .setObject(wrap(vehicle(2, "drone-2")))
+                    .build());
+
+            assertTrue(registry.find(source, "drone-2").isPresent());
+        }
+
+        @Test
+        @DisplayName("Should reload after TTL expires")
+        void shouldReloadAfterTtlExpires() throws Exception {
+            properties.getVehicleCache().setTtlMs(0);
+            when(session.getObjectList(DomainProto.Vehicle.class))
+                    .thenReturn(List.of(wrap(vehicle(1, "drone-1"))));
+            registry.refresh(source);
+
+            registry.find(source, "drone-1");
+
+            verify(session, times(2)).getObjectList(DomainProto.Vehicle.class);
+        }
+
+        @Test
+        @DisplayName("Should reload after clear")
+        void shouldReloadAfterClear() throws Exception {
+            when(session.getObjectList(DomainProto.Vehicle.class))
+                    .thenReturn(List.of(wrap(vehicle(1, "drone-1"))));
+            registry.refresh(source);
+
+            registry.clear();
+            registry.find(source, "drone-1");
+
+            verify(session, times(2)).getObjectList(DomainProto.Vehicle.class);
+        }
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("umas.ugcs.vehicle.lookups").tag("result", result).functionCounter().count();
+    }
+
+    private static DomainProto.Vehicle vehicle(int id, String name) {
+        return DomainProto.Vehicle.newBuilder().setId(id).setName(name).build();
+    }
+
+    private static DomainProto.DomainObjectWrapper wrap(DomainProto.Vehicle vehicle) {
+        return DomainProto.DomainObjectWrapper.newBuilder().setVehicle(vehicle).build();
+    }
+}
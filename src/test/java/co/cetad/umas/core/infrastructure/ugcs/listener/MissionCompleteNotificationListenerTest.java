@@ -4,8 +4,11 @@ import co.cetad.umas.core.domain.model.vo.DroneLocation;
 import co.cetad.umas.core.domain.model.vo.MissionCompleteData;
 import co.cetad.umas.core.domain.model.vo.TelemetryData;
 import co.cetad.umas.core.domain.ports.out.DroneCache;
+import co.cetad.umas.core.infrastructure.metrics.ObjectEventMetrics;
 import co.cetad.umas.core.infrastructure.ugcs.listener.mission.MissionCompleteNotificationListener;
 import com.ugcs.ucs.client.ServerNotification;
+import com.ugcs.ucs.proto.DomainProto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,12 +33,40 @@ class MissionCompleteNotificationListenerTest {
     private DroneCache droneCache;
 
     private Sinks.Many<MissionCompleteData> missionCompleteSink;
+    private SimpleMeterRegistry meterRegistry;
     private MissionCompleteNotificationListener listener;
 
     @BeforeEach
     void setUp() {
         missionCompleteSink = Sinks.many().multicast().onBackpressureBuffer();
-        listener = new MissionCompleteNotificationListener(missionCompleteSink, droneCache);
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new MissionCompleteNotificationListener(missionCompleteSink, droneCache,
+                new ObjectEventMetrics(meterRegistry).forListener(MissionCompleteNotificationListener.LISTENER_NAME));
+    }
+
+    private double events(String result) {
+        return meterRegistry.get(ObjectEventMetrics.EVENTS_COUNTER)
+                .tag("listener", MissionCompleteNotificationListener.LISTENER_NAME)
+                .tag("result", result)
+                .counter().count();
+    }
+
+    private static ServerNotification notification(String objectType,
+                                                   DomainProto.ModificationType modificationType,
+                                                   String message) {
+        var logEntry = DomainProto.VehicleLogEntry.newBuilder()
+                .setVehicle(DomainProto.Vehicle.newBuilder().setName("drone-1"))
+                .setMessage(message)
+                .setTime(1_700_000_000_000L);
+        var modification = DomainProto.ObjectModificationEvent.newBuilder()
+                .setObjectType(objectType)
+                .setModificationType(modificationType)
+                .setObject(DomainProto.DomainObjectWrapper.newBuilder().setVehicleLogEntry(logEntry));
+        var notification = mock(ServerNotification.class);
+        when(notification.getEvent()).thenReturn(DomainProto.EventWrapper.newBuilder()
+                .setObjectModificationEvent(modification)
+                .build());
+        return notification;
     }
 
     @Nested
@@ -82,6 +113,48 @@ class MissionCompleteNotificationListenerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Pre-filter tests")
+    class PreFilterTests {
+
+        @Test
+        @DisplayName("Should discard other object types and modifications before reading the object")
+        void shouldDiscardOtherTypesAndModifications() {
+            listener.notificationReceived(notification("Route", DomainProto.ModificationType.MT_CREATE,
+                    "Current mission complete"));
+            listener.notificationReceived(notification("VehicleLogEntry", DomainProto.ModificationType.MT_UPDATE,
+                    "Current mission complete"));
+
+            assertEquals(2.0, events("filtered"));
+            assertEquals(0.0, events("processed"));
+            verifyNoInteractions(droneCache);
+        }
+
+        @Test
+        @DisplayName("Should emit mission complete for a created vehicle log entry")
+        void shouldEmitMissionCompleteForCreatedLogEntry() {
+            when(droneCache.getTelemetry("drone-1")).thenReturn(Optional.empty());
+
+            listener.notificationReceived(notification("VehicleLogEntry", DomainProto.ModificationType.MT_CREATE,
+                    "Current mission complete. Flight time: 120.5"));
+
+            var received = missionCompleteSink.asFlux().blockFirst(java.time.Duration.ofMillis(100));
+            assertNotNull(received);
+            assertEquals("drone-1", received.vehicleId());
+            assertEquals(1.0, events("processed"));
+        }
+
+        @Test
+        @DisplayName("Should count created log entries that are not mission completions as processed")
+        void shouldCountOtherLogEntriesAsProcessed() {
+            listener.notificationReceived(notification("VehicleLogEntry", DomainProto.ModificationType.MT_CREATE,
+                    "Battery low"));
+
+            assertEquals(1.0, events("processed"));
+            verifyNoInteractions(droneCache);
+        }
+    }
+
     @Nested
     @DisplayName("Integration tests")
     class IntegrationTests {
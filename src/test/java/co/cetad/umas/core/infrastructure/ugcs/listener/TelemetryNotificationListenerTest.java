@@ -182,4 +182,22 @@ class TelemetryNotificationListenerTest {
             assertTrue(telemetry.isNewDroneLocationValid().isPresent());
         }
     }
+
+    @Nested
+    @DisplayName("Mode change tests")
+    class ModeChangeTests {
+
+        @Test
+        @DisplayName("Should let flight and control mode updates through the location dedupe")
+        void shouldDetectModeUpdates() {
+            var location = DroneLocation.of(45.0, -73.0, 100.0);
+
+            assertTrue(TelemetryNotificationListener.carriesModeChange(
+                    new TelemetryData("drone-1", location, Map.of("flightMode", "AUTO"), LocalDateTime.now())));
+            assertTrue(TelemetryNotificationListener.carriesModeChange(
+                    new TelemetryData("drone-1", location, Map.of("controlMode", 2), LocalDateTime.now())));
+            assertFalse(TelemetryNotificationListener.carriesModeChange(
+                    new TelemetryData("drone-1", location, Map.of("groundSpeed", 0.0), LocalDateTime.now())));
+        }
+    }
 }